@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+plugins {
+    java
+    alias(libs.plugins.lombok)
+}
+
+lombok.version = libs.versions.lombok.get()
+
+dependencies {
+    implementation("net.runelite:cache:${project.version}")
+    implementation("net.runelite:runelite-api:${project.version}")
+    implementation(project(":client"))
+
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator)
+    implementation(libs.mockito)
+}
+
+// ./gradlew :benchmarks:jmh [-PjmhIncludes=<regex>] [-PjmhArgs="-f 1 -wi 2"]
+// results are written as json to build/results/jmh/results.json
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks"
+
+    val results = layout.buildDirectory.file("results/jmh/results.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    jvmArgs("-Djava.awt.headless=true")
+
+    args(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+    args(providers.gradleProperty("jmhArgs").getOrElse("").split(" ").filter { it.isNotBlank() })
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
+}
+
+tasks.register<JavaExec>("generateTestCache") {
+    group = "benchmark"
+    description = "Regenerates the bundled benchmark cache"
+
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "net.runelite.benchmarks.TestCacheGenerator"
+    args(file("src/main/resources/net/runelite/benchmarks/cache").absolutePath)
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.client.plugins.cluescrolls.ClueScrollPlugin;
+import net.runelite.client.plugins.cluescrolls.clues.AnagramClue;
+import net.runelite.client.plugins.cluescrolls.clues.CipherClue;
+import net.runelite.client.plugins.cluescrolls.clues.ClueIndex;
+import net.runelite.client.plugins.cluescrolls.clues.ClueScroll;
+import net.runelite.client.plugins.cluescrolls.clues.CrypticClue;
+import net.runelite.client.plugins.cluescrolls.clues.EmoteClue;
+import net.runelite.client.plugins.cluescrolls.clues.FairyRingClue;
+import net.runelite.client.plugins.cluescrolls.clues.FaloTheBardClue;
+import net.runelite.client.plugins.cluescrolls.clues.HotColdClue;
+import net.runelite.client.plugins.cluescrolls.clues.SkillChallengeClue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Resolves every known clue text, either by trying each clue type's list in turn as the
+ * clue scroll plugin used to, or through the precomputed {@link ClueIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClueLookupBenchmark
+{
+	private ClueScrollPlugin plugin;
+	private String[] texts;
+
+	@Setup
+	public void setup()
+	{
+		final Client client = Fixtures.stub(Client.class, Map.of());
+		plugin = new ClueScrollPlugin()
+		{
+			@Override
+			public Client getClient()
+			{
+				return client;
+			}
+		};
+		texts = ClueIndex.getTexts().toArray(new String[0]);
+	}
+
+	@Benchmark
+	public void scan(Blackhole bh)
+	{
+		for (String text : texts)
+		{
+			bh.consume(scan(text));
+		}
+	}
+
+	@Benchmark
+	public void index(Blackhole bh)
+	{
+		for (String text : texts)
+		{
+			bh.consume(ClueIndex.forText(plugin, text, text));
+		}
+	}
+
+	private ClueScroll scan(String text)
+	{
+		ClueScroll clue = AnagramClue.forText(plugin, text);
+		if (clue == null)
+		{
+			clue = CipherClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = CrypticClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = EmoteClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = FairyRingClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = FaloTheBardClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = HotColdClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = SkillChallengeClue.forText(text, text);
+		}
+		return clue;
+	}
+}
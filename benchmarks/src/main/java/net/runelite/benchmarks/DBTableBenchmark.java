@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.db.DBIndex;
+import net.runelite.cache.db.DBTable;
+import net.runelite.cache.db.DBTableStore;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looking up and filtering db table rows with the definitions as loaded, and with
+ * {@link DBTableStore}. The bundled cache has no db tables, so the table is generated:
+ * a category column with an index, a name column, a column of (item, amount) fields
+ * and a level column without an index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DBTableBenchmark
+{
+	private static final int TABLE = 1;
+	private static final int ROWS = 20000;
+	private static final int CATEGORIES = 200;
+	private static final int LEVELS = 99;
+	private static final int LOOKUPS = 1000;
+
+	private final Map<Integer, DBRowDefinition> rows = new HashMap<>();
+	private DBTableIndex categoryIndex;
+	private DBTable table;
+	private int[] categories;
+	private int[] levels;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(44);
+
+		DBTableDefinition definition = new DBTableDefinition(TABLE);
+		definition.setTypes(new ScriptVarType[][]{
+			{ScriptVarType.INTEGER},
+			{ScriptVarType.STRING},
+			{ScriptVarType.OBJ, ScriptVarType.INTEGER},
+			{ScriptVarType.INTEGER},
+		});
+
+		Map<Object, List<Integer>> byCategory = new HashMap<>();
+		for (int id = 0; id < ROWS; ++id)
+		{
+			int category = random.nextInt(CATEGORIES);
+			Object[] items = new Object[random.nextInt(4) * 2];
+			for (int i = 0; i < items.length; i += 2)
+			{
+				items[i] = random.nextInt(30000);
+				items[i + 1] = 1 + random.nextInt(100);
+			}
+
+			DBRowDefinition row = new DBRowDefinition(id);
+			row.setTableId(TABLE);
+			row.setColumnValues(new Object[][]{
+				{category},
+				{"Row " + id},
+				items,
+				{1 + random.nextInt(LEVELS)},
+			});
+			rows.put(id, row);
+			byCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(id);
+		}
+
+		categoryIndex = new DBTableIndex(TABLE, 0);
+		categoryIndex.setTupleTypes(new BaseVarType[]{BaseVarType.INTEGER});
+		categoryIndex.setTupleIndexes(Collections.singletonList(byCategory));
+
+		DBTableStore store = new DBTableStore(Collections.singletonList(definition), rows.values(),
+			Collections.singletonList(categoryIndex));
+		table = store.getTable(TABLE);
+
+		categories = new int[LOOKUPS];
+		levels = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; ++i)
+		{
+			categories[i] = random.nextInt(CATEGORIES);
+			levels[i] = 1 + random.nextInt(LEVELS);
+		}
+	}
+
+	@Benchmark
+	public int lookupDefinitions()
+	{
+		Map<Object, List<Integer>> index = categoryIndex.getTupleIndexes().get(0);
+		int sum = 0;
+		for (int category : categories)
+		{
+			for (int rowId : index.get(category))
+			{
+				sum += rowId;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int lookupStore()
+	{
+		DBIndex index = table.getIndex(0, 0);
+		int sum = 0;
+		for (int category : categories)
+		{
+			for (int rowId : index.getRows(category))
+			{
+				sum += rowId;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public void filterDefinitions(Blackhole blackhole)
+	{
+		Map<Object, List<Integer>> index = categoryIndex.getTupleIndexes().get(0);
+		for (int i = 0; i < LOOKUPS; ++i)
+		{
+			List<Integer> rowIds = index.get(categories[i]);
+			List<String> names = new ArrayList<>();
+			for (int rowId : rowIds)
+			{
+				Object[][] values = rows.get(rowId).getColumnValues();
+				if (values[3][0].equals(levels[i]))
+				{
+					names.add((String) values[1][0]);
+				}
+			}
+			blackhole.consume(names);
+		}
+	}
+
+	@Benchmark
+	public void filterStore(Blackhole blackhole)
+	{
+		for (int i = 0; i < LOOKUPS; ++i)
+		{
+			blackhole.consume(table.query()
+				.where(0, 0, categories[i])
+				.where(3, 0, levels[i])
+				.selectString(1, 0));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.exporters.JsonExporter;
+import net.runelite.cache.fs.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exporting the item definitions of the bundled cache as json. {@code perDefinition}
+ * is how the exporters used to write, with a new {@link Gson} and {@link FileWriter}
+ * for each definition. The others use {@link JsonExporter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionExportBenchmark
+{
+	private List<ItemDefinition> items;
+	private File dir;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (Store store = TestCache.load())
+		{
+			ItemManager manager = new ItemManager(store);
+			manager.load();
+			items = new ArrayList<>(manager.getItems());
+		}
+
+		dir = Files.createTempDirectory("export").toFile();
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		delete(dir);
+	}
+
+	private static void delete(File file)
+	{
+		File[] children = file.listFiles();
+		if (children != null)
+		{
+			for (File child : children)
+			{
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	@Benchmark
+	public void perDefinition() throws IOException
+	{
+		File out = new File(dir, "old");
+		out.mkdirs();
+		for (ItemDefinition item : items)
+		{
+			Gson gson = new GsonBuilder()
+				.setPrettyPrinting()
+				.create();
+			try (FileWriter fw = new FileWriter(new File(out, item.id + ".json")))
+			{
+				fw.write(gson.toJson(item));
+			}
+		}
+	}
+
+	@Benchmark
+	public void files() throws IOException
+	{
+		JsonExporter.exportFiles(items, item -> item.id + ".json", new File(dir, "files"),
+			Runtime.getRuntime().availableProcessors());
+	}
+
+	@Benchmark
+	public void ndjson() throws IOException
+	{
+		JsonExporter.exportNdjson(items, new File(dir, "items.ndjson"));
+	}
+
+	@Benchmark
+	public void zip() throws IOException
+	{
+		JsonExporter.exportZip(items, item -> item.id + ".json", new File(dir, "items.zip"),
+			Runtime.getRuntime().availableProcessors());
+	}
+}
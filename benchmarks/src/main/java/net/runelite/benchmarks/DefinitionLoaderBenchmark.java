@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.NpcManager;
+import net.runelite.cache.ObjectManager;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decoding of the config definitions in the bundled cache. The loader benchmarks
+ * measure decoding alone, the manager benchmarks also include decompressing and
+ * splitting the archive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionLoaderBenchmark
+{
+	private Store store;
+	private FSFile[] items;
+	private FSFile[] npcs;
+	private FSFile[] objects;
+	private int npcRevision;
+	private int objectRevision;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		store = TestCache.load();
+		items = files(ConfigType.ITEM);
+		npcs = files(ConfigType.NPC);
+		objects = files(ConfigType.OBJECT);
+		npcRevision = archive(ConfigType.NPC).getRevision();
+		objectRevision = archive(ConfigType.OBJECT).getRevision();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+	}
+
+	private Archive archive(ConfigType type)
+	{
+		return store.getIndex(IndexType.CONFIGS).getArchive(type.getId());
+	}
+
+	private FSFile[] files(ConfigType type) throws IOException
+	{
+		Archive archive = archive(type);
+		return archive.getFiles(store.getStorage().loadArchive(archive)).getFiles().toArray(new FSFile[0]);
+	}
+
+	@Benchmark
+	public void itemLoader(Blackhole blackhole)
+	{
+		ItemLoader loader = new ItemLoader();
+		for (FSFile file : items)
+		{
+			blackhole.consume(loader.load(file.getFileId(), file.getContents()));
+		}
+	}
+
+	@Benchmark
+	public void npcLoader(Blackhole blackhole)
+	{
+		NpcLoader loader = new NpcLoader().configureForRevision(npcRevision);
+		for (FSFile file : npcs)
+		{
+			blackhole.consume(loader.load(file.getFileId(), file.getContents()));
+		}
+	}
+
+	@Benchmark
+	public void objectLoader(Blackhole blackhole)
+	{
+		ObjectLoader loader = new ObjectLoader().configureForRevision(objectRevision);
+		for (FSFile file : objects)
+		{
+			blackhole.consume(loader.load(file.getFileId(), file.getContents()));
+		}
+	}
+
+	@Benchmark
+	public ItemManager itemManager() throws IOException
+	{
+		ItemManager manager = new ItemManager(store);
+		manager.load();
+		return manager;
+	}
+
+	@Benchmark
+	public NpcManager npcManager() throws IOException
+	{
+		NpcManager manager = new NpcManager(store);
+		manager.load();
+		return manager;
+	}
+
+	@Benchmark
+	public ObjectManager objectManager() throws IOException
+	{
+		ObjectManager manager = new ObjectManager(store);
+		manager.load();
+		return manager;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.inject.Guice;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.runelite.api.Client;
+import net.runelite.api.Ignore;
+import net.runelite.api.Nameable;
+import net.runelite.api.NameableContainer;
+import net.runelite.api.Player;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.callback.Hooks;
+import net.runelite.client.game.NpcUtil;
+import net.runelite.client.party.PartyMember;
+import net.runelite.client.party.PartyService;
+import net.runelite.client.plugins.Plugin;
+import net.runelite.client.plugins.entityhider.EntityHiderConfig;
+import net.runelite.client.plugins.entityhider.EntityHiderPlugin;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A frame of entity hider checks, 3d and 2d, for 2000 players while in a party and with
+ * a full ignore list. With {@code tickEveryFrame} every player is reclassified each frame,
+ * which is what every frame cost before classifications were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityHiderBenchmark
+{
+	private static final int PLAYERS = 2000;
+	private static final int IGNORES = 400;
+	private static final GameTick GAME_TICK = new GameTick();
+
+	@Param({"false", "true"})
+	public boolean tickEveryFrame;
+
+	private EntityHiderPlugin plugin;
+	private Hooks.RenderableDrawListener listener;
+	private Player[] players;
+
+	@Setup
+	public void setup() throws Exception
+	{
+		final Player local = player(-1, "Local", false);
+		players = new Player[PLAYERS];
+		for (int i = 0; i < PLAYERS; ++i)
+		{
+			players[i] = player(i, "Player " + i, i % 50 == 0);
+		}
+
+		final Ignore[] ignores = new Ignore[IGNORES];
+		for (int i = 0; i < IGNORES; ++i)
+		{
+			final String name = "Ignored " + i;
+			ignores[i] = new Ignore()
+			{
+				@Override
+				public String getName()
+				{
+					return name;
+				}
+
+				@Override
+				public String getPrevName()
+				{
+					return null;
+				}
+
+				@Override
+				public int compareTo(Nameable o)
+				{
+					return name.compareTo(o.getName());
+				}
+			};
+		}
+
+		Map<String, Object> ignoreValues = new HashMap<>();
+		ignoreValues.put("getCount", IGNORES);
+		ignoreValues.put("getMembers", ignores);
+		ignoreValues.put("findByName", (Function<Object[], Object>) args ->
+		{
+			for (Ignore ignore : ignores)
+			{
+				if (ignore.getName().equalsIgnoreCase((String) args[0]))
+				{
+					return ignore;
+				}
+			}
+			return null;
+		});
+		final NameableContainer<?> ignoreContainer = Fixtures.stub(NameableContainer.class, ignoreValues);
+
+		Map<String, Object> clientValues = new HashMap<>();
+		clientValues.put("getLocalPlayer", local);
+		clientValues.put("getIgnoreContainer", ignoreContainer);
+		final Client client = Fixtures.stub(Client.class, clientValues);
+
+		Map<String, Object> configValues = new HashMap<>();
+		configValues.put("hideOthers", true);
+		configValues.put("hideIgnores", true);
+		final EntityHiderConfig config = Fixtures.stub(EntityHiderConfig.class, configValues);
+
+		// answering directly rather than by stubbing, which would dominate the uncached frame
+		final PartyMember member = mock(PartyMember.class);
+		final Set<String> memberNames = new HashSet<>();
+		for (int i = 0; i < 5; ++i)
+		{
+			memberNames.add("Player " + i * 100);
+		}
+		final PartyService partyService = mock(PartyService.class, withSettings().stubOnly().defaultAnswer(a ->
+		{
+			switch (a.getMethod().getName())
+			{
+				case "isInParty":
+					return true;
+				case "getMemberByDisplayName":
+					return memberNames.contains((String) a.getArgument(0)) ? member : null;
+				default:
+					return null;
+			}
+		}));
+
+		final Hooks hooks = mock(Hooks.class);
+		plugin = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(EntityHiderConfig.class).toInstance(config);
+			binder.bind(Hooks.class).toInstance(hooks);
+			binder.bind(NpcUtil.class).toInstance(mock(NpcUtil.class));
+			binder.bind(PartyService.class).toInstance(partyService);
+		}).getInstance(EntityHiderPlugin.class);
+
+		// the plugin registers its listener on start up, which is normally done by the plugin manager
+		final Method startUp = Plugin.class.getDeclaredMethod("startUp");
+		startUp.setAccessible(true);
+		startUp.invoke(plugin);
+
+		final ArgumentCaptor<Hooks.RenderableDrawListener> captor = ArgumentCaptor.forClass(Hooks.RenderableDrawListener.class);
+		verify(hooks).registerRenderableDrawListener(captor.capture());
+		listener = captor.getValue();
+	}
+
+	@Benchmark
+	public int frame()
+	{
+		if (tickEveryFrame)
+		{
+			plugin.onGameTick(GAME_TICK);
+		}
+
+		int drawn = 0;
+		for (Player player : players)
+		{
+			if (listener.draw(player, false))
+			{
+				++drawn;
+			}
+			if (listener.draw(player, true))
+			{
+				++drawn;
+			}
+		}
+		return drawn;
+	}
+
+	private static Player player(int id, String name, boolean friend)
+	{
+		Map<String, Object> values = new HashMap<>();
+		values.put("getId", id);
+		values.put("getName", name);
+		values.put("isFriend", friend);
+		return Fixtures.stub(Player.class, values);
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.Dimension;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import net.runelite.api.AABB;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.Model;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+
+/**
+ * Lightweight stand-ins for the game client. These are plain {@link Proxy}s
+ * answering from a fixed table, which keeps the per call overhead far below
+ * that of a mocking framework so it does not dominate the measured code.
+ */
+public class Fixtures
+{
+	public static final int CAMERA_X = 6400;
+	public static final int CAMERA_Y = 6400 - 1500;
+	public static final int CAMERA_Z = -1000;
+	public static final int CANVAS_WIDTH = 765;
+	public static final int CANVAS_HEIGHT = 503;
+
+	/**
+	 * A logged in client with the camera south of the center of the scene, looking north
+	 *
+	 * @param gpu whether the client reports the gpu plugin as active
+	 */
+	public static Client client(boolean gpu)
+	{
+		return client(gpu, Collections.emptyMap());
+	}
+
+	/**
+	 * A logged in client as per {@link #client(boolean)}, with some methods answered
+	 * from {@code overrides} instead
+	 */
+	public static Client client(boolean gpu, Map<String, Object> overrides)
+	{
+		Map<String, Object> values = new HashMap<>();
+		values.put("getGameState", GameState.LOGGED_IN);
+		values.put("isGpu", gpu);
+		values.put("getCameraX", CAMERA_X);
+		values.put("getCameraY", CAMERA_Y);
+		values.put("getCameraZ", CAMERA_Z);
+		values.put("getCameraFpX", (double) CAMERA_X);
+		values.put("getCameraFpY", (double) CAMERA_Y);
+		values.put("getCameraFpZ", (double) CAMERA_Z);
+		values.put("getCameraPitch", 256);
+		values.put("getCameraFpPitch", 256 * Math.PI / 1024);
+		values.put("getScale", 512);
+		values.put("getViewportWidth", CANVAS_WIDTH);
+		values.put("getViewportHeight", CANVAS_HEIGHT);
+		values.put("getCanvasWidth", CANVAS_WIDTH);
+		values.put("getCanvasHeight", CANVAS_HEIGHT);
+		values.put("getRealDimensions", new Dimension(CANVAS_WIDTH, CANVAS_HEIGHT));
+		WorldView worldView = worldView();
+		values.put("getTopLevelWorldView", worldView);
+		values.put("getWorldView", (Function<Object[], Object>) args -> (int) args[0] == WorldView.TOPLEVEL ? worldView : null);
+		values.putAll(overrides);
+		return stub(Client.class, values);
+	}
+
+	/**
+	 * A flat top level scene with no bridges
+	 */
+	public static WorldView worldView()
+	{
+		Map<String, Object> scene = new HashMap<>();
+		scene.put("getExtendedTileSettings", new byte[Constants.MAX_Z][Constants.EXTENDED_SCENE_SIZE][Constants.EXTENDED_SCENE_SIZE]);
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("isTopLevel", true);
+		values.put("getId", WorldView.TOPLEVEL);
+		values.put("getSizeX", Constants.SCENE_SIZE);
+		values.put("getSizeY", Constants.SCENE_SIZE);
+		values.put("getScene", stub(Scene.class, scene));
+		return stub(WorldView.class, values);
+	}
+
+	/**
+	 * A model of random triangles roughly the size of a player
+	 */
+	public static Model model(Random random, int vertices)
+	{
+		final float[] vx = new float[vertices];
+		final float[] vy = new float[vertices];
+		final float[] vz = new float[vertices];
+		for (int i = 0; i < vertices; ++i)
+		{
+			vx[i] = random.nextInt(128) - 64;
+			vy[i] = -random.nextInt(200);
+			vz[i] = random.nextInt(128) - 64;
+		}
+
+		final int faces = vertices * 2;
+		final int[] f1 = new int[faces];
+		final int[] f2 = new int[faces];
+		final int[] f3 = new int[faces];
+		for (int i = 0; i < faces; ++i)
+		{
+			f1[i] = random.nextInt(vertices);
+			f2[i] = random.nextInt(vertices);
+			f3[i] = random.nextInt(vertices);
+		}
+
+		Map<String, Object> aabb = new HashMap<>();
+		aabb.put("getCenterY", -100);
+		aabb.put("getExtremeX", 64);
+		aabb.put("getExtremeY", 100);
+		aabb.put("getExtremeZ", 64);
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("getVerticesCount", vertices);
+		values.put("getVerticesX", vx);
+		values.put("getVerticesY", vy);
+		values.put("getVerticesZ", vz);
+		values.put("getFaceCount", faces);
+		values.put("getFaceIndices1", f1);
+		values.put("getFaceIndices2", f2);
+		values.put("getFaceIndices3", f3);
+		values.put("getFaceColors3", new int[faces]);
+		values.put("getAABB", stub(AABB.class, aabb));
+		return stub(Model.class, values);
+	}
+
+	/**
+	 * Creates a proxy of an interface. Methods return the value in {@code values}
+	 * under their name, or the result of applying it to the arguments if it is a
+	 * {@link Function}, and otherwise null or zero.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T stub(Class<T> clazz, Map<String, Object> values)
+	{
+		return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) ->
+		{
+			Object value = values.get(method.getName());
+			if (value instanceof Function)
+			{
+				value = ((Function<Object[], Object>) value).apply(args);
+			}
+
+			if (value == null && method.getReturnType().isPrimitive())
+			{
+				return defaultValue(method.getReturnType());
+			}
+			return value;
+		});
+	}
+
+	private static Object defaultValue(Class<?> type)
+	{
+		if (type == boolean.class)
+		{
+			return false;
+		}
+		else if (type == long.class)
+		{
+			return 0L;
+		}
+		else if (type == double.class)
+		{
+			return 0d;
+		}
+		else if (type == float.class)
+		{
+			return 0f;
+		}
+		else if (type == short.class)
+		{
+			return (short) 0;
+		}
+		else if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		else if (type == char.class)
+		{
+			return (char) 0;
+		}
+		else if (type == void.class)
+		{
+			return null;
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.ui.DrawManager;
+import net.runelite.client.ui.FrameRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The client thread's cost of {@link DrawManager#processDrawComplete} per frame at 50 fps,
+ * with and without a {@link FrameRecorder}. The frame supplier copies a 1080p frame, like the
+ * gpu plugin's readback, and the recorder samples 10 of the 50 frames each second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameRecorderBenchmark
+{
+	private static final long FRAME_NANOS = 20_000_000L;
+
+	@Param({"false", "true"})
+	public boolean record;
+
+	private DrawManager drawManager;
+	private FrameRecorder recorder;
+	private int[] frame;
+	private long nextFrame;
+	private long clientThreadNanos;
+	private long frames;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		drawManager = new DrawManager();
+		frame = new int[1920 * 1080];
+		for (int i = 0; i < frame.length; ++i)
+		{
+			frame[i] = i * 0x010203;
+		}
+		if (record)
+		{
+			recorder = new FrameRecorder(5, 10, 640);
+			drawManager.setFrameRecorder(recorder);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		if (recorder != null)
+		{
+			recorder.close();
+		}
+	}
+
+	@Benchmark
+	public void frame()
+	{
+		// pace the frames like the client, so the recorder sees its normal sample rate
+		while (System.nanoTime() < nextFrame)
+		{
+			Thread.onSpinWait();
+		}
+		nextFrame = System.nanoTime() + FRAME_NANOS;
+
+		final long start = System.nanoTime();
+		drawManager.processDrawComplete(this::copyFrame);
+		clientThreadNanos += System.nanoTime() - start;
+		++frames;
+	}
+
+	@TearDown(Level.Iteration)
+	public void report()
+	{
+		if (frames > 0)
+		{
+			System.out.printf(" client thread: %.1f us/frame%n", clientThreadNanos / 1000.0 / frames);
+		}
+		clientThreadNanos = 0;
+		frames = 0;
+	}
+
+	private BufferedImage copyFrame()
+	{
+		final BufferedImage image = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+		System.arraycopy(frame, 0, ((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0, frame.length);
+		return image;
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.item.ItemSpriteFactory;
+import net.runelite.cache.item.ItemSpriteRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Rendering the sprite of every item in the bundled cache, one at a time with
+ * {@link ItemSpriteFactory} and in a batch with {@link ItemSpriteRenderer}. The
+ * bundled cache has no models, so each model is a sphere generated from its id,
+ * built again on every load to stand in for decoding. The renderer is created per
+ * invocation, so its model cache starts out empty.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemSpriteBenchmark
+{
+	private static final int RINGS = 12;
+	private static final int SEGMENTS = 16;
+
+	private static final ModelProvider MODELS = ItemSpriteBenchmark::sphere;
+	private static final SpriteProvider SPRITES = (spriteId, frameId) -> null;
+	private static final TextureProvider TEXTURES = () -> new TextureDefinition[0];
+
+	private ItemManager items;
+	private int[] itemIds;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		try (Store store = TestCache.load())
+		{
+			items = new ItemManager(store);
+			items.load();
+			items.link();
+		}
+
+		itemIds = items.getItems().stream()
+			.mapToInt(ItemDefinition::getId)
+			.toArray();
+	}
+
+	@Benchmark
+	public void factory(Blackhole blackhole) throws IOException
+	{
+		for (int itemId : itemIds)
+		{
+			blackhole.consume(ItemSpriteFactory.createSprite(items, MODELS, SPRITES, TEXTURES,
+				itemId, 1, 1, 3153952, false));
+		}
+	}
+
+	@Benchmark
+	public int renderer(Blackhole blackhole) throws IOException
+	{
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(items, MODELS, SPRITES, TEXTURES);
+		return renderer.renderAll(itemIds, 1, 1, 3153952, 1, (itemId, sprite) -> blackhole.consume(sprite));
+	}
+
+	@Benchmark
+	public int rendererParallel(Blackhole blackhole) throws IOException
+	{
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(items, MODELS, SPRITES, TEXTURES);
+		return renderer.renderAll(itemIds, 1, 1, 3153952, Runtime.getRuntime().availableProcessors(),
+			(itemId, sprite) -> consume(blackhole, sprite));
+	}
+
+	private static void consume(Blackhole blackhole, BufferedImage sprite)
+	{
+		synchronized (blackhole)
+		{
+			blackhole.consume(sprite);
+		}
+	}
+
+	private static ModelDefinition sphere(int modelId)
+	{
+		int vertices = 2 + (RINGS - 1) * SEGMENTS;
+		int faces = 2 * SEGMENTS * (RINGS - 1);
+		ModelDefinition model = new ModelDefinition();
+		model.id = modelId;
+		model.vertexCount = vertices;
+		model.vertexX = new int[vertices];
+		model.vertexY = new int[vertices];
+		model.vertexZ = new int[vertices];
+
+		int radius = 40 + modelId % 80;
+		model.vertexY[0] = -radius;
+		model.vertexY[1] = radius;
+		for (int ring = 1; ring < RINGS; ++ring)
+		{
+			double pitch = Math.PI * ring / RINGS;
+			for (int segment = 0; segment < SEGMENTS; ++segment)
+			{
+				double yaw = 2 * Math.PI * segment / SEGMENTS;
+				int v = vertex(ring, segment);
+				model.vertexX[v] = (int) (radius * Math.sin(pitch) * Math.cos(yaw));
+				model.vertexY[v] = (int) (-radius * Math.cos(pitch));
+				model.vertexZ[v] = (int) (radius * Math.sin(pitch) * Math.sin(yaw));
+			}
+		}
+
+		model.faceCount = faces;
+		model.faceIndices1 = new int[faces];
+		model.faceIndices2 = new int[faces];
+		model.faceIndices3 = new int[faces];
+		model.faceColors = new short[faces];
+
+		int face = 0;
+		for (int segment = 0; segment < SEGMENTS; ++segment)
+		{
+			int next = (segment + 1) % SEGMENTS;
+			face = addFace(model, face, 0, vertex(1, next), vertex(1, segment));
+			face = addFace(model, face, 1, vertex(RINGS - 1, segment), vertex(RINGS - 1, next));
+			for (int ring = 1; ring < RINGS - 1; ++ring)
+			{
+				face = addFace(model, face, vertex(ring, segment), vertex(ring, next), vertex(ring + 1, segment));
+				face = addFace(model, face, vertex(ring, next), vertex(ring + 1, next), vertex(ring + 1, segment));
+			}
+		}
+
+		short color = (short) (modelId * 389 & 0xffff);
+		for (int i = 0; i < faces; ++i)
+		{
+			model.faceColors[i] = color;
+		}
+		return model;
+	}
+
+	private static int vertex(int ring, int segment)
+	{
+		return 2 + (ring - 1) * SEGMENTS + segment;
+	}
+
+	private static int addFace(ModelDefinition model, int face, int a, int b, int c)
+	{
+		model.faceIndices1[face] = a;
+		model.faceIndices2[face] = b;
+		model.faceIndices3[face] = c;
+		return face + 1;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.inject.Guice;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.WorldView;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import net.runelite.client.ui.overlay.outline.OutlineBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A frame of outlines around highlighted objects, drawn one at a time as {@link ModelOutlineRenderer#drawOutline}
+ * does, or together in one {@link OutlineBatch}. The camera turns every frame so models are reprojected,
+ * except in {@link #batchedUnchanged} where the batch can be replayed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ModelOutlineBenchmark
+{
+	@Param({"10", "50"})
+	public int objects;
+
+	private ModelOutlineRenderer modelOutlineRenderer;
+	private OutlineBatch batch;
+	private GameObject[] gameObjects;
+	private BufferedImage image;
+	private int yaw;
+
+	@Setup
+	public void setup()
+	{
+		image = new BufferedImage(Fixtures.CANVAS_WIDTH, Fixtures.CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		Map<String, Object> bufferProvider = new HashMap<>();
+		bufferProvider.put("getImage", image);
+
+		Map<String, Object> overrides = new HashMap<>();
+		overrides.put("getBufferProvider", Fixtures.stub(MainBufferProvider.class, bufferProvider));
+		overrides.put("getCameraYaw", (Function<Object[], Object>) args -> yaw);
+		overrides.put("getCameraFpYaw", (Function<Object[], Object>) args -> yaw * Math.PI / 1024);
+		Client client = Fixtures.client(false, overrides);
+
+		modelOutlineRenderer = Guice.createInjector(binder -> binder.bind(Client.class).toInstance(client))
+			.getInstance(ModelOutlineRenderer.class);
+		batch = modelOutlineRenderer.createBatch();
+
+		WorldView worldView = client.getTopLevelWorldView();
+		Random random = new Random(27);
+		gameObjects = new GameObject[objects];
+		for (int i = 0; i < objects; ++i)
+		{
+			Map<String, Object> values = new HashMap<>();
+			values.put("getWorldView", worldView);
+			values.put("getRenderable", Fixtures.model(random, 400));
+			values.put("getX", Fixtures.CAMERA_X + (i % 10 - 5) * 160);
+			values.put("getY", Fixtures.CAMERA_Y + 1500 + (i / 10) * 160);
+			values.put("getModelOrientation", random.nextInt(2048));
+			gameObjects[i] = Fixtures.stub(GameObject.class, values);
+		}
+	}
+
+	@Benchmark
+	public BufferedImage individual()
+	{
+		yaw ^= 1;
+		for (GameObject gameObject : gameObjects)
+		{
+			modelOutlineRenderer.drawOutline(gameObject, 2, Color.CYAN, 0);
+		}
+		return image;
+	}
+
+	@Benchmark
+	public BufferedImage batched()
+	{
+		yaw ^= 1;
+		drawBatch();
+		return image;
+	}
+
+	@Benchmark
+	public BufferedImage batchedUnchanged()
+	{
+		drawBatch();
+		return image;
+	}
+
+	private void drawBatch()
+	{
+		batch.reset(2, Color.CYAN, 0);
+		for (GameObject gameObject : gameObjects)
+		{
+			batch.add(gameObject);
+		}
+		batch.draw();
+	}
+}
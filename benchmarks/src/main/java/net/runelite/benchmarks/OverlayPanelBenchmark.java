@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.PanelComponent;
+import net.runelite.client.ui.overlay.components.RetainedPanelComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A frame of three panels shaped like the xp tracker, boosts and opponent information
+ * overlays, built every frame with {@link PanelComponent} or kept in a
+ * {@link RetainedPanelComponent}. The shown values change every few frames, as they do in game.
+ * Run with {@code -prof gc} to compare the bytes allocated per frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class OverlayPanelBenchmark
+{
+	private static final String[] BOOSTED_SKILLS = {"Attack", "Strength", "Defence", "Ranged", "Magic"};
+	private static final Point XP_LOCATION = new Point(10, 10);
+	private static final Point BOOSTS_LOCATION = new Point(10, 150);
+	private static final Point OPPONENT_LOCATION = new Point(600, 10);
+
+	private BufferedImage image;
+	private Graphics2D graphics;
+	private int frame;
+
+	private final PanelComponent xpPanel = new PanelComponent();
+	private final PanelComponent boostsPanel = new PanelComponent();
+	private final PanelComponent opponentPanel = new PanelComponent();
+
+	private final RetainedPanelComponent retainedXpPanel = new RetainedPanelComponent();
+	private final RetainedPanelComponent retainedBoostsPanel = new RetainedPanelComponent();
+	private final RetainedPanelComponent retainedOpponentPanel = new RetainedPanelComponent();
+	private RetainedPanelComponent.Line gainedLine;
+	private RetainedPanelComponent.Line xpHourLine;
+	private RetainedPanelComponent.Line actionsLine;
+	private RetainedPanelComponent.Line remainingLine;
+	private final RetainedPanelComponent.Line[] boostLines = new RetainedPanelComponent.Line[BOOSTED_SKILLS.length];
+	private RetainedPanelComponent.Line healthLine;
+	private int lastXp = -1;
+	private int lastBoost = -1;
+	private int lastHealth = -1;
+
+	@Setup
+	public void setup()
+	{
+		image = new BufferedImage(Fixtures.CANVAS_WIDTH, Fixtures.CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		graphics = image.createGraphics();
+
+		xpPanel.setPreferredLocation(XP_LOCATION);
+		boostsPanel.setPreferredLocation(BOOSTS_LOCATION);
+		opponentPanel.setPreferredLocation(OPPONENT_LOCATION);
+
+		retainedXpPanel.setPreferredLocation(XP_LOCATION);
+		retainedXpPanel.addTitle("Slayer").setLeftColor(Color.GREEN);
+		gainedLine = retainedXpPanel.addLine("Gained:", null);
+		xpHourLine = retainedXpPanel.addLine("XP/hr:", null);
+		actionsLine = retainedXpPanel.addLine("Actions left:", null);
+		remainingLine = retainedXpPanel.addLine("XP left:", null);
+
+		retainedBoostsPanel.setPreferredLocation(BOOSTS_LOCATION);
+		for (int i = 0; i < BOOSTED_SKILLS.length; ++i)
+		{
+			boostLines[i] = retainedBoostsPanel.addLine(BOOSTED_SKILLS[i], null);
+		}
+
+		retainedOpponentPanel.setPreferredLocation(OPPONENT_LOCATION);
+		retainedOpponentPanel.addTitle("Greater demon (level-92)");
+		healthLine = retainedOpponentPanel.addLine("Health:", null);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage immediate()
+	{
+		++frame;
+		final int xp = xp();
+		final int boost = boost();
+		final int health = health();
+
+		xpPanel.getChildren().add(TitleComponent.builder()
+			.text("Slayer")
+			.color(Color.GREEN)
+			.build());
+		xpPanel.getChildren().add(LineComponent.builder()
+			.left("Gained:")
+			.right(String.format("%,d", xp))
+			.build());
+		xpPanel.getChildren().add(LineComponent.builder()
+			.left("XP/hr:")
+			.right(String.format("%,d", xp * 12))
+			.build());
+		xpPanel.getChildren().add(LineComponent.builder()
+			.left("Actions left:")
+			.right(String.format("%,d", 5000 - xp / 100))
+			.build());
+		xpPanel.getChildren().add(LineComponent.builder()
+			.left("XP left:")
+			.right(String.format("%,d", 500_000 - xp))
+			.build());
+		xpPanel.render(graphics);
+		xpPanel.getChildren().clear();
+
+		for (final String skill : BOOSTED_SKILLS)
+		{
+			boostsPanel.getChildren().add(LineComponent.builder()
+				.left(skill)
+				.right(boost + "/99")
+				.rightColor(boost > 99 ? Color.GREEN : Color.WHITE)
+				.build());
+		}
+		boostsPanel.render(graphics);
+		boostsPanel.getChildren().clear();
+
+		opponentPanel.getChildren().add(TitleComponent.builder()
+			.text("Greater demon (level-92)")
+			.build());
+		opponentPanel.getChildren().add(LineComponent.builder()
+			.left("Health:")
+			.right(health + "/87")
+			.build());
+		opponentPanel.render(graphics);
+		opponentPanel.getChildren().clear();
+
+		return image;
+	}
+
+	@Benchmark
+	public BufferedImage retained()
+	{
+		++frame;
+		final int xp = xp();
+		final int boost = boost();
+		final int health = health();
+
+		if (xp != lastXp)
+		{
+			gainedLine.setRight(String.format("%,d", xp));
+			xpHourLine.setRight(String.format("%,d", xp * 12));
+			actionsLine.setRight(String.format("%,d", 5000 - xp / 100));
+			remainingLine.setRight(String.format("%,d", 500_000 - xp));
+			lastXp = xp;
+		}
+		retainedXpPanel.render(graphics);
+
+		if (boost != lastBoost)
+		{
+			for (final RetainedPanelComponent.Line line : boostLines)
+			{
+				line.setRight(boost + "/99");
+				line.setRightColor(boost > 99 ? Color.GREEN : Color.WHITE);
+			}
+			lastBoost = boost;
+		}
+		retainedBoostsPanel.render(graphics);
+
+		if (health != lastHealth)
+		{
+			healthLine.setRight(health + "/87");
+			lastHealth = health;
+		}
+		retainedOpponentPanel.render(graphics);
+
+		return image;
+	}
+
+	private int xp()
+	{
+		// a kill every 10 frames
+		return frame / 10 * 350;
+	}
+
+	private int boost()
+	{
+		// boosts drain once a minute
+		return 118 - frame / 3000 % 20;
+	}
+
+	private int health()
+	{
+		// a hit every 5 frames
+		return 87 - frame / 5 % 88;
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.ClientUI;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayLayer;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.OverlayRenderer;
+import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A frame of overlay rendering onto an offscreen image, with a mix of
+ * panel overlays snapped to the corners and dynamic scene overlays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class OverlayRendererBenchmark
+{
+	private static final BeforeRender BEFORE_RENDER = new BeforeRender();
+	private static final OverlayPosition[] PANEL_POSITIONS = {
+		OverlayPosition.TOP_LEFT,
+		OverlayPosition.TOP_RIGHT,
+		OverlayPosition.BOTTOM_LEFT,
+		OverlayPosition.BOTTOM_RIGHT,
+		OverlayPosition.ABOVE_CHATBOX_RIGHT,
+	};
+
+	@Param({"10", "50"})
+	public int overlays;
+
+	private OverlayRenderer overlayRenderer;
+	private BufferedImage image;
+	private Graphics2D graphics;
+
+	private static class PanelOverlay extends OverlayPanel
+	{
+		private final int lines;
+
+		PanelOverlay(OverlayPosition position, int lines)
+		{
+			setPosition(position);
+			this.lines = lines;
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			panelComponent.getChildren().add(TitleComponent.builder()
+				.text("Panel")
+				.build());
+			for (int i = 0; i < lines; ++i)
+			{
+				panelComponent.getChildren().add(LineComponent.builder()
+					.left("Line " + i)
+					.right(Integer.toString(i * 1000))
+					.build());
+			}
+			return super.render(graphics);
+		}
+	}
+
+	private static class TileOverlay extends Overlay
+	{
+		private final Polygon polygon;
+
+		TileOverlay(int x, int y)
+		{
+			setPosition(OverlayPosition.DYNAMIC);
+			setLayer(OverlayLayer.ABOVE_SCENE);
+			polygon = new Polygon(
+				new int[]{x, x + 40, x + 30, x - 10},
+				new int[]{y, y, y + 20, y + 20},
+				4);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			OverlayUtil.renderPolygon(graphics, polygon, Color.CYAN);
+			return null;
+		}
+	}
+
+	@Setup
+	public void setup()
+	{
+		Client client = Fixtures.client(false);
+		Injector injector = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(RuneLiteConfig.class).toInstance(mock(RuneLiteConfig.class, withSettings().defaultAnswer(CALLS_REAL_METHODS).stubOnly()));
+			binder.bind(ConfigManager.class).toInstance(mock(ConfigManager.class, withSettings().stubOnly()));
+			binder.bind(ClientUI.class).toInstance(mock(ClientUI.class, withSettings().stubOnly()));
+			binder.bind(ChatMessageManager.class).toInstance(mock(ChatMessageManager.class, withSettings().stubOnly()));
+			binder.bind(EventBus.class).toInstance(new EventBus());
+		});
+
+		OverlayManager overlayManager = injector.getInstance(OverlayManager.class);
+		overlayRenderer = injector.getInstance(OverlayRenderer.class);
+
+		for (int i = 0; i < overlays; ++i)
+		{
+			if (i % 2 == 0)
+			{
+				overlayManager.add(new PanelOverlay(PANEL_POSITIONS[i / 2 % PANEL_POSITIONS.length], 4));
+			}
+			else
+			{
+				overlayManager.add(new TileOverlay(20 + i * 37 % 700, 20 + i * 53 % 450));
+			}
+		}
+
+		image = new BufferedImage(Fixtures.CANVAS_WIDTH, Fixtures.CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		graphics = image.createGraphics();
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage frame()
+	{
+		overlayRenderer.onBeforeRender(BEFORE_RENDER);
+		overlayRenderer.renderOverlayLayer(graphics, OverlayLayer.ABOVE_SCENE);
+		overlayRenderer.renderOverlayLayer(graphics, OverlayLayer.UNDER_WIDGETS);
+		overlayRenderer.renderOverlayLayer(graphics, OverlayLayer.ALWAYS_ON_TOP);
+		return image;
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.name.Names;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.awt.Color;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameTick;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.PartyService;
+import net.runelite.client.party.WSClient;
+import net.runelite.client.party.events.UserJoin;
+import net.runelite.client.party.messages.BatchSupport;
+import net.runelite.client.party.messages.PartyMessage;
+import net.runelite.client.plugins.dpscounter.DpsUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import net.runelite.client.plugins.party.messages.TilePing;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A tick of typical party traffic sent and received through a stand-in for the party server,
+ * with each message as json, or with the tick batched into one binary frame.
+ * The bytes per message sent are printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartyMessageBenchmark
+{
+	private static final int MESSAGES = 5;
+	private static final long OTHER_MEMBER = 1;
+	private static final GameTick GAME_TICK = new GameTick();
+
+	@Param({"json", "batch"})
+	public String format;
+
+	private PartyService partyService;
+	private WSClient wsClient;
+	private Relay relay;
+	private List<okio.ByteString> received;
+	private long sentMessages;
+
+	/**
+	 * Stands in for the party server, relaying sent data frames back as they would be received by another member
+	 */
+	private static class Relay implements WebSocket
+	{
+		private final List<okio.ByteString> relayed = new ArrayList<>();
+		private long memberId;
+		private long bytes;
+
+		@Override
+		public boolean send(okio.ByteString frame)
+		{
+			bytes += frame.size();
+			try
+			{
+				final okio.ByteString s2c = relay(frame.toByteArray());
+				if (s2c != null)
+				{
+					relayed.add(s2c);
+				}
+			}
+			catch (IOException e)
+			{
+				throw new RuntimeException(e);
+			}
+			return true;
+		}
+
+		// c2s { data = 3 { data = 1, type = 2 } } to s2c { data = 3 { partyId = 1, memberId = 2, data = 3, type = 4 } }
+		private okio.ByteString relay(byte[] c2s) throws IOException
+		{
+			final CodedInputStream in = CodedInputStream.newInstance(c2s);
+			ByteString data = null;
+			String type = null;
+			for (int tag = in.readTag(); tag != 0; tag = in.readTag())
+			{
+				switch (WireFormat.getTagFieldNumber(tag))
+				{
+					case 1:
+						// join
+						final CodedInputStream join = in.readBytes().newCodedInput();
+						for (int t = join.readTag(); t != 0; t = join.readTag())
+						{
+							final long value = join.readInt64();
+							if (WireFormat.getTagFieldNumber(t) == 2)
+							{
+								memberId = value;
+							}
+						}
+						break;
+					case 3:
+						final CodedInputStream d = in.readBytes().newCodedInput();
+						for (int t = d.readTag(); t != 0; t = d.readTag())
+						{
+							if (WireFormat.getTagFieldNumber(t) == 1)
+							{
+								data = d.readBytes();
+							}
+							else
+							{
+								type = d.readString();
+							}
+						}
+						break;
+					default:
+						in.skipField(tag);
+				}
+			}
+
+			if (data == null)
+			{
+				return null;
+			}
+
+			final ByteString.Output partyData = ByteString.newOutput();
+			final CodedOutputStream pd = CodedOutputStream.newInstance(partyData);
+			pd.writeInt64(1, 1);
+			pd.writeInt64(2, memberId);
+			pd.writeBytes(3, data);
+			pd.writeString(4, type);
+			pd.flush();
+
+			final ByteString.Output s2c = ByteString.newOutput();
+			final CodedOutputStream out = CodedOutputStream.newInstance(s2c);
+			out.writeBytes(3, partyData.toByteString());
+			out.flush();
+			return okio.ByteString.of(s2c.toByteString().toByteArray());
+		}
+
+		@Override
+		public Request request()
+		{
+			return null;
+		}
+
+		@Override
+		public long queueSize()
+		{
+			return 0;
+		}
+
+		@Override
+		public boolean send(String text)
+		{
+			return true;
+		}
+
+		@Override
+		public boolean close(int code, String reason)
+		{
+			return true;
+		}
+
+		@Override
+		public void cancel()
+		{
+		}
+	}
+
+	@Setup
+	public void setup()
+	{
+		relay = new Relay();
+		final OkHttpClient okHttpClient = new OkHttpClient()
+		{
+			@Override
+			public WebSocket newWebSocket(Request request, WebSocketListener listener)
+			{
+				return relay;
+			}
+		};
+
+		final Client client = mock(Client.class, withSettings().stubOnly());
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		final Injector injector = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(ChatMessageManager.class).toInstance(mock(ChatMessageManager.class, withSettings().stubOnly()));
+			binder.bind(EventBus.class).toInstance(new EventBus());
+			binder.bind(OkHttpClient.class).toInstance(okHttpClient);
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.ws")).toInstance(HttpUrl.get("https://localhost/ws"));
+		});
+
+		wsClient = injector.getInstance(WSClient.class);
+		wsClient.registerMessage(StatusUpdate.class, StatusUpdate.CODEC);
+		wsClient.registerMessage(LocationUpdate.class, LocationUpdate.CODEC);
+		wsClient.registerMessage(TilePing.class, TilePing.CODEC);
+		wsClient.registerMessage(DpsUpdate.class, DpsUpdate.CODEC);
+
+		partyService = injector.getInstance(PartyService.class);
+		partyService.changeParty("benchmark");
+		partyService.onUserJoin(new UserJoin(partyService.getPartyId(), relay.memberId));
+		partyService.onUserJoin(new UserJoin(partyService.getPartyId(), OTHER_MEMBER));
+		if (format.equals("batch"))
+		{
+			final BatchSupport batchSupport = new BatchSupport(WSClient.BATCH_VERSION);
+			batchSupport.setMemberId(OTHER_MEMBER);
+			partyService.onBatchSupport(batchSupport);
+		}
+
+		sendTick();
+		received = new ArrayList<>(relay.relayed);
+
+		relay.bytes = 0;
+		sentMessages = 0;
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		System.out.printf("%n%s: %.1f bytes/message%n", format, (double) relay.bytes / sentMessages);
+	}
+
+	private void sendTick()
+	{
+		relay.relayed.clear();
+
+		final StatusUpdate status = new StatusUpdate();
+		status.setHealthCurrent(72);
+		status.setPrayerCurrent(43);
+		status.setRunEnergy(80);
+		status.setMemberColor(Color.ORANGE);
+
+		final List<PartyMessage> messages = List.of(
+			status,
+			new LocationUpdate(new WorldPoint(3222, 3218, 0)),
+			new DpsUpdate(42, true),
+			new DpsUpdate(17, true),
+			new TilePing(new WorldPoint(3224, 3219, 0))
+		);
+
+		for (PartyMessage message : messages)
+		{
+			partyService.send(message);
+		}
+		partyService.onGameTick(GAME_TICK);
+
+		sentMessages += MESSAGES;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void send()
+	{
+		sendTick();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void receive()
+	{
+		for (okio.ByteString frame : received)
+		{
+			wsClient.onMessage(relay, frame);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.Shape;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.Model;
+import net.runelite.api.Perspective;
+import net.runelite.api.ProjectionBuffer;
+import net.runelite.api.WorldView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Projection of points and models onto the canvas. Run with {@code -prof gc} to
+ * compare the allocation of the plain clickbox methods against the variants
+ * which reuse a {@link ProjectionBuffer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerspectiveBenchmark
+{
+	private static final int POINTS = 100;
+	private static final int NPCS = 100;
+
+	@Param({"false", "true"})
+	public boolean gpu;
+
+	@Param({"500"})
+	public int vertices;
+
+	private Client client;
+	private WorldView worldView;
+	private Model model;
+	private Model[] npcs;
+	private int[] xs;
+	private int[] ys;
+	private final ProjectionBuffer buffer = new ProjectionBuffer();
+
+	@Setup
+	public void setup()
+	{
+		client = Fixtures.client(gpu);
+		worldView = Fixtures.worldView();
+
+		Random random = new Random(42);
+		model = Fixtures.model(random, vertices);
+		npcs = new Model[NPCS];
+		for (int i = 0; i < NPCS; ++i)
+		{
+			npcs[i] = Fixtures.model(random, vertices);
+		}
+
+		xs = new int[POINTS];
+		ys = new int[POINTS];
+		for (int i = 0; i < POINTS; ++i)
+		{
+			xs[i] = Fixtures.CAMERA_X + random.nextInt(2048) - 1024;
+			ys[i] = Fixtures.CAMERA_Y + 1000 + random.nextInt(2048);
+		}
+	}
+
+	@Benchmark
+	public void localToCanvas(Blackhole blackhole)
+	{
+		for (int i = 0; i < POINTS; ++i)
+		{
+			blackhole.consume(Perspective.localToCanvas(client, xs[i], ys[i], 0));
+		}
+	}
+
+	@Benchmark
+	public Shape clickbox()
+	{
+		return Perspective.getClickbox(client, worldView, model, 0, Fixtures.CAMERA_X, Fixtures.CAMERA_Y + 1500, 0);
+	}
+
+	@Benchmark
+	public Shape clickboxScratchBuffer()
+	{
+		return Perspective.getClickbox(client, worldView, model, 0, Fixtures.CAMERA_X, Fixtures.CAMERA_Y + 1500, 0, buffer);
+	}
+
+	@Benchmark
+	public Shape convexHull()
+	{
+		return Perspective.getConvexHull(client, worldView, model, 0, Fixtures.CAMERA_X, Fixtures.CAMERA_Y + 1500, 0, buffer);
+	}
+
+	/**
+	 * Clickboxes of a frame of npcs standing on a 10x10 grid in front of the camera
+	 */
+	@Benchmark
+	public void clickboxFrame(Blackhole blackhole)
+	{
+		for (int i = 0; i < NPCS; ++i)
+		{
+			blackhole.consume(Perspective.getClickbox(client, worldView, npcs[i], i * 20, npcX(i), npcY(i), 0));
+		}
+	}
+
+	@Benchmark
+	public void clickboxFrameScratchBuffer(Blackhole blackhole)
+	{
+		for (int i = 0; i < NPCS; ++i)
+		{
+			blackhole.consume(Perspective.getClickbox(client, worldView, npcs[i], i * 20, npcX(i), npcY(i), 0, buffer));
+		}
+	}
+
+	private static int npcX(int i)
+	{
+		return Fixtures.CAMERA_X + (i % 10 - 5) * 128;
+	}
+
+	private static int npcY(int i)
+	{
+		return Fixtures.CAMERA_Y + 1500 + (i / 10 - 5) * 128;
+	}
+}
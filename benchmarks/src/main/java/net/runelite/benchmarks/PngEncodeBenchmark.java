@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import javax.imageio.ImageIO;
+import net.runelite.client.util.PngEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding a 4k screenshot to png with ImageIO, and with {@link PngEncoder} on one thread and on a pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PngEncodeBenchmark
+{
+	private static final int WIDTH = 3840;
+	private static final int HEIGHT = 2160;
+
+	private BufferedImage image;
+	private ExecutorService pool;
+	private PngEncoder parallel;
+	private PngEncoder single;
+	private final CountingOutputStream out = new CountingOutputStream();
+
+	@Setup
+	public void setup()
+	{
+		// gradients with some noise over a checkerboard, roughly like a game frame
+		image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		Random random = new Random(42);
+		for (int y = 0; y < HEIGHT; ++y)
+		{
+			for (int x = 0; x < WIDTH; ++x)
+			{
+				int r = (int) (96 + 64 * Math.sin(x / 97.0)) + (random.nextInt(4) == 0 ? random.nextInt(7) - 3 : 0);
+				int g = (int) (112 + 48 * Math.cos(y / 61.0));
+				int b = (x / 128 + y / 128) % 2 == 0 ? 40 : 70;
+				pixels[y * WIDTH + x] = (r << 16) | (g << 8) | b;
+			}
+		}
+
+		pool = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+		parallel = new PngEncoder(pool);
+		single = new PngEncoder(Runnable::run);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		pool.shutdown();
+		System.out.println("bytes per image: " + out.count / Math.max(1, out.images));
+	}
+
+	@Benchmark
+	public long imageIO() throws IOException
+	{
+		ImageIO.write(image, "PNG", out);
+		return out.image();
+	}
+
+	@Benchmark
+	public long singleThread() throws IOException
+	{
+		single.encode(image, out, Deflater.DEFAULT_COMPRESSION);
+		return out.image();
+	}
+
+	@Benchmark
+	public long parallel() throws IOException
+	{
+		parallel.encode(image, out, Deflater.DEFAULT_COMPRESSION);
+		return out.image();
+	}
+
+	@Benchmark
+	public long parallelLevel4() throws IOException
+	{
+		parallel.encode(image, out, 4);
+		return out.image();
+	}
+
+	@Benchmark
+	public long parallelBestSpeed() throws IOException
+	{
+		parallel.encode(image, out, Deflater.BEST_SPEED);
+		return out.image();
+	}
+
+	private static class CountingOutputStream extends OutputStream
+	{
+		private long count;
+		private long images;
+
+		@Override
+		public void write(int b)
+		{
+			++count;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len)
+		{
+			count += len;
+		}
+
+		long image()
+		{
+			++images;
+			return count;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Projectile;
+import net.runelite.api.Renderable;
+import net.runelite.api.Scene;
+import net.runelite.api.TileObject;
+import net.runelite.client.callback.RenderCallback;
+import net.runelite.client.callback.RenderCallbackManager;
+import net.runelite.client.callback.RenderFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A frame of render callback checks over a synthetic scene, with the same set of plugins
+ * hiding projectiles, npcs and objects either through per entity {@link RenderCallback}s
+ * or compiled {@link RenderFilter}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderCallbackBenchmark
+{
+	private static final int PLAYERS = 400;
+	private static final int NPCS = 800;
+	private static final int PROJECTILES = 200;
+	private static final int OBJECTS = 5000;
+	private static final int PLUGINS = 8;
+
+	@Param({"callbacks", "filters"})
+	public String mode;
+
+	private RenderCallbackManager renderCallbackManager;
+	private Renderable[] entities;
+	private TileObject[] objects;
+
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(42);
+
+		entities = new Renderable[PLAYERS + NPCS + PROJECTILES];
+		int n = 0;
+		for (int i = 0; i < PLAYERS; ++i)
+		{
+			entities[n++] = Fixtures.stub(Player.class, Map.of());
+		}
+		for (int i = 0; i < NPCS; ++i)
+		{
+			entities[n++] = Fixtures.stub(NPC.class, Map.of("getId", random.nextInt(2000)));
+		}
+		for (int i = 0; i < PROJECTILES; ++i)
+		{
+			entities[n++] = Fixtures.stub(Projectile.class, Map.of());
+		}
+
+		objects = new TileObject[OBJECTS];
+		for (int i = 0; i < OBJECTS; ++i)
+		{
+			objects[i] = Fixtures.stub(TileObject.class, Map.of("getId", random.nextInt(40000)));
+		}
+
+		renderCallbackManager = new RenderCallbackManager();
+		for (int i = 0; i < PLUGINS; ++i)
+		{
+			final Set<Integer> npcIds = new HashSet<>();
+			final Set<Integer> objectIds = new HashSet<>();
+			for (int j = 0; j < 20; ++j)
+			{
+				npcIds.add(random.nextInt(2000));
+				objectIds.add(random.nextInt(40000));
+			}
+			final boolean hideProjectiles = i == 0;
+
+			if (mode.equals("filters"))
+			{
+				final RenderFilter.RenderFilterBuilder builder = RenderFilter.builder()
+					.npcIds(npcIds)
+					.objectIds(objectIds);
+				if (hideProjectiles)
+				{
+					builder.type(Projectile.class);
+				}
+				renderCallbackManager.register(builder.build());
+			}
+			else
+			{
+				renderCallbackManager.register(new RenderCallback()
+				{
+					@Override
+					public boolean addEntity(Renderable renderable, boolean ui)
+					{
+						if (renderable instanceof Projectile)
+						{
+							return !hideProjectiles;
+						}
+						else if (renderable instanceof NPC)
+						{
+							return !npcIds.contains(((NPC) renderable).getId());
+						}
+						return true;
+					}
+
+					@Override
+					public boolean drawObject(Scene scene, TileObject object)
+					{
+						return !objectIds.contains(object.getId());
+					}
+				});
+			}
+		}
+	}
+
+	@Benchmark
+	public void frame(Blackhole bh)
+	{
+		for (Renderable entity : entities)
+		{
+			bh.consume(renderCallbackManager.addEntity(entity, false));
+			bh.consume(renderCallbackManager.addEntity(entity, true));
+		}
+
+		for (TileObject object : objects)
+		{
+			bh.consume(renderCallbackManager.drawObject(null, object));
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import net.runelite.client.util.ResourcePack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup resource loading: every packed image decoded from its png or built from the pack,
+ * and the item variations parsed from json or read from their packed form.
+ * The bytes allocated per operation are printed at the end of each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ResourceLoadBenchmark
+{
+	// CHECKSTYLE:OFF
+	private static final Type VARIATIONS_TYPE = new TypeToken<Map<String, Collection<Integer>>>(){}.getType();
+	// CHECKSTYLE:ON
+
+	private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private URL packUrl;
+	private List<String> paths;
+	private long allocated;
+	private long ops;
+
+	@Setup
+	public void setup()
+	{
+		packUrl = ResourcePack.class.getResource("/net/runelite/client/pack/icons.pack");
+		paths = new ArrayList<>(ResourcePack.icons().getPaths());
+	}
+
+	@TearDown(Level.Iteration)
+	public void report()
+	{
+		if (ops > 0)
+		{
+			System.out.printf(" allocated: %d KB/op%n", allocated / ops / 1024);
+		}
+		allocated = ops = 0;
+	}
+
+	@Benchmark
+	public List<BufferedImage> imagesImageIO() throws IOException
+	{
+		final long start = allocatedBytes();
+		final List<BufferedImage> images = new ArrayList<>(paths.size());
+		for (String path : paths)
+		{
+			try (InputStream in = ResourcePack.class.getResourceAsStream("/" + path))
+			{
+				synchronized (ImageIO.class)
+				{
+					images.add(ImageIO.read(in));
+				}
+			}
+		}
+		count(start);
+		return images;
+	}
+
+	@Benchmark
+	public List<BufferedImage> imagesPack() throws IOException
+	{
+		final long start = allocatedBytes();
+		final ResourcePack pack = ResourcePack.load(packUrl);
+		final List<BufferedImage> images = new ArrayList<>(paths.size());
+		for (String path : paths)
+		{
+			images.add(pack.getImage(path));
+		}
+		count(start);
+		return images;
+	}
+
+	@Benchmark
+	public Map<String, Collection<Integer>> itemVariationsJson() throws IOException
+	{
+		final long start = allocatedBytes();
+		try (InputStream in = ResourcePack.class.getResourceAsStream("/item_variations.json"))
+		{
+			final Map<String, Collection<Integer>> variations = new Gson().fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), VARIATIONS_TYPE);
+			count(start);
+			return variations;
+		}
+	}
+
+	@Benchmark
+	public List<int[]> itemVariationsPacked() throws IOException
+	{
+		final long start = allocatedBytes();
+		try (InputStream in = ResourcePack.class.getResourceAsStream("/net/runelite/client/pack/item_variations.dat"))
+		{
+			final DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+			final int groups = dis.readInt();
+			final List<int[]> variations = new ArrayList<>(groups);
+			for (int i = 0; i < groups; ++i)
+			{
+				final int[] ids = new int[dis.readInt()];
+				for (int j = 0; j < ids.length; ++j)
+				{
+					ids[j] = dis.readInt();
+				}
+				variations.add(ids);
+			}
+			count(start);
+			return variations;
+		}
+	}
+
+	private long allocatedBytes()
+	{
+		return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private void count(long start)
+	{
+		allocated += allocatedBytes() - start;
+		++ops;
+	}
+}
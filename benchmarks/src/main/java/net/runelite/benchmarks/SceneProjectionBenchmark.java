@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.inject.Guice;
+import java.awt.Polygon;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.overlay.SceneProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * One frame of several tile overlays outlining the same 32x32 tiles around the
+ * camera, about half of which are off screen, either through {@link Perspective}
+ * directly or through the shared {@link SceneProjection}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SceneProjectionBenchmark
+{
+	private static final BeforeRender BEFORE_RENDER = new BeforeRender();
+	private static final int TILES = 32;
+
+	@Param({"false", "true"})
+	public boolean gpu;
+
+	@Param({"1", "4"})
+	public int overlays;
+
+	private Client client;
+	private SceneProjection sceneProjection;
+	private LocalPoint[] tiles;
+
+	@Setup
+	public void setup()
+	{
+		client = Fixtures.client(gpu);
+		sceneProjection = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(EventBus.class).toInstance(new EventBus());
+		}).getInstance(SceneProjection.class);
+
+		tiles = new LocalPoint[TILES * TILES];
+		for (int x = 0; x < TILES; ++x)
+		{
+			for (int y = 0; y < TILES; ++y)
+			{
+				tiles[x * TILES + y] = new LocalPoint(
+					Fixtures.CAMERA_X + (x - TILES / 2) * Perspective.LOCAL_TILE_SIZE + Perspective.LOCAL_HALF_TILE_SIZE,
+					Fixtures.CAMERA_Y + (y - 4) * Perspective.LOCAL_TILE_SIZE + Perspective.LOCAL_HALF_TILE_SIZE,
+					-1);
+			}
+		}
+	}
+
+	@Benchmark
+	public void perspective(Blackhole blackhole)
+	{
+		for (int i = 0; i < overlays; ++i)
+		{
+			for (LocalPoint tile : tiles)
+			{
+				Polygon poly = Perspective.getCanvasTilePoly(client, tile);
+				blackhole.consume(poly);
+			}
+		}
+	}
+
+	@Benchmark
+	public void sceneProjection(Blackhole blackhole)
+	{
+		sceneProjection.onBeforeRender(BEFORE_RENDER);
+		for (int i = 0; i < overlays; ++i)
+		{
+			for (LocalPoint tile : tiles)
+			{
+				Polygon poly = sceneProjection.getCanvasTilePoly(tile);
+				blackhole.consume(poly);
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+
+/**
+ * The small cache bundled with the benchmarks, see {@link TestCacheGenerator}.
+ */
+public class TestCache
+{
+	private static final String[] INDEXES = {"2.flatcache"};
+
+	private static class ResourceStorage extends FlatStorage
+	{
+		@Override
+		protected InputStream openReader(String filename) throws IOException
+		{
+			InputStream in = TestCache.class.getResourceAsStream("cache/" + filename);
+			if (in == null)
+			{
+				throw new FileNotFoundException(filename);
+			}
+			return in;
+		}
+
+		@Override
+		protected OutputStream openWriter(String filename)
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected String[] listFlatcacheFiles()
+		{
+			return INDEXES.clone();
+		}
+	}
+
+	public static Store load() throws IOException
+	{
+		Store store = new Store(new ResourceStorage());
+		store.load();
+		return store;
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+
+/**
+ * Writes the small synthetic cache bundled with the benchmarks. The
+ * definitions are random but deterministic, and use the common opcodes
+ * of each definition type so the loaders are exercised realistically.
+ */
+public class TestCacheGenerator
+{
+	static final int ITEMS = 1000;
+	static final int NPCS = 500;
+	static final int OBJECTS = 1000;
+
+	private static final int REVISION = 2000;
+	private static final String[] ITEM_OPTIONS = {"Take", "Wield", "Eat", "Drop", "Examine"};
+
+	public static void main(String[] args) throws IOException
+	{
+		File out = new File(args[0]);
+		if (!out.isDirectory() && !out.mkdirs())
+		{
+			throw new IOException("unable to create " + out);
+		}
+
+		for (File file : out.listFiles((dir, name) -> name.endsWith(".flatcache")))
+		{
+			if (!file.delete())
+			{
+				throw new IOException("unable to delete " + file);
+			}
+		}
+
+		Random random = new Random(235);
+		FlatStorage storage = new FlatStorage(out);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(IndexType.CONFIGS.getNumber());
+			index.setCompression(CompressionType.GZ);
+
+			byte[][] items = new byte[ITEMS][];
+			for (int i = 0; i < ITEMS; ++i)
+			{
+				items[i] = item(random, i);
+			}
+			addArchive(storage, index, ConfigType.ITEM, items);
+
+			byte[][] npcs = new byte[NPCS][];
+			for (int i = 0; i < NPCS; ++i)
+			{
+				npcs[i] = npc(random, i);
+			}
+			addArchive(storage, index, ConfigType.NPC, npcs);
+
+			byte[][] objects = new byte[OBJECTS][];
+			for (int i = 0; i < OBJECTS; ++i)
+			{
+				objects[i] = object(random, i);
+			}
+			addArchive(storage, index, ConfigType.OBJECT, objects);
+
+			store.save();
+		}
+	}
+
+	private static void addArchive(FlatStorage storage, Index index, ConfigType type, byte[][] contents) throws IOException
+	{
+		Archive archive = index.addArchive(type.getId());
+		archive.setRevision(REVISION);
+		archive.setCompression(CompressionType.GZ);
+
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[contents.length];
+		for (int i = 0; i < contents.length; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+		}
+		archive.setFileData(fileData);
+
+		Container container = new Container(CompressionType.GZ, REVISION);
+		container.compress(files.saveContents(), null);
+		archive.setCrc(container.crc);
+		storage.saveArchive(archive, container.data);
+	}
+
+	private static byte[] item(Random random, int id)
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.writeShort(random.nextInt(40000));
+		out.writeByte(2);
+		out.writeString("Item " + id);
+		out.writeByte(4);
+		out.writeShort(500 + random.nextInt(2000));
+		out.writeByte(5);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(6);
+		out.writeShort(random.nextInt(2048));
+		if (random.nextInt(4) == 0)
+		{
+			out.writeByte(11);
+		}
+		out.writeByte(12);
+		out.writeInt(random.nextInt(100000));
+		out.writeByte(32);
+		out.writeString(ITEM_OPTIONS[0]);
+		out.writeByte(35 + 1);
+		out.writeString(ITEM_OPTIONS[1 + random.nextInt(2)]);
+		out.writeByte(35 + 4);
+		out.writeString(ITEM_OPTIONS[3]);
+		recolors(random, out);
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	private static byte[] npc(Random random, int id)
+	{
+		OutputStream out = new OutputStream();
+		int models = 1 + random.nextInt(6);
+		out.writeByte(1);
+		out.writeByte(models);
+		for (int i = 0; i < models; ++i)
+		{
+			out.writeShort(random.nextInt(40000));
+		}
+		out.writeByte(2);
+		out.writeString("Npc " + id);
+		out.writeByte(12);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(13);
+		out.writeShort(random.nextInt(10000));
+		out.writeByte(14);
+		out.writeShort(random.nextInt(10000));
+		out.writeByte(30 + 1);
+		out.writeString("Attack");
+		out.writeByte(95);
+		out.writeShort(1 + random.nextInt(300));
+		recolors(random, out);
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	private static byte[] object(Random random, int id)
+	{
+		OutputStream out = new OutputStream();
+		int models = 1 + random.nextInt(3);
+		out.writeByte(1);
+		out.writeByte(models);
+		for (int i = 0; i < models; ++i)
+		{
+			out.writeShort(random.nextInt(40000));
+			out.writeByte(10);
+		}
+		out.writeByte(2);
+		out.writeString("Object " + id);
+		out.writeByte(14);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(15);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(30);
+		out.writeString("Open");
+		recolors(random, out);
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	private static void recolors(Random random, OutputStream out)
+	{
+		int recolors = random.nextInt(4);
+		if (recolors == 0)
+		{
+			return;
+		}
+
+		out.writeByte(40);
+		out.writeByte(recolors);
+		for (int i = 0; i < recolors; ++i)
+		{
+			out.writeShort(random.nextInt(65536));
+			out.writeShort(random.nextInt(65536));
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.overlay.TextImageCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A frame of 300 shadowed or outlined labels, such as npc names, ground items and tile
+ * labels, drawn with {@code drawString} or from a {@link TextImageCache}, with and without
+ * text antialiasing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TextLabelBenchmark
+{
+	private static final int LABELS = 300;
+	private static final String[] NAMES = {
+		"Goblin", "Cow", "Chicken", "Guard", "Man", "Woman", "Rat", "Giant rat", "Imp", "Dwarf",
+		"Bones", "Coins (25)", "Feather (10)", "Raw beef", "Cowhide", "Big bones", "Air rune (4)",
+	};
+	private static final Color[] COLORS = {Color.WHITE, Color.YELLOW, Color.CYAN, Color.GREEN, Color.ORANGE};
+
+	@Param({"false", "true"})
+	public boolean outline;
+
+	@Param({"false", "true"})
+	public boolean antialias;
+
+	private final String[] text = new String[LABELS];
+	private final Color[] colors = new Color[LABELS];
+	private final int[] x = new int[LABELS];
+	private final int[] y = new int[LABELS];
+
+	private BufferedImage image;
+	private Graphics2D graphics;
+	private TextImageCache cache;
+
+	@Setup
+	public void setup()
+	{
+		for (int i = 0; i < LABELS; ++i)
+		{
+			text[i] = NAMES[i % NAMES.length];
+			colors[i] = COLORS[i % COLORS.length];
+			x[i] = 10 + i * 37 % (Fixtures.CANVAS_WIDTH - 100);
+			y[i] = 20 + i * 53 % (Fixtures.CANVAS_HEIGHT - 30);
+		}
+
+		image = new BufferedImage(Fixtures.CANVAS_WIDTH, Fixtures.CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		graphics = image.createGraphics();
+		graphics.setFont(FontManager.getRunescapeSmallFont());
+		graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+			antialias ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+		cache = new TextImageCache(1 << 20);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage drawString()
+	{
+		for (int i = 0; i < LABELS; ++i)
+		{
+			graphics.setColor(Color.BLACK);
+			if (outline)
+			{
+				graphics.drawString(text[i], x[i], y[i] + 1);
+				graphics.drawString(text[i], x[i], y[i] - 1);
+				graphics.drawString(text[i], x[i] + 1, y[i]);
+				graphics.drawString(text[i], x[i] - 1, y[i]);
+			}
+			else
+			{
+				graphics.drawString(text[i], x[i] + 1, y[i] + 1);
+			}
+			graphics.setColor(colors[i]);
+			graphics.drawString(text[i], x[i], y[i]);
+		}
+		return image;
+	}
+
+	@Benchmark
+	public BufferedImage cached()
+	{
+		for (int i = 0; i < LABELS; ++i)
+		{
+			cache.drawString(graphics, text[i], x[i], y[i], colors[i], outline);
+		}
+		return image;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matches 500 npc names against 200 highlight patterns, as the npc indicators plugin
+ * does when the scene is rebuilt
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WildcardMatcherBenchmark
+{
+	private static final int PATTERNS = 200;
+	private static final int NAMES = 500;
+	private static final String[] WORDS = {
+		"goblin", "guard", "man", "woman", "cow", "chicken", "rat", "giant", "dragon", "demon",
+		"spider", "skeleton", "zombie", "ghost", "troll", "ogre", "knight", "wizard", "dwarf", "imp",
+		"black", "blue", "green", "red", "lesser", "greater", "baby", "king", "cave", "hill",
+	};
+
+	private List<String> patterns;
+	private String[] names;
+	private WildcardMatcherSet matcherSet;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+
+		names = new String[NAMES];
+		for (int i = 0; i < NAMES; ++i)
+		{
+			String name = word(random) + " " + word(random);
+			names[i] = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		}
+
+		// mostly exact names, as added by the tag-all menu option, and some wildcards
+		patterns = new ArrayList<>(PATTERNS);
+		for (int i = 0; i < PATTERNS; ++i)
+		{
+			switch (i % 8)
+			{
+				case 0:
+					patterns.add(word(random) + "*");
+					break;
+				case 1:
+					patterns.add("*" + word(random));
+					break;
+				case 2:
+					patterns.add("*" + word(random) + "*");
+					break;
+				case 3:
+					patterns.add(word(random) + "*" + word(random));
+					break;
+				default:
+					patterns.add(word(random) + " " + word(random) + "x");
+					break;
+			}
+		}
+
+		matcherSet = WildcardMatcherSet.of(patterns);
+	}
+
+	private static String word(Random random)
+	{
+		return WORDS[random.nextInt(WORDS.length)];
+	}
+
+	@Benchmark
+	public int wildcardMatcher()
+	{
+		int matched = 0;
+		for (String name : names)
+		{
+			for (String pattern : patterns)
+			{
+				if (WildcardMatcher.matches(pattern, name))
+				{
+					++matched;
+					break;
+				}
+			}
+		}
+		return matched;
+	}
+
+	@Benchmark
+	public int wildcardMatcherSet()
+	{
+		int matched = 0;
+		for (String name : names)
+		{
+			if (matcherSet.matches(name))
+			{
+				++matched;
+			}
+		}
+		return matched;
+	}
+
+	@Benchmark
+	public WildcardMatcherSet compile()
+	{
+		return WildcardMatcherSet.of(patterns);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.runelite.api.Client;
+import net.runelite.api.Point;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.gameval.InterfaceID;
+import net.runelite.api.widgets.Widget;
+import net.runelite.api.worldmap.WorldMap;
+import net.runelite.api.worldmap.WorldMapData;
+import net.runelite.client.ui.overlay.worldmap.WorldMapOverlay;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
+import net.runelite.client.ui.overlay.worldmap.WorldMapPointManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A frame of the world map overlay with 10,000 points spread over the surface, with the map
+ * zoomed out or in on Lumbridge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WorldMapOverlayBenchmark
+{
+	private static final int POINTS = 10_000;
+	private static final Rectangle MAP_BOUNDS = new Rectangle(10, 30, 700, 440);
+
+	/**
+	 * Pixels per tile of the world map
+	 */
+	@Param({"1", "4"})
+	public int zoom;
+
+	private WorldMapOverlay worldMapOverlay;
+	private BufferedImage image;
+	private Graphics2D graphics;
+
+	@Setup
+	public void setup()
+	{
+		Map<String, Object> mapDataValues = new HashMap<>();
+		mapDataValues.put("surfaceContainsPosition", (Function<Object[], Object>) args -> true);
+		WorldMapData worldMapData = Fixtures.stub(WorldMapData.class, mapDataValues);
+
+		Map<String, Object> worldMapValues = new HashMap<>();
+		worldMapValues.put("getWorldMapPosition", new Point(3222, 3218));
+		worldMapValues.put("getWorldMapZoom", (float) zoom);
+		worldMapValues.put("getWorldMapData", worldMapData);
+		WorldMap worldMap = Fixtures.stub(WorldMap.class, worldMapValues);
+
+		Map<String, Object> widgetValues = new HashMap<>();
+		widgetValues.put("getBounds", (Function<Object[], Object>) args -> new Rectangle(MAP_BOUNDS));
+		Widget widget = Fixtures.stub(Widget.class, widgetValues);
+
+		Map<String, Object> clientValues = new HashMap<>();
+		clientValues.put("getWorldMap", worldMap);
+		clientValues.put("getCanvasWidth", Fixtures.CANVAS_WIDTH);
+		clientValues.put("getCanvasHeight", Fixtures.CANVAS_HEIGHT);
+		clientValues.put("getMouseCanvasPosition", new Point(-1, -1));
+		clientValues.put("getWidget", (Function<Object[], Object>) args ->
+		{
+			int id = (int) args[0];
+			return id == InterfaceID.Worldmap.MAP_CONTAINER || id == InterfaceID.Worldmap.BOTTOM_GRAPHIC0 ? widget : null;
+		});
+		Client client = Fixtures.stub(Client.class, clientValues);
+
+		Injector injector = Guice.createInjector(binder -> binder.bind(Client.class).toInstance(client));
+		WorldMapPointManager worldMapPointManager = injector.getInstance(WorldMapPointManager.class);
+		worldMapOverlay = injector.getInstance(WorldMapOverlay.class);
+
+		BufferedImage icon = new BufferedImage(15, 15, BufferedImage.TYPE_INT_ARGB);
+		Random random = new Random(42);
+		for (int i = 0; i < POINTS; ++i)
+		{
+			WorldPoint point = new WorldPoint(1100 + random.nextInt(2800), 2500 + random.nextInt(1600), 0);
+			worldMapPointManager.add(new WorldMapPoint(point, icon));
+		}
+
+		image = new BufferedImage(Fixtures.CANVAS_WIDTH, Fixtures.CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		graphics = image.createGraphics();
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage render()
+	{
+		worldMapOverlay.render(graphics);
+		return image;
+	}
+}
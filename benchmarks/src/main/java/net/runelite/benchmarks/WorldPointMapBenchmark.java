@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.coords.WorldPointMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds and queries a map of 10,000 tiles, as plugins tracking ground items or
+ * tile markers do, keyed by {@link WorldPoint} in a {@link HashMap} and by packed
+ * coordinate in a {@link WorldPointMap}. Run with {@code -prof gc} to compare the
+ * allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldPointMapBenchmark
+{
+	private static final int POINTS = 10_000;
+	// shared so that only the maps themselves allocate
+	private static final Object VALUE = new Object();
+
+	private int[] xs;
+	private int[] ys;
+	private Map<WorldPoint, Object> hashMap;
+	private WorldPointMap<Object> worldPointMap;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+		xs = new int[POINTS];
+		ys = new int[POINTS];
+		for (int i = 0; i < POINTS; ++i)
+		{
+			xs[i] = 3000 + random.nextInt(512);
+			ys[i] = 3000 + random.nextInt(512);
+		}
+
+		hashMap = buildHashMap();
+		worldPointMap = buildWorldPointMap();
+	}
+
+	@Benchmark
+	public Map<WorldPoint, Object> buildHashMap()
+	{
+		Map<WorldPoint, Object> map = new HashMap<>();
+		for (int i = 0; i < POINTS; ++i)
+		{
+			map.put(new WorldPoint(xs[i], ys[i], 0), VALUE);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public WorldPointMap<Object> buildWorldPointMap()
+	{
+		WorldPointMap<Object> map = new WorldPointMap<>();
+		for (int i = 0; i < POINTS; ++i)
+		{
+			map.put(WorldPoint.pack(xs[i], ys[i], 0), VALUE);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public void lookupHashMap(Blackhole blackhole)
+	{
+		for (int i = 0; i < POINTS; ++i)
+		{
+			blackhole.consume(hashMap.get(new WorldPoint(xs[i], ys[i], 0)));
+		}
+	}
+
+	@Benchmark
+	public void lookupWorldPointMap(Blackhole blackhole)
+	{
+		for (int i = 0; i < POINTS; ++i)
+		{
+			blackhole.consume(worldPointMap.get(xs[i], ys[i], 0));
+		}
+	}
+}
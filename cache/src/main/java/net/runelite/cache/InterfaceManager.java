@@ -27,8 +27,10 @@ package net.runelite.cache;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
 import net.runelite.cache.definitions.InterfaceDefinition;
-import net.runelite.cache.definitions.exporters.InterfaceExporter;
+import net.runelite.cache.definitions.exporters.JsonExporter;
 import net.runelite.cache.definitions.loaders.InterfaceLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
@@ -110,8 +112,7 @@ public class InterfaceManager
 
 	public void export(File out) throws IOException
 	{
-		out.mkdirs();
-
+		List<InterfaceDefinition> definitions = new ArrayList<>();
 		for (InterfaceDefinition[] defs : interfaces)
 		{
 			if (defs == null)
@@ -121,20 +122,15 @@ public class InterfaceManager
 
 			for (InterfaceDefinition def : defs)
 			{
-				if (def == null)
+				if (def != null)
 				{
-					continue;
+					definitions.add(def);
 				}
-
-				InterfaceExporter exporter = new InterfaceExporter(def);
-
-				File folder = new File(out, "" + (def.id >>> 16));
-				folder.mkdirs();
-
-				File targ = new File(folder, (def.id & 0xffff) + ".json");
-				exporter.exportTo(targ);
 			}
 		}
+
+		JsonExporter.exportFiles(definitions, def -> (def.id >>> 16) + File.separator + (def.id & 0xffff) + ".json",
+			out, Runtime.getRuntime().availableProcessors());
 	}
 
 	public void java(File java) throws IOException
@@ -31,7 +31,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import net.runelite.cache.definitions.ItemDefinition;
-import net.runelite.cache.definitions.exporters.ItemExporter;
+import net.runelite.cache.definitions.exporters.JsonExporter;
 import net.runelite.cache.definitions.loaders.ItemLoader;
 import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.fs.Archive;
@@ -106,15 +106,7 @@ public class ItemManager implements ItemProvider
 
 	public void export(File out) throws IOException
 	{
-		out.mkdirs();
-
-		for (ItemDefinition def : items.values())
-		{
-			ItemExporter exporter = new ItemExporter(def);
-
-			File targ = new File(out, def.id + ".json");
-			exporter.exportTo(targ);
-		}
+		JsonExporter.exportFiles(items.values(), def -> def.id + ".json", out, Runtime.getRuntime().availableProcessors());
 	}
 
 	public void java(File java) throws IOException
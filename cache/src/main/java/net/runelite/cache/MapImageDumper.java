@@ -26,7 +26,9 @@ package net.runelite.cache;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Point;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -35,6 +37,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -64,6 +70,8 @@ import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.Tasks;
+import net.runelite.cache.util.TilePyramid;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -78,6 +86,7 @@ public class MapImageDumper
 {
 	private static final int MAP_SCALE = 4; // this squared is the number of pixels per map square
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final int TILE_SIZE = Region.X * MAP_SCALE; // pixels per side of one region tile
 
 	private static byte[][][] TILE_SHAPE_2D;
 
@@ -160,6 +169,9 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tiles").desc("write a tile pyramid per plane instead of one image").build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().build());
+		options.addOption(Option.builder().longOpt("incremental").desc("only redraw tiles which changed since the last --tiles run").build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -177,6 +189,9 @@ public class MapImageDumper
 		final String cacheDirectory = cmd.getOptionValue("cachedir");
 		final String xteaJSONPath = cmd.getOptionValue("xteapath");
 		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final boolean tiles = cmd.hasOption("tiles");
+		final boolean incremental = cmd.hasOption("incremental");
+		final int threads = cmd.hasOption("threads") ? Integer.parseInt(cmd.getOptionValue("threads")) : Runtime.getRuntime().availableProcessors();
 
 		XteaKeyManager xteaKeyManager = new XteaKeyManager();
 		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
@@ -197,6 +212,14 @@ public class MapImageDumper
 
 			for (int i = 0; i < Region.Z; ++i)
 			{
+				if (tiles)
+				{
+					File tileDir = new File(outDir, "tiles-" + i);
+					dumper.drawMapTiles(i, tileDir, threads, incremental);
+					log.info("Wrote tiles {}", tileDir);
+					continue;
+				}
+
 				BufferedImage image = dumper.drawMap(i);
 
 				File imageFile = new File(outDir, "img-" + i + ".png");
@@ -264,7 +287,158 @@ public class MapImageDumper
 		drawMap(image, z);
 		drawObjects(image, z);
 		drawMapIcons(image, z);
-		drawMapLabels(image, z);
+		drawMapLabels(image, z, 0, 0);
+
+		return image;
+	}
+
+	/**
+	 * Draws plane {@code z} as a {@link TilePyramid} with one 256px tile per region at level 0.
+	 * Regions are drawn in parallel and each tile is written as soon as it is drawn, so memory use
+	 * does not depend on the size of the map.
+	 *
+	 * @param z plane to draw
+	 * @param outDir directory to write the pyramid to
+	 * @param threads number of regions to draw at once
+	 */
+	public void drawMapTiles(int z, File outDir, int threads) throws IOException
+	{
+		drawMapTiles(z, outDir, threads, false);
+	}
+
+	/**
+	 * Draws plane {@code z} as a {@link TilePyramid}, see {@link #drawMapTiles(int, File, int)}. A
+	 * {@link MapRenderManifest} of the render is saved with the tiles.
+	 *
+	 * @param incremental if a manifest from a previous render exists, only redraw the regions which
+	 * changed since it and patch the tiles above them
+	 */
+	public void drawMapTiles(int z, File outDir, int threads, boolean incremental) throws IOException
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		final int lowestRegionX = regionLoader.getLowestX().getRegionX();
+		final int highestRegionY = regionLoader.getHighestY().getRegionY();
+		final int columns = regionLoader.getHighestX().getRegionX() - lowestRegionX + 1;
+		final int rows = highestRegionY - regionLoader.getLowestY().getRegionY() + 1;
+
+		final File manifestFile = new File(outDir, "manifest.json");
+		final MapRenderManifest manifest = MapRenderManifest.create(store, regionLoader.getRegions(),
+			getRenderSettings(lowestRegionX, highestRegionY, columns, rows));
+		final Set<Integer> changed = incremental ? manifest.findChangedRegions(MapRenderManifest.read(manifestFile)) : null;
+
+		final TilePyramid pyramid = new TilePyramid(outDir, TILE_SIZE, transparency);
+		final List<Callable<Void>> tasks = new ArrayList<>();
+		final List<Point> changedTiles = new ArrayList<>();
+		if (changed == null)
+		{
+			for (Region region : regionLoader.getRegions())
+			{
+				addTileTask(tasks, pyramid, region, z, region.getRegionX() - lowestRegionX, highestRegionY - region.getRegionY());
+			}
+		}
+		else
+		{
+			for (int id : changed)
+			{
+				int tx = (id >> 8) - lowestRegionX;
+				int ty = highestRegionY - (id & 0xFF);
+				if (tx < 0 || tx >= columns || ty < 0 || ty >= rows)
+				{
+					continue;
+				}
+
+				Region region = regionLoader.findRegionForRegionCoordinates(id >> 8, id & 0xFF);
+				if (region == null)
+				{
+					pyramid.deleteTile(0, tx, ty);
+				}
+				else
+				{
+					addTileTask(tasks, pyramid, region, z, tx, ty);
+				}
+				changedTiles.add(new Point(tx, ty));
+			}
+			log.info("Redrawing {} of {} regions of plane {}", tasks.size(), regionLoader.getRegions().size(), z);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			long start = System.nanoTime();
+			Tasks.invokeAll(executor, tasks);
+			long elapsed = Math.max(1L, System.nanoTime() - start);
+
+			double tilesPerSecond = tasks.size() * 1e9 / elapsed;
+			log.info("Drew {} tiles of plane {} in {} ms on {} threads: {} tiles/s, {} tiles/s per thread",
+				tasks.size(), z, elapsed / 1_000_000L, threads,
+				String.format("%.1f", tilesPerSecond), String.format("%.1f", tilesPerSecond / threads));
+
+			int levels = pyramid.writeLevels(columns, rows, changed == null ? null : changedTiles, executor);
+			log.info("Wrote {} levels of plane {} in {} ms", levels, z, (System.nanoTime() - start) / 1_000_000L);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		// written last, so an interrupted render is redrawn completely next time
+		manifest.write(manifestFile);
+	}
+
+	private void addTileTask(List<Callable<Void>> tasks, TilePyramid pyramid, Region region, int z, int tx, int ty)
+	{
+		tasks.add(() ->
+		{
+			BufferedImage tile = drawRegionTile(region, z);
+			pyramid.writeTile(0, tx, ty, tile);
+			return null;
+		});
+	}
+
+	private String getRenderSettings(int lowestRegionX, int highestRegionY, int columns, int rows)
+	{
+		return "scale=" + MAP_SCALE
+			+ ",transparency=" + transparency
+			+ ",map=" + renderMap
+			+ ",objects=" + renderObjects
+			+ ",icons=" + renderIcons
+			+ ",walls=" + renderWalls
+			+ ",overlays=" + renderOverlays
+			+ ",labels=" + renderLabels
+			+ ",labelRegions=" + labelRegions
+			+ ",outlineRegions=" + outlineRegions
+			+ ",bounds=" + lowestRegionX + "," + highestRegionY + "," + columns + "," + rows;
+	}
+
+	/**
+	 * Draws one region as a tile of the full map image, including the objects, icons and labels
+	 * of the surrounding regions which overlap it.
+	 */
+	public BufferedImage drawRegionTile(Region region, int z)
+	{
+		BufferedImage image = drawRegion(region, z);
+
+		int rx = region.getRegionX();
+		int ry = region.getRegionY();
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				Region neighbor = dx == 0 && dy == 0 ? null : regionLoader.findRegionForRegionCoordinates(rx + dx, ry + dy);
+				if (neighbor != null)
+				{
+					drawMapIcons(image, neighbor, z, Region.X * dx, Region.Y * -dy);
+				}
+			}
+		}
+
+		int offsetX = (region.getBaseX() - regionLoader.getLowestX().getBaseX()) * MAP_SCALE;
+		int offsetY = (regionLoader.getHighestY().getBaseY() - region.getBaseY()) * MAP_SCALE;
+		drawMapLabels(image, z, offsetX, offsetY);
 
 		return image;
 	}
@@ -373,6 +547,26 @@ public class MapImageDumper
 			drawMap(pixels, region, z);
 		}
 
+		if (to.getRaster().getDataBuffer() instanceof DataBufferInt)
+		{
+			// regular int backed images, such as tiles, are written directly
+			int[] data = ((DataBufferInt) to.getRaster().getDataBuffer()).getData();
+			int width = to.getWidth();
+			int mask = to.getColorModel().hasAlpha() ? 0xFFFFFFFF : 0xFFFFFF;
+			for (int i = 0; i < MAP_SCALE; ++i)
+			{
+				for (int j = 0; j < MAP_SCALE; ++j)
+				{
+					int argb = pixels[x * MAP_SCALE + i][y * MAP_SCALE + j];
+					if (argb != 0)
+					{
+						data[(drawBaseY * MAP_SCALE + y * MAP_SCALE + j) * width + drawBaseX * MAP_SCALE + x * MAP_SCALE + i] = argb & mask;
+					}
+				}
+			}
+			return;
+		}
+
 		for (int i = 0; i < MAP_SCALE; ++i)
 		{
 			for (int j = 0; j < MAP_SCALE; ++j)
@@ -1581,7 +1775,10 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMapLabels(BufferedImage image, int z)
+	/**
+	 * Draws the area labels of plane z, shifted up and left by the given number of pixels
+	 */
+	private void drawMapLabels(BufferedImage image, int z, int offsetX, int offsetY)
 	{
 		if (!renderLabels)
 		{
@@ -1605,6 +1802,13 @@ public class MapImageDumper
 			String[] lines = areaLabel.split("<br>");
 			int ascent = 0;
 
+			int drawX = (worldPosition.getX() - regionLoader.getLowestX().getBaseX()) * MAP_SCALE - offsetX;
+			int drawY = (regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2) * MAP_SCALE - offsetY;
+			if (isLabelOutside(image, font, lines, drawX, drawY))
+			{
+				continue;
+			}
+
 			for (String line : lines)
 			{
 				int advance = 0;
@@ -1615,11 +1819,9 @@ public class MapImageDumper
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
 						blitGlyph(image,
-							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
-							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
+							drawX + advance - (stringWidth / 2),
+							drawY + ascent - (font.getAscent() / 2),
 							area.getTextColor(),
 							sprite
 						);
@@ -1632,6 +1834,20 @@ public class MapImageDumper
 		}
 	}
 
+	private static boolean isLabelOutside(BufferedImage image, FontDefinition font, String[] lines, int drawX, int drawY)
+	{
+		int width = 0;
+		for (String line : lines)
+		{
+			width = Math.max(width, font.stringWidth(line));
+		}
+
+		// generous vertical bounds, glyphs are offset from the baseline and lines are stacked below it
+		int height = font.getAscent() * (lines.length + 2);
+		return drawX + width / 2 + 1 < 0 || drawX - width / 2 - 1 > image.getWidth()
+			|| drawY + height < 0 || drawY - height > image.getHeight();
+	}
+
 	private ObjectDefinition findObject(int id)
 	{
 		return objectManager.getObject(id);
@@ -1842,7 +2058,10 @@ public class MapImageDumper
 
 	private void blitIcon(BufferedImage dst, int x, int y, SpriteDefinition sprite, float scale)
 	{
-		sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		synchronized (sprite)
+		{
+			sprite.normalize(); //Sprites are required to be normalized to have small sprites draw correctly
+		}
 		x += sprite.getOffsetX();
 		y += sprite.getOffsetY();
 		int displayHeight = (int) (sprite.getHeight() * scale);
@@ -1904,24 +2123,31 @@ public class MapImageDumper
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
+		// glyphs are shared between threads drawing tiles, so color a copy
 		int[] pixels = glyph.getPixels();
+		int[] colorPixels = new int[pixels.length];
 		int[] shadowPixels = new int[pixels.length];
 		for (int i = 0; i < pixels.length; ++i)
 		{
 			if (pixels[i] != 0)
 			{
-				pixels[i] = color;
+				colorPixels[i] = color;
 				shadowPixels[i] = 0xFF000000;
 			}
 		}
-		SpriteDefinition shadow = new SpriteDefinition();
-		shadow.setPixels(shadowPixels);
-		shadow.setOffsetX(glyph.getOffsetX());
-		shadow.setOffsetY(glyph.getOffsetY());
-		shadow.setWidth(glyph.getWidth());
-		shadow.setHeight(glyph.getHeight());
 
-		blitGlyphIcon(dst, x + 1, y + 1, shadow);
-		blitGlyphIcon(dst, x, y, glyph);
+		blitGlyphIcon(dst, x + 1, y + 1, copyGlyph(glyph, shadowPixels));
+		blitGlyphIcon(dst, x, y, copyGlyph(glyph, colorPixels));
+	}
+
+	private static SpriteDefinition copyGlyph(SpriteDefinition glyph, int[] pixels)
+	{
+		SpriteDefinition copy = new SpriteDefinition();
+		copy.setPixels(pixels);
+		copy.setOffsetX(glyph.getOffsetX());
+		copy.setOffsetY(glyph.getOffsetY());
+		copy.setWidth(glyph.getWidth());
+		copy.setHeight(glyph.getHeight());
+		return copy;
 	}
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.Getter;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Region;
+
+/**
+ * Archive crcs of everything a map render was drawn from, saved alongside the render so that a
+ * later render from a newer cache only has to redraw the regions which changed.
+ */
+@Getter
+public class MapRenderManifest
+{
+	private static final Gson GSON = new Gson();
+
+	/**
+	 * Render options and map bounds. If these change, every region must be redrawn.
+	 */
+	private String settings;
+
+	/**
+	 * Crcs of the configs, textures, sprites and so on which every region depends on
+	 */
+	private final Map<String, Integer> dependencies = new TreeMap<>();
+
+	/**
+	 * Crc of the map and location archives of each region, by region id
+	 */
+	private final Map<Integer, Integer> regions = new TreeMap<>();
+
+	public static MapRenderManifest create(Store store, Iterable<Region> regions, String settings)
+	{
+		MapRenderManifest manifest = new MapRenderManifest();
+		manifest.settings = settings;
+
+		Index configs = store.getIndex(IndexType.CONFIGS);
+		for (ConfigType type : new ConfigType[]{ConfigType.UNDERLAY, ConfigType.OVERLAY, ConfigType.OBJECT, ConfigType.AREA})
+		{
+			Archive archive = configs == null ? null : configs.getArchive(type.getId());
+			manifest.dependencies.put(type.name(), archive == null ? 0 : archive.getCrc());
+		}
+
+		for (IndexType type : new IndexType[]{IndexType.TEXTURES, IndexType.SPRITES, IndexType.FONTS, IndexType.WORLDMAP})
+		{
+			Index index = store.getIndex(type);
+			manifest.dependencies.put(type.name(), index == null ? 0 : crc(index));
+		}
+
+		Index maps = store.getIndex(IndexType.MAPS);
+		for (Region region : regions)
+		{
+			int x = region.getRegionX(), y = region.getRegionY();
+			Archive map = maps == null ? null : maps.findArchiveByName("m" + x + "_" + y);
+			Archive land = maps == null ? null : maps.findArchiveByName("l" + x + "_" + y);
+
+			int crc = map == null ? 0 : map.getCrc();
+			// locations can only be drawn if they could be decrypted
+			crc = crc * 31 + (land == null || region.getLocations().isEmpty() ? 0 : land.getCrc());
+			manifest.regions.put(region.getRegionID(), crc);
+		}
+
+		return manifest;
+	}
+
+	private static int crc(Index index)
+	{
+		int crc = 0;
+		for (Archive archive : index.getArchives())
+		{
+			crc = crc * 31 + archive.getArchiveId();
+			crc = crc * 31 + archive.getCrc();
+		}
+		return crc;
+	}
+
+	/**
+	 * Finds the regions which have to be redrawn, including the neighbours of changed regions, which
+	 * blend with them and can have their objects drawn over them. Regions which no longer exist are
+	 * included too.
+	 *
+	 * @param previous the manifest of the previous render, or null if there is none
+	 * @return the ids of the regions to redraw, or null if every region must be redrawn
+	 */
+	public Set<Integer> findChangedRegions(MapRenderManifest previous)
+	{
+		if (previous == null || !Objects.equals(settings, previous.settings) || !dependencies.equals(previous.dependencies))
+		{
+			return null;
+		}
+
+		Set<Integer> changed = new HashSet<>();
+		for (Map.Entry<Integer, Integer> entry : regions.entrySet())
+		{
+			if (!entry.getValue().equals(previous.regions.get(entry.getKey())))
+			{
+				changed.add(entry.getKey());
+			}
+		}
+		for (Integer id : previous.regions.keySet())
+		{
+			if (!regions.containsKey(id))
+			{
+				changed.add(id);
+			}
+		}
+
+		Set<Integer> redraw = new HashSet<>(changed);
+		for (int id : changed)
+		{
+			int x = id >> 8, y = id & 0xFF;
+			for (int dx = -1; dx <= 1; ++dx)
+			{
+				for (int dy = -1; dy <= 1; ++dy)
+				{
+					int nx = x + dx, ny = y + dy;
+					if (nx >= 0 && nx <= 0xFF && ny >= 0 && ny <= 0xFF)
+					{
+						redraw.add(nx << 8 | ny);
+					}
+				}
+			}
+		}
+		return redraw;
+	}
+
+	/**
+	 * @return the manifest, or null if the file does not exist
+	 */
+	public static MapRenderManifest read(File file) throws IOException
+	{
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))
+		{
+			return GSON.fromJson(reader, MapRenderManifest.class);
+		}
+	}
+
+	public void write(File file) throws IOException
+	{
+		file.getParentFile().mkdirs();
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			GSON.toJson(this, writer);
+		}
+	}
+}
@@ -31,7 +31,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
-import net.runelite.cache.definitions.exporters.NpcExporter;
+import net.runelite.cache.definitions.exporters.JsonExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
@@ -83,15 +83,7 @@ public class NpcManager
 
 	public void dump(File out) throws IOException
 	{
-		out.mkdirs();
-
-		for (NpcDefinition def : npcs.values())
-		{
-			NpcExporter exporter = new NpcExporter(def);
-
-			File targ = new File(out, def.id + ".json");
-			exporter.exportTo(targ);
-		}
+		JsonExporter.exportFiles(npcs.values(), def -> def.id + ".json", out, Runtime.getRuntime().availableProcessors());
 	}
 
 	public void java(File java) throws IOException
@@ -31,7 +31,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
-import net.runelite.cache.definitions.exporters.ObjectExporter;
+import net.runelite.cache.definitions.exporters.JsonExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
@@ -83,15 +83,7 @@ public class ObjectManager
 
 	public void dump(File out) throws IOException
 	{
-		out.mkdirs();
-
-		for (ObjectDefinition def : objects.values())
-		{
-			ObjectExporter exporter = new ObjectExporter(def);
-
-			File targ = new File(out, def.getId() + ".json");
-			exporter.exportTo(targ);
-		}
+		JsonExporter.exportFiles(objects.values(), def -> def.getId() + ".json", out, Runtime.getRuntime().availableProcessors());
 	}
 
 	public void java(File java) throws IOException
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import net.runelite.cache.util.BaseVarType;
+
+/**
+ * An index of one tuple element of a table column, mapping each value to the
+ * ids of the rows containing it. Keys are kept in primitive arrays and found
+ * by open addressing, and the row ids of every key share one array.
+ */
+public class DBIndex
+{
+	private static final int[] EMPTY = new int[0];
+
+	private final BaseVarType type;
+	private final int[] intKeys;
+	private final long[] longKeys;
+	private final String[] stringKeys;
+	/**
+	 * key number + 1 for each hash slot, 0 if empty
+	 */
+	private final int[] slots;
+	private final int mask;
+	/**
+	 * rows of key i are rows[offsets[i]] to rows[offsets[i + 1]]
+	 */
+	private final int[] offsets;
+	private final int[] rows;
+	/**
+	 * the table position of each of rows, or -1 if the table does not have the row
+	 */
+	private final int[] positions;
+
+	DBIndex(BaseVarType type, Map<Object, List<Integer>> valueToRows, IntUnaryOperator rowPosition)
+	{
+		this.type = type;
+
+		int size = valueToRows.size();
+		intKeys = type == BaseVarType.INTEGER ? new int[size] : null;
+		longKeys = type == BaseVarType.LONG ? new long[size] : null;
+		stringKeys = type == BaseVarType.STRING ? new String[size] : null;
+
+		int capacity = Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+		slots = new int[capacity];
+		mask = capacity - 1;
+		offsets = new int[size + 1];
+
+		int total = 0;
+		for (List<Integer> rowIds : valueToRows.values())
+		{
+			total += rowIds.size();
+		}
+		rows = new int[total];
+		positions = new int[total];
+
+		int key = 0;
+		int offset = 0;
+		for (Map.Entry<Object, List<Integer>> entry : valueToRows.entrySet())
+		{
+			Object value = entry.getKey();
+			int hash;
+			switch (type)
+			{
+				case INTEGER:
+					intKeys[key] = (Integer) value;
+					hash = hash(intKeys[key]);
+					break;
+				case LONG:
+					longKeys[key] = (Long) value;
+					hash = hash(longKeys[key]);
+					break;
+				default:
+					stringKeys[key] = (String) value;
+					hash = hash(stringKeys[key]);
+					break;
+			}
+
+			int slot = hash & mask;
+			while (slots[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = key + 1;
+
+			offsets[key] = offset;
+			for (int rowId : entry.getValue())
+			{
+				positions[offset] = rowPosition.applyAsInt(rowId);
+				rows[offset++] = rowId;
+			}
+			++key;
+		}
+		offsets[size] = offset;
+	}
+
+	public BaseVarType getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Gets the ids of the rows containing the value, in index order
+	 */
+	public int[] getRows(int value)
+	{
+		int key = find(value);
+		return key == -1 ? EMPTY : Arrays.copyOfRange(rows, offsets[key], offsets[key + 1]);
+	}
+
+	public int[] getRows(long value)
+	{
+		int key = find(value);
+		return key == -1 ? EMPTY : Arrays.copyOfRange(rows, offsets[key], offsets[key + 1]);
+	}
+
+	public int[] getRows(String value)
+	{
+		int key = find(value);
+		return key == -1 ? EMPTY : Arrays.copyOfRange(rows, offsets[key], offsets[key + 1]);
+	}
+
+	/**
+	 * Gets the number of rows containing the value, without copying them
+	 */
+	public int count(int value)
+	{
+		int key = find(value);
+		return key == -1 ? 0 : offsets[key + 1] - offsets[key];
+	}
+
+	public int count(long value)
+	{
+		int key = find(value);
+		return key == -1 ? 0 : offsets[key + 1] - offsets[key];
+	}
+
+	public int count(String value)
+	{
+		int key = find(value);
+		return key == -1 ? 0 : offsets[key + 1] - offsets[key];
+	}
+
+	int find(int value)
+	{
+		if (intKeys == null)
+		{
+			return -1;
+		}
+
+		for (int slot = hash(value) & mask; slots[slot] != 0; slot = (slot + 1) & mask)
+		{
+			int key = slots[slot] - 1;
+			if (intKeys[key] == value)
+			{
+				return key;
+			}
+		}
+		return -1;
+	}
+
+	int find(long value)
+	{
+		if (longKeys == null)
+		{
+			return -1;
+		}
+
+		for (int slot = hash(value) & mask; slots[slot] != 0; slot = (slot + 1) & mask)
+		{
+			int key = slots[slot] - 1;
+			if (longKeys[key] == value)
+			{
+				return key;
+			}
+		}
+		return -1;
+	}
+
+	int find(String value)
+	{
+		if (stringKeys == null || value == null)
+		{
+			return -1;
+		}
+
+		for (int slot = hash(value) & mask; slots[slot] != 0; slot = (slot + 1) & mask)
+		{
+			int key = slots[slot] - 1;
+			if (stringKeys[key].equals(value))
+			{
+				return key;
+			}
+		}
+		return -1;
+	}
+
+	int start(int key)
+	{
+		return offsets[key];
+	}
+
+	int end(int key)
+	{
+		return offsets[key + 1];
+	}
+
+	int position(int i)
+	{
+		return positions[i];
+	}
+
+	private static int hash(int value)
+	{
+		int h = value * 0x9e3779b9;
+		return h ^ (h >>> 16);
+	}
+
+	private static int hash(long value)
+	{
+		return hash((int) (value ^ (value >>> 32)));
+	}
+
+	private static int hash(String value)
+	{
+		return hash(value.hashCode());
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.cache.util.BaseVarType;
+
+/**
+ * A query of the rows of a {@link DBTable}. A row matches a condition if any of
+ * its fields in the column has the value, and it must match every condition.
+ * <p>
+ * The condition whose index has the fewest rows selects the candidates, which are
+ * returned in that index's order, and the other conditions are checked against
+ * the column values. Without an indexed condition every row is checked, in table
+ * order.
+ */
+public class DBQuery
+{
+	private final DBTable table;
+	private final List<Condition> conditions = new ArrayList<>();
+
+	private static class Condition
+	{
+		private final int column;
+		private final int tupleIndex;
+		private final BaseVarType type;
+		private final long intValue;
+		private final String stringValue;
+
+		private Condition(int column, int tupleIndex, BaseVarType type, long intValue, String stringValue)
+		{
+			this.column = column;
+			this.tupleIndex = tupleIndex;
+			this.type = type;
+			this.intValue = intValue;
+			this.stringValue = stringValue;
+		}
+
+		/**
+		 * Gets the key of the value in the index, -1 if it has none
+		 */
+		private int find(DBIndex index)
+		{
+			switch (type)
+			{
+				case INTEGER:
+					return index.find((int) intValue);
+				case LONG:
+					return index.find(intValue);
+				default:
+					return index.find(stringValue);
+			}
+		}
+
+		private boolean matches(DBTable table, int row)
+		{
+			switch (type)
+			{
+				case INTEGER:
+					return table.matches(row, column, tupleIndex, (int) intValue);
+				case LONG:
+					return table.matches(row, column, tupleIndex, intValue);
+				default:
+					return table.matches(row, column, tupleIndex, stringValue);
+			}
+		}
+	}
+
+	DBQuery(DBTable table)
+	{
+		this.table = table;
+	}
+
+	public DBQuery where(int column, int tupleIndex, int value)
+	{
+		conditions.add(new Condition(column, tupleIndex, BaseVarType.INTEGER, value, null));
+		return this;
+	}
+
+	public DBQuery where(int column, int tupleIndex, long value)
+	{
+		conditions.add(new Condition(column, tupleIndex, BaseVarType.LONG, value, null));
+		return this;
+	}
+
+	public DBQuery where(int column, int tupleIndex, String value)
+	{
+		conditions.add(new Condition(column, tupleIndex, BaseVarType.STRING, 0L, value));
+		return this;
+	}
+
+	/**
+	 * Gets the ids of the matching rows
+	 */
+	public int[] rows()
+	{
+		int[] positions = positions();
+		int[] rowIds = new int[positions.length];
+		for (int i = 0; i < positions.length; ++i)
+		{
+			rowIds[i] = table.rowId(positions[i]);
+		}
+		return rowIds;
+	}
+
+	public int count()
+	{
+		return positions().length;
+	}
+
+	/**
+	 * Gets a value of the first field of the column for each matching row
+	 *
+	 * @param defaultValue the value for rows which have no fields in the column
+	 */
+	public int[] selectInt(int column, int tupleIndex, int defaultValue)
+	{
+		int[] positions = positions();
+		int[] values = new int[positions.length];
+		for (int i = 0; i < positions.length; ++i)
+		{
+			values[i] = table.intValue(positions[i], column, tupleIndex, defaultValue);
+		}
+		return values;
+	}
+
+	/**
+	 * Gets a value of the first field of the column for each matching row,
+	 * null for rows which have no fields in the column
+	 */
+	public String[] selectString(int column, int tupleIndex)
+	{
+		int[] positions = positions();
+		String[] values = new String[positions.length];
+		for (int i = 0; i < positions.length; ++i)
+		{
+			values[i] = table.stringValue(positions[i], column, tupleIndex);
+		}
+		return values;
+	}
+
+	private int[] positions()
+	{
+		Condition driver = null;
+		DBIndex driverIndex = null;
+		int driverKey = -1;
+		int driverCount = Integer.MAX_VALUE;
+		for (Condition condition : conditions)
+		{
+			DBIndex index = table.getIndex(condition.column, condition.tupleIndex);
+			if (index == null)
+			{
+				continue;
+			}
+
+			int key = condition.find(index);
+			int count = key == -1 ? 0 : index.end(key) - index.start(key);
+			if (count < driverCount)
+			{
+				driver = condition;
+				driverIndex = index;
+				driverKey = key;
+				driverCount = count;
+			}
+		}
+
+		int[] positions;
+		int size = 0;
+		if (driver != null)
+		{
+			positions = new int[driverCount];
+			for (int i = driverCount == 0 ? 0 : driverIndex.start(driverKey), end = i + driverCount; i < end; ++i)
+			{
+				int row = driverIndex.position(i);
+				if (row != -1 && matchesAll(row, driver))
+				{
+					positions[size++] = row;
+				}
+			}
+		}
+		else
+		{
+			positions = new int[table.getRowCount()];
+			for (int row = 0; row < positions.length; ++row)
+			{
+				if (matchesAll(row, null))
+				{
+					positions[size++] = row;
+				}
+			}
+		}
+		return size == positions.length ? positions : Arrays.copyOf(positions, size);
+	}
+
+	private boolean matchesAll(int row, Condition skip)
+	{
+		for (Condition condition : conditions)
+		{
+			if (condition != skip && !condition.matches(table, row))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+}
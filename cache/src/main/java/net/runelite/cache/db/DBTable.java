@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.ScriptVarType;
+
+/**
+ * A db table with its values stored by column. Each column holds a number of
+ * fields per row, and each field is a tuple of the column's types. The values
+ * of one tuple element of a column are kept in a single int or String array,
+ * in row order, with the fields of row {@code r} from {@code offsets[r]} to
+ * {@code offsets[r + 1]}.
+ * <p>
+ * Rows without a value for a column have the table's default values for it,
+ * if it has any.
+ */
+public class DBTable
+{
+	private final int id;
+	/**
+	 * row ids in table order
+	 */
+	private final int[] rowIds;
+	private final int[] sortedRowIds;
+	private final int[] sortedRowPositions;
+	private final Column[] columns;
+	private final DBIndex[][] indexes;
+
+	private static class Column
+	{
+		private final ScriptVarType[] types;
+		private final int[] offsets;
+		private final int[][] ints;
+		private final String[][] strings;
+
+		private Column(ScriptVarType[] types, int rows)
+		{
+			this.types = types;
+			this.offsets = new int[rows + 1];
+			this.ints = new int[types.length][];
+			this.strings = new String[types.length][];
+		}
+	}
+
+	DBTable(DBTableDefinition table, int[] rowIds, DBRowDefinition[] rows, List<DBTableIndex> tableIndexes)
+	{
+		this.id = table.getId();
+		this.rowIds = rowIds;
+
+		sortedRowIds = rowIds.clone();
+		sortedRowPositions = new int[rowIds.length];
+		Integer[] order = new Integer[rowIds.length];
+		for (int i = 0; i < order.length; ++i)
+		{
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Integer.compare(rowIds[a], rowIds[b]));
+		for (int i = 0; i < order.length; ++i)
+		{
+			sortedRowIds[i] = rowIds[order[i]];
+			sortedRowPositions[i] = order[i];
+		}
+
+		ScriptVarType[][] types = table.getTypes();
+		columns = new Column[types == null ? 0 : types.length];
+		for (int c = 0; c < columns.length; ++c)
+		{
+			if (types[c] != null)
+			{
+				columns[c] = buildColumn(c, types[c], rows, table.getDefaultColumnValues());
+			}
+		}
+
+		indexes = new DBIndex[columns.length][];
+		for (DBTableIndex index : tableIndexes)
+		{
+			int column = index.getColumnId();
+			if (column < 0 || column >= columns.length)
+			{
+				continue;
+			}
+
+			DBIndex[] tuple = new DBIndex[index.getTupleTypes().length];
+			for (int t = 0; t < tuple.length; ++t)
+			{
+				tuple[t] = new DBIndex(index.getTupleTypes()[t], index.getTupleIndexes().get(t), this::position);
+			}
+			indexes[column] = tuple;
+		}
+	}
+
+	private static Column buildColumn(int c, ScriptVarType[] types, DBRowDefinition[] rows, Object[] defaults)
+	{
+		Column column = new Column(types, rows.length);
+		Object[] defaultValues = defaults == null ? null : (Object[]) defaults[c];
+
+		int fields = 0;
+		for (int r = 0; r < rows.length; ++r)
+		{
+			column.offsets[r] = fields;
+			Object[] values = values(rows[r], c, defaultValues);
+			fields += values == null ? 0 : values.length / types.length;
+		}
+		column.offsets[rows.length] = fields;
+
+		for (int t = 0; t < types.length; ++t)
+		{
+			if (types[t] == ScriptVarType.STRING)
+			{
+				column.strings[t] = new String[fields];
+			}
+			else
+			{
+				column.ints[t] = new int[fields];
+			}
+		}
+
+		for (int r = 0; r < rows.length; ++r)
+		{
+			Object[] values = values(rows[r], c, defaultValues);
+			if (values == null)
+			{
+				continue;
+			}
+
+			for (int f = column.offsets[r], i = 0; i < values.length; ++f)
+			{
+				for (int t = 0; t < types.length; ++t, ++i)
+				{
+					if (column.strings[t] != null)
+					{
+						column.strings[t][f] = (String) values[i];
+					}
+					else
+					{
+						column.ints[t][f] = (Integer) values[i];
+					}
+				}
+			}
+		}
+		return column;
+	}
+
+	private static Object[] values(DBRowDefinition row, int c, Object[] defaultValues)
+	{
+		Object[][] columnValues = row.getColumnValues();
+		if (columnValues != null && c < columnValues.length && columnValues[c] != null)
+		{
+			return columnValues[c];
+		}
+		return defaultValues;
+	}
+
+	public int getId()
+	{
+		return id;
+	}
+
+	/**
+	 * Gets the ids of all rows of the table, in table order
+	 */
+	public int[] getRows()
+	{
+		return rowIds.clone();
+	}
+
+	public int getRowCount()
+	{
+		return rowIds.length;
+	}
+
+	public int getColumnCount()
+	{
+		return columns.length;
+	}
+
+	/**
+	 * Gets the types of the column, or null if the table has no such column
+	 */
+	public ScriptVarType[] getTypes(int column)
+	{
+		Column col = column(column);
+		return col == null ? null : col.types.clone();
+	}
+
+	/**
+	 * Gets the index of a tuple element of a column, or null if the cache has none
+	 */
+	public DBIndex getIndex(int column, int tupleIndex)
+	{
+		if (column < 0 || column >= indexes.length || indexes[column] == null || tupleIndex < 0 || tupleIndex >= indexes[column].length)
+		{
+			return null;
+		}
+		return indexes[column][tupleIndex];
+	}
+
+	/**
+	 * Gets the number of fields the row has in the column, 0 if the row is not in the table
+	 */
+	public int getFieldCount(int rowId, int column)
+	{
+		Column col = column(column);
+		int row = position(rowId);
+		return col == null || row == -1 ? 0 : col.offsets[row + 1] - col.offsets[row];
+	}
+
+	public int getInt(int rowId, int column, int field, int tupleIndex)
+	{
+		int f = field(rowId, column, field);
+		return columns[column].ints[tupleIndex][f];
+	}
+
+	public String getString(int rowId, int column, int field, int tupleIndex)
+	{
+		int f = field(rowId, column, field);
+		return columns[column].strings[tupleIndex][f];
+	}
+
+	/**
+	 * Gets a field of a row as boxed values, like {@code Client.getDBTableField}
+	 *
+	 * @return the field's tuple, or null if the row has no such field
+	 */
+	public Object[] getField(int rowId, int column, int field)
+	{
+		Column col = column(column);
+		int row = position(rowId);
+		if (col == null || row == -1 || field < 0 || field >= col.offsets[row + 1] - col.offsets[row])
+		{
+			return null;
+		}
+
+		int f = col.offsets[row] + field;
+		Object[] tuple = new Object[col.types.length];
+		for (int t = 0; t < tuple.length; ++t)
+		{
+			tuple[t] = col.strings[t] != null ? col.strings[t][f] : (Object) col.ints[t][f];
+		}
+		return tuple;
+	}
+
+	/**
+	 * Start a query of the table's rows
+	 */
+	public DBQuery query()
+	{
+		return new DBQuery(this);
+	}
+
+	int rowId(int position)
+	{
+		return rowIds[position];
+	}
+
+	/**
+	 * Gets the position of a row in table order, or -1 if the row is not in the table
+	 */
+	int position(int rowId)
+	{
+		int i = Arrays.binarySearch(sortedRowIds, rowId);
+		return i < 0 ? -1 : sortedRowPositions[i];
+	}
+
+	boolean matches(int row, int column, int tupleIndex, int value)
+	{
+		Column col = column(column);
+		int[] values = col == null || tupleIndex >= col.types.length ? null : col.ints[tupleIndex];
+		if (values == null)
+		{
+			return false;
+		}
+
+		for (int f = col.offsets[row], end = col.offsets[row + 1]; f < end; ++f)
+		{
+			if (values[f] == value)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	boolean matches(int row, int column, int tupleIndex, long value)
+	{
+		return value == (int) value && matches(row, column, tupleIndex, (int) value);
+	}
+
+	boolean matches(int row, int column, int tupleIndex, String value)
+	{
+		Column col = column(column);
+		String[] values = col == null || tupleIndex >= col.types.length ? null : col.strings[tupleIndex];
+		if (values == null)
+		{
+			return false;
+		}
+
+		for (int f = col.offsets[row], end = col.offsets[row + 1]; f < end; ++f)
+		{
+			if (value.equals(values[f]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	int intValue(int row, int column, int tupleIndex, int defaultValue)
+	{
+		Column col = column(column);
+		if (col == null || col.ints[tupleIndex] == null || col.offsets[row] == col.offsets[row + 1])
+		{
+			return defaultValue;
+		}
+		return col.ints[tupleIndex][col.offsets[row]];
+	}
+
+	String stringValue(int row, int column, int tupleIndex)
+	{
+		Column col = column(column);
+		if (col == null || col.strings[tupleIndex] == null || col.offsets[row] == col.offsets[row + 1])
+		{
+			return null;
+		}
+		return col.strings[tupleIndex][col.offsets[row]];
+	}
+
+	private Column column(int column)
+	{
+		return column < 0 || column >= columns.length ? null : columns[column];
+	}
+
+	private int field(int rowId, int column, int field)
+	{
+		int row = position(rowId);
+		Column col = column(column);
+		if (row == -1 || col == null || field < 0 || field >= col.offsets[row + 1] - col.offsets[row])
+		{
+			throw new IndexOutOfBoundsException("row " + rowId + " has no field " + field + " in column " + column);
+		}
+		return col.offsets[row] + field;
+	}
+}
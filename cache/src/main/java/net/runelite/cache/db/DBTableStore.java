@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.DBRowManager;
+import net.runelite.cache.DBTableIndexManager;
+import net.runelite.cache.DBTableManager;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.fs.Store;
+
+/**
+ * The db tables of a cache, stored by column with primitive indexes. See {@link DBTable}
+ * for reading values and {@link DBQuery} for finding rows.
+ */
+public class DBTableStore
+{
+	private final Map<Integer, DBTable> tables = new HashMap<>();
+
+	public DBTableStore(Collection<DBTableDefinition> tables, Collection<DBRowDefinition> rows, Collection<DBTableIndex> indexes)
+	{
+		Map<Integer, List<DBRowDefinition>> rowsByTable = new HashMap<>();
+		for (DBRowDefinition row : rows)
+		{
+			rowsByTable.computeIfAbsent(row.getTableId(), k -> new ArrayList<>()).add(row);
+		}
+
+		Map<Integer, DBTableIndex> masters = new HashMap<>();
+		Map<Integer, List<DBTableIndex>> indexesByTable = new HashMap<>();
+		for (DBTableIndex index : indexes)
+		{
+			if (index.getColumnId() == -1)
+			{
+				masters.put(index.getTableId(), index);
+			}
+			else
+			{
+				indexesByTable.computeIfAbsent(index.getTableId(), k -> new ArrayList<>()).add(index);
+			}
+		}
+
+		for (DBTableDefinition table : tables)
+		{
+			DBRowDefinition[] tableRows = order(rowsByTable.getOrDefault(table.getId(), Collections.emptyList()), masters.get(table.getId()));
+			int[] rowIds = new int[tableRows.length];
+			for (int i = 0; i < tableRows.length; ++i)
+			{
+				rowIds[i] = tableRows[i].getId();
+			}
+
+			this.tables.put(table.getId(), new DBTable(table, rowIds, tableRows,
+				indexesByTable.getOrDefault(table.getId(), Collections.emptyList())));
+		}
+	}
+
+	public static DBTableStore load(Store store) throws IOException
+	{
+		DBTableManager tableManager = new DBTableManager(store);
+		tableManager.load();
+		DBRowManager rowManager = new DBRowManager(store);
+		rowManager.load();
+		DBTableIndexManager indexManager = new DBTableIndexManager(store);
+		indexManager.load();
+
+		return new DBTableStore(tableManager.getTables(), rowManager.getRows(), indexManager.getIndexes());
+	}
+
+	/**
+	 * Orders the rows of a table as its master index does, with any rows missing
+	 * from it after in id order
+	 */
+	private static DBRowDefinition[] order(List<DBRowDefinition> rows, DBTableIndex master)
+	{
+		Map<Integer, DBRowDefinition> byId = new LinkedHashMap<>();
+		rows.stream()
+			.sorted(Comparator.comparingInt(DBRowDefinition::getId))
+			.forEach(row -> byId.put(row.getId(), row));
+
+		List<DBRowDefinition> ordered = new ArrayList<>(rows.size());
+		if (master != null)
+		{
+			for (Map<Object, List<Integer>> tuple : master.getTupleIndexes())
+			{
+				for (List<Integer> rowIds : tuple.values())
+				{
+					for (int rowId : rowIds)
+					{
+						DBRowDefinition row = byId.remove(rowId);
+						if (row != null)
+						{
+							ordered.add(row);
+						}
+					}
+				}
+			}
+		}
+		ordered.addAll(byId.values());
+		return ordered.toArray(new DBRowDefinition[0]);
+	}
+
+	public DBTable getTable(int tableId)
+	{
+		return tables.get(tableId);
+	}
+
+	public Collection<DBTable> getTables()
+	{
+		return Collections.unmodifiableCollection(tables.values());
+	}
+
+	/**
+	 * Uses an index to find rows containing a certain value in a column, like
+	 * {@code Client.getDBRowsByValue}. An index must exist for this column.
+	 *
+	 * @param value an {@link Integer}, {@link Long} or {@link String}
+	 * @return the ids of the rows, in index order
+	 */
+	public List<Integer> getRowsByValue(int tableId, int column, int tupleIndex, Object value)
+	{
+		DBTable table = tables.get(tableId);
+		DBIndex index = table == null ? null : table.getIndex(column, tupleIndex);
+		if (index == null)
+		{
+			throw new IllegalArgumentException("no index for table " + tableId + " column " + column + " tuple " + tupleIndex);
+		}
+
+		int[] rows;
+		if (value instanceof Integer)
+		{
+			rows = index.getRows((int) value);
+		}
+		else if (value instanceof Long)
+		{
+			rows = index.getRows((long) value);
+		}
+		else if (value instanceof String)
+		{
+			rows = index.getRows((String) value);
+		}
+		else
+		{
+			return Collections.emptyList();
+		}
+
+		List<Integer> list = new ArrayList<>(rows.length);
+		for (int row : rows)
+		{
+			list.add(row);
+		}
+		return list;
+	}
+
+	/**
+	 * Gets all rows in a table, like {@code Client.getDBTableRows}
+	 */
+	public List<Integer> getTableRows(int tableId)
+	{
+		DBTable table = tables.get(tableId);
+		if (table == null)
+		{
+			return Collections.emptyList();
+		}
+
+		List<Integer> list = new ArrayList<>(table.getRowCount());
+		for (int row : table.getRows())
+		{
+			list.add(row);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import net.runelite.cache.util.Tasks;
+
+/**
+ * Writes definitions as json. The {@link Gson} instances are shared, as they are
+ * thread safe, and definitions are written straight to the output with a
+ * {@link JsonWriter} instead of being built up as strings first.
+ * <p>
+ * Definitions can be written to one file each on a pool of threads, or to a single
+ * newline delimited json or zip file.
+ */
+public class JsonExporter
+{
+	static final Gson GSON = new GsonBuilder()
+		.setPrettyPrinting()
+		.create();
+
+	private static final Gson COMPACT_GSON = new Gson();
+
+	/**
+	 * Number of definitions each task of a parallel export serializes
+	 */
+	private static final int BATCH_SIZE = 256;
+
+	public static void write(Object definition, File file) throws IOException
+	{
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			write(GSON, definition, writer);
+		}
+	}
+
+	private static void write(Gson gson, Object definition, Writer writer) throws IOException
+	{
+		JsonWriter jsonWriter = gson.newJsonWriter(writer);
+		gson.toJson(definition, definition.getClass(), jsonWriter);
+		jsonWriter.flush();
+	}
+
+	/**
+	 * Write each definition to its own file, on a pool of threads
+	 *
+	 * @param path the path of a definition's file, relative to {@code out}
+	 */
+	public static <T> void exportFiles(Collection<T> definitions, Function<T, String> path, File out, int threads) throws IOException
+	{
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (List<T> batch : batches(definitions))
+		{
+			tasks.add(() ->
+			{
+				for (T definition : batch)
+				{
+					File file = new File(out, path.apply(definition));
+					File parent = file.getParentFile();
+					if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory())
+					{
+						throw new IOException("unable to create " + parent);
+					}
+					write(definition, file);
+				}
+				return null;
+			});
+		}
+
+		out.mkdirs();
+		invokeAll(tasks, threads);
+	}
+
+	/**
+	 * Write the definitions to one file, as compact json with one definition per line
+	 */
+	public static void exportNdjson(Iterable<?> definitions, File out) throws IOException
+	{
+		try (Writer writer = new OutputStreamWriter(new BufferedOutputStream(Files.newOutputStream(out.toPath()), 1 << 16), StandardCharsets.UTF_8))
+		{
+			for (Object definition : definitions)
+			{
+				write(COMPACT_GSON, definition, writer);
+				writer.write('\n');
+			}
+		}
+	}
+
+	/**
+	 * Write the definitions to a zip file with one entry each. Definitions are
+	 * serialized on a pool of threads, and written in order.
+	 *
+	 * @param path the entry name of a definition
+	 */
+	public static <T> void exportZip(Collection<T> definitions, Function<T, String> path, File out, int threads) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(out.toPath()), 1 << 16)))
+		{
+			List<List<T>> batches = batches(definitions);
+			// keep a few batches serializing ahead of the one being written, to bound the memory used
+			Deque<Future<byte[][]>> pending = new ArrayDeque<>();
+			int submitted = 0;
+			for (List<T> batch : batches)
+			{
+				for (; submitted < batches.size() && pending.size() < threads * 2; ++submitted)
+				{
+					List<T> next = batches.get(submitted);
+					pending.add(executor.submit(() -> serialize(next)));
+				}
+
+				byte[][] serialized = Tasks.get(pending.remove());
+				for (int i = 0; i < batch.size(); ++i)
+				{
+					zip.putNextEntry(new ZipEntry(path.apply(batch.get(i))));
+					zip.write(serialized[i]);
+					zip.closeEntry();
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private static byte[][] serialize(List<?> batch)
+	{
+		byte[][] serialized = new byte[batch.size()][];
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		for (int i = 0; i < serialized.length; ++i)
+		{
+			buffer.reset();
+			try
+			{
+				write(GSON, batch.get(i), new OutputStreamWriter(buffer, StandardCharsets.UTF_8));
+			}
+			catch (IOException ex)
+			{
+				throw new UncheckedIOException(ex);
+			}
+			serialized[i] = buffer.toByteArray();
+		}
+		return serialized;
+	}
+
+	private static <T> List<List<T>> batches(Collection<T> definitions)
+	{
+		List<List<T>> batches = new ArrayList<>();
+		Iterator<T> it = definitions.iterator();
+		while (it.hasNext())
+		{
+			List<T> batch = new ArrayList<>(BATCH_SIZE);
+			while (it.hasNext() && batch.size() < BATCH_SIZE)
+			{
+				batch.add(it.next());
+			}
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	private static void invokeAll(List<Callable<Void>> tasks, int threads) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			Tasks.invokeAll(executor, tasks);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+}
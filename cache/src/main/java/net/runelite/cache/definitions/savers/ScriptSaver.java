@@ -34,6 +34,9 @@ import static net.runelite.cache.script.Opcodes.POP_INT;
 import static net.runelite.cache.script.Opcodes.POP_OBJECT;
 import static net.runelite.cache.script.Opcodes.RETURN;
 
+/**
+ * Packs scripts into their cache format. It keeps no state, so may be shared by several threads.
+ */
 public class ScriptSaver
 {
 	public byte[] save(ScriptDefinition script)
@@ -59,12 +59,23 @@ class Graphics3D extends Rasterizer2D
 	int Rasterizer3D_clipMidY2;
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
+	final ModelBuffers modelBuffers = new ModelBuffers();
 
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
 		this.textureProvider = textureProvider;
 	}
 
+	/**
+	 * Create a rasterizer drawing with an existing palette, see {@link JagexColor#createPalette(double)}.
+	 * The palette is only read, so it may be shared between rasterizers.
+	 */
+	public Graphics3D(RSTextureProvider textureProvider, int[] colorPalette)
+	{
+		this.textureProvider = textureProvider;
+		this.colorPalette = colorPalette;
+	}
+
 	public final void setRasterClipping()
 	{
 		setRasterClipping(draw_region_x, drawingAreaTop, drawingAreaRight, drawingAreaBottom);
@@ -43,17 +43,34 @@ public class ItemSpriteFactory
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		RSTextureProvider rsTextureProvider = createTextureProvider(textureProvider, spriteProvider);
+		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, createGraphics(rsTextureProvider),
 			itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
+	static RSTextureProvider createTextureProvider(TextureProvider textureProvider, SpriteProvider spriteProvider)
+	{
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		return rsTextureProvider;
+	}
+
+	static Graphics3D createGraphics(RSTextureProvider rsTextureProvider)
+	{
+		return new Graphics3D(rsTextureProvider, Palette.BRIGHTNESS_MAX);
+	}
+
+	static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
+		Graphics3D graphics,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
 		ItemDefinition item = itemProvider.provide(itemId);
+		if (item == null)
+		{
+			return null;
+		}
 
 		if (quantity > 1 && item.countObj != null)
 		{
@@ -82,7 +99,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -91,7 +108,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 				item.boughtId, quantity, border, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -100,7 +117,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -108,12 +125,7 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -180,6 +192,15 @@ public class ItemSpriteFactory
 		return spritePixels;
 	}
 
+	/**
+	 * The palette is the same for every sprite and is only read while drawing,
+	 * so it is built once and shared by all rasterizers.
+	 */
+	private static class Palette
+	{
+		private static final int[] BRIGHTNESS_MAX = JagexColor.createPalette(JagexColor.BRIGHTNESS_MAX);
+	}
+
 	private static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
 	{
 		Model itemModel;
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.util.Tasks;
+
+/**
+ * Renders many item sprites. Where {@link ItemSpriteFactory#createSprite} sets up a rasterizer
+ * and decodes models for every sprite, a renderer decodes each model and loads each texture once,
+ * and keeps one rasterizer per thread. It is safe to use from multiple threads.
+ */
+@Slf4j
+public class ItemSpriteRenderer
+{
+	public interface SpriteConsumer
+	{
+		/**
+		 * Called from the rendering threads for each item which has a sprite
+		 */
+		void accept(int itemId, BufferedImage sprite) throws IOException;
+	}
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final Map<Integer, ModelDefinition> models = new ConcurrentHashMap<>();
+	private final ThreadLocal<Graphics3D> graphics;
+
+	public ItemSpriteRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = ItemSpriteFactory.createTextureProvider(textureProvider, spriteProvider);
+		this.graphics = ThreadLocal.withInitial(() -> ItemSpriteFactory.createGraphics(this.textureProvider));
+	}
+
+	/**
+	 * Render a single sprite, see {@link ItemSpriteFactory#createSprite}
+	 */
+	public BufferedImage render(int itemId, int quantity, int border, int shadowColor, boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = ItemSpriteFactory.createSpritePixels(itemProvider, this::loadModel, graphics.get(),
+			itemId, quantity, border, shadowColor, noted);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render the sprites of the given items on a pool of threads. Items which fail
+	 * to render are logged and skipped.
+	 *
+	 * @return the number of sprites rendered
+	 */
+	public int renderAll(int[] itemIds, int quantity, int border, int shadowColor, int threads,
+		SpriteConsumer consumer) throws IOException
+	{
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger rendered = new AtomicInteger();
+		List<Callable<Void>> workers = new ArrayList<>(threads);
+		for (int i = 0; i < threads; ++i)
+		{
+			workers.add(() ->
+			{
+				// items are handed out one at a time, as render times vary a lot between models
+				for (int idx; (idx = next.getAndIncrement()) < itemIds.length; )
+				{
+					int itemId = itemIds[idx];
+					BufferedImage sprite;
+					try
+					{
+						sprite = render(itemId, quantity, border, shadowColor, false);
+					}
+					catch (IOException | RuntimeException ex)
+					{
+						log.warn("error rendering item {}", itemId, ex);
+						continue;
+					}
+
+					if (sprite != null)
+					{
+						consumer.accept(itemId, sprite);
+						rendered.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			long start = System.nanoTime();
+			Tasks.invokeAll(executor, workers);
+			log.debug("Rendered {} of {} item sprites in {} ms on {} threads", rendered.get(), itemIds.length,
+				(System.nanoTime() - start) / 1_000_000L, threads);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+		return rendered.get();
+	}
+
+	private ModelDefinition loadModel(int modelId) throws IOException
+	{
+		ModelDefinition model;
+		try
+		{
+			model = models.computeIfAbsent(modelId, id ->
+			{
+				try
+				{
+					ModelDefinition decoded = modelProvider.provide(id);
+					if (decoded != null)
+					{
+						// normals are shared by the copies unless the item resizes the model
+						decoded.computeNormals();
+					}
+					return decoded;
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+		return model == null ? null : copy(model);
+	}
+
+	/**
+	 * Copy a cached model for one sprite. The arrays an item's resize, recolor and
+	 * retexture write to are cloned, the rest is only read while lighting and drawing.
+	 */
+	private static ModelDefinition copy(ModelDefinition model)
+	{
+		ModelDefinition copy = new ModelDefinition();
+		copy.id = model.id;
+		copy.vertexCount = model.vertexCount;
+		copy.vertexX = model.vertexX.clone();
+		copy.vertexY = model.vertexY.clone();
+		copy.vertexZ = model.vertexZ.clone();
+		copy.vertexNormals = model.vertexNormals;
+		copy.faceCount = model.faceCount;
+		copy.faceIndices1 = model.faceIndices1;
+		copy.faceIndices2 = model.faceIndices2;
+		copy.faceIndices3 = model.faceIndices3;
+		copy.faceTransparencies = model.faceTransparencies;
+		copy.faceColors = model.faceColors.clone();
+		copy.faceRenderPriorities = model.faceRenderPriorities;
+		copy.faceRenderTypes = model.faceRenderTypes;
+		copy.faceNormals = model.faceNormals;
+		copy.numTextureFaces = model.numTextureFaces;
+		copy.texIndices1 = model.texIndices1;
+		copy.texIndices2 = model.texIndices2;
+		copy.texIndices3 = model.texIndices3;
+		copy.texturePrimaryColors = model.texturePrimaryColors;
+		copy.faceTextures = model.faceTextures == null ? null : model.faceTextures.clone();
+		copy.faceZOffsets = model.faceZOffsets;
+		copy.textureCoords = model.textureCoords;
+		copy.textureRenderTypes = model.textureRenderTypes;
+		copy.priority = model.priority;
+		return copy;
+	}
+}
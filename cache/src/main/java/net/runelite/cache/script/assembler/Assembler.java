@@ -29,6 +29,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import net.runelite.cache.definitions.ScriptDefinition;
 import net.runelite.cache.script.Instructions;
@@ -37,6 +38,11 @@ import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
+/**
+ * Assembles rs2asm scripts. An assembler keeps no state between scripts, so one
+ * may be shared by several threads as long as its {@link Instructions} are not
+ * modified.
+ */
 public class Assembler
 {
 	private final Instructions instructions;
@@ -51,7 +57,7 @@ public class Assembler
 	public Assembler(Instructions instructions, Map<String, Object> symbols)
 	{
 		this.instructions = instructions;
-		this.symbols = symbols;
+		this.symbols = Collections.unmodifiableMap(new HashMap<>(symbols));
 	}
 
 	public ScriptDefinition assemble(InputStream in) throws IOException
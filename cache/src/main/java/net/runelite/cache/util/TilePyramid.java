@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A directory of square png tiles, laid out as {@code <level>/<x>_<y>.png}. Level 0 is full
+ * resolution and each level above it is half the resolution of the one below, until the whole
+ * image fits in a single tile. Tiles which would be empty are not written.
+ * <p>
+ * Level 0 tiles are written by the caller, after which {@link #writeLevels} builds the rest.
+ */
+@Slf4j
+public class TilePyramid
+{
+	private final File directory;
+	private final int tileSize;
+	private final boolean alpha;
+
+	public TilePyramid(File directory, int tileSize, boolean alpha)
+	{
+		if (tileSize <= 0 || (tileSize & 1) != 0)
+		{
+			throw new IllegalArgumentException("tile size must be even");
+		}
+
+		this.directory = directory;
+		this.tileSize = tileSize;
+		this.alpha = alpha;
+	}
+
+	public File getTileFile(int level, int x, int y)
+	{
+		return new File(directory, level + File.separator + x + "_" + y + ".png");
+	}
+
+	/**
+	 * Creates an empty tile, backed by an int[] of {@code tileSize * tileSize} pixels
+	 */
+	public BufferedImage createTile()
+	{
+		return new BufferedImage(tileSize, tileSize, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+	}
+
+	public void writeTile(int level, int x, int y, BufferedImage tile) throws IOException
+	{
+		File file = getTileFile(level, x, y);
+		file.getParentFile().mkdirs();
+		ImageIO.write(tile, "png", file);
+	}
+
+	public void deleteTile(int level, int x, int y) throws IOException
+	{
+		Files.deleteIfExists(getTileFile(level, x, y).toPath());
+	}
+
+	/**
+	 * Builds every level above level 0 from the tiles already written to level 0. Each level is built from
+	 * the one below it, so no more than one tile and its four children are in memory per thread.
+	 *
+	 * @param columns number of level 0 tiles horizontally
+	 * @param rows number of level 0 tiles vertically
+	 * @param executor executor to build the tiles of each level on
+	 * @return the number of levels, including level 0
+	 */
+	public int writeLevels(int columns, int rows, ExecutorService executor) throws IOException
+	{
+		return writeLevels(columns, rows, null, executor);
+	}
+
+	/**
+	 * Rebuilds the tiles of every level above level 0 which cover any of the given level 0 tiles,
+	 * after they have been rewritten or deleted.
+	 *
+	 * @param columns number of level 0 tiles horizontally
+	 * @param rows number of level 0 tiles vertically
+	 * @param changed level 0 tiles which changed, or null to rebuild every level completely
+	 * @param executor executor to build the tiles of each level on
+	 * @return the number of levels, including level 0
+	 */
+	public int writeLevels(int columns, int rows, Collection<Point> changed, ExecutorService executor) throws IOException
+	{
+		int level = 0;
+		while (columns > 1 || rows > 1)
+		{
+			final int childLevel = level++;
+			columns = (columns + 1) / 2;
+			rows = (rows + 1) / 2;
+
+			Set<Point> parents = null;
+			if (changed != null)
+			{
+				parents = new HashSet<>();
+				for (Point child : changed)
+				{
+					parents.add(new Point(child.x / 2, child.y / 2));
+				}
+				changed = parents;
+			}
+
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int x = 0; x < columns; ++x)
+			{
+				for (int y = 0; y < rows; ++y)
+				{
+					if (parents != null && !parents.contains(new Point(x, y)))
+					{
+						continue;
+					}
+
+					final int tx = x, ty = y;
+					tasks.add(() ->
+					{
+						writeParent(childLevel, tx, ty);
+						return null;
+					});
+				}
+			}
+
+			long start = System.nanoTime();
+			Tasks.invokeAll(executor, tasks);
+			log.debug("Built {} tiles of level {} in {} ms", tasks.size(), level, (System.nanoTime() - start) / 1_000_000L);
+		}
+		return level + 1;
+	}
+
+	private void writeParent(int childLevel, int x, int y)
+	{
+		try
+		{
+			BufferedImage parent = null;
+			int[] childPixels = null;
+			for (int i = 0; i < 4; ++i)
+			{
+				int dx = i & 1, dy = i >> 1;
+				File file = getTileFile(childLevel, x * 2 + dx, y * 2 + dy);
+				if (!file.exists())
+				{
+					continue;
+				}
+
+				BufferedImage child = ImageIO.read(file);
+				if (childPixels == null)
+				{
+					childPixels = new int[tileSize * tileSize];
+				}
+				child.getRGB(0, 0, tileSize, tileSize, childPixels, 0, tileSize);
+
+				if (parent == null)
+				{
+					parent = createTile();
+				}
+				int[] parentPixels = ((DataBufferInt) parent.getRaster().getDataBuffer()).getData();
+				downsample(childPixels, tileSize, parentPixels, dx * tileSize / 2, dy * tileSize / 2);
+			}
+
+			if (parent != null)
+			{
+				writeTile(childLevel + 1, x, y, parent);
+			}
+			else
+			{
+				deleteTile(childLevel + 1, x, y);
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Averages each 2x2 block of a {@code size * size} argb image into one pixel of {@code dst}, which
+	 * is the same size, at the given offset. Colors are weighted by alpha so transparent pixels do not
+	 * darken their neighbours.
+	 */
+	static void downsample(int[] src, int size, int[] dst, int dstX, int dstY)
+	{
+		int half = size / 2;
+		for (int y = 0; y < half; ++y)
+		{
+			int row0 = y * 2 * size;
+			int row1 = row0 + size;
+			int out = (dstY + y) * size + dstX;
+			for (int x = 0; x < half; ++x)
+			{
+				int p00 = src[row0 + x * 2], p01 = src[row0 + x * 2 + 1];
+				int p10 = src[row1 + x * 2], p11 = src[row1 + x * 2 + 1];
+
+				int a00 = p00 >>> 24, a01 = p01 >>> 24, a10 = p10 >>> 24, a11 = p11 >>> 24;
+				int a = a00 + a01 + a10 + a11;
+				if (a == 0)
+				{
+					dst[out + x] = 0;
+					continue;
+				}
+
+				int r = ((p00 >> 16) & 0xFF) * a00 + ((p01 >> 16) & 0xFF) * a01 + ((p10 >> 16) & 0xFF) * a10 + ((p11 >> 16) & 0xFF) * a11;
+				int g = ((p00 >> 8) & 0xFF) * a00 + ((p01 >> 8) & 0xFF) * a01 + ((p10 >> 8) & 0xFF) * a10 + ((p11 >> 8) & 0xFF) * a11;
+				int b = (p00 & 0xFF) * a00 + (p01 & 0xFF) * a01 + (p10 & 0xFF) * a10 + (p11 & 0xFF) * a11;
+				dst[out + x] = ((a + 2) / 4) << 24 | (r + a / 2) / a << 16 | (g + a / 2) / a << 8 | (b + a / 2) / a;
+			}
+		}
+	}
+}
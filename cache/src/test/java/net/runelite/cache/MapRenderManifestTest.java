@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MapRenderManifestTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testFindChangedRegions() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+			Archive objects = configs.addArchive(ConfigType.OBJECT.getId());
+			objects.setCrc(1);
+
+			Index maps = store.addIndex(IndexType.MAPS.getNumber());
+			Archive map = addArchive(maps, 0, "m50_50", 10);
+			addArchive(maps, 1, "l50_50", 11);
+			addArchive(maps, 2, "m52_50", 12);
+			addArchive(maps, 3, "l52_50", 13);
+
+			List<Region> regions = List.of(new Region(50, 50), new Region(52, 50));
+			MapRenderManifest previous = MapRenderManifest.create(store, regions, "settings");
+
+			File file = new File(folder.getRoot(), "manifest.json");
+			previous.write(file);
+			previous = MapRenderManifest.read(file);
+
+			assertEquals(Set.of(), MapRenderManifest.create(store, regions, "settings").findChangedRegions(previous));
+			assertNull(MapRenderManifest.create(store, regions, "other settings").findChangedRegions(previous));
+			assertNull(MapRenderManifest.create(store, regions, "settings").findChangedRegions(null));
+
+			map.setCrc(20);
+			Set<Integer> changed = MapRenderManifest.create(store, regions, "settings").findChangedRegions(previous);
+			// the changed region and its neighbours
+			assertEquals(9, changed.size());
+			assertTrue(changed.contains(50 << 8 | 50));
+			assertTrue(changed.contains(51 << 8 | 51));
+			assertTrue(changed.contains(49 << 8 | 49));
+
+			// removed regions are redrawn too
+			changed = MapRenderManifest.create(store, List.of(new Region(50, 50)), "settings").findChangedRegions(previous);
+			assertTrue(changed.contains(52 << 8 | 50));
+			assertTrue(changed.contains(53 << 8 | 51));
+
+			objects.setCrc(2);
+			assertNull(MapRenderManifest.create(store, regions, "settings").findChangedRegions(previous));
+		}
+	}
+
+	private static Archive addArchive(Index index, int id, String name, int crc)
+	{
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(Djb2.hash(name));
+		archive.setCrc(crc);
+		return archive;
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.db;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DBTableStoreTest
+{
+	private static final int TABLE = 5;
+	private static final String[] NAMES = {"bronze", "iron", "steel", "mithril", "adamant", "rune"};
+
+	private final List<DBRowDefinition> rows = new ArrayList<>();
+	private final List<DBTableIndex> indexes = new ArrayList<>();
+	private DBTableStore store;
+
+	@Before
+	public void before()
+	{
+		DBTableDefinition table = new DBTableDefinition(TABLE);
+		table.setTypes(new ScriptVarType[][]{
+			{ScriptVarType.INTEGER},
+			{ScriptVarType.STRING},
+			{ScriptVarType.OBJ, ScriptVarType.INTEGER},
+			{ScriptVarType.INTEGER},
+		});
+		table.setDefaultColumnValues(new Object[][]{null, null, null, {-5}});
+
+		for (int i = 0; i < 12; ++i)
+		{
+			DBRowDefinition row = new DBRowDefinition(100 + i);
+			row.setTableId(TABLE);
+
+			Object[][] values = new Object[4][];
+			values[0] = new Object[]{i % 3};
+			values[1] = new Object[]{NAMES[i % NAMES.length]};
+			// a varying number of (item, amount) fields
+			List<Object> items = new ArrayList<>();
+			for (int f = 0; f < i % 4; ++f)
+			{
+				items.add(1000 + i + f);
+				items.add(f + 1);
+			}
+			values[2] = items.isEmpty() ? null : items.toArray();
+			values[3] = i % 2 == 0 ? new Object[]{i * 10} : null;
+			row.setColumnValues(values);
+			rows.add(row);
+		}
+
+		// the master index lists the rows in reverse
+		DBTableIndex master = new DBTableIndex(TABLE, -1);
+		master.setTupleTypes(new BaseVarType[]{BaseVarType.INTEGER});
+		List<Integer> all = new ArrayList<>();
+		for (int i = rows.size() - 1; i >= 0; --i)
+		{
+			all.add(rows.get(i).getId());
+		}
+		master.setTupleIndexes(Collections.singletonList(Collections.singletonMap(0, all)));
+		indexes.add(master);
+
+		indexes.add(index(0, BaseVarType.INTEGER));
+		indexes.add(index(1, BaseVarType.STRING));
+		indexes.add(index(2, BaseVarType.INTEGER, BaseVarType.INTEGER));
+
+		store = new DBTableStore(Collections.singletonList(table), rows, indexes);
+	}
+
+	private DBTableIndex index(int column, BaseVarType... types)
+	{
+		DBTableIndex index = new DBTableIndex(TABLE, column);
+		index.setTupleTypes(types);
+		List<Map<Object, List<Integer>>> tuples = new ArrayList<>();
+		for (int t = 0; t < types.length; ++t)
+		{
+			Map<Object, List<Integer>> valueToRows = new LinkedHashMap<>();
+			for (DBRowDefinition row : rows)
+			{
+				Object[] values = row.getColumnValues()[column];
+				if (values == null)
+				{
+					continue;
+				}
+				for (int i = t; i < values.length; i += types.length)
+				{
+					List<Integer> rowIds = valueToRows.computeIfAbsent(values[i], k -> new ArrayList<>());
+					if (!rowIds.contains(row.getId()))
+					{
+						rowIds.add(row.getId());
+					}
+				}
+			}
+			tuples.add(valueToRows);
+		}
+		index.setTupleIndexes(tuples);
+		return index;
+	}
+
+	@Test
+	public void testGetRowsByValue()
+	{
+		for (DBTableIndex index : indexes)
+		{
+			if (index.getColumnId() == -1)
+			{
+				continue;
+			}
+
+			for (int t = 0; t < index.getTupleTypes().length; ++t)
+			{
+				for (Map.Entry<Object, List<Integer>> entry : index.getTupleIndexes().get(t).entrySet())
+				{
+					assertEquals(entry.getValue(), store.getRowsByValue(TABLE, index.getColumnId(), t, entry.getKey()));
+				}
+			}
+		}
+
+		assertEquals(Collections.emptyList(), store.getRowsByValue(TABLE, 0, 0, 7));
+		assertEquals(Collections.emptyList(), store.getRowsByValue(TABLE, 0, 0, "bronze"));
+		assertEquals(Collections.emptyList(), store.getRowsByValue(TABLE, 1, 0, "dragon"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGetRowsByValueWithoutIndex()
+	{
+		store.getRowsByValue(TABLE, 3, 0, 0);
+	}
+
+	@Test
+	public void testTableRows()
+	{
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 111; i >= 100; --i)
+		{
+			expected.add(i);
+		}
+		assertEquals(expected, store.getTableRows(TABLE));
+		assertEquals(Collections.emptyList(), store.getTableRows(TABLE + 1));
+	}
+
+	@Test
+	public void testValues()
+	{
+		DBTable table = store.getTable(TABLE);
+		for (DBRowDefinition row : rows)
+		{
+			Object[][] values = row.getColumnValues();
+			int id = row.getId();
+
+			assertEquals(values[0][0], table.getInt(id, 0, 0, 0));
+			assertEquals(values[1][0], table.getString(id, 1, 0, 0));
+			assertArrayEquals(values[1], table.getField(id, 1, 0));
+
+			int fields = values[2] == null ? 0 : values[2].length / 2;
+			assertEquals(fields, table.getFieldCount(id, 2));
+			for (int f = 0; f < fields; ++f)
+			{
+				assertArrayEquals(Arrays.copyOfRange(values[2], f * 2, f * 2 + 2), table.getField(id, 2, f));
+			}
+			assertNull(table.getField(id, 2, fields));
+
+			Object[] expected = values[3] != null ? values[3] : new Object[]{-5};
+			assertArrayEquals(expected, table.getField(id, 3, 0));
+		}
+
+		assertEquals(0, table.getFieldCount(99, 0));
+		assertNull(table.getField(99, 0, 0));
+	}
+
+	@Test
+	public void testQuery()
+	{
+		DBTable table = store.getTable(TABLE);
+
+		// indexed, in index order
+		assertArrayEquals(new int[]{101, 104, 107, 110}, table.query().where(0, 0, 1).rows());
+		// indexed and scanned
+		assertArrayEquals(new int[]{104, 110}, table.query().where(0, 0, 1).where(1, 0, "adamant").rows());
+		assertArrayEquals(new int[]{101, 107}, table.query().where(0, 0, 1).where(3, 0, -5).rows());
+		// any field of a column matches
+		assertArrayEquals(new int[]{107, 109}, table.query().where(2, 0, 1009).rows());
+		assertArrayEquals(new int[]{103, 107, 111}, table.query().where(2, 1, 3).rows());
+		// scan only, in table order
+		assertArrayEquals(new int[]{111, 109, 107, 105, 103, 101}, table.query().where(3, 0, -5).rows());
+		assertArrayEquals(new int[]{108}, table.query().where(3, 0, 80).rows());
+		assertEquals(12, table.query().count());
+		assertEquals(0, table.query().where(0, 0, "bronze").count());
+	}
+
+	@Test
+	public void testProjection()
+	{
+		DBTable table = store.getTable(TABLE);
+		DBQuery query = table.query().where(0, 0, 2);
+
+		assertArrayEquals(new int[]{102, 105, 108, 111}, query.rows());
+		assertArrayEquals(new String[]{"steel", "rune", "steel", "rune"}, query.selectString(1, 0));
+		assertArrayEquals(new int[]{20, -5, 80, -5}, query.selectInt(3, 0, 0));
+		// rows without fields get the default
+		assertArrayEquals(new int[]{1002, 1005, 0, 1011}, query.selectInt(2, 0, 0));
+		assertNull(query.selectString(0, 0)[0]);
+	}
+}
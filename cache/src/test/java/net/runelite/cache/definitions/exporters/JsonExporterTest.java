@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.exporters;
+
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import net.runelite.cache.definitions.ItemDefinition;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JsonExporterTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<ItemDefinition> items = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		// more than one batch
+		for (int i = 0; i < 600; ++i)
+		{
+			ItemDefinition item = new ItemDefinition(i);
+			item.name = "Item " + i + " \u00e9";
+			item.cost = i * 3;
+			item.colorFind = new short[]{(short) i};
+			items.add(item);
+		}
+	}
+
+	@Test
+	public void testExportFiles() throws IOException
+	{
+		File out = new File(folder.getRoot(), "items");
+		JsonExporter.exportFiles(items, item -> (item.id % 3) + File.separator + item.id + ".json", out, 3);
+
+		for (ItemDefinition item : items)
+		{
+			File file = new File(out, (item.id % 3) + File.separator + item.id + ".json");
+			assertEquals(new ItemExporter(item).export(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void testExportNdjson() throws IOException
+	{
+		File out = folder.newFile("items.ndjson");
+		JsonExporter.exportNdjson(items, out);
+
+		List<String> lines = Files.readAllLines(out.toPath(), StandardCharsets.UTF_8);
+		assertEquals(items.size(), lines.size());
+		Gson gson = new Gson();
+		for (int i = 0; i < items.size(); ++i)
+		{
+			assertEquals(items.get(i), gson.fromJson(lines.get(i), ItemDefinition.class));
+		}
+	}
+
+	@Test
+	public void testExportZip() throws IOException
+	{
+		File out = folder.newFile("items.zip");
+		JsonExporter.exportZip(items, item -> item.id + ".json", out, 2);
+
+		try (ZipFile zip = new ZipFile(out))
+		{
+			List<String> names = new ArrayList<>();
+			zip.stream().forEach(entry -> names.add(entry.getName()));
+			assertEquals(items.size(), names.size());
+
+			for (int i = 0; i < items.size(); ++i)
+			{
+				ItemDefinition item = items.get(i);
+				assertEquals(item.id + ".json", names.get(i));
+
+				ZipEntry entry = zip.getEntry(names.get(i));
+				try (InputStream in = zip.getInputStream(entry))
+				{
+					assertEquals(new ItemExporter(item).export(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+				}
+			}
+			assertNull(zip.getEntry(items.size() + ".json"));
+		}
+	}
+}
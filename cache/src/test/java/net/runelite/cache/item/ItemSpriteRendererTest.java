@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemSpriteRendererTest
+{
+	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private final AtomicInteger modelLoads = new AtomicInteger();
+
+	private final ItemProvider itemProvider = items::get;
+	private final ModelProvider modelProvider = modelId ->
+	{
+		modelLoads.incrementAndGet();
+		return modelId < 2 ? octahedron(modelId) : null;
+	};
+	private final SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+	@Before
+	public void before()
+	{
+		ItemDefinition plain = item(0, 0);
+		plain.xan2d = 300;
+		plain.yan2d = 200;
+
+		ItemDefinition recolored = item(1, 0);
+		recolored.resizeX = 64;
+		recolored.colorFind = new short[]{(short) 4000};
+		recolored.colorReplace = new short[]{(short) 30000};
+
+		// a note of the plain item, drawn on the paper model
+		ItemDefinition noted = item(2, 1);
+		noted.notedTemplate = 3;
+		noted.notedID = 0;
+
+		item(3, 1);
+		item(4, 2);
+	}
+
+	@Test
+	public void testRenderMatchesFactory() throws IOException
+	{
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		for (int itemId = 0; itemId < 4; ++itemId)
+		{
+			BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				itemId, 1, 1, 3153952, false);
+			assertNotNull(expected);
+			assertArrayEquals(pixels(expected), pixels(renderer.render(itemId, 1, 1, 3153952, false)));
+		}
+
+		assertNull(renderer.render(4, 1, 1, 3153952, false));
+	}
+
+	@Test
+	public void testCachedModelsAreNotModified() throws IOException
+	{
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		int[] plain = pixels(renderer.render(0, 1, 1, 0, false));
+		int[] recolored = pixels(renderer.render(1, 1, 1, 0, false));
+
+		assertNotEquals(plain[36 * 16 + 16], recolored[36 * 16 + 16]);
+		assertArrayEquals(plain, pixels(renderer.render(0, 1, 1, 0, false)));
+	}
+
+	@Test
+	public void testRenderAll() throws IOException
+	{
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemProvider, modelProvider, spriteProvider, textureProvider);
+		Map<Integer, BufferedImage> sprites = new ConcurrentHashMap<>();
+		modelLoads.set(0);
+
+		int rendered = renderer.renderAll(new int[]{0, 1, 2, 3, 4, 5}, 1, 1, 3153952, 3, sprites::put);
+
+		assertEquals(4, rendered);
+		assertEquals(4, sprites.size());
+		// models 0 and 1, and the missing model 2 which is looked up each time
+		assertEquals(3, modelLoads.get());
+		for (int itemId = 0; itemId < 4; ++itemId)
+		{
+			BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				itemId, 1, 1, 3153952, false);
+			assertArrayEquals(pixels(expected), pixels(sprites.get(itemId)));
+		}
+	}
+
+	private ItemDefinition item(int id, int model)
+	{
+		ItemDefinition item = new ItemDefinition(id);
+		item.inventoryModel = model;
+		item.zoom2d = 1000;
+		items.put(id, item);
+		return item;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+
+	static ModelDefinition octahedron(int id)
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.id = id;
+		model.vertexCount = 6;
+		model.vertexX = new int[]{100, -100, 0, 0, 0, 0};
+		model.vertexY = new int[]{0, 0, 100, -100, 0, 0};
+		model.vertexZ = new int[]{0, 0, 0, 0, 100, -100};
+		model.faceCount = 8;
+		model.faceIndices1 = new int[8];
+		model.faceIndices2 = new int[8];
+		model.faceIndices3 = new int[8];
+		model.faceColors = new short[8];
+		for (int face = 0; face < 8; ++face)
+		{
+			int x = face & 1, y = 2 + (face >> 1 & 1), z = 4 + (face >> 2 & 1);
+			boolean flip = ((face ^ face >> 1 ^ face >> 2) & 1) != 0;
+			model.faceIndices1[face] = x;
+			model.faceIndices2[face] = flip ? z : y;
+			model.faceIndices3[face] = flip ? y : z;
+			model.faceColors[face] = (short) (4000 + id * 10000);
+		}
+		return model;
+	}
+}
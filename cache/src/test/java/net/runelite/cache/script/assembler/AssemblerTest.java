@@ -26,8 +26,14 @@ package net.runelite.cache.script.assembler;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.savers.ScriptSaver;
 import net.runelite.cache.script.Instructions;
 import net.runelite.cache.script.disassembler.Disassembler;
 import org.apache.commons.compress.utils.IOUtils;
@@ -89,4 +95,45 @@ public class AssemblerTest
 		Assert.assertEquals(original, out);
 	}
 
+	@Test
+	public void testAssembleConcurrently() throws Exception
+	{
+		Instructions instructions = new Instructions();
+		instructions.init();
+
+		Assembler assembler = new Assembler(instructions, Map.of("symtest", 42));
+		ScriptSaver saver = new ScriptSaver();
+
+		byte[] expected;
+		try (InputStream in = AssemblerTest.class.getResourceAsStream(script))
+		{
+			expected = saver.save(assembler.assemble(in));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try
+		{
+			List<Future<byte[]>> futures = new ArrayList<>();
+			for (int i = 0; i < 16; ++i)
+			{
+				futures.add(executor.submit(() ->
+				{
+					try (InputStream in = AssemblerTest.class.getResourceAsStream(script))
+					{
+						return saver.save(assembler.assemble(in));
+					}
+				}));
+			}
+
+			for (Future<byte[]> future : futures)
+			{
+				Assert.assertArrayEquals(expected, future.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TilePyramidTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testDownsample()
+	{
+		int[] src = {
+			0xFF000000, 0xFF0000FF, 0xFFFF0000, 0xFFFF0000,
+			0xFF000000, 0xFF0000FF, 0xFFFF0000, 0xFFFF0000,
+			0, 0, 0, 0xFF00FF00,
+			0, 0, 0, 0,
+		};
+		int[] dst = new int[16];
+		TilePyramid.downsample(src, 4, dst, 2, 0);
+
+		assertArrayEquals(new int[]{
+			0, 0, 0xFF000080, 0xFFFF0000,
+			0, 0, 0, 0x4000FF00,
+			0, 0, 0, 0,
+			0, 0, 0, 0,
+		}, dst);
+	}
+
+	@Test
+	public void testWriteLevels() throws IOException
+	{
+		File dir = folder.newFolder();
+		TilePyramid pyramid = new TilePyramid(dir, 4, false);
+
+		// 3x2 tiles with the bottom right one missing
+		for (int x = 0; x < 3; ++x)
+		{
+			for (int y = 0; y < 2; ++y)
+			{
+				if (x == 2 && y == 1)
+				{
+					continue;
+				}
+
+				BufferedImage tile = pyramid.createTile();
+				for (int i = 0; i < 4; ++i)
+				{
+					for (int j = 0; j < 4; ++j)
+					{
+						tile.setRGB(i, j, 0x202020 * (x + y * 3 + 1));
+					}
+				}
+				pyramid.writeTile(0, x, y, tile);
+			}
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			assertEquals(3, pyramid.writeLevels(3, 2, executor));
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertTrue(pyramid.getTileFile(1, 0, 0).exists());
+		assertTrue(pyramid.getTileFile(1, 1, 0).exists());
+		assertFalse(pyramid.getTileFile(1, 0, 1).exists());
+		assertTrue(pyramid.getTileFile(2, 0, 0).exists());
+
+		BufferedImage level1 = ImageIO.read(pyramid.getTileFile(1, 1, 0));
+		assertEquals(0x606060, level1.getRGB(0, 0) & 0xFFFFFF);
+		// missing children are left black
+		assertEquals(0, level1.getRGB(0, 2) & 0xFFFFFF);
+		assertEquals(0, level1.getRGB(2, 0) & 0xFFFFFF);
+
+		BufferedImage level2 = ImageIO.read(pyramid.getTileFile(2, 0, 0));
+		assertEquals(0x202020, level2.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(0x404040, level2.getRGB(1, 0) & 0xFFFFFF);
+		assertEquals(0x606060, level2.getRGB(2, 0) & 0xFFFFFF);
+
+		// remove the right column and rebuild only the tiles above it
+		pyramid.deleteTile(0, 2, 0);
+		long modified = pyramid.getTileFile(1, 0, 0).lastModified();
+		executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			assertEquals(3, pyramid.writeLevels(3, 2, List.of(new Point(2, 0)), executor));
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertFalse(pyramid.getTileFile(1, 1, 0).exists());
+		assertEquals(modified, pyramid.getTileFile(1, 0, 0).lastModified());
+		level2 = ImageIO.read(pyramid.getTileFile(2, 0, 0));
+		assertEquals(0x202020, level2.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(0, level2.getRGB(2, 0) & 0xFFFFFF);
+	}
+}
@@ -30,7 +30,6 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nonnull;
@@ -949,13 +948,29 @@ public class Perspective
 	@Nullable
 	@ApiStatus.Internal
 	public static Shape getClickbox(@Nonnull Client client, WorldView wv, Model model, int orientation, int x, int y, int z)
+	{
+		return getClickbox(client, wv, model, orientation, x, y, z, new ProjectionBuffer());
+	}
+
+	/**
+	 * Get the on-screen clickable area of {@code model}, using {@code buffer} for
+	 * the intermediate vertex arrays.
+	 * <p>
+	 * If the model uses its bounding box as its clickbox, the returned shape is
+	 * backed by {@code buffer} and is only valid until the buffer is next used.
+	 *
+	 * @see #getClickbox(Client, WorldView, Model, int, int, int, int)
+	 */
+	@Nullable
+	@ApiStatus.Internal
+	public static Shape getClickbox(@Nonnull Client client, WorldView wv, Model model, int orientation, int x, int y, int z, @Nonnull ProjectionBuffer buffer)
 	{
 		if (model == null)
 		{
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, wv, model, orientation, x, y, z);
+		SimplePolygon bounds = calculateAABB(client, wv, model, orientation, x, y, z, buffer);
 		if (bounds == null)
 		{
 			return null;
@@ -966,7 +981,7 @@ public class Perspective
 			return bounds;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, wv, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, wv, model, orientation, x, y, z, buffer);
 		if (bounds2d == null)
 		{
 			return null;
@@ -980,7 +995,38 @@ public class Perspective
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z)
+	/**
+	 * Get the on-screen convex hull of {@code model} rotated to angle {@code orientation}
+	 * at local position ({@code x}, {@code z}), at height {@code y}.
+	 * <p>
+	 * The returned shape is backed by {@code buffer} and is only valid until the
+	 * buffer is next used.
+	 *
+	 * @return the convex hull of the model, or null if it is not on screen
+	 */
+	@Nullable
+	public static SimplePolygon getConvexHull(@Nonnull Client client, WorldView wv, Model model, int orientation, int x, int y, int z, @Nonnull ProjectionBuffer buffer)
+	{
+		if (model == null)
+		{
+			return null;
+		}
+
+		final int count = model.getVerticesCount();
+		final int[] x2d = buffer.x2d(count);
+		final int[] y2d = buffer.y2d(count);
+
+		modelToCanvas(client, wv,
+			count,
+			x, y, z,
+			orientation,
+			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
+			x2d, y2d);
+
+		return Jarvis.convexHull(x2d, y2d, count, buffer.hull);
+	}
+
+	private static SimplePolygon calculateAABB(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z, ProjectionBuffer buffer)
 	{
 		AABB aabb = m.getAABB(jauOrient);
 
@@ -1000,35 +1046,33 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		float[] xa = new float[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		float[] ya = new float[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		float[] za = new float[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		final float[] xa = buffer.aabbX;
+		final float[] ya = buffer.aabbY;
+		final float[] za = buffer.aabbZ;
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		int[] x2d = buffer.aabbX2d;
+		int[] y2d = buffer.aabbY2d;
 
 		modelToCanvas(client, wv, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
-		return Jarvis.convexHull(x2d, y2d);
+		return Jarvis.convexHull(x2d, y2d, 8, buffer.aabbHull);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z, ProjectionBuffer buffer)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		final int count = m.getVerticesCount();
+		int[] x2d = buffer.x2d(count);
+		int[] y2d = buffer.y2d(count);
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvas(client, wv,
-			m.getVerticesCount(),
+			count,
 			x, y, z,
 			jauOrient,
 			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
@@ -1036,20 +1080,18 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[] tris1 = m.getFaceIndices1();
+		final int[] tris2 = m.getFaceIndices2();
+		final int[] tris3 = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
 		int vpX2 = vpX1 + client.getViewportWidth();
 		int vpY2 = vpY1 + client.getViewportHeight();
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		List<RectangleUnion.Rectangle> rects = buffer.rects;
+		rects.clear();
 
-		nextTri:
 		for (int tri = 0; tri < m.getFaceCount(); tri++)
 		{
 			if (faceColors3[tri] == -2)
@@ -1057,57 +1099,36 @@ public class Perspective
 				continue;
 			}
 
-			int
-				minX = Integer.MAX_VALUE,
-				minY = Integer.MAX_VALUE,
-				maxX = Integer.MIN_VALUE,
-				maxY = Integer.MIN_VALUE;
+			final int i1 = tris1[tri], i2 = tris2[tri], i3 = tris3[tri];
+			final int
+				xs1 = x2d[i1], ys1 = y2d[i1],
+				xs2 = x2d[i2], ys2 = y2d[i2],
+				xs3 = x2d[i3], ys3 = y2d[i3];
 
-			for (int[] vertex : tris)
+			if (xs1 == Integer.MIN_VALUE || ys1 == Integer.MIN_VALUE
+				|| xs2 == Integer.MIN_VALUE || ys2 == Integer.MIN_VALUE
+				|| xs3 == Integer.MIN_VALUE || ys3 == Integer.MIN_VALUE)
 			{
-				final int idx = vertex[tri];
-				final int xs = x2d[idx];
-				final int ys = y2d[idx];
-
-				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
-				{
-					continue nextTri;
-				}
-
-				if (xs < minX)
-				{
-					minX = xs;
-				}
-				if (xs > maxX)
-				{
-					maxX = xs;
-				}
-				if (ys < minY)
-				{
-					minY = ys;
-				}
-				if (ys > maxY)
-				{
-					maxY = ys;
-				}
+				continue;
 			}
 
-			minX -= radius;
-			minY -= radius;
-			maxX += radius;
-			maxY += radius;
+			int minX = Math.min(xs1, Math.min(xs2, xs3)) - radius;
+			int minY = Math.min(ys1, Math.min(ys2, ys3)) - radius;
+			int maxX = Math.max(xs1, Math.max(xs2, xs3)) + radius;
+			int maxY = Math.max(ys1, Math.max(ys2, ys3)) + radius;
 
 			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
 			{
 				continue;
 			}
 
-			RectangleUnion.Rectangle r = new RectangleUnion.Rectangle(minX, minY, maxX, maxY);
-
-			rects.add(r);
+			rects.add(new RectangleUnion.Rectangle(minX, minY, maxX, maxY));
 		}
 
-		return RectangleUnion.union(rects);
+		Shapes<SimplePolygon> union = RectangleUnion.union(rects);
+		// don't hold onto the rectangles between calls
+		rects.clear();
+		return union;
 	}
 
 	/**
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.geometry.RectangleUnion;
+import net.runelite.api.geometry.SimplePolygon;
+
+/**
+ * Reusable scratch storage for the {@link Perspective} methods which accept one.
+ * <p>
+ * Shapes returned from a method given a buffer are backed by that buffer, and
+ * are only valid until the buffer is next used. A buffer must not be shared
+ * between threads.
+ */
+public class ProjectionBuffer
+{
+	final float[] aabbX = new float[8];
+	final float[] aabbY = new float[8];
+	final float[] aabbZ = new float[8];
+	final int[] aabbX2d = new int[8];
+	final int[] aabbY2d = new int[8];
+	final SimplePolygon aabbHull = new SimplePolygon(new int[16], new int[16], 0);
+
+	final SimplePolygon hull = new SimplePolygon(new int[16], new int[16], 0);
+	final List<RectangleUnion.Rectangle> rects = new ArrayList<>();
+
+	private int[] x2d = new int[0];
+	private int[] y2d = new int[0];
+
+	int[] x2d(int size)
+	{
+		if (x2d.length < size)
+		{
+			grow(size);
+		}
+		return x2d;
+	}
+
+	int[] y2d(int size)
+	{
+		if (y2d.length < size)
+		{
+			grow(size);
+		}
+		return y2d;
+	}
+
+	private void grow(int size)
+	{
+		// round up to avoid regrowing for every slightly larger model
+		int newSize = Math.max(size, x2d.length + (x2d.length >> 1));
+		x2d = new int[newSize];
+		y2d = new int[newSize];
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+/**
+ * Hashing helpers shared by {@link WorldPointMap} and {@link WorldPointSet}.
+ */
+final class PackedCoords
+{
+	/**
+	 * Marker for an empty slot. Packed coordinates are never negative.
+	 */
+	static final int EMPTY = -1;
+
+	private static final int MIN_CAPACITY = 8;
+
+	private PackedCoords()
+	{
+	}
+
+	static int mix(int coord)
+	{
+		int h = coord * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * The number of entries a table of the given capacity holds before it is grown.
+	 */
+	static int maxFill(int capacity)
+	{
+		return capacity * 3 / 4;
+	}
+
+	static int tableSize(int expectedSize)
+	{
+		int capacity = MIN_CAPACITY;
+		while (maxFill(capacity) < expectedSize)
+		{
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+}
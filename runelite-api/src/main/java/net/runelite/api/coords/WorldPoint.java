@@ -618,6 +618,64 @@ public class WorldPoint
 	 */
 	public static WorldPoint fromCoord(int c)
 	{
-		return new WorldPoint((c >>> 14) & 0x3FFF, c & 0x3FFF, (c >>> 28) & 0x3);
+		return new WorldPoint(unpackX(c), unpackY(c), unpackPlane(c));
+	}
+
+	/**
+	 * Packs this point into a Jagex coordinate. This is the inverse of {@link #fromCoord(int)},
+	 * and the packed value is never negative.
+	 *
+	 * @return the packed coordinate
+	 */
+	public int pack()
+	{
+		return pack(x, y, plane);
+	}
+
+	/**
+	 * Packs the passed coordinates into a Jagex coordinate without creating a WorldPoint.
+	 *
+	 * @param x     x-axis coordinate, 0-16383
+	 * @param y     y-axis coordinate, 0-16383
+	 * @param plane plane, 0-3
+	 * @return the packed coordinate
+	 */
+	public static int pack(int x, int y, int plane)
+	{
+		return (plane & 0x3) << 28 | (x & 0x3FFF) << 14 | y & 0x3FFF;
+	}
+
+	/**
+	 * Create a WorldPoint from a packed Jagex coordinate
+	 *
+	 * @see #fromCoord(int)
+	 */
+	public static WorldPoint unpack(int c)
+	{
+		return fromCoord(c);
+	}
+
+	/**
+	 * Gets the x-axis coordinate of a packed Jagex coordinate
+	 */
+	public static int unpackX(int c)
+	{
+		return (c >>> 14) & 0x3FFF;
+	}
+
+	/**
+	 * Gets the y-axis coordinate of a packed Jagex coordinate
+	 */
+	public static int unpackY(int c)
+	{
+		return c & 0x3FFF;
+	}
+
+	/**
+	 * Gets the plane of a packed Jagex coordinate
+	 */
+	public static int unpackPlane(int c)
+	{
+		return (c >>> 28) & 0x3;
 	}
 }
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+/**
+ * A hash map keyed by world coordinates.
+ * <p>
+ * Keys are stored as packed coordinates (see {@link WorldPoint#pack()}) in an
+ * open addressed table, so lookups and insertions by coordinate do not allocate
+ * a {@link WorldPoint} or an entry object. This map is not thread safe.
+ *
+ * @param <V> the value type
+ */
+public class WorldPointMap<V>
+{
+	/**
+	 * Callback for {@link #forEach(EntryConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V>
+	{
+		/**
+		 * @param coord the packed coordinate, see {@link WorldPoint#fromCoord(int)}
+		 * @param value the value
+		 */
+		void accept(int coord, V value);
+	}
+
+	private int[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+	private Collection<V> valuesView;
+
+	public WorldPointMap()
+	{
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize number of entries the map can hold without resizing
+	 */
+	public WorldPointMap(int expectedSize)
+	{
+		allocate(PackedCoords.tableSize(expectedSize));
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		Arrays.fill(keys, PackedCoords.EMPTY);
+		values = new Object[capacity];
+		mask = capacity - 1;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	private int find(int coord)
+	{
+		if (coord < 0)
+		{
+			return -1;
+		}
+
+		final int[] keys = this.keys;
+		for (int i = PackedCoords.mix(coord) & mask; ; i = (i + 1) & mask)
+		{
+			int key = keys[i];
+			if (key == coord)
+			{
+				return i;
+			}
+			if (key == PackedCoords.EMPTY)
+			{
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * Gets the value mapped to a packed coordinate.
+	 *
+	 * @param coord the packed coordinate
+	 * @return the value, or null if there is none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V get(int coord)
+	{
+		int idx = find(coord);
+		return idx == -1 ? null : (V) values[idx];
+	}
+
+	@Nullable
+	public V get(int x, int y, int plane)
+	{
+		return get(WorldPoint.pack(x, y, plane));
+	}
+
+	@Nullable
+	public V get(WorldPoint point)
+	{
+		return get(point.pack());
+	}
+
+	public boolean containsKey(int coord)
+	{
+		return find(coord) != -1;
+	}
+
+	public boolean containsKey(WorldPoint point)
+	{
+		return containsKey(point.pack());
+	}
+
+	/**
+	 * Maps a packed coordinate to a value.
+	 *
+	 * @param coord the packed coordinate
+	 * @param value the value
+	 * @return the previous value, or null if there was none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V put(int coord, V value)
+	{
+		if (coord < 0)
+		{
+			throw new IllegalArgumentException("invalid packed coordinate " + coord);
+		}
+
+		final int[] keys = this.keys;
+		int i = PackedCoords.mix(coord) & mask;
+		for (; ; i = (i + 1) & mask)
+		{
+			int key = keys[i];
+			if (key == coord)
+			{
+				V prev = (V) values[i];
+				values[i] = value;
+				return prev;
+			}
+			if (key == PackedCoords.EMPTY)
+			{
+				break;
+			}
+		}
+
+		keys[i] = coord;
+		values[i] = value;
+		if (++size > PackedCoords.maxFill(keys.length))
+		{
+			rehash(keys.length << 1);
+		}
+		return null;
+	}
+
+	@Nullable
+	public V put(WorldPoint point, V value)
+	{
+		return put(point.pack(), value);
+	}
+
+	/**
+	 * Gets the value mapped to a packed coordinate, creating it with the
+	 * passed function if there is none.
+	 *
+	 * @param coord    the packed coordinate
+	 * @param function function to create the value, given the packed coordinate
+	 * @return the existing or created value
+	 */
+	@SuppressWarnings("unchecked")
+	public V computeIfAbsent(int coord, IntFunction<? extends V> function)
+	{
+		int idx = find(coord);
+		if (idx != -1 && values[idx] != null)
+		{
+			return (V) values[idx];
+		}
+
+		V value = function.apply(coord);
+		if (value != null)
+		{
+			put(coord, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Removes the mapping for a packed coordinate.
+	 *
+	 * @param coord the packed coordinate
+	 * @return the removed value, or null if there was none
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V remove(int coord)
+	{
+		int idx = find(coord);
+		if (idx == -1)
+		{
+			return null;
+		}
+
+		V prev = (V) values[idx];
+		removeAt(idx);
+		return prev;
+	}
+
+	@Nullable
+	public V remove(WorldPoint point)
+	{
+		return remove(point.pack());
+	}
+
+	private void removeAt(int pos)
+	{
+		--size;
+
+		// shift the following entries of the probe sequence back so lookups need no tombstones
+		final int[] keys = this.keys;
+		for (; ; )
+		{
+			int last = pos;
+			int key;
+			for (pos = (pos + 1) & mask; ; pos = (pos + 1) & mask)
+			{
+				key = keys[pos];
+				if (key == PackedCoords.EMPTY)
+				{
+					keys[last] = PackedCoords.EMPTY;
+					values[last] = null;
+					return;
+				}
+
+				int slot = PackedCoords.mix(key) & mask;
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+				{
+					break;
+				}
+			}
+
+			keys[last] = key;
+			values[last] = values[pos];
+		}
+	}
+
+	private void rehash(int capacity)
+	{
+		final int[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(capacity);
+
+		final int[] keys = this.keys;
+		for (int i = 0; i < oldKeys.length; ++i)
+		{
+			int key = oldKeys[i];
+			if (key == PackedCoords.EMPTY)
+			{
+				continue;
+			}
+
+			int pos = PackedCoords.mix(key) & mask;
+			while (keys[pos] != PackedCoords.EMPTY)
+			{
+				pos = (pos + 1) & mask;
+			}
+			keys[pos] = key;
+			values[pos] = oldValues[i];
+		}
+	}
+
+	public void clear()
+	{
+		if (size == 0)
+		{
+			return;
+		}
+
+		Arrays.fill(keys, PackedCoords.EMPTY);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	/**
+	 * Performs the given action for each entry of the map. The map must not be
+	 * modified by the action.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action)
+	{
+		final int[] keys = this.keys;
+		final Object[] values = this.values;
+		for (int i = 0; i < keys.length; ++i)
+		{
+			if (keys[i] != PackedCoords.EMPTY)
+			{
+				action.accept(keys[i], (V) values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Gets a view of the values of this map. The view supports
+	 * {@link Collection#removeIf(Predicate)} and {@link Collection#clear()}, but
+	 * not removal through its iterator.
+	 */
+	public Collection<V> values()
+	{
+		if (valuesView == null)
+		{
+			valuesView = new Values();
+		}
+		return valuesView;
+	}
+
+	private class Values extends AbstractCollection<V>
+	{
+		@Override
+		public Iterator<V> iterator()
+		{
+			return new Iterator<V>()
+			{
+				private int pos = advance(0);
+
+				private int advance(int pos)
+				{
+					while (pos < keys.length && keys[pos] == PackedCoords.EMPTY)
+					{
+						++pos;
+					}
+					return pos;
+				}
+
+				@Override
+				public boolean hasNext()
+				{
+					return pos < keys.length;
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public V next()
+				{
+					if (pos >= keys.length)
+					{
+						throw new NoSuchElementException();
+					}
+
+					V value = (V) values[pos];
+					pos = advance(pos + 1);
+					return value;
+				}
+			};
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+
+		@Override
+		public void clear()
+		{
+			WorldPointMap.this.clear();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean removeIf(Predicate<? super V> filter)
+		{
+			Objects.requireNonNull(filter);
+
+			// start after an empty slot, which the table always has. Removal then only shifts entries
+			// which are yet to be tested back into the current slot, and none wrap around past the
+			// start, so each entry is tested exactly once.
+			int start = 0;
+			while (keys[start] != PackedCoords.EMPTY)
+			{
+				++start;
+			}
+
+			boolean removed = false;
+			for (int i = (start + 1) & mask, remaining = keys.length; remaining > 0; )
+			{
+				if (keys[i] != PackedCoords.EMPTY && filter.test((V) values[i]))
+				{
+					removeAt(i);
+					removed = true;
+				}
+				else
+				{
+					i = (i + 1) & mask;
+					--remaining;
+				}
+			}
+			return removed;
+		}
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A hash set of world coordinates.
+ * <p>
+ * Coordinates are stored packed (see {@link WorldPoint#pack()}) in an open
+ * addressed int table, so membership tests do not allocate a {@link WorldPoint}.
+ * This set is not thread safe.
+ */
+public class WorldPointSet
+{
+	private int[] keys;
+	private int mask;
+	private int size;
+
+	public WorldPointSet()
+	{
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize number of coordinates the set can hold without resizing
+	 */
+	public WorldPointSet(int expectedSize)
+	{
+		allocate(PackedCoords.tableSize(expectedSize));
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		Arrays.fill(keys, PackedCoords.EMPTY);
+		mask = capacity - 1;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	private int find(int coord)
+	{
+		if (coord < 0)
+		{
+			return -1;
+		}
+
+		final int[] keys = this.keys;
+		for (int i = PackedCoords.mix(coord) & mask; ; i = (i + 1) & mask)
+		{
+			int key = keys[i];
+			if (key == coord)
+			{
+				return i;
+			}
+			if (key == PackedCoords.EMPTY)
+			{
+				return -1;
+			}
+		}
+	}
+
+	public boolean contains(int coord)
+	{
+		return find(coord) != -1;
+	}
+
+	public boolean contains(int x, int y, int plane)
+	{
+		return contains(WorldPoint.pack(x, y, plane));
+	}
+
+	public boolean contains(WorldPoint point)
+	{
+		return contains(point.pack());
+	}
+
+	/**
+	 * Adds a packed coordinate to the set.
+	 *
+	 * @param coord the packed coordinate
+	 * @return true if the set did not already contain the coordinate
+	 */
+	public boolean add(int coord)
+	{
+		if (coord < 0)
+		{
+			throw new IllegalArgumentException("invalid packed coordinate " + coord);
+		}
+
+		final int[] keys = this.keys;
+		int i = PackedCoords.mix(coord) & mask;
+		for (; ; i = (i + 1) & mask)
+		{
+			int key = keys[i];
+			if (key == coord)
+			{
+				return false;
+			}
+			if (key == PackedCoords.EMPTY)
+			{
+				break;
+			}
+		}
+
+		keys[i] = coord;
+		if (++size > PackedCoords.maxFill(keys.length))
+		{
+			rehash(keys.length << 1);
+		}
+		return true;
+	}
+
+	public boolean add(WorldPoint point)
+	{
+		return add(point.pack());
+	}
+
+	/**
+	 * Removes a packed coordinate from the set.
+	 *
+	 * @param coord the packed coordinate
+	 * @return true if the set contained the coordinate
+	 */
+	public boolean remove(int coord)
+	{
+		int pos = find(coord);
+		if (pos == -1)
+		{
+			return false;
+		}
+
+		--size;
+
+		// shift the following entries of the probe sequence back so lookups need no tombstones
+		final int[] keys = this.keys;
+		for (; ; )
+		{
+			int last = pos;
+			int key;
+			for (pos = (pos + 1) & mask; ; pos = (pos + 1) & mask)
+			{
+				key = keys[pos];
+				if (key == PackedCoords.EMPTY)
+				{
+					keys[last] = PackedCoords.EMPTY;
+					return true;
+				}
+
+				int slot = PackedCoords.mix(key) & mask;
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+				{
+					break;
+				}
+			}
+
+			keys[last] = key;
+		}
+	}
+
+	public boolean remove(WorldPoint point)
+	{
+		return remove(point.pack());
+	}
+
+	private void rehash(int capacity)
+	{
+		final int[] oldKeys = keys;
+		allocate(capacity);
+
+		final int[] keys = this.keys;
+		for (int key : oldKeys)
+		{
+			if (key == PackedCoords.EMPTY)
+			{
+				continue;
+			}
+
+			int pos = PackedCoords.mix(key) & mask;
+			while (keys[pos] != PackedCoords.EMPTY)
+			{
+				pos = (pos + 1) & mask;
+			}
+			keys[pos] = key;
+		}
+	}
+
+	public void clear()
+	{
+		if (size == 0)
+		{
+			return;
+		}
+
+		Arrays.fill(keys, PackedCoords.EMPTY);
+		size = 0;
+	}
+
+	/**
+	 * Performs the given action for each packed coordinate in the set. The set
+	 * must not be modified by the action.
+	 */
+	public void forEach(IntConsumer action)
+	{
+		for (int key : keys)
+		{
+			if (key != PackedCoords.EMPTY)
+			{
+				action.accept(key);
+			}
+		}
+	}
+
+	/**
+	 * @return the packed coordinates in the set
+	 */
+	public int[] toArray()
+	{
+		int[] out = new int[size];
+		int n = 0;
+		for (int key : keys)
+		{
+			if (key != PackedCoords.EMPTY)
+			{
+				out[n++] = key;
+			}
+		}
+		return out;
+	}
+}
@@ -139,6 +139,15 @@ public class SimplePolygon implements Shape
 		return out;
 	}
 
+	/**
+	 * Removes all vertices from the polygon, keeping its backing arrays
+	 */
+	public void clear()
+	{
+		left = 0;
+		right = -1;
+	}
+
 	public void copyTo(int[] xDest, int[] yDest, int offset)
 	{
 		System.arraycopy(x, left, xDest, offset, size());
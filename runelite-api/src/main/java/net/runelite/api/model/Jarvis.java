@@ -78,7 +78,20 @@ public class Jarvis
 	 */
 	public static SimplePolygon convexHull(int[] xs, int[] ys)
 	{
-		int length = xs.length;
+		return convexHull(xs, ys, xs.length, new SimplePolygon(new int[16], new int[16], 0));
+	}
+
+	/**
+	 * Computes the convex hull of the first {@code length} passed points into
+	 * {@code out}, which is cleared first.
+	 * <p>
+	 * Invalid points are compacted out of {@code xs} and {@code ys} in place.
+	 * If fewer than 3 valid points remain, this method will return null.
+	 *
+	 * @return {@code out}, or null
+	 */
+	public static SimplePolygon convexHull(int[] xs, int[] ys, int length, SimplePolygon out)
+	{
 
 		// remove any invalid entries
 		{
@@ -116,7 +129,7 @@ public class Jarvis
 		// current point we are on
 		int current = left;
 
-		SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
+		out.clear();
 
 		do
 		{
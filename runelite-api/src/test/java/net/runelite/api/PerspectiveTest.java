@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.awt.Shape;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PerspectiveTest
+{
+	private static final int NPCS = 100;
+
+	private Client client;
+	private WorldView worldView;
+	private Model[] models;
+
+	@Before
+	public void before()
+	{
+		client = proxy(Client.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getCameraX":
+					return 6400;
+				case "getCameraY":
+					return 6400 - 1500;
+				case "getCameraZ":
+					return -1000;
+				case "getCameraPitch":
+					return 256;
+				case "getScale":
+					return 512;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				default:
+					return null;
+			}
+		});
+		worldView = proxy(WorldView.class, (name, args) -> "isTopLevel".equals(name) ? true : null);
+
+		Random random = new Random(42);
+		models = new Model[NPCS];
+		for (int i = 0; i < NPCS; ++i)
+		{
+			models[i] = model(random, 500 + random.nextInt(500), i % 4 == 0);
+		}
+	}
+
+	@Test
+	public void testClickboxMatches()
+	{
+		// the buffer is reused across models and orientations, as it is by a frame of overlays
+		ProjectionBuffer buffer = new ProjectionBuffer();
+		for (int orientation = 0; orientation < 2048; orientation += 256)
+		{
+			for (int i = 0; i < NPCS; ++i)
+			{
+				int x = 6400 + (i % 10 - 5) * 128;
+				int y = 6400 + (i / 10 - 5) * 128;
+
+				Shape expected = Perspective.getClickbox(client, worldView, models[i], orientation, x, y, 0);
+				Shape actual = Perspective.getClickbox(client, worldView, models[i], orientation, x, y, 0, buffer);
+				assertNotNull(expected);
+				assertNotNull(actual);
+				assertEquals(expected.getBounds(), actual.getBounds());
+				assertTrue(new Area(expected).equals(new Area(actual)));
+			}
+		}
+	}
+
+	@Test
+	public void testConvexHull()
+	{
+		ProjectionBuffer buffer = new ProjectionBuffer();
+		Shape hull = Perspective.getConvexHull(client, worldView, models[0], 0, 6400, 6400, 0, buffer);
+		assertNotNull(hull);
+
+		Rectangle clickbox = Perspective.getClickbox(client, worldView, models[0], 0, 6400, 6400, 0).getBounds();
+		Rectangle bounds = hull.getBounds();
+		// the clickbox is the convex hull padded by a few pixels, clipped to the bounding box
+		assertTrue(clickbox.contains(bounds.getCenterX(), bounds.getCenterY()));
+	}
+
+	private static Model model(Random random, int vertices, boolean useBoundingBox)
+	{
+		final float[] vx = new float[vertices];
+		final float[] vy = new float[vertices];
+		final float[] vz = new float[vertices];
+		for (int i = 0; i < vertices; ++i)
+		{
+			vx[i] = random.nextInt(128) - 64;
+			vy[i] = -random.nextInt(200);
+			vz[i] = random.nextInt(128) - 64;
+		}
+
+		final int faces = vertices * 2;
+		final int[] f1 = new int[faces];
+		final int[] f2 = new int[faces];
+		final int[] f3 = new int[faces];
+		for (int i = 0; i < faces; ++i)
+		{
+			f1[i] = random.nextInt(vertices);
+			f2[i] = random.nextInt(vertices);
+			f3[i] = random.nextInt(vertices);
+		}
+		final int[] colors = new int[faces];
+
+		final AABB aabb = proxy(AABB.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getCenterY":
+					return -100;
+				case "getExtremeX":
+				case "getExtremeZ":
+					return 64;
+				case "getExtremeY":
+					return 100;
+				default:
+					return null;
+			}
+		});
+
+		return proxy(Model.class, (name, args) ->
+		{
+			switch (name)
+			{
+				case "getVerticesCount":
+					return vertices;
+				case "getVerticesX":
+					return vx;
+				case "getVerticesY":
+					return vy;
+				case "getVerticesZ":
+					return vz;
+				case "getFaceCount":
+					return faces;
+				case "getFaceIndices1":
+					return f1;
+				case "getFaceIndices2":
+					return f2;
+				case "getFaceIndices3":
+					return f3;
+				case "getFaceColors3":
+					return colors;
+				case "getAABB":
+					return aabb;
+				case "useBoundingBox":
+					return useBoundingBox;
+				default:
+					return null;
+			}
+		});
+	}
+
+	@FunctionalInterface
+	private interface Answer
+	{
+		Object answer(String method, Object[] args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> clazz, Answer answer)
+	{
+		return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) ->
+		{
+			Object ret = answer.answer(method.getName(), args);
+			if (ret == null && method.getReturnType().isPrimitive())
+			{
+				Class<?> type = method.getReturnType();
+				if (type == boolean.class)
+				{
+					return false;
+				}
+				else if (type == int.class)
+				{
+					return 0;
+				}
+				else if (type == long.class)
+				{
+					return 0L;
+				}
+				else if (type == double.class)
+				{
+					return 0d;
+				}
+				else if (type == float.class)
+				{
+					return 0f;
+				}
+			}
+			return ret;
+		});
+	}
+}
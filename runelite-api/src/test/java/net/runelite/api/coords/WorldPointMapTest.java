@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorldPointMapTest
+{
+	@Test
+	public void testMap()
+	{
+		Random random = new Random(42);
+		WorldPointMap<Integer> map = new WorldPointMap<>();
+		Map<WorldPoint, Integer> expected = new HashMap<>();
+
+		for (int i = 0; i < 50_000; ++i)
+		{
+			// a small area so that keys collide and are removed often
+			WorldPoint point = new WorldPoint(3200 + random.nextInt(64), 3200 + random.nextInt(64), random.nextInt(4));
+			switch (random.nextInt(3))
+			{
+				case 0:
+				case 1:
+					assertEquals(expected.put(point, i), map.put(point, i));
+					break;
+				case 2:
+					assertEquals(expected.remove(point), map.remove(point));
+					break;
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (Map.Entry<WorldPoint, Integer> entry : expected.entrySet())
+		{
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+
+		List<Integer> values = new ArrayList<>(map.values());
+		assertEquals(expected.size(), values.size());
+		assertTrue(values.containsAll(expected.values()));
+
+		map.forEach((coord, value) -> assertEquals(expected.get(WorldPoint.fromCoord(coord)), value));
+
+		// every entry is tested once, even those shifted back by a removal
+		int[] tested = {0};
+		map.values().removeIf(v ->
+		{
+			++tested[0];
+			return v % 2 == 0;
+		});
+		assertEquals(expected.size(), tested[0]);
+		expected.values().removeIf(v -> v % 2 == 0);
+		assertEquals(expected.size(), map.size());
+		for (Map.Entry<WorldPoint, Integer> entry : expected.entrySet())
+		{
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(3200, 3200, 0));
+	}
+
+	@Test
+	public void testRemoveIfWrapped()
+	{
+		// three entries probing from the last slot of the smallest table, so the run wraps around
+		WorldPointMap<Integer> map = new WorldPointMap<>();
+		int capacity = PackedCoords.tableSize(0);
+		List<Integer> coords = new ArrayList<>();
+		for (int x = 3200; coords.size() < 3; ++x)
+		{
+			int coord = WorldPoint.pack(x, 3200, 0);
+			if ((PackedCoords.mix(coord) & (capacity - 1)) == capacity - 1)
+			{
+				map.put(coord, coords.size());
+				coords.add(coord);
+			}
+		}
+
+		// removing the first entry shifts the wrapped ones back into the last slot
+		int[] tested = {0};
+		assertTrue(map.values().removeIf(v ->
+		{
+			++tested[0];
+			return v == 0;
+		}));
+		assertEquals(3, tested[0]);
+		assertEquals(2, map.size());
+		assertNull(map.get(coords.get(0)));
+		assertEquals(1, (int) map.get(coords.get(1)));
+		assertEquals(2, (int) map.get(coords.get(2)));
+	}
+
+	@Test
+	public void testComputeIfAbsent()
+	{
+		WorldPointMap<List<Integer>> map = new WorldPointMap<>();
+		int coord = WorldPoint.pack(3222, 3218, 0);
+		map.computeIfAbsent(coord, c -> new ArrayList<>()).add(1);
+		map.computeIfAbsent(coord, c -> new ArrayList<>()).add(2);
+		assertEquals(1, map.size());
+		assertEquals(List.of(1, 2), map.get(new WorldPoint(3222, 3218, 0)));
+	}
+
+	@Test
+	public void testSet()
+	{
+		Random random = new Random(42);
+		WorldPointSet set = new WorldPointSet();
+		Set<WorldPoint> expected = new HashSet<>();
+
+		for (int i = 0; i < 50_000; ++i)
+		{
+			WorldPoint point = new WorldPoint(3200 + random.nextInt(64), 3200 + random.nextInt(64), random.nextInt(4));
+			if (random.nextBoolean())
+			{
+				assertEquals(expected.add(point), set.add(point));
+			}
+			else
+			{
+				assertEquals(expected.remove(point), set.remove(point));
+			}
+		}
+
+		assertEquals(expected.size(), set.size());
+		for (WorldPoint point : expected)
+		{
+			assertTrue(set.contains(point));
+		}
+		for (int coord : set.toArray())
+		{
+			assertTrue(expected.contains(WorldPoint.fromCoord(coord)));
+		}
+		assertFalse(set.contains(-1));
+	}
+}
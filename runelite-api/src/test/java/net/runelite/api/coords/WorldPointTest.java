@@ -26,6 +26,7 @@ package net.runelite.api.coords;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 public class WorldPointTest
@@ -59,4 +60,21 @@ public class WorldPointTest
 		converted = WorldPoint.getMirrorPoint(point, false);
 		assertEquals(point, converted);
 	}
+
+	@Test
+	public void testPack()
+	{
+		WorldPoint point = new WorldPoint(3165, 3477, 2);
+		int packed = point.pack();
+		assertEquals(packed, WorldPoint.pack(3165, 3477, 2));
+		assertEquals(point, WorldPoint.unpack(packed));
+		assertEquals(point, WorldPoint.fromCoord(packed));
+		assertEquals(3165, WorldPoint.unpackX(packed));
+		assertEquals(3477, WorldPoint.unpackY(packed));
+		assertEquals(2, WorldPoint.unpackPlane(packed));
+
+		WorldPoint max = new WorldPoint(0x3FFF, 0x3FFF, 3);
+		assertEquals(max, WorldPoint.unpack(max.pack()));
+		assertTrue(max.pack() >= 0);
+	}
 }
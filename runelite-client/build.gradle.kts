@@ -34,6 +34,7 @@ plugins {
 
     id("net.runelite.runelite-gradle-plugin.assemble")
     id("net.runelite.runelite-gradle-plugin.index")
+    id("net.runelite.runelite-gradle-plugin.pack")
     id("net.runelite.runelite-gradle-plugin.jarsign")
 }
 
@@ -147,6 +148,11 @@ tasks.withType<net.runelite.gradle.index.IndexTask> {
     indexFile = archiveOverlayDirectory.file("index")
 }
 
+tasks.withType<net.runelite.gradle.pack.PackTask> {
+    resourceDirectory = file("src/main/resources")
+    outputDirectory = sourceSets.main.map { File(it.output.resourcesDir, "net/runelite/client/pack") }
+}
+
 tasks.processResources {
     inputs.property("projectVersion", project.version)
 
@@ -24,10 +24,13 @@
  */
 package net.runelite.client.callback;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.NPC;
 import net.runelite.api.Renderable;
 import net.runelite.api.Scene;
 import net.runelite.api.Tile;
@@ -38,6 +41,8 @@ import net.runelite.api.TileObject;
 public class RenderCallbackManager
 {
 	private final List<RenderCallback> callbacks = new CopyOnWriteArrayList<>();
+	private final List<RenderFilter> filters = new CopyOnWriteArrayList<>();
+	private volatile CompiledFilters compiledFilters = CompiledFilters.EMPTY;
 
 	public void register(RenderCallback cb)
 	{
@@ -49,8 +54,37 @@ public class RenderCallbackManager
 		callbacks.remove(cb);
 	}
 
+	/**
+	 * Registers a static filter. Filters are checked before any {@link RenderCallback}, and should be
+	 * preferred over a callback for anything they can express.
+	 */
+	public void register(RenderFilter filter)
+	{
+		filters.add(filter);
+		compileFilters();
+	}
+
+	public void unregister(RenderFilter filter)
+	{
+		if (filters.remove(filter))
+		{
+			compileFilters();
+		}
+	}
+
+	private synchronized void compileFilters()
+	{
+		compiledFilters = filters.isEmpty() ? CompiledFilters.EMPTY : new CompiledFilters(filters);
+	}
+
 	public boolean addEntity(Renderable renderable, boolean ui)
 	{
+		final CompiledFilters compiledFilters = this.compiledFilters;
+		if (compiledFilters != CompiledFilters.EMPTY && compiledFilters.hidesEntity(renderable, ui))
+		{
+			return false;
+		}
+
 		if (callbacks.isEmpty())
 		{
 			return true;
@@ -101,6 +135,12 @@ public class RenderCallbackManager
 
 	public boolean drawObject(Scene scene, TileObject object)
 	{
+		final CompiledFilters compiledFilters = this.compiledFilters;
+		if (compiledFilters != CompiledFilters.EMPTY && compiledFilters.hidesObject(object))
+		{
+			return false;
+		}
+
 		if (callbacks.isEmpty())
 		{
 			return true;
@@ -123,4 +163,106 @@ public class RenderCallbackManager
 
 		return true;
 	}
+
+	/**
+	 * The union of all registered filters. Immutable once built, so it can be read from both the
+	 * client and maploader threads.
+	 */
+	private static final class CompiledFilters
+	{
+		private static final int SCENE = 1;
+		private static final int UI = 2;
+
+		static final CompiledFilters EMPTY = new CompiledFilters(List.of());
+
+		private final Class<?>[] types;
+		private final int[] typeMasks;
+		private final BitSet npcIds = new BitSet();
+		private final BitSet uiNpcIds = new BitSet();
+		private final BitSet objectIds = new BitSet();
+
+		// entity classes resolved to the mask of the filtered types they are assignable to
+		private final ClassValue<Integer> classMasks = new ClassValue<>()
+		{
+			@Override
+			protected Integer computeValue(Class<?> type)
+			{
+				int mask = 0;
+				for (int i = 0; i < types.length; ++i)
+				{
+					if (types[i].isAssignableFrom(type))
+					{
+						mask |= typeMasks[i];
+					}
+				}
+				return mask;
+			}
+		};
+
+		CompiledFilters(List<RenderFilter> filters)
+		{
+			final List<Class<?>> types = new ArrayList<>();
+			final List<Integer> typeMasks = new ArrayList<>();
+			for (RenderFilter filter : filters)
+			{
+				final int mask = filter.isUi() ? SCENE | UI : SCENE;
+				for (Class<?> type : filter.getTypes())
+				{
+					types.add(type);
+					typeMasks.add(mask);
+				}
+
+				for (int id : filter.getNpcIds())
+				{
+					if (id >= 0)
+					{
+						npcIds.set(id);
+						if (filter.isUi())
+						{
+							uiNpcIds.set(id);
+						}
+					}
+				}
+
+				for (int id : filter.getObjectIds())
+				{
+					if (id >= 0)
+					{
+						objectIds.set(id);
+					}
+				}
+			}
+
+			this.types = types.toArray(new Class<?>[0]);
+			this.typeMasks = typeMasks.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		boolean hidesEntity(Renderable renderable, boolean ui)
+		{
+			if ((classMasks.get(renderable.getClass()) & (ui ? UI : SCENE)) != 0)
+			{
+				return true;
+			}
+
+			final BitSet ids = ui ? uiNpcIds : npcIds;
+			if (!ids.isEmpty() && renderable instanceof NPC)
+			{
+				final int id = ((NPC) renderable).getId();
+				return id >= 0 && ids.get(id);
+			}
+
+			return false;
+		}
+
+		boolean hidesObject(TileObject object)
+		{
+			if (objectIds.isEmpty())
+			{
+				return false;
+			}
+
+			final int id = object.getId();
+			return id >= 0 && objectIds.get(id);
+		}
+	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import java.util.Set;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import net.runelite.api.NPC;
+import net.runelite.api.Renderable;
+import net.runelite.api.TileObject;
+
+/**
+ * A static set of entities and objects to hide, registered with {@link RenderCallbackManager#register(RenderFilter)}.
+ * Unlike a {@link RenderCallback} it is not consulted per entity, but compiled together with every other registered
+ * filter into lookup tables, so it costs the same regardless of how many filters there are. To change what is hidden,
+ * unregister the filter and register a new one.
+ */
+@Value
+@Builder
+public class RenderFilter
+{
+	/**
+	 * Entity types to hide, such as {@link net.runelite.api.Projectile}. Subtypes are hidden too.
+	 */
+	@Singular
+	Set<Class<? extends Renderable>> types;
+
+	/**
+	 * {@link NPC#getId()}s of npcs to hide
+	 */
+	@Singular
+	Set<Integer> npcIds;
+
+	/**
+	 * {@link TileObject#getId()}s of objects to hide
+	 */
+	@Singular
+	Set<Integer> objectIds;
+
+	/**
+	 * Whether entities are also hidden from the ui, such as their hitbars and overhead text
+	 */
+	@Builder.Default
+	boolean ui = true;
+}
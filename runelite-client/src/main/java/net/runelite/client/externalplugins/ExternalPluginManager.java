@@ -28,9 +28,6 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.hash.Hashing;
-import com.google.common.hash.HashingInputStream;
-import com.google.common.io.Files;
 import com.google.gson.Gson;
 import java.io.File;
 import java.io.IOException;
@@ -46,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -66,13 +64,9 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginInstantiationException;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.ui.SplashScreen;
-import net.runelite.client.util.CountingInputStream;
 import net.runelite.client.util.Text;
 import net.runelite.client.util.VerificationException;
-import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.Response;
 
 @Singleton
 @Slf4j
@@ -90,8 +84,8 @@ public class ExternalPluginManager
 	private final ScheduledExecutorService executor;
 	private final PluginManager pluginManager;
 	private final EventBus eventBus;
-	private final OkHttpClient okHttpClient;
 	private final Gson gson;
+	private final PluginJarStore jarStore;
 
 	@Inject
 	private ExternalPluginManager(
@@ -109,8 +103,8 @@ public class ExternalPluginManager
 		this.executor = executor;
 		this.pluginManager = pluginManager;
 		this.eventBus = eventBus;
-		this.okHttpClient = okHttpClient;
 		this.gson = gson;
+		this.jarStore = new PluginJarStore(RuneLite.PLUGINS_DIR, okHttpClient, externalPluginClient::getJarURL);
 
 		executor.scheduleWithFixedDelay(() -> externalPluginClient.submitPlugins(getInstalledExternalPlugins()),
 			new Random().nextInt(60), 180, TimeUnit.MINUTES);
@@ -190,7 +184,6 @@ public class ExternalPluginManager
 				Map<String, PluginHubManifest.JarData> manifests = manifest.getJars()
 					.stream().collect(ImmutableMap.toImmutableMap(PluginHubManifest.JarData::getInternalName, Function.identity()));
 
-				Set<PluginHubManifest.JarData> needsDownload = new HashSet<>();
 				Set<File> keep = new HashSet<>();
 
 				for (String name : installedIDs)
@@ -199,19 +192,18 @@ public class ExternalPluginManager
 					if (jarData != null)
 					{
 						externalPlugins.add(jarData);
-
-						jarData.getJarFile().setLastModified(now.toEpochMilli());
-						if (!jarData.isValid())
-						{
-							needsDownload.add(jarData);
-						}
-						else
-						{
-							keep.add(jarData.getJarFile());
-						}
 					}
 				}
 
+				Set<PluginHubManifest.JarData> needsDownload = jarStore.findInvalid(externalPlugins);
+				for (PluginHubManifest.JarData jarData : externalPlugins)
+				{
+					// jars are shared between profiles, so keep any in use recently by any of them
+					File file = jarStore.getFile(jarData);
+					file.setLastModified(now.toEpochMilli());
+					keep.add(file);
+				}
+
 				// delete old plugins
 				File[] files = RuneLite.PLUGINS_DIR.listFiles();
 				if (files != null)
@@ -226,33 +218,11 @@ public class ExternalPluginManager
 				}
 
 				int toDownload = needsDownload.stream().mapToInt(PluginHubManifest.JarData::getJarSize).sum();
-				int downloaded = 0;
-
-				for (PluginHubManifest.JarData jarData : needsDownload)
-				{
-					HttpUrl url = externalPluginClient.getJarURL(jarData);
-
-					try (Response res = okHttpClient.newCall(new Request.Builder().url(url).build()).execute())
-					{
-						int fdownloaded = downloaded;
-						downloaded += jarData.getJarSize();
-						HashingInputStream his = new HashingInputStream(Hashing.sha256(),
-							new CountingInputStream(res.body().byteStream(), i ->
-								SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
-									null, "Downloading " + jarData.getDisplayName(),
-									i + fdownloaded, toDownload, true)));
-						Files.asByteSink(jarData.getJarFile()).writeFrom(his);
-						if (!PluginHubManifest.HASH_ENCODER.encodeToString(his.hash().asBytes()).equals(jarData.getJarHash()))
-						{
-							throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
-						}
-					}
-					catch (IOException | VerificationException e)
-					{
-						externalPlugins.remove(jarData);
-						log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e);
-					}
-				}
+				Set<PluginHubManifest.JarData> failed = jarStore.download(needsDownload, downloaded ->
+					SplashScreen.stage(splashStart + (splashLength * .2), splashStart + (splashLength * .8),
+						null, "Downloading " + needsDownload.size() + " external plugins",
+						(int) Math.min(downloaded, toDownload), toDownload, true));
+				externalPlugins.removeAll(failed);
 			}
 			catch (IOException | VerificationException e)
 			{
@@ -298,34 +268,43 @@ public class ExternalPluginManager
 				pluginManager.remove(p);
 			}
 
+			// jars are independent of each other, so their classloaders can be created and classes loaded concurrently
+			Map<PluginHubManifest.JarData, List<Class<?>>> loadedClasses = new ConcurrentHashMap<>();
+			PluginJarStore.forEach(add, jarData ->
+			{
+				List<Class<?>> clazzes = loadJarClasses(jarData, builtinExternalClasses);
+				if (clazzes != null)
+				{
+					loadedClasses.put(jarData, clazzes);
+				}
+			});
+
+			// the plugin manager instantiates plugins and resolves their dependencies one jar at a time
 			for (PluginHubManifest.JarData jarData : add)
 			{
-				// I think this can't happen, but just in case
-				if (!jarData.isValid())
+				List<Class<?>> clazzes = loadedClasses.get(jarData);
+				if (clazzes == null)
 				{
-					log.warn("Invalid plugin for validated manifest: {}", jarData);
 					continue;
 				}
 
-				log.info("Loading external plugin \"{}\" jar \"{}\"", jarData.getInternalName(), jarData.getJarHash());
-
-				List<Plugin> newPlugins = null;
+				List<Plugin> newPlugins;
 				try
 				{
-					PluginHubClassLoader cl = new PluginHubClassLoader(jarData, new URL[]{jarData.getJarFile().toURI().toURL()}, gson);
-					if (Arrays.stream(cl.getStub().getPlugins()).anyMatch(builtinExternalClasses::contains))
-					{
-						log.debug("Skipping loading \"{}\" from hub as a conflicting builtin external is present", jarData.getInternalName());
-						continue;
-					}
-
-					List<Class<?>> clazzes = new ArrayList<>();
-					for (String className : cl.getStub().getPlugins())
-					{
-						clazzes.add(cl.loadClass(className));
-					}
+					newPlugins = pluginManager.loadPlugins(clazzes, null);
+				}
+				catch (ThreadDeath e)
+				{
+					throw e;
+				}
+				catch (Throwable e)
+				{
+					log.warn("Unable to load external plugin \"{}\"", jarData.getInternalName(), e);
+					continue;
+				}
 
-					List<Plugin> newPlugins2 = newPlugins = pluginManager.loadPlugins(clazzes, null);
+				try
+				{
 					if (!startup)
 					{
 						pluginManager.loadDefaultPluginConfiguration(newPlugins);
@@ -334,7 +313,7 @@ public class ExternalPluginManager
 						{
 							try
 							{
-								for (Plugin p : newPlugins2)
+								for (Plugin p : newPlugins)
 								{
 									pluginManager.startPlugin(p);
 								}
@@ -352,31 +331,28 @@ public class ExternalPluginManager
 				}
 				catch (Throwable e)
 				{
-					log.warn("Unable to start or load external plugin \"{}\"", jarData.getInternalName(), e);
-					if (newPlugins != null)
+					log.warn("Unable to start external plugin \"{}\"", jarData.getInternalName(), e);
+					for (Plugin p : newPlugins)
 					{
-						for (Plugin p : newPlugins)
+						try
 						{
-							try
+							SwingUtilities.invokeAndWait(() ->
 							{
-								SwingUtilities.invokeAndWait(() ->
+								try
 								{
-									try
-									{
-										pluginManager.stopPlugin(p);
-									}
-									catch (Exception e2)
-									{
-										throw new RuntimeException(e2);
-									}
-								});
-							}
-							catch (InterruptedException | InvocationTargetException e2)
-							{
-								log.info("Unable to fully stop plugin \"{}\"", jarData.getInternalName(), e2);
-							}
-							pluginManager.remove(p);
+									pluginManager.stopPlugin(p);
+								}
+								catch (Exception e2)
+								{
+									throw new RuntimeException(e2);
+								}
+							});
+						}
+						catch (InterruptedException | InvocationTargetException e2)
+						{
+							log.info("Unable to fully stop plugin \"{}\"", jarData.getInternalName(), e2);
 						}
+						pluginManager.remove(p);
 					}
 				}
 			}
@@ -395,6 +371,53 @@ public class ExternalPluginManager
 		}
 	}
 
+	/**
+	 * Creates the classloader for a jar and loads its plugin classes. This is safe to call
+	 * concurrently for different jars.
+	 *
+	 * @return the plugin classes, or null if the jar was skipped or could not be loaded
+	 */
+	@Nullable
+	private List<Class<?>> loadJarClasses(PluginHubManifest.JarData jarData, Set<String> builtinExternalClasses)
+	{
+		File file = jarStore.getFile(jarData);
+		// I think this can't happen, but just in case
+		if (!file.exists())
+		{
+			log.warn("Missing plugin for validated manifest: {}", jarData);
+			return null;
+		}
+
+		log.info("Loading external plugin \"{}\" jar \"{}\"", jarData.getInternalName(), jarData.getJarHash());
+
+		try
+		{
+			PluginHubClassLoader cl = new PluginHubClassLoader(jarData, new URL[]{file.toURI().toURL()}, gson);
+			if (Arrays.stream(cl.getStub().getPlugins()).anyMatch(builtinExternalClasses::contains))
+			{
+				log.debug("Skipping loading \"{}\" from hub as a conflicting builtin external is present", jarData.getInternalName());
+				return null;
+			}
+
+			List<Class<?>> clazzes = new ArrayList<>();
+			for (String className : cl.getStub().getPlugins())
+			{
+				clazzes.add(cl.loadClass(className));
+			}
+
+			return clazzes;
+		}
+		catch (ThreadDeath e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			log.warn("Unable to load external plugin \"{}\"", jarData.getInternalName(), e);
+			return null;
+		}
+	}
+
 	public List<String> getInstalledExternalPlugins()
 	{
 		String externalPluginsStr = configManager.getConfiguration(RuneLiteConfig.GROUP_NAME, PLUGIN_LIST_KEY);
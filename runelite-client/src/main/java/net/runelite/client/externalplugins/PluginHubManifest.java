@@ -24,17 +24,11 @@
  */
 package net.runelite.client.externalplugins;
 
-import com.google.common.hash.HashCode;
-import com.google.common.hash.Hashing;
-import com.google.common.io.Files;
-import java.io.File;
-import java.io.IOException;
 import java.util.Base64;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import net.runelite.client.RuneLite;
 
 public class PluginHubManifest
 {
@@ -47,32 +41,6 @@ public class PluginHubManifest
 		private String displayName;
 		private String jarHash;
 		private int jarSize;
-
-		File getJarFile()
-		{
-			return new File(RuneLite.PLUGINS_DIR, internalName + "_" + jarHash + ".jar");
-		}
-
-		boolean isValid()
-		{
-			File file = getJarFile();
-
-			try
-			{
-				if (file.exists())
-				{
-					HashCode hash = Files.asByteSource(file).hash(Hashing.sha256());
-					if (this.jarHash.equals(HASH_ENCODER.encodeToString(hash.asBytes())))
-					{
-						return true;
-					}
-				}
-			}
-			catch (IOException e)
-			{
-			}
-			return false;
-		}
 	}
 
 	@Data
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.VerificationException;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Plugin hub jars stored by their hash, so a jar is downloaded once no matter how many
+ * profiles use it. Jars are verified against their hash as they are downloaded, several
+ * at a time, into partial files which later attempts resume with a range request.
+ */
+@Slf4j
+class PluginJarStore
+{
+	private static final int THREADS = 4;
+	private static final int DOWNLOAD_ATTEMPTS = 3;
+
+	private final File dir;
+	private final OkHttpClient okHttpClient;
+	private final Function<PluginHubManifest.JarData, HttpUrl> jarUrl;
+
+	PluginJarStore(File dir, OkHttpClient okHttpClient, Function<PluginHubManifest.JarData, HttpUrl> jarUrl)
+	{
+		this.dir = dir;
+		this.okHttpClient = okHttpClient;
+		this.jarUrl = jarUrl;
+	}
+
+	File getFile(PluginHubManifest.JarData jarData)
+	{
+		return new File(dir, jarData.getJarHash() + ".jar");
+	}
+
+	/**
+	 * Checks the stored jar matches its hash
+	 */
+	boolean isValid(PluginHubManifest.JarData jarData)
+	{
+		final File file = getFile(jarData);
+		if (!file.exists())
+		{
+			// jars used to be stored by plugin name and hash
+			final File legacy = new File(dir, jarData.getInternalName() + "_" + jarData.getJarHash() + ".jar");
+			if (!legacy.exists() || !legacy.renameTo(file))
+			{
+				return false;
+			}
+		}
+
+		try
+		{
+			HashCode hash = MoreFiles.asByteSource(file.toPath()).hash(Hashing.sha256());
+			return jarData.getJarHash().equals(PluginHubManifest.HASH_ENCODER.encodeToString(hash.asBytes()));
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Checks the stored jars concurrently
+	 *
+	 * @return the jars which are missing or invalid
+	 */
+	Set<PluginHubManifest.JarData> findInvalid(Collection<PluginHubManifest.JarData> jars)
+	{
+		final Set<PluginHubManifest.JarData> invalid = new HashSet<>();
+		forEach(jars, jarData ->
+		{
+			if (!isValid(jarData))
+			{
+				synchronized (invalid)
+				{
+					invalid.add(jarData);
+				}
+			}
+		});
+		return invalid;
+	}
+
+	/**
+	 * Downloads jars, several at a time
+	 *
+	 * @param jars the jars to download
+	 * @param progress called from the download threads with the number of bytes downloaded so far
+	 * @return the jars which could not be downloaded
+	 */
+	Set<PluginHubManifest.JarData> download(Collection<PluginHubManifest.JarData> jars, LongConsumer progress)
+	{
+		final AtomicLong downloaded = new AtomicLong();
+		final Set<PluginHubManifest.JarData> failed = new HashSet<>();
+		forEach(jars, jarData ->
+		{
+			final long[] reported = {0};
+			try
+			{
+				download(jarData, position ->
+				{
+					// a retry may report bytes again, so only count the difference
+					progress.accept(downloaded.addAndGet(position - reported[0]));
+					reported[0] = position;
+				});
+			}
+			catch (IOException | VerificationException e)
+			{
+				log.error("Unable to download external plugin \"{}\"", jarData.getInternalName(), e);
+				synchronized (failed)
+				{
+					failed.add(jarData);
+				}
+			}
+		});
+		return failed;
+	}
+
+	void download(PluginHubManifest.JarData jarData, LongConsumer progress) throws IOException, VerificationException
+	{
+		dir.mkdirs();
+
+		for (int attempt = 1; ; ++attempt)
+		{
+			try
+			{
+				downloadOnce(jarData, progress);
+				return;
+			}
+			catch (IOException e)
+			{
+				if (attempt >= DOWNLOAD_ATTEMPTS)
+				{
+					throw e;
+				}
+				log.debug("Error downloading \"{}\", retrying", jarData.getInternalName(), e);
+			}
+		}
+	}
+
+	/**
+	 * @param progress called with the number of bytes of this jar downloaded so far
+	 */
+	private void downloadOnce(PluginHubManifest.JarData jarData, LongConsumer progress) throws IOException, VerificationException
+	{
+		File part = new File(dir, jarData.getJarHash() + ".jar.part");
+		boolean shared = true;
+		FileChannel channel = FileChannel.open(part.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (!tryLock(channel))
+		{
+			// another client is downloading the same jar, so download it separately rather than waiting
+			channel.close();
+			part = new File(dir, jarData.getJarHash() + "." + UUID.randomUUID() + ".jar.part");
+			shared = false;
+			channel = FileChannel.open(part.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+
+		boolean complete = false;
+		try
+		{
+			try (FileChannel ch = channel)
+			{
+				final Hasher hasher = Hashing.sha256().newHasher();
+				final long offset = ch.size();
+				final Request.Builder request = new Request.Builder().url(jarUrl.apply(jarData));
+				if (offset > 0)
+				{
+					request.header("Range", "bytes=" + offset + "-");
+				}
+
+				try (Response res = okHttpClient.newCall(request.build()).execute())
+				{
+					if (offset > 0 && (res.code() == 206 && isRangeFrom(res, offset) || res.code() == 416))
+					{
+						// resume, or the partial file is already complete if the range is unsatisfiable
+						hash(ch, offset, hasher);
+						progress.accept(offset);
+					}
+					else if (res.code() == 200)
+					{
+						ch.truncate(0);
+					}
+					else
+					{
+						throw new IOException("Non-OK response code: " + res.code());
+					}
+
+					if (res.code() != 416)
+					{
+						copy(res.body().byteStream(), ch, hasher, progress);
+					}
+				}
+
+				final String hash = PluginHubManifest.HASH_ENCODER.encodeToString(hasher.hash().asBytes());
+				if (!hash.equals(jarData.getJarHash()))
+				{
+					ch.truncate(0);
+					throw new VerificationException("Plugin " + jarData.getInternalName() + " didn't match its hash");
+				}
+
+				ch.force(false);
+			}
+
+			Files.move(part.toPath(), getFile(jarData).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			complete = true;
+		}
+		finally
+		{
+			// the shared partial file is kept to be resumed later
+			if (!complete && !shared)
+			{
+				part.delete();
+			}
+		}
+	}
+
+	private static boolean tryLock(FileChannel channel) throws IOException
+	{
+		try
+		{
+			return channel.tryLock() != null;
+		}
+		catch (OverlappingFileLockException e)
+		{
+			return false;
+		}
+	}
+
+	private static boolean isRangeFrom(Response res, long offset)
+	{
+		// Content-Range: bytes 1000-1999/2000
+		final String range = res.header("Content-Range");
+		return range != null && range.startsWith("bytes " + offset + "-");
+	}
+
+	private static void hash(FileChannel ch, long length, Hasher hasher) throws IOException
+	{
+		final ByteBuffer buf = ByteBuffer.allocate(8192);
+		long position = 0;
+		while (position < length)
+		{
+			buf.clear();
+			buf.limit((int) Math.min(buf.capacity(), length - position));
+			final int n = ch.read(buf, position);
+			if (n < 0)
+			{
+				throw new IOException("partial file truncated");
+			}
+			buf.flip();
+			hasher.putBytes(buf);
+			position += n;
+		}
+	}
+
+	private static void copy(InputStream in, FileChannel ch, Hasher hasher, LongConsumer progress) throws IOException
+	{
+		final byte[] buf = new byte[8192];
+		final ByteBuffer wrapped = ByteBuffer.wrap(buf);
+		long position = ch.size();
+		ch.position(position);
+		int n;
+		while ((n = in.read(buf)) != -1)
+		{
+			hasher.putBytes(buf, 0, n);
+			wrapped.clear().limit(n);
+			while (wrapped.hasRemaining())
+			{
+				ch.write(wrapped);
+			}
+			position += n;
+			progress.accept(position);
+		}
+	}
+
+	/**
+	 * Runs a task for each jar on a bounded pool, waiting for all to complete
+	 */
+	static void forEach(Collection<PluginHubManifest.JarData> jars, Consumer<PluginHubManifest.JarData> task)
+	{
+		if (jars.isEmpty())
+		{
+			return;
+		}
+
+		final ExecutorService pool = Executors.newFixedThreadPool(Math.min(jars.size(), THREADS),
+			new ThreadFactoryBuilder().setNameFormat("plugin-hub-%d").setDaemon(true).build());
+		try
+		{
+			final List<Future<Void>> futures = new ArrayList<>(jars.size());
+			for (PluginHubManifest.JarData jarData : jars)
+			{
+				final Callable<Void> call = () ->
+				{
+					task.accept(jarData);
+					return null;
+				};
+				futures.add(pool.submit(call));
+			}
+
+			for (Future<Void> future : futures)
+			{
+				try
+				{
+					future.get();
+				}
+				catch (ExecutionException e)
+				{
+					log.warn("error processing plugin jar", e.getCause());
+				}
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+}
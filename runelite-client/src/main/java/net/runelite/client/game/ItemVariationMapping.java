@@ -30,13 +30,18 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,24 +54,11 @@ public class ItemVariationMapping
 
 	static
 	{
-		final Gson gson = new Gson();
-		// CHECKSTYLE:OFF
-		final TypeToken<Map<String, Collection<Integer>>> typeToken = new TypeToken<>(){};
-		// CHECKSTYLE:ON
-
-		final Map<String, Collection<Integer>> itemVariations;
-		try (InputStream geLimitData = ItemVariationMapping.class.getResourceAsStream("/item_variations.json"))
-		{
-			itemVariations = gson.fromJson(new InputStreamReader(geLimitData, StandardCharsets.UTF_8), typeToken.getType());
-		}
-		catch (IOException e)
-		{
-			throw new RuntimeException(e);
-		}
+		final Collection<? extends Collection<Integer>> itemVariations = loadVariations();
 
 		ImmutableMap.Builder<Integer, Integer> builder = new ImmutableMap.Builder<>();
 		ImmutableMultimap.Builder<Integer, Integer> invertedBuilder = new ImmutableMultimap.Builder<>();
-		for (Collection<Integer> value : itemVariations.values())
+		for (Collection<Integer> value : itemVariations)
 		{
 			final Iterator<Integer> iterator = value.iterator();
 			final int base = iterator.next();
@@ -85,6 +77,49 @@ public class ItemVariationMapping
 		MAPPINGS = builder.build();
 	}
 
+	private static Collection<? extends Collection<Integer>> loadVariations()
+	{
+		// packed at build time, which is much quicker to read than the json
+		try (InputStream in = ItemVariationMapping.class.getResourceAsStream("/net/runelite/client/pack/item_variations.dat"))
+		{
+			if (in != null)
+			{
+				final DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+				final int groups = dis.readInt();
+				final List<List<Integer>> variations = new ArrayList<>(groups);
+				for (int i = 0; i < groups; ++i)
+				{
+					final Integer[] ids = new Integer[dis.readInt()];
+					for (int j = 0; j < ids.length; ++j)
+					{
+						ids[j] = dis.readInt();
+					}
+					variations.add(Arrays.asList(ids));
+				}
+				return variations;
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException(e);
+		}
+
+		final Gson gson = new Gson();
+		// CHECKSTYLE:OFF
+		final TypeToken<Map<String, Collection<Integer>>> typeToken = new TypeToken<>(){};
+		// CHECKSTYLE:ON
+
+		try (InputStream geLimitData = ItemVariationMapping.class.getResourceAsStream("/item_variations.json"))
+		{
+			final Map<String, Collection<Integer>> itemVariations = gson.fromJson(new InputStreamReader(geLimitData, StandardCharsets.UTF_8), typeToken.getType());
+			return itemVariations.values();
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+
 	/**
 	 * Get base item id for provided variation item id.
 	 *
@@ -31,6 +31,8 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import net.runelite.api.Client;
@@ -39,23 +41,28 @@ import net.runelite.api.NPCComposition;
 import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
+import net.runelite.client.ui.overlay.ConvexHullCache;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
 import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import net.runelite.client.ui.overlay.outline.OutlineBatches;
 import net.runelite.client.util.Text;
 
 class NpcOverlay extends Overlay
 {
 	private final Client client;
-	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final OutlineBatches outlineBatches;
+	private final ConvexHullCache convexHullCache;
 	private final Map<NPC, HighlightedNpc> highlightedNpcs;
+	private final List<HighlightedNpc> visibleNpcs = new ArrayList<>();
 
-	NpcOverlay(Client client, ModelOutlineRenderer modelOutlineRenderer, Map<NPC, HighlightedNpc> highlightedNpcs)
+	NpcOverlay(Client client, ModelOutlineRenderer modelOutlineRenderer, ConvexHullCache convexHullCache, Map<NPC, HighlightedNpc> highlightedNpcs)
 	{
 		this.client = client;
-		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineBatches = modelOutlineRenderer.createBatches();
+		this.convexHullCache = convexHullCache;
 		this.highlightedNpcs = highlightedNpcs;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -64,10 +71,39 @@ class NpcOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		outlineBatches.reset();
+
 		for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
+		{
+			NPC actor = highlightedNpc.getNpc();
+			NPCComposition npcComposition = actor.getTransformedComposition();
+			if (npcComposition == null || !npcComposition.isInteractible())
+			{
+				continue;
+			}
+
+			Predicate<NPC> render = highlightedNpc.getRender();
+			if (render != null && !render.test(actor))
+			{
+				continue;
+			}
+
+			visibleNpcs.add(highlightedNpc);
+			if (highlightedNpc.isOutline())
+			{
+				outlineBatches.get((int) highlightedNpc.getBorderWidth(), highlightedNpc.getHighlightColor(), highlightedNpc.getOutlineFeather())
+					.add(actor);
+			}
+		}
+
+		// outlines of npcs with the same style are drawn together in one pass, beneath the hulls, tiles and names
+		outlineBatches.draw();
+
+		for (HighlightedNpc highlightedNpc : visibleNpcs)
 		{
 			renderNpcOverlay(graphics, highlightedNpc);
 		}
+		visibleNpcs.clear();
 
 		return null;
 	}
@@ -76,16 +112,6 @@ class NpcOverlay extends Overlay
 	{
 		NPC actor = highlightedNpc.getNpc();
 		NPCComposition npcComposition = actor.getTransformedComposition();
-		if (npcComposition == null || !npcComposition.isInteractible())
-		{
-			return;
-		}
-
-		Predicate<NPC> render = highlightedNpc.getRender();
-		if (render != null && !render.test(actor))
-		{
-			return;
-		}
 
 		final Color borderColor = highlightedNpc.getHighlightColor();
 		float borderWidth = highlightedNpc.getBorderWidth();
@@ -93,7 +119,7 @@ class NpcOverlay extends Overlay
 
 		if (highlightedNpc.isHull())
 		{
-			Shape objectClickbox = actor.getConvexHull();
+			Shape objectClickbox = convexHullCache.getConvexHull(actor);
 			renderPoly(graphics, borderColor, borderWidth, fillColor, objectClickbox);
 		}
 
@@ -138,11 +164,6 @@ class NpcOverlay extends Overlay
 			}
 		}
 
-		if (highlightedNpc.isOutline())
-		{
-			modelOutlineRenderer.drawOutline(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
-		}
-
 		if (highlightedNpc.isName() && actor.getName() != null)
 		{
 			String npcName = Text.removeTags(actor.getName());
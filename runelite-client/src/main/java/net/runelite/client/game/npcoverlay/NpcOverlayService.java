@@ -43,6 +43,7 @@ import net.runelite.api.events.NpcSpawned;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.ui.overlay.ConvexHullCache;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
 
@@ -56,11 +57,11 @@ public class NpcOverlayService
 
 	@Inject
 	private NpcOverlayService(Client client, ClientThread clientThread,
-		OverlayManager overlayManager, ModelOutlineRenderer modelOutlineRenderer, EventBus eventBus)
+		OverlayManager overlayManager, ModelOutlineRenderer modelOutlineRenderer, ConvexHullCache convexHullCache, EventBus eventBus)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
-		overlayManager.add(new NpcOverlay(client, modelOutlineRenderer, highlightedNpcs));
+		overlayManager.add(new NpcOverlay(client, modelOutlineRenderer, convexHullCache, highlightedNpcs));
 		overlayManager.add(new NpcMinimapOverlay(highlightedNpcs));
 		eventBus.register(this);
 	}
@@ -34,4 +34,5 @@ public class PartyMember
 	private String displayName = "<unknown>";
 	private boolean loggedIn;
 	private BufferedImage avatar;
+	private boolean batchSupport;
 }
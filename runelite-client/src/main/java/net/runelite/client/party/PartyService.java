@@ -44,6 +44,8 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.eventbus.EventBus;
@@ -52,6 +54,7 @@ import net.runelite.client.events.PartyChanged;
 import net.runelite.client.events.PartyMemberAvatar;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
+import net.runelite.client.party.messages.BatchSupport;
 import net.runelite.client.party.messages.PartyChatMessage;
 import net.runelite.client.party.messages.PartyMessage;
 import net.runelite.client.party.messages.UserSync;
@@ -151,6 +154,7 @@ public class PartyService
 	{
 		if (wsClient.sessionExists())
 		{
+			wsClient.flush();
 			wsClient.part();
 			memberId = randomMemberId(); // use a different member id between parties
 		}
@@ -159,6 +163,7 @@ public class PartyService
 
 		log.debug("Party change to {} (id {})", passphrase, id);
 		members.clear();
+		updateBatchFrames();
 		partyId = id;
 		partyPassphrase = passphrase;
 
@@ -186,12 +191,37 @@ public class PartyService
 			log.debug("Reconnecting to server");
 
 			members.clear();
+			updateBatchFrames();
 
 			wsClient.connect();
 			wsClient.join(partyId, memberId);
 		}
 
-		wsClient.send(message);
+		if (client.getGameState() == GameState.LOGGED_IN)
+		{
+			// sent together at the end of the tick
+			wsClient.queue(message);
+		}
+		else
+		{
+			wsClient.send(message);
+		}
+	}
+
+	@Subscribe(priority = -1) // run after plugins so that the messages they send this tick are included
+	public void onGameTick(final GameTick gameTick)
+	{
+		wsClient.flush();
+	}
+
+	@Subscribe
+	public void onGameStateChanged(final GameStateChanged gameStateChanged)
+	{
+		if (gameStateChanged.getGameState() != GameState.LOGGED_IN)
+		{
+			// there won't be another tick to flush them
+			wsClient.flush();
+		}
 	}
 
 	@Subscribe(priority = 1) // run prior to plugins so that the member is joined by the time the plugins see it.
@@ -208,8 +238,10 @@ public class PartyService
 		if (partyMember == null)
 		{
 			partyMember = new PartyMember(message.getMemberId());
+			partyMember.setBatchSupport(message.getMemberId() == memberId);
 			members.add(partyMember);
 			log.debug("User {} joins party, {} members", partyMember, members.size());
+			updateBatchFrames();
 		}
 
 		final PartyMember localMember = getLocalMember();
@@ -219,6 +251,28 @@ public class PartyService
 			log.debug("Requesting sync");
 			final UserSync userSync = new UserSync();
 			wsClient.send(userSync);
+			wsClient.send(new BatchSupport(WSClient.BATCH_VERSION));
+		}
+	}
+
+	@Subscribe(priority = 1)
+	public void onUserSync(final UserSync message)
+	{
+		if (message.getMemberId() != memberId)
+		{
+			// let the new member know this client supports batch frames
+			wsClient.send(new BatchSupport(WSClient.BATCH_VERSION));
+		}
+	}
+
+	@Subscribe
+	public void onBatchSupport(final BatchSupport message)
+	{
+		final PartyMember member = getMemberById(message.getMemberId());
+		if (member != null && message.getVersion() == WSClient.BATCH_VERSION)
+		{
+			member.setBatchSupport(true);
+			updateBatchFrames();
 		}
 	}
 
@@ -228,6 +282,7 @@ public class PartyService
 		if (members.removeIf(member -> member.getMemberId() == message.getMemberId()))
 		{
 			log.debug("User {} leaves party, {} members", message.getMemberId(), members.size());
+			updateBatchFrames();
 		}
 	}
 
@@ -312,6 +367,15 @@ public class PartyService
 		}
 	}
 
+	/**
+	 * Batch frames are only used once every other member has said it can read them,
+	 * since clients which predate them would drop the messages.
+	 */
+	private void updateBatchFrames()
+	{
+		wsClient.setBatchFrames(members.size() > 1 && members.stream().allMatch(PartyMember::isBatchSupport));
+	}
+
 	private static long passphraseToId(String passphrase)
 	{
 		return Hashing.sha256().hashBytes(
@@ -27,10 +27,16 @@ package net.runelite.client.party;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -48,18 +54,34 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
+import okio.Buffer;
 import okio.ByteString;
 
 @Slf4j
 @Singleton
 public class WSClient extends WebSocketListener implements AutoCloseable
 {
+	public static final int BATCH_VERSION = 1;
+	/**
+	 * The type of data frames holding a batch. It is not a valid class name, so can't collide with a message type.
+	 */
+	static final String BATCH_TYPE = "batch/" + BATCH_VERSION;
+	private static final byte FORMAT_BINARY = 0;
+	private static final byte FORMAT_JSON = 1;
+
 	private final EventBus eventBus;
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final Map<Class<?>, WebsocketMessageCodec<?>> codecs = new ConcurrentHashMap<>();
+	private final Map<String, WebsocketMessageCodec<?>> codecsByName = new ConcurrentHashMap<>();
+	private final List<WebsocketMessage> pending = new ArrayList<>();
 
 	private volatile Gson gson;
+	/**
+	 * Whether messages are sent in batch frames, which requires every party member to support them
+	 */
+	private volatile boolean batchFrames;
 	@Getter
 	private UUID sessionId;
 	private WebSocket webSocket;
@@ -70,7 +92,7 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		this.eventBus = eventBus;
 		this.okHttpClient = okHttpClient;
 		this.runeliteWs = runeliteWs;
-		this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+		WebsocketGsonFactory.CODECS.forEach(this::putCodec);
 	}
 
 	public boolean sessionExists()
@@ -123,17 +145,72 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 	public void registerMessage(final Class<? extends WebsocketMessage> message)
 	{
-		if (messages.add(message))
+		synchronized (messages)
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			if (messages.add(message))
+			{
+				// rebuilt on next use, so registering several messages builds it once
+				gson = null;
+			}
 		}
 	}
 
+	/**
+	 * Registers a message along with a binary codec for it, used for batch frames
+	 */
+	public <T extends WebsocketMessage> void registerMessage(final Class<T> message, final WebsocketMessageCodec<T> codec)
+	{
+		putCodec(message, codec);
+		registerMessage(message);
+	}
+
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
-		if (messages.remove(message))
+		codecs.remove(message);
+		codecsByName.remove(message.getSimpleName());
+
+		synchronized (messages)
 		{
-			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+			if (messages.remove(message))
+			{
+				gson = null;
+			}
+		}
+	}
+
+	private void putCodec(Class<?> message, WebsocketMessageCodec<?> codec)
+	{
+		codecs.put(message, codec);
+		codecsByName.put(message.getSimpleName(), codec);
+	}
+
+	private Gson gson()
+	{
+		Gson gson = this.gson;
+		if (gson == null)
+		{
+			synchronized (messages)
+			{
+				gson = this.gson;
+				if (gson == null)
+				{
+					this.gson = gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+				}
+			}
+		}
+		return gson;
+	}
+
+	void setBatchFrames(boolean batchFrames)
+	{
+		if (this.batchFrames != batchFrames)
+		{
+			log.debug("Batch frames {}", batchFrames ? "enabled" : "disabled");
+			this.batchFrames = batchFrames;
+			if (!batchFrames)
+			{
+				flush();
+			}
 		}
 	}
 
@@ -162,15 +239,150 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	void send(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
-		final String json = gson.toJson(message, WebsocketMessage.class);
+		if (batchFrames)
+		{
+			sendBatch(Collections.singletonList(message));
+			return;
+		}
+
+		final String json = gson().toJson(message, WebsocketMessage.class);
 		final Party.Data data = Party.Data.newBuilder()
 			.setType(message.getClass().getSimpleName())
 			.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
 			.build();
-		final Party.C2S c2s = Party.C2S.newBuilder()
+		send(Party.C2S.newBuilder()
 			.setData(data)
+			.build());
+	}
+
+	/**
+	 * Queues a message to be sent in one batch frame with the others queued before the next {@link #flush()},
+	 * or sends it immediately if batch frames are not in use.
+	 */
+	void queue(WebsocketMessage message)
+	{
+		if (!batchFrames)
+		{
+			send(message);
+			return;
+		}
+
+		log.debug("Queueing: {}", message);
+		synchronized (pending)
+		{
+			pending.add(message);
+		}
+	}
+
+	void flush()
+	{
+		final List<WebsocketMessage> messages;
+		synchronized (pending)
+		{
+			if (pending.isEmpty())
+			{
+				return;
+			}
+			messages = new ArrayList<>(pending);
+			pending.clear();
+		}
+
+		if (batchFrames)
+		{
+			sendBatch(messages);
+		}
+		else
+		{
+			messages.forEach(this::send);
+		}
+	}
+
+	private void sendBatch(List<WebsocketMessage> messages)
+	{
+		final Party.Data data = Party.Data.newBuilder()
+			.setType(BATCH_TYPE)
+			.setData(com.google.protobuf.ByteString.copyFrom(encodeBatch(messages).readByteArray()))
 			.build();
-		send(c2s);
+		send(Party.C2S.newBuilder()
+			.setData(data)
+			.build());
+	}
+
+	/*
+	 * A batch is a sequence of messages, each written as
+	 *   type name, string
+	 *   format, byte: FORMAT_BINARY or FORMAT_JSON for messages without a codec
+	 *   length, varint
+	 *   the message
+	 * Receivers skip messages they have no codec for.
+	 */
+	@SuppressWarnings("unchecked")
+	Buffer encodeBatch(List<WebsocketMessage> messages)
+	{
+		final Buffer out = new Buffer();
+		final Buffer body = new Buffer();
+		for (WebsocketMessage message : messages)
+		{
+			final WebsocketMessageCodec<WebsocketMessage> codec = (WebsocketMessageCodec<WebsocketMessage>) codecs.get(message.getClass());
+			if (codec != null)
+			{
+				codec.encode(message, body);
+			}
+			else
+			{
+				body.writeUtf8(gson().toJson(message, WebsocketMessage.class));
+			}
+
+			WebsocketMessageCodec.writeString(out, message.getClass().getSimpleName());
+			out.writeByte(codec != null ? FORMAT_BINARY : FORMAT_JSON);
+			WebsocketMessageCodec.writeVarInt(out, (int) body.size());
+			out.write(body, body.size());
+		}
+		return out;
+	}
+
+	List<WebsocketMessage> decodeBatch(Buffer in)
+	{
+		final List<WebsocketMessage> messages = new ArrayList<>();
+		final Buffer body = new Buffer();
+		try
+		{
+			while (!in.exhausted())
+			{
+				final String type = WebsocketMessageCodec.readString(in);
+				final byte format = in.readByte();
+				final int length = WebsocketMessageCodec.readVarInt(in);
+				body.clear();
+				in.readFully(body, length);
+
+				try
+				{
+					if (format == FORMAT_JSON)
+					{
+						messages.add(gson().fromJson(body.readUtf8(), WebsocketMessage.class));
+						continue;
+					}
+
+					final WebsocketMessageCodec<?> codec = codecsByName.get(type);
+					if (codec == null)
+					{
+						log.debug("Skipping message {} with no codec", type);
+						continue;
+					}
+
+					messages.add(codec.decode(body));
+				}
+				catch (IOException | RuntimeException e)
+				{
+					log.debug("Failed to deserialize message {}", type, e);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			log.debug("Failed to deserialize batch", e);
+		}
+		return messages;
 	}
 
 	private void send(Party.C2S message)
@@ -229,11 +441,22 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 				break;
 			case DATA:
 				Party.PartyData data = s2c.getData();
+				if (BATCH_TYPE.equals(data.getType()))
+				{
+					final Buffer batch = new Buffer();
+					batch.write(data.getData().toByteArray());
+					for (WebsocketMessage message : decodeBatch(batch))
+					{
+						post(message, data.getMemberId());
+					}
+					return;
+				}
+
 				final WebsocketMessage message;
 
 				try
 				{
-					message = gson.fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
+					message = gson().fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
 				}
 				catch (JsonParseException e)
 				{
@@ -241,14 +464,19 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 					return;
 				}
 
-				if (message instanceof PartyMemberMessage)
-				{
-					((PartyMemberMessage) message).setMemberId(data.getMemberId());
-				}
+				post(message, data.getMemberId());
+		}
+	}
 
-				log.debug("Got: {}", message);
-				eventBus.post(message);
+	private void post(WebsocketMessage message, long memberId)
+	{
+		if (message instanceof PartyMemberMessage)
+		{
+			((PartyMemberMessage) message).setMemberId(memberId);
 		}
+
+		log.debug("Got: {}", message);
+		eventBus.post(message);
 	}
 
 	@Override
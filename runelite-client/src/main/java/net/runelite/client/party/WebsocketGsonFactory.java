@@ -24,11 +24,14 @@
  */
 package net.runelite.client.party;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import net.runelite.client.party.messages.BatchSupport;
 import net.runelite.client.party.messages.PartyChatMessage;
 import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
@@ -38,12 +41,18 @@ import net.runelite.http.api.RuneLiteAPI;
 class WebsocketGsonFactory
 {
 	private static final Collection<Class<? extends WebsocketMessage>> MESSAGES;
+	static final Map<Class<? extends WebsocketMessage>, WebsocketMessageCodec<?>> CODECS = ImmutableMap.of(
+		UserSync.class, UserSync.CODEC,
+		PartyChatMessage.class, PartyChatMessage.CODEC
+	);
 
 	static
 	{
 		final List<Class<? extends WebsocketMessage>> messages = new ArrayList<>();
 		messages.add(UserSync.class);
 		messages.add(PartyChatMessage.class);
+		// no codec, as it is sent before members are known to support batch frames
+		messages.add(BatchSupport.class);
 		MESSAGES = messages;
 	}
 
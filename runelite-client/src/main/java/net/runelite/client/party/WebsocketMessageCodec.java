@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import net.runelite.client.party.messages.WebsocketMessage;
+import okio.Buffer;
+
+/**
+ * Reads and writes a websocket message in a compact binary form, without reflection.
+ * Messages registered with a codec are sent in batch frames to party members which support them,
+ * and as json to anyone else.
+ *
+ * @param <T> the message type
+ */
+public interface WebsocketMessageCodec<T extends WebsocketMessage>
+{
+	void encode(T message, Buffer out);
+
+	T decode(Buffer in) throws IOException;
+
+	@FunctionalInterface
+	interface Decoder<T>
+	{
+		T decode(Buffer in) throws IOException;
+	}
+
+	static <T extends WebsocketMessage> WebsocketMessageCodec<T> of(BiConsumer<T, Buffer> encoder, Decoder<T> decoder)
+	{
+		return new WebsocketMessageCodec<T>()
+		{
+			@Override
+			public void encode(T message, Buffer out)
+			{
+				encoder.accept(message, out);
+			}
+
+			@Override
+			public T decode(Buffer in) throws IOException
+			{
+				return decoder.decode(in);
+			}
+		};
+	}
+
+	/**
+	 * Writes an int using 1-5 bytes, fewer for small non-negative values
+	 */
+	static void writeVarInt(Buffer out, int value)
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	static int readVarInt(Buffer in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7)
+		{
+			if (in.exhausted())
+			{
+				throw new EOFException();
+			}
+
+			final byte b = in.readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IOException("varint too long");
+	}
+
+	static void writeString(Buffer out, @Nullable String value)
+	{
+		if (value == null)
+		{
+			writeVarInt(out, 0);
+			return;
+		}
+
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length + 1);
+		out.write(bytes);
+	}
+
+	@Nullable
+	static String readString(Buffer in) throws IOException
+	{
+		final int length = readVarInt(in);
+		if (length == 0)
+		{
+			return null;
+		}
+		return in.readUtf8(length - 1);
+	}
+}
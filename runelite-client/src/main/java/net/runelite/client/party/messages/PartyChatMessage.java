@@ -25,9 +25,14 @@
 package net.runelite.client.party.messages;
 
 import lombok.Value;
+import net.runelite.client.party.WebsocketMessageCodec;
 
 @Value
 public class PartyChatMessage extends PartyMemberMessage
 {
 	private final String value;
+
+	public static final WebsocketMessageCodec<PartyChatMessage> CODEC = WebsocketMessageCodec.of(
+		(message, out) -> WebsocketMessageCodec.writeString(out, message.value),
+		in -> new PartyChatMessage(WebsocketMessageCodec.readString(in)));
 }
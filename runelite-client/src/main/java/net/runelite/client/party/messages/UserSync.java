@@ -24,6 +24,13 @@
  */
 package net.runelite.client.party.messages;
 
+import net.runelite.client.party.WebsocketMessageCodec;
+
 public class UserSync extends PartyMemberMessage
 {
+	public static final WebsocketMessageCodec<UserSync> CODEC = WebsocketMessageCodec.of(
+		(message, out) ->
+		{
+		},
+		in -> new UserSync());
 }
@@ -39,6 +39,7 @@ import net.runelite.api.Point;
 import net.runelite.api.Tile;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.game.AgilityShortcut;
+import net.runelite.client.ui.overlay.ConvexHullCache;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -53,9 +54,10 @@ class AgilityOverlay extends Overlay
 	private final Client client;
 	private final AgilityPlugin plugin;
 	private final AgilityConfig config;
+	private final ConvexHullCache convexHullCache;
 
 	@Inject
-	private AgilityOverlay(Client client, AgilityPlugin plugin, AgilityConfig config)
+	private AgilityOverlay(Client client, AgilityPlugin plugin, AgilityConfig config, ConvexHullCache convexHullCache)
 	{
 		super(plugin);
 		setPosition(OverlayPosition.DYNAMIC);
@@ -63,6 +65,7 @@ class AgilityOverlay extends Overlay
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
+		this.convexHullCache = convexHullCache;
 	}
 
 	@Override
@@ -98,7 +101,8 @@ class AgilityOverlay extends Overlay
 					}
 					return;
 				}
-				Shape objectClickbox = object.getClickbox();
+				// obstacles are often marked by object indicators too, which shares the projected clickbox
+				Shape objectClickbox = convexHullCache.getClickbox(object);
 				if (objectClickbox != null)
 				{
 					AgilityShortcut agilityShortcut = obstacle.getShortcut();
@@ -27,21 +27,49 @@ package net.runelite.client.plugins.boosts;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.Skill;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
-import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.ComponentConstants;
+import net.runelite.client.ui.overlay.components.RetainedPanelComponent;
 import net.runelite.client.util.ColorUtil;
 
 class BoostsOverlay extends OverlayPanel
 {
+	private static final Color DRAINED_COLOR = new Color(238, 51, 51);
+	private static final Dimension DEFAULT_SIZE = new Dimension(ComponentConstants.STANDARD_WIDTH, 0);
+
 	private final Client client;
 	private final BoostsConfig config;
 	private final BoostsPlugin plugin;
 
+	// kept between frames, so only the changed values are formatted and laid out again
+	private final RetainedPanelComponent retainedPanelComponent = new RetainedPanelComponent();
+	private final RetainedPanelComponent.Line nextBuffLine;
+	private final RetainedPanelComponent.Line nextDebuffLine;
+	private final Map<Skill, SkillLine> skillLines = new EnumMap<>(Skill.class);
+	private int lastBuffTime = -1;
+	private int lastDebuffTime = -1;
+
+	private static final class SkillLine
+	{
+		private final RetainedPanelComponent.Line line;
+		private int boosted = -1;
+		private int base = -1;
+		private boolean relative;
+		private Color color;
+
+		private SkillLine(RetainedPanelComponent.Line line)
+		{
+			this.line = line;
+		}
+	}
+
 	@Inject
 	private BoostsOverlay(Client client, BoostsConfig config, BoostsPlugin plugin)
 	{
@@ -51,6 +79,14 @@ class BoostsOverlay extends OverlayPanel
 		this.config = config;
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(PRIORITY_MED);
+
+		nextBuffLine = retainedPanelComponent.addLine("Next + restore in", null).setVisible(false);
+		nextDebuffLine = retainedPanelComponent.addLine("Next - restore in", null).setVisible(false);
+		// the skills to display are an EnumSet, so are shown in declaration order
+		for (Skill skill : Skill.values())
+		{
+			skillLines.put(skill, new SkillLine(retainedPanelComponent.addLine(skill.getName(), null).setVisible(false)));
+		}
 	}
 
 	@Override
@@ -63,60 +99,84 @@ class BoostsOverlay extends OverlayPanel
 		}
 
 		int nextChange = plugin.getChangeDownTicks();
+		nextBuffLine.setVisible(nextChange != -1);
 		if (nextChange != -1)
 		{
-			panelComponent.getChildren().add(LineComponent.builder()
-				.left("Next + restore in")
-				.right(String.valueOf(plugin.getChangeTime(nextChange)))
-				.build());
+			final int time = plugin.getChangeTime(nextChange);
+			if (time != lastBuffTime)
+			{
+				nextBuffLine.setRight(String.valueOf(time));
+				lastBuffTime = time;
+			}
 		}
 
 		nextChange = plugin.getChangeUpTicks();
+		nextDebuffLine.setVisible(nextChange != -1);
 		if (nextChange != -1)
 		{
-			panelComponent.getChildren().add(LineComponent.builder()
-				.left("Next - restore in")
-				.right(String.valueOf(plugin.getChangeTime(nextChange)))
-				.build());
+			final int time = plugin.getChangeTime(nextChange);
+			if (time != lastDebuffTime)
+			{
+				nextDebuffLine.setRight(String.valueOf(time));
+				lastDebuffTime = time;
+			}
 		}
 
-		for (Skill skill : boostedSkills)
+		final boolean relative = config.useRelativeBoost();
+		for (Map.Entry<Skill, SkillLine> entry : skillLines.entrySet())
 		{
+			final Skill skill = entry.getKey();
+			final SkillLine skillLine = entry.getValue();
+			final boolean shown = boostedSkills.contains(skill);
+			skillLine.line.setVisible(shown);
+			if (!shown)
+			{
+				continue;
+			}
+
 			final int boosted = client.getBoostedSkillLevel(skill);
 			final int base = client.getRealSkillLevel(skill);
 			final int boost = boosted - base;
 			final Color strColor = getTextColor(boost);
-			String str;
 
-			if (config.useRelativeBoost())
+			if (boosted != skillLine.boosted || base != skillLine.base || relative != skillLine.relative || strColor != skillLine.color)
 			{
-				str = String.valueOf(boost);
-				if (boost > 0)
+				String str;
+
+				if (relative)
 				{
-					str = "+" + str;
+					str = String.valueOf(boost);
+					if (boost > 0)
+					{
+						str = "+" + str;
+					}
+				}
+				else
+				{
+					str = ColorUtil.prependColorTag(Integer.toString(boosted), strColor)
+						+ ColorUtil.prependColorTag("/" + base, Color.WHITE);
 				}
-			}
-			else
-			{
-				str = ColorUtil.prependColorTag(Integer.toString(boosted), strColor)
-					+ ColorUtil.prependColorTag("/" + base, Color.WHITE);
-			}
 
-			panelComponent.getChildren().add(LineComponent.builder()
-				.left(skill.getName())
-				.right(str)
-				.rightColor(strColor)
-				.build());
+				skillLine.line.setRight(str);
+				skillLine.line.setRightColor(strColor);
+				skillLine.boosted = boosted;
+				skillLine.base = base;
+				skillLine.relative = relative;
+				skillLine.color = strColor;
+			}
 		}
 
-		return super.render(graphics);
+		// as OverlayPanel.render does for its panel component
+		retainedPanelComponent.setPreferredSize(getPreferredSize() != null ? getPreferredSize() : DEFAULT_SIZE);
+		retainedPanelComponent.setBackgroundColor(getPreferredColor() != null ? getPreferredColor() : ComponentConstants.STANDARD_BACKGROUND_COLOR);
+		return retainedPanelComponent.render(graphics);
 	}
 
 	private Color getTextColor(int boost)
 	{
 		if (boost < 0)
 		{
-			return new Color(238, 51, 51);
+			return DRAINED_COLOR;
 		}
 
 		return boost <= config.boostThreshold() ? Color.YELLOW : Color.GREEN;
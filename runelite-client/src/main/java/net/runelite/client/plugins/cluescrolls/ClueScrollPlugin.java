@@ -105,12 +105,10 @@ import net.runelite.client.plugins.PluginDependency;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.plugins.banktags.BankTagsPlugin;
 import net.runelite.client.plugins.banktags.TagManager;
-import net.runelite.client.plugins.cluescrolls.clues.AnagramClue;
 import net.runelite.client.plugins.cluescrolls.clues.BeginnerMapClue;
-import net.runelite.client.plugins.cluescrolls.clues.CipherClue;
+import net.runelite.client.plugins.cluescrolls.clues.ClueIndex;
 import net.runelite.client.plugins.cluescrolls.clues.ClueScroll;
 import net.runelite.client.plugins.cluescrolls.clues.CoordinateClue;
-import net.runelite.client.plugins.cluescrolls.clues.CrypticClue;
 import net.runelite.client.plugins.cluescrolls.clues.EmoteClue;
 import net.runelite.client.plugins.cluescrolls.clues.FairyRingClue;
 import net.runelite.client.plugins.cluescrolls.clues.FaloTheBardClue;
@@ -845,58 +843,11 @@ public class ClueScrollPlugin extends Plugin
 			return coordinatesToWorldPoint(text);
 		}
 
-		final AnagramClue anagramClue = AnagramClue.forText(this, text);
-		if (anagramClue != null)
-		{
-			return anagramClue;
-		}
-
-		final CipherClue cipherClue = CipherClue.forText(text);
-		if (cipherClue != null)
-		{
-			return cipherClue;
-		}
-
-		final CrypticClue crypticClue = CrypticClue.forText(text);
-
-		if (crypticClue != null)
-		{
-			return crypticClue;
-		}
-
-		final EmoteClue emoteClue = EmoteClue.forText(text);
-
-		if (emoteClue != null)
-		{
-			return emoteClue;
-		}
-
-		final FairyRingClue fairyRingClue = FairyRingClue.forText(text);
-
-		if (fairyRingClue != null)
-		{
-			return fairyRingClue;
-		}
-
-		final FaloTheBardClue faloTheBardClue = FaloTheBardClue.forText(text);
-
-		if (faloTheBardClue != null)
-		{
-			return faloTheBardClue;
-		}
+		final ClueScroll clueScroll = ClueIndex.forText(this, text, rawText);
 
-		final HotColdClue hotColdClue = HotColdClue.forText(text);
-
-		if (hotColdClue != null)
+		if (clueScroll != null)
 		{
-			return hotColdClue;
-		}
-
-		final SkillChallengeClue skillChallengeClue = SkillChallengeClue.forText(text, rawText);
-
-		if (skillChallengeClue != null)
-		{
-			return skillChallengeClue;
+			return clueScroll;
 		}
 
 		// three step cryptic clues need unedited text to check which steps are already done
@@ -917,58 +868,7 @@ public class ClueScrollPlugin extends Plugin
 			return null;
 		}
 
-		final MapClue mapClue = MapClue.forItemId(itemId);
-		if (mapClue != null)
-		{
-			return mapClue;
-		}
-
-		final MusicClue musicClue = MusicClue.forItemId(itemId);
-		if (musicClue != null)
-		{
-			return musicClue;
-		}
-
-		final CoordinateClue coordinateClue = CoordinateClue.forItemId(itemId);
-		if (coordinateClue != null)
-		{
-			return coordinateClue;
-		}
-
-		final AnagramClue anagramClue = AnagramClue.forItemId(itemId);
-		if (anagramClue != null)
-		{
-			return anagramClue;
-		}
-
-		final CipherClue cipherClue = CipherClue.forItemId(itemId);
-		if (cipherClue != null)
-		{
-			return cipherClue;
-		}
-
-		final CrypticClue crypticClue = CrypticClue.forItemId(itemId);
-
-		if (crypticClue != null)
-		{
-			return crypticClue;
-		}
-
-		final EmoteClue emoteClue = EmoteClue.forItemId(itemId);
-
-		if (emoteClue != null)
-		{
-			return emoteClue;
-		}
-
-		final FairyRingClue fairyRingClue = FairyRingClue.forItemId(itemId);
-
-		if (fairyRingClue != null)
-		{
-			return fairyRingClue;
-		}
-
-		return null;
+		return ClueIndex.forItemId(itemId);
 	}
 
 	private static ClueScroll findNpcChatClueScroll(String sender, String rawText)
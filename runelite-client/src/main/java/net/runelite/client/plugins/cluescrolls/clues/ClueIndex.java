@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.cluescrolls.clues;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import net.runelite.client.plugins.cluescrolls.ClueScrollPlugin;
+
+/**
+ * Precomputed lookup tables over the static clue lists, built once on first use.
+ * <p>
+ * Texts are keyed by their lowercased form, and each table is filled in the order
+ * the plugin used to try the individual clue types so the first match still wins.
+ */
+public final class ClueIndex
+{
+	private static final List<AnagramClue> DYNAMIC_ANAGRAMS;
+	private static final Map<String, ClueScroll> BY_TEXT;
+	private static final Map<String, CrypticClue> CRYPTIC_BY_TEXT;
+	private static final Map<String, SkillChallengeClue> CHALLENGE_BY_RETURN_TEXT;
+	private static final Map<String, SkillChallengeClue> CHALLENGE_BY_RAW_TEXT;
+	private static final Map<Integer, ClueScroll> BY_ITEM_ID;
+
+	static
+	{
+		final ImmutableList.Builder<AnagramClue> dynamicAnagrams = ImmutableList.builder();
+		final Map<String, ClueScroll> byText = new LinkedHashMap<>();
+
+		for (AnagramClue clue : AnagramClue.CLUES)
+		{
+			final String text = clue.getText();
+			if (text == null)
+			{
+				// the anagram text depends on game state, so it is resolved per lookup
+				dynamicAnagrams.add(clue);
+			}
+			else
+			{
+				put(byText, AnagramClue.ANAGRAM_TEXT + text, clue);
+				put(byText, AnagramClue.ANAGRAM_TEXT_BEGINNER + text, clue);
+			}
+			put(byText, clue.getQuestion(), clue);
+		}
+
+		for (CipherClue clue : CipherClue.CLUES)
+		{
+			put(byText, clue.getText(), clue);
+			put(byText, clue.getQuestion(), clue);
+		}
+
+		final Map<String, CrypticClue> crypticByText = new HashMap<>();
+		for (CrypticClue clue : CrypticClue.CLUES)
+		{
+			put(byText, clue.getText(), clue);
+			put(byText, clue.getQuestionText(), clue);
+			put(crypticByText, clue.getText(), clue);
+		}
+
+		for (EmoteClue clue : EmoteClue.CLUES)
+		{
+			put(byText, clue.getText(), clue);
+		}
+
+		for (FairyRingClue clue : FairyRingClue.CLUES)
+		{
+			put(byText, clue.getText(), clue);
+		}
+
+		for (FaloTheBardClue clue : FaloTheBardClue.CLUES)
+		{
+			put(byText, clue.getText(), clue);
+		}
+
+		put(byText, HotColdClue.BEGINNER_CLUE.getText(), HotColdClue.BEGINNER_CLUE);
+		put(byText, HotColdClue.MASTER_CLUE.getText(), HotColdClue.MASTER_CLUE);
+
+		final Map<String, SkillChallengeClue> challengeByReturnText = new HashMap<>();
+		final Map<String, SkillChallengeClue> challengeByRawText = new HashMap<>();
+		for (SkillChallengeClue clue : SkillChallengeClue.CLUES)
+		{
+			put(challengeByReturnText, clue.getReturnText(), clue);
+			// raw challenges are matched case sensitively
+			challengeByRawText.putIfAbsent(clue.getRawChallenge(), clue);
+		}
+
+		final Map<Integer, ClueScroll> byItemId = new HashMap<>();
+		for (MapClue clue : MapClue.CLUES)
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		for (MusicClue clue : MusicClue.CLUES)
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		for (CoordinateClue clue : CoordinateClue.CLUES.values())
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		for (AnagramClue clue : AnagramClue.CLUES)
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		for (CipherClue clue : CipherClue.CLUES)
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		for (CrypticClue clue : CrypticClue.CLUES)
+		{
+			for (int itemId : clue.getItemIds())
+			{
+				byItemId.putIfAbsent(itemId, clue);
+			}
+		}
+		for (EmoteClue clue : EmoteClue.CLUES)
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		for (FairyRingClue clue : FairyRingClue.CLUES)
+		{
+			byItemId.putIfAbsent(clue.getItemId(), clue);
+		}
+		// clues without an item id are stored as -1
+		byItemId.remove(-1);
+
+		DYNAMIC_ANAGRAMS = dynamicAnagrams.build();
+		BY_TEXT = ImmutableMap.copyOf(byText);
+		CRYPTIC_BY_TEXT = ImmutableMap.copyOf(crypticByText);
+		CHALLENGE_BY_RETURN_TEXT = ImmutableMap.copyOf(challengeByReturnText);
+		CHALLENGE_BY_RAW_TEXT = ImmutableMap.copyOf(challengeByRawText);
+		BY_ITEM_ID = ImmutableMap.copyOf(byItemId);
+	}
+
+	private ClueIndex()
+	{
+	}
+
+	private static <T extends ClueScroll> void put(Map<String, ? super T> map, @Nullable String text, T clue)
+	{
+		if (text != null)
+		{
+			map.putIfAbsent(text.toLowerCase(), clue);
+		}
+	}
+
+	/**
+	 * Finds the clue for the given widget text, covering every clue type which is identified by its full text.
+	 *
+	 * @param plugin  the clue scroll plugin, used to resolve clue texts which depend on game state
+	 * @param text    sanitized and lowercased clue text
+	 * @param rawText clue text as read from the widget
+	 * @return the matching clue, or null if there is none
+	 */
+	@Nullable
+	public static ClueScroll forText(ClueScrollPlugin plugin, String text, String rawText)
+	{
+		for (AnagramClue clue : DYNAMIC_ANAGRAMS)
+		{
+			final String clueText = clue.getTextProvider().apply(plugin);
+			if (text.equalsIgnoreCase(AnagramClue.ANAGRAM_TEXT + clueText)
+				|| text.equalsIgnoreCase(AnagramClue.ANAGRAM_TEXT_BEGINNER + clueText))
+			{
+				return clue;
+			}
+		}
+
+		final ClueScroll clue = BY_TEXT.get(text.toLowerCase());
+		if (clue != null)
+		{
+			if (clue instanceof HotColdClue)
+			{
+				((HotColdClue) clue).reset();
+			}
+			return clue;
+		}
+
+		return forSkillChallengeText(text, rawText);
+	}
+
+	@Nullable
+	private static SkillChallengeClue forSkillChallengeText(String text, String rawText)
+	{
+		final SkillChallengeClue returned = CHALLENGE_BY_RETURN_TEXT.get(rawText.toLowerCase());
+		final SkillChallengeClue started = CHALLENGE_BY_RAW_TEXT.get(text);
+
+		// when both match, the clue listed first wins, as it would in a scan over the clue list
+		if (returned != null && (started == null || indexOf(returned) <= indexOf(started)))
+		{
+			returned.setChallengeCompleted(true);
+			return returned;
+		}
+		else if (started != null)
+		{
+			started.setChallengeCompleted(false);
+			return started;
+		}
+
+		return null;
+	}
+
+	private static int indexOf(SkillChallengeClue clue)
+	{
+		return SkillChallengeClue.CLUES.indexOf(clue);
+	}
+
+	/**
+	 * Finds a cryptic clue by its exact text, ignoring case.
+	 */
+	@Nullable
+	static CrypticClue forCrypticText(String text)
+	{
+		return CRYPTIC_BY_TEXT.get(text.toLowerCase());
+	}
+
+	/**
+	 * Finds the clue for the given clue scroll item.
+	 *
+	 * @param itemId clue scroll item id
+	 * @return the matching clue, or null if there is none
+	 */
+	@Nullable
+	public static ClueScroll forItemId(int itemId)
+	{
+		return BY_ITEM_ID.get(itemId);
+	}
+
+	/**
+	 * Returns every indexed clue text, lowercased.
+	 */
+	@VisibleForTesting
+	public static Collection<String> getTexts()
+	{
+		return BY_TEXT.keySet();
+	}
+}
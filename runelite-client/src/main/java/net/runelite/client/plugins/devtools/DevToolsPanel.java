@@ -29,17 +29,21 @@ import com.formdev.flatlaf.extras.FlatUIDefaultsInspector;
 import com.google.inject.ProvisionException;
 import java.awt.BorderLayout;
 import java.awt.GridLayout;
+import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.swing.JButton;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.MenuAction;
 import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
+import net.runelite.client.replay.EventRecorder;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.overlay.OverlayMenuEntry;
@@ -62,6 +66,7 @@ class DevToolsPanel extends PluginPanel
 	private final InventoryInspector inventoryInspector;
 	private final InfoBoxManager infoBoxManager;
 	private final ScheduledExecutorService scheduledExecutorService;
+	private final EventRecorder eventRecorder;
 
 	@Inject
 	private DevToolsPanel(
@@ -75,7 +80,8 @@ class DevToolsPanel extends PluginPanel
 		InventoryInspector inventoryInspector,
 		Notifier notifier,
 		InfoBoxManager infoBoxManager,
-		ScheduledExecutorService scheduledExecutorService)
+		ScheduledExecutorService scheduledExecutorService,
+		EventRecorder eventRecorder)
 	{
 		super();
 		this.client = client;
@@ -89,6 +95,7 @@ class DevToolsPanel extends PluginPanel
 		this.notifier = notifier;
 		this.infoBoxManager = infoBoxManager;
 		this.scheduledExecutorService = scheduledExecutorService;
+		this.eventRecorder = eventRecorder;
 
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -220,6 +227,27 @@ class DevToolsPanel extends PluginPanel
 
 		container.add(plugin.getWorldEntities());
 
+		container.add(plugin.getEventRecording());
+		plugin.getEventRecording().addActionListener(ev ->
+		{
+			if (plugin.getEventRecording().isActive())
+			{
+				eventRecorder.stop();
+				return;
+			}
+
+			try
+			{
+				File file = eventRecorder.start();
+				notifier.notify("Recording events to " + file.getName());
+			}
+			catch (IOException e)
+			{
+				log.warn("unable to start event recording", e);
+				SwingUtilities.invokeLater(() -> plugin.getEventRecording().setActive(false));
+			}
+		});
+
 		return container;
 	}
 }
@@ -78,6 +78,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.replay.EventRecorder;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.ui.NavigationButton;
@@ -141,6 +142,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private DevToolsConfig config;
 
+	@Inject
+	private EventRecorder eventRecorder;
+
 	private DevToolsButton players;
 	private DevToolsButton npcs;
 	private DevToolsButton groundItems;
@@ -173,6 +177,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton menus;
 	private DevToolsButton uiDefaultsInspector;
 	private DevToolsButton worldEntities;
+	private DevToolsButton eventRecording;
 	private NavigationButton navButton;
 
 	private final HotkeyListener swingInspectorHotkeyListener = new HotkeyListener(() -> config.swingInspectorHotkey())
@@ -277,6 +282,7 @@ public class DevToolsPlugin extends Plugin
 		uiDefaultsInspector = new DevToolsButton("Swing Defaults");
 
 		worldEntities = new DevToolsButton("World Entities");
+		eventRecording = new DevToolsButton("Record Events");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -307,6 +313,7 @@ public class DevToolsPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
+		eventRecorder.stop();
 		eventBus.unregister(soundEffectOverlay);
 		overlayManager.remove(overlay);
 		overlayManager.remove(locationOverlay);
@@ -130,7 +130,7 @@ public class DiscordPlugin extends Plugin
 		checkForGameStateUpdate();
 		checkForAreaUpdate();
 
-		wsClient.registerMessage(DiscordUserInfo.class);
+		wsClient.registerMessage(DiscordUserInfo.class, DiscordUserInfo.CODEC);
 	}
 
 	@Override
@@ -26,12 +26,24 @@ package net.runelite.client.plugins.discord;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import net.runelite.client.party.WebsocketMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 class DiscordUserInfo extends PartyMemberMessage
 {
+	static final WebsocketMessageCodec<DiscordUserInfo> CODEC = WebsocketMessageCodec.of(
+		(message, out) ->
+		{
+			WebsocketMessageCodec.writeString(out, message.userId);
+			WebsocketMessageCodec.writeString(out, message.username);
+			WebsocketMessageCodec.writeString(out, message.discriminator);
+			WebsocketMessageCodec.writeString(out, message.avatarId);
+		},
+		in -> new DiscordUserInfo(WebsocketMessageCodec.readString(in), WebsocketMessageCodec.readString(in),
+			WebsocketMessageCodec.readString(in), WebsocketMessageCodec.readString(in)));
+
 	private final String userId;
 	private final String username;
 	private final String discriminator;
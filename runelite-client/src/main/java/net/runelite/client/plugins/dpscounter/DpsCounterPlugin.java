@@ -159,7 +159,7 @@ public class DpsCounterPlugin extends Plugin
 	{
 		total.reset();
 		overlayManager.add(dpsOverlay);
-		wsClient.registerMessage(DpsUpdate.class);
+		wsClient.registerMessage(DpsUpdate.class, DpsUpdate.CODEC);
 	}
 
 	@Override
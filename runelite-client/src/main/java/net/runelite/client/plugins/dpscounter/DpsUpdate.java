@@ -27,12 +27,21 @@ package net.runelite.client.plugins.dpscounter;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import net.runelite.client.party.WebsocketMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class DpsUpdate extends PartyMemberMessage
 {
+	public static final WebsocketMessageCodec<DpsUpdate> CODEC = WebsocketMessageCodec.of(
+		(message, out) ->
+		{
+			WebsocketMessageCodec.writeVarInt(out, message.hit);
+			out.writeByte(message.isBoss ? 1 : 0);
+		},
+		in -> new DpsUpdate(WebsocketMessageCodec.readVarInt(in), in.readByte() != 0));
+
 	private int hit;
 	private boolean isBoss;
 }
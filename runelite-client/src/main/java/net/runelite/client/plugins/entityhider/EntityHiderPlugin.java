@@ -28,6 +28,8 @@ package net.runelite.client.plugins.entityhider;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -38,14 +40,27 @@ import net.runelite.api.Projectile;
 import net.runelite.api.Renderable;
 import net.runelite.api.Scene;
 import net.runelite.api.WorldEntity;
+import net.runelite.api.events.ClanChannelChanged;
+import net.runelite.api.events.ClanMemberJoined;
+import net.runelite.api.events.ClanMemberLeft;
+import net.runelite.api.events.FriendsChatChanged;
+import net.runelite.api.events.FriendsChatMemberJoined;
+import net.runelite.api.events.FriendsChatMemberLeft;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.NameableNameChanged;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.RemovedFriend;
 import net.runelite.api.gameval.NpcID;
 import net.runelite.api.gameval.SpotanimID;
 import net.runelite.client.callback.Hooks;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.PartyChanged;
 import net.runelite.client.game.NpcUtil;
 import net.runelite.client.party.PartyService;
+import net.runelite.client.party.events.UserJoin;
+import net.runelite.client.party.events.UserPart;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 
@@ -88,6 +103,16 @@ public class EntityHiderPlugin extends Plugin
 		NpcID.MACRO_COUNTCHECK_SURFACE, NpcID.MACRO_COUNTCHECK_UNDERWATER
 	);
 
+	private static final int MAX_PLAYERS = 2048;
+
+	// what a player is to the local player, as bits so the hidden ones can be a mask
+	private static final int PLAYER_PARTY = 1;
+	private static final int PLAYER_FRIEND = 1 << 1;
+	private static final int PLAYER_FRIENDS_CHAT = 1 << 2;
+	private static final int PLAYER_CLAN = 1 << 3;
+	private static final int PLAYER_IGNORED = 1 << 4;
+	private static final int PLAYER_OTHER = 1 << 5;
+
 	@Inject
 	private Client client;
 
@@ -122,6 +147,15 @@ public class EntityHiderPlugin extends Plugin
 	private boolean hideAttackers;
 	private boolean hideProjectiles;
 
+	// players' classes hidden in 3d and 2d
+	private int hiddenPlayers;
+	private int hiddenPlayers2D;
+
+	// player classifications by player index, valid while the player and its name are the same as when classified
+	private final Player[] classifiedPlayers = new Player[MAX_PLAYERS];
+	private final String[] classifiedNames = new String[MAX_PLAYERS];
+	private final byte[] playerClasses = new byte[MAX_PLAYERS];
+
 	private final Hooks.RenderableDrawListener drawListener = this::shouldDraw;
 
 	@Provides
@@ -142,6 +176,7 @@ public class EntityHiderPlugin extends Plugin
 	protected void shutDown()
 	{
 		hooks.unregisterRenderableDrawListener(drawListener);
+		clearPlayerClasses();
 	}
 
 	@Subscribe
@@ -153,6 +188,95 @@ public class EntityHiderPlugin extends Plugin
 		}
 	}
 
+	@Subscribe
+	public void onGameTick(GameTick e)
+	{
+		// catches anything without an event, such as ignore list changes
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onPlayerSpawned(PlayerSpawned e)
+	{
+		final int id = e.getPlayer().getId();
+		if (id >= 0 && id < MAX_PLAYERS)
+		{
+			classifiedPlayers[id] = null;
+		}
+	}
+
+	@Subscribe
+	public void onFriendsChatChanged(FriendsChatChanged e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onFriendsChatMemberJoined(FriendsChatMemberJoined e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onFriendsChatMemberLeft(FriendsChatMemberLeft e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onClanChannelChanged(ClanChannelChanged e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onClanMemberJoined(ClanMemberJoined e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onClanMemberLeft(ClanMemberLeft e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onNameableNameChanged(NameableNameChanged e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onRemovedFriend(RemovedFriend e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onPartyChanged(PartyChanged e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onUserJoin(UserJoin e)
+	{
+		clearPlayerClasses();
+	}
+
+	@Subscribe
+	public void onUserPart(UserPart e)
+	{
+		clearPlayerClasses();
+	}
+
+	private void clearPlayerClasses()
+	{
+		Arrays.fill(classifiedPlayers, null);
+		Arrays.fill(classifiedNames, null);
+	}
+
 	private void updateConfig()
 	{
 		hideOthers = config.hideOthers();
@@ -181,6 +305,14 @@ public class EntityHiderPlugin extends Plugin
 		hideAttackers = config.hideAttackers();
 
 		hideProjectiles = config.hideProjectiles();
+
+		final int hiddenOthers = (hidePartyMembers ? PLAYER_PARTY : 0)
+			| (hideFriends ? PLAYER_FRIEND : 0)
+			| (hideFriendsChatMembers ? PLAYER_FRIENDS_CHAT : 0)
+			| (hideClanMembers ? PLAYER_CLAN : 0)
+			| (hideIgnoredPlayers ? PLAYER_IGNORED : 0);
+		hiddenPlayers = hiddenOthers | (hideOthers ? PLAYER_OTHER : 0);
+		hiddenPlayers2D = hiddenOthers | (hideOthers2D ? PLAYER_OTHER : 0);
 	}
 
 	@VisibleForTesting
@@ -209,28 +341,7 @@ public class EntityHiderPlugin extends Plugin
 				return false; // hide
 			}
 
-			if (partyService.isInParty() && partyService.getMemberByDisplayName(player.getName()) != null)
-			{
-				return !hidePartyMembers;
-			}
-			if (player.isFriend())
-			{
-				return !hideFriends;
-			}
-			if (player.isFriendsChatMember())
-			{
-				return !hideFriendsChatMembers;
-			}
-			if (player.isClanMember())
-			{
-				return !hideClanMembers;
-			}
-			if (client.getIgnoreContainer().findByName(player.getName()) != null)
-			{
-				return !hideIgnoredPlayers;
-			}
-
-			return !(drawingUI ? hideOthers2D : hideOthers);
+			return (getPlayerClass(player) & (drawingUI ? hiddenPlayers2D : hiddenPlayers)) == 0;
 		}
 		else if (renderable instanceof NPC)
 		{
@@ -314,4 +425,47 @@ public class EntityHiderPlugin extends Plugin
 
 		return true;
 	}
+
+	private int getPlayerClass(Player player)
+	{
+		final int id = player.getId();
+		if (id < 0 || id >= MAX_PLAYERS)
+		{
+			return classifyPlayer(player);
+		}
+
+		// player objects are reused for new players at the same index, so check the name too
+		if (classifiedPlayers[id] != player || !Objects.equals(classifiedNames[id], player.getName()))
+		{
+			playerClasses[id] = (byte) classifyPlayer(player);
+			classifiedPlayers[id] = player;
+			classifiedNames[id] = player.getName();
+		}
+		return playerClasses[id];
+	}
+
+	private int classifyPlayer(Player player)
+	{
+		if (partyService.isInParty() && partyService.getMemberByDisplayName(player.getName()) != null)
+		{
+			return PLAYER_PARTY;
+		}
+		if (player.isFriend())
+		{
+			return PLAYER_FRIEND;
+		}
+		if (player.isFriendsChatMember())
+		{
+			return PLAYER_FRIENDS_CHAT;
+		}
+		if (player.isClanMember())
+		{
+			return PLAYER_CLAN;
+		}
+		if (client.getIgnoreContainer().findByName(player.getName()) != null)
+		{
+			return PLAYER_IGNORED;
+		}
+		return PLAYER_OTHER;
+	}
 }
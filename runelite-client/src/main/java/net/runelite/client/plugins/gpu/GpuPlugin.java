@@ -37,6 +37,7 @@ import java.awt.image.DataBufferInt;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -243,6 +244,8 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	private SceneContext[] subs;
 	private Zone[][] nextZones;
 	private Map<Integer, Integer> nextRoofChanges;
+	// reused between screenshots, as a direct buffer the size of the frame is expensive to allocate and free
+	private ByteBuffer screenshotBuffer;
 
 	// Uniforms
 	private int uniUseFog;
@@ -457,6 +460,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			}
 
 			glCapabilities = null;
+			screenshotBuffer = null;
 
 			// force main buffer provider rebuild to turn off alpha channel
 			client.resizeCanvas();
@@ -1545,8 +1549,12 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		width = getScaledValue(t.getScaleX(), width);
 		height = getScaledValue(t.getScaleY(), height);
 
-		ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4)
-			.order(ByteOrder.nativeOrder());
+		if (screenshotBuffer == null || screenshotBuffer.capacity() < width * height * 4)
+		{
+			screenshotBuffer = ByteBuffer.allocateDirect(width * height * 4);
+		}
+		ByteBuffer buffer = screenshotBuffer;
+		buffer.clear();
 
 		glReadBuffer(awtContext.getBufferMode());
 		glReadPixels(0, 0, width, height, GL_RGBA, GL_UNSIGNED_BYTE, buffer);
@@ -1554,16 +1562,15 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
 		int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
 
+		// read as big endian ints of rgba, and flip the rows
+		IntBuffer rgba = buffer.order(ByteOrder.BIG_ENDIAN).asIntBuffer();
 		for (int y = 0; y < height; ++y)
 		{
-			for (int x = 0; x < width; ++x)
+			int offset = (height - y - 1) * width;
+			rgba.get(pixels, offset, width);
+			for (int x = offset; x < offset + width; ++x)
 			{
-				int r = buffer.get() & 0xff;
-				int g = buffer.get() & 0xff;
-				int b = buffer.get() & 0xff;
-				buffer.get(); // alpha
-
-				pixels[(height - y - 1) * width + x] = (r << 16) | (g << 8) | b;
+				pixels[x] >>>= 8;
 			}
 		}
 
@@ -25,6 +25,7 @@
  */
 package net.runelite.client.plugins.grounditems;
 
+import com.google.common.collect.Lists;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.FontMetrics;
@@ -33,9 +34,8 @@ import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -56,6 +56,7 @@ import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.SceneProjection;
 import net.runelite.client.ui.overlay.components.BackgroundComponent;
 import net.runelite.client.ui.overlay.components.ProgressPieComponent;
 import net.runelite.client.ui.overlay.components.TextComponent;
@@ -78,6 +79,7 @@ public class GroundItemsOverlay extends Overlay
 	private final Client client;
 	private final GroundItemsPlugin plugin;
 	private final GroundItemsConfig config;
+	private final SceneProjection sceneProjection;
 	private final StringBuilder itemStringBuilder = new StringBuilder();
 	private final BackgroundComponent backgroundComponent = new BackgroundComponent();
 	private final TextComponent textComponent = new TextComponent();
@@ -85,13 +87,14 @@ public class GroundItemsOverlay extends Overlay
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
 
 	@Inject
-	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
+	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config, SceneProjection sceneProjection)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
+		this.sceneProjection = sceneProjection;
 	}
 
 	@Override
@@ -115,18 +118,19 @@ public class GroundItemsOverlay extends Overlay
 
 		offsetMap.clear();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
+		Iterable<GroundItem> groundItemList = plugin.getGroundItems();
 		GroundItem topGroundItem = null;
 
 		if (plugin.isHotKeyPressed())
 		{
 			// Make copy of ground items because we are going to modify them here, and the array list supports our
 			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
+			final List<GroundItem> groundItems = Lists.newArrayList(groundItemList);
+			groundItemList = groundItems;
 			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
 			GroundItem groundItem = null;
 
-			for (GroundItem item : groundItemList)
+			for (GroundItem item : groundItems)
 			{
 				item.setOffset(offsetMap.compute(item.getItemLayer().getWorldLocation(), (k, v) -> v != null ? v + 1 : 0));
 
@@ -161,8 +165,8 @@ public class GroundItemsOverlay extends Overlay
 
 			if (groundItem != null)
 			{
-				groundItemList.remove(groundItem);
-				groundItemList.add(groundItem);
+				groundItems.remove(groundItem);
+				groundItems.add(groundItem);
 				topGroundItem = groundItem;
 			}
 		}
@@ -210,7 +214,7 @@ public class GroundItemsOverlay extends Overlay
 
 			if (config.highlightTiles())
 			{
-				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint, item.getItemLayer().getHeight());
+				final Polygon poly = sceneProjection.getCanvasTilePoly(groundPoint, item.getItemLayer().getHeight());
 
 				if (poly != null)
 				{
@@ -28,9 +28,8 @@ package net.runelite.client.plugins.grounditems;
 import com.google.common.base.MoreObjects;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Table;
+import com.google.common.collect.Iterables;
 import com.google.inject.Provides;
 import java.awt.Color;
 import java.awt.Rectangle;
@@ -41,7 +40,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,6 +48,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
@@ -70,6 +69,7 @@ import static net.runelite.api.TileItem.OWNERSHIP_OTHER;
 import static net.runelite.api.TileItem.OWNERSHIP_SELF;
 import net.runelite.api.WorldView;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.coords.WorldPointMap;
 import net.runelite.api.events.ClientTick;
 import net.runelite.api.events.FocusChanged;
 import net.runelite.api.events.ItemDespawned;
@@ -189,12 +189,14 @@ public class GroundItemsPlugin extends Plugin
 	@Inject
 	private ColorPickerManager colorPickerManager;
 
-	@Getter
-	private final Table<WorldPoint, Integer, GroundItem> collectedGroundItems = HashBasedTable.create();
+	/**
+	 * Ground items on each tile, keyed by packed world coordinate
+	 */
+	private final WorldPointMap<List<GroundItem>> collectedGroundItems = new WorldPointMap<>();
 	private List<PriceHighlight> priceChecks = ImmutableList.of();
 	private LoadingCache<NamedQuantity, Boolean> highlightedItems;
 	private LoadingCache<NamedQuantity, Boolean> hiddenItems;
-	private final Map<WorldPoint, Lootbeam> lootbeams = new HashMap<>();
+	private final WorldPointMap<Lootbeam> lootbeams = new WorldPointMap<>();
 
 	@Provides
 	GroundItemsConfig provideConfig(ConfigManager configManager)
@@ -262,7 +264,11 @@ public class GroundItemsPlugin extends Plugin
 	public void onWorldViewUnloaded(WorldViewUnloaded event)
 	{
 		var wv = event.getWorldView();
-		collectedGroundItems.values().removeIf(g -> g.getItemLayer().getWorldView() == wv);
+		collectedGroundItems.values().removeIf(items ->
+		{
+			items.removeIf(g -> g.getItemLayer().getWorldView() == wv);
+			return items.isEmpty();
+		});
 		lootbeams.values().removeIf(l -> l.getWorldView() == wv.getId());
 	}
 
@@ -273,8 +279,9 @@ public class GroundItemsPlugin extends Plugin
 		Tile tile = itemSpawned.getTile();
 		ItemLayer layer = tile.getItemLayer();
 
+		final int coord = tile.getWorldLocation().pack();
 		GroundItem groundItem = buildGroundItem(layer, item);
-		GroundItem existing = collectedGroundItems.get(tile.getWorldLocation(), item.getId());
+		GroundItem existing = getGroundItem(coord, item.getId());
 		if (existing != null)
 		{
 			existing.setQuantity(existing.getQuantity() + groundItem.getQuantity());
@@ -283,7 +290,7 @@ public class GroundItemsPlugin extends Plugin
 		}
 		else
 		{
-			collectedGroundItems.put(tile.getWorldLocation(), item.getId(), groundItem);
+			collectedGroundItems.computeIfAbsent(coord, c -> new ArrayList<>(1)).add(groundItem);
 		}
 
 		if (shouldDisplayItem(config.ownershipFilterMode(), groundItem.getOwnership(), client.getVarbitValue(VarbitID.IRONMAN)))
@@ -291,7 +298,7 @@ public class GroundItemsPlugin extends Plugin
 			notifyHighlightedItem(groundItem);
 		}
 
-		handleLootbeam(tile.getWorldLocation());
+		handleLootbeam(coord);
 	}
 
 	void updateItemColor(GroundItem item)
@@ -315,7 +322,8 @@ public class GroundItemsPlugin extends Plugin
 		TileItem item = itemDespawned.getItem();
 		Tile tile = itemDespawned.getTile();
 
-		GroundItem groundItem = collectedGroundItems.get(tile.getWorldLocation(), item.getId());
+		final int coord = tile.getWorldLocation().pack();
+		GroundItem groundItem = getGroundItem(coord, item.getId());
 		if (groundItem == null)
 		{
 			return;
@@ -323,7 +331,7 @@ public class GroundItemsPlugin extends Plugin
 
 		if (groundItem.getQuantity() <= item.getQuantity())
 		{
-			collectedGroundItems.remove(tile.getWorldLocation(), item.getId());
+			removeGroundItem(coord, groundItem);
 		}
 		else
 		{
@@ -335,7 +343,7 @@ public class GroundItemsPlugin extends Plugin
 			groundItem.reset();
 		}
 
-		handleLootbeam(tile.getWorldLocation());
+		handleLootbeam(coord);
 	}
 
 	@Subscribe
@@ -347,14 +355,15 @@ public class GroundItemsPlugin extends Plugin
 		int newQuantity = itemQuantityChanged.getNewQuantity();
 
 		int diff = newQuantity - oldQuantity;
-		GroundItem groundItem = collectedGroundItems.get(tile.getWorldLocation(), item.getId());
+		final int coord = tile.getWorldLocation().pack();
+		GroundItem groundItem = getGroundItem(coord, item.getId());
 		if (groundItem != null)
 		{
 			groundItem.setQuantity(groundItem.getQuantity() + diff);
 			groundItem.reset();
 		}
 
-		handleLootbeam(tile.getWorldLocation());
+		handleLootbeam(coord);
 	}
 
 	@Subscribe
@@ -489,7 +498,7 @@ public class GroundItemsPlugin extends Plugin
 
 		priceChecks = priceCheckBuilder.build();
 
-		clientThread.invokeLater(() -> collectedGroundItems.values().forEach(GroundItem::reset));
+		clientThread.invokeLater(() -> getGroundItems().forEach(GroundItem::reset));
 		clientThread.invokeLater(this::handleLootbeams);
 	}
 
@@ -510,7 +519,7 @@ public class GroundItemsPlugin extends Plugin
 			WorldView wv = client.getWorldView(lastEntry.getWorldViewId());
 
 			final WorldPoint worldPoint = WorldPoint.fromScene(wv, sceneX, sceneY, wv.getPlane());
-			GroundItem groundItem = collectedGroundItems.get(worldPoint, itemId);
+			GroundItem groundItem = getGroundItem(worldPoint.pack(), itemId);
 
 			updateItemColor(groundItem);
 
@@ -580,6 +589,7 @@ public class GroundItemsPlugin extends Plugin
 
 			var colors = Stream.concat(
 					collectedGroundItems.values().stream()
+						.flatMap(List::stream)
 						.map(GroundItem::getColor)
 						.filter(Objects::nonNull),
 					// add some default colors
@@ -747,7 +757,38 @@ public class GroundItemsPlugin extends Plugin
 		}
 	}
 
-	private void handleLootbeam(WorldPoint worldPoint)
+	Iterable<GroundItem> getGroundItems()
+	{
+		return Iterables.concat(collectedGroundItems.values());
+	}
+
+	@Nullable
+	private GroundItem getGroundItem(int coord, int id)
+	{
+		List<GroundItem> items = collectedGroundItems.get(coord);
+		if (items != null)
+		{
+			for (GroundItem item : items)
+			{
+				if (item.getId() == id)
+				{
+					return item;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void removeGroundItem(int coord, GroundItem groundItem)
+	{
+		List<GroundItem> items = collectedGroundItems.get(coord);
+		if (items != null && items.remove(groundItem) && items.isEmpty())
+		{
+			collectedGroundItems.remove(coord);
+		}
+	}
+
+	private void handleLootbeam(int coord)
 	{
 		/*
 		 * Return and remove the lootbeam from this location if lootbeam are disabled
@@ -755,13 +796,13 @@ public class GroundItemsPlugin extends Plugin
 		 */
 		if (!(config.showLootbeamForHighlighted() || config.showLootbeamTier() != HighlightTier.OFF))
 		{
-			removeLootbeam(worldPoint);
+			removeLootbeam(coord);
 			return;
 		}
 
 		int highestPrice = -1;
 		GroundItem highestItem = null;
-		Collection<GroundItem> groundItems = collectedGroundItems.row(worldPoint).values();
+		Collection<GroundItem> groundItems = MoreObjects.firstNonNull(collectedGroundItems.get(coord), Collections.emptyList());
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
 		final int accountType = client.getVarbitValue(VarbitID.IRONMAN);
 		for (GroundItem groundItem : groundItems)
@@ -779,7 +820,7 @@ public class GroundItemsPlugin extends Plugin
 			if (config.showLootbeamForHighlighted()
 				&& TRUE.equals(highlightedItems.getUnchecked(item)))
 			{
-				addLootbeam(worldPoint,
+				addLootbeam(coord,
 					MoreObjects.firstNonNull(getItemColor(groundItem.getItemId()), config.highlightedColor()));
 				return;
 			}
@@ -805,22 +846,19 @@ public class GroundItemsPlugin extends Plugin
 				if (highestPrice > highlight.getPrice() && highestPrice > config.showLootbeamTier().getValueFromTier(config))
 				{
 					// use color from the most expensive item
-					addLootbeam(worldPoint,
+					addLootbeam(coord,
 						MoreObjects.firstNonNull(getItemColor(highestItem.getItemId()), highlight.color));
 					return;
 				}
 			}
 		}
 
-		removeLootbeam(worldPoint);
+		removeLootbeam(coord);
 	}
 
 	private void handleLootbeams()
 	{
-		for (WorldPoint worldPoint : collectedGroundItems.rowKeySet())
-		{
-			handleLootbeam(worldPoint);
-		}
+		collectedGroundItems.forEach((coord, items) -> handleLootbeam(coord));
 	}
 
 	private void removeAllLootbeams()
@@ -833,13 +871,13 @@ public class GroundItemsPlugin extends Plugin
 		lootbeams.clear();
 	}
 
-	private void addLootbeam(WorldPoint worldPoint, Color color)
+	private void addLootbeam(int coord, Color color)
 	{
-		Lootbeam lootbeam = lootbeams.get(worldPoint);
+		Lootbeam lootbeam = lootbeams.get(coord);
 		if (lootbeam == null)
 		{
-			lootbeam = new Lootbeam(client, clientThread, worldPoint, color, config.lootbeamStyle());
-			lootbeams.put(worldPoint, lootbeam);
+			lootbeam = new Lootbeam(client, clientThread, WorldPoint.fromCoord(coord), color, config.lootbeamStyle());
+			lootbeams.put(coord, lootbeam);
 		}
 		else
 		{
@@ -848,9 +886,9 @@ public class GroundItemsPlugin extends Plugin
 		}
 	}
 
-	private void removeLootbeam(WorldPoint worldPoint)
+	private void removeLootbeam(int coord)
 	{
-		Lootbeam lootbeam = lootbeams.remove(worldPoint);
+		Lootbeam lootbeam = lootbeams.remove(coord);
 		if (lootbeam != null)
 		{
 			lootbeam.remove();
@@ -77,7 +77,7 @@ import net.runelite.client.ui.components.colorpicker.RuneliteColorPicker;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -161,6 +161,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * Highlight strings compiled for matching, rebuilt when they change
+	 */
+	private WildcardMatcherSet highlightMatcher = WildcardMatcherSet.EMPTY;
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -300,9 +305,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			final String npcName = npc.getName();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = highlightMatcher.matches(npcName, i -> !highlights.get(i).equalsIgnoreCase(npcName));
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -716,7 +719,12 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	void rebuild()
 	{
-		highlights = getHighlights();
+		final List<String> highlights = getHighlights();
+		if (!highlights.equals(this.highlights))
+		{
+			this.highlights = highlights;
+			highlightMatcher = WildcardMatcherSet.of(highlights);
+		}
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -771,15 +779,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matches(npcName);
 	}
 
 	private void validateSpawnedNpcs()
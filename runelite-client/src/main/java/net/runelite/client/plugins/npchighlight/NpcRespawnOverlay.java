@@ -47,6 +47,7 @@ import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.SceneProjection;
 
 class NpcRespawnOverlay extends Overlay
 {
@@ -64,13 +65,15 @@ class NpcRespawnOverlay extends Overlay
 	private final Client client;
 	private final NpcIndicatorsConfig config;
 	private final NpcIndicatorsPlugin plugin;
+	private final SceneProjection sceneProjection;
 
 	@Inject
-	NpcRespawnOverlay(Client client, NpcIndicatorsConfig config, NpcIndicatorsPlugin plugin)
+	NpcRespawnOverlay(Client client, NpcIndicatorsConfig config, NpcIndicatorsPlugin plugin, SceneProjection sceneProjection)
 	{
 		this.client = client;
 		this.config = config;
 		this.plugin = plugin;
+		this.sceneProjection = sceneProjection;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 	}
@@ -107,7 +110,7 @@ class NpcRespawnOverlay extends Overlay
 			lp.getX() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2,
 			lp.getY() + Perspective.LOCAL_TILE_SIZE * (npc.getNpcSize() - 1) / 2);
 
-		final Polygon poly = Perspective.getCanvasTileAreaPoly(client, centerLp, npc.getNpcSize());
+		final Polygon poly = sceneProjection.getCanvasTileAreaPoly(centerLp, npc.getNpcSize());
 		renderPoly(graphics, config.highlightColor(), config.fillColor(), poly);
 
 		final Instant now = Instant.now();
@@ -119,8 +122,7 @@ class NpcRespawnOverlay extends Overlay
 		final int textWidth = graphics.getFontMetrics().stringWidth(timeLeftStr);
 		final int textHeight = graphics.getFontMetrics().getAscent();
 
-		final Point canvasPoint = Perspective
-			.localToCanvas(client, centerLp, respawnLocation.getPlane());
+		final Point canvasPoint = sceneProjection.localToCanvas(centerLp, respawnLocation.getPlane(), 0);
 
 		if (canvasPoint != null)
 		{
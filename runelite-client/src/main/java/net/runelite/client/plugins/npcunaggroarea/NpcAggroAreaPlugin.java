@@ -65,7 +65,7 @@ import net.runelite.client.plugins.slayer.SlayerPlugin;
 import net.runelite.client.plugins.slayer.SlayerPluginService;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Aggression Timer",
@@ -140,7 +140,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	private boolean loggingIn;
 	private boolean notifyOnce;
 
-	private List<String> npcNamePatterns;
+	private WildcardMatcherSet npcNamePatterns;
 
 	@Provides
 	NpcAggroAreaConfig provideConfig(ConfigManager configManager)
@@ -152,7 +152,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	protected void startUp() throws Exception
 	{
 		overlayManager.add(overlay);
-		npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+		npcNamePatterns = WildcardMatcherSet.of(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 		infoBoxManager.addInfoBox(new UncalibratedInfobox(itemManager.getImage(ItemID.ARCEUUS_CORPSE_DEMON_INITIAL), this));
 		clientThread.invokeLater(this::scanNpcs);
 	}
@@ -288,15 +288,7 @@ public class NpcAggroAreaPlugin extends Plugin
 			}
 		}
 
-		for (String pattern : npcNamePatterns)
-		{
-			if (WildcardMatcher.matches(pattern, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return npcNamePatterns.matches(npcName);
 	}
 
 	private void scanNpcs()
@@ -412,7 +404,7 @@ public class NpcAggroAreaPlugin extends Plugin
 				calculateLinesToDisplay();
 				break;
 			case "npcUnaggroNames":
-				npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+				npcNamePatterns = WildcardMatcherSet.of(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 				clientThread.invokeLater(this::scanNpcs);
 				break;
 		}
@@ -33,25 +33,25 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import net.runelite.api.Client;
-import net.runelite.api.DecorativeObject;
-import net.runelite.api.GameObject;
-import net.runelite.api.GroundObject;
 import net.runelite.api.ObjectComposition;
 import net.runelite.api.TileObject;
-import net.runelite.api.WallObject;
 import net.runelite.api.WorldEntity;
 import net.runelite.api.WorldView;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_CLICKBOX;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_HULL;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_OUTLINE;
 import static net.runelite.client.plugins.objectindicators.ColorTileObject.HF_TILE;
+import net.runelite.client.ui.overlay.ConvexHullCache;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
 import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import net.runelite.client.ui.overlay.outline.OutlineBatches;
 import net.runelite.client.util.ColorUtil;
 
 class ObjectIndicatorsOverlay extends Overlay
@@ -59,16 +59,19 @@ class ObjectIndicatorsOverlay extends Overlay
 	private final Client client;
 	private final ObjectIndicatorsConfig config;
 	private final ObjectIndicatorsPlugin plugin;
-	private final ModelOutlineRenderer modelOutlineRenderer;
+	private final OutlineBatches outlineBatches;
+	private final ConvexHullCache convexHullCache;
+	private final List<ColorTileObject> visibleObjects = new ArrayList<>();
 
 	@Inject
 	private ObjectIndicatorsOverlay(Client client, ObjectIndicatorsConfig config, ObjectIndicatorsPlugin plugin,
-		ModelOutlineRenderer modelOutlineRenderer)
+		ModelOutlineRenderer modelOutlineRenderer, ConvexHullCache convexHullCache)
 	{
 		this.client = client;
 		this.config = config;
 		this.plugin = plugin;
-		this.modelOutlineRenderer = modelOutlineRenderer;
+		this.outlineBatches = modelOutlineRenderer.createBatches();
+		this.convexHullCache = convexHullCache;
 		setPosition(OverlayPosition.DYNAMIC);
 		setPriority(PRIORITY_LOW);
 		setLayer(OverlayLayer.ABOVE_SCENE);
@@ -90,6 +93,7 @@ class ObjectIndicatorsOverlay extends Overlay
 			(config.highlightOutline() ? HF_OUTLINE : 0) |
 			(config.highlightClickbox() ? HF_CLICKBOX : 0) |
 			(config.highlightTile() ? HF_TILE : 0);
+		outlineBatches.reset();
 		for (ColorTileObject obj : objects)
 		{
 			TileObject object = obj.getTileObject();
@@ -121,13 +125,23 @@ class ObjectIndicatorsOverlay extends Overlay
 				}
 			}
 
-			Color borderColor = obj.getBorderColor();
-			if (borderColor == null)
+			visibleObjects.add(obj);
+
+			final var flags = obj.getHighlightFlags() != 0 ? obj.getHighlightFlags() : defaultFlags;
+			if ((flags & HF_OUTLINE) != 0)
 			{
-				// Fallback to the current config if the object is marked before the addition of multiple colors
-				borderColor = config.markerColor();
+				outlineBatches.get((int) config.borderWidth(), borderColor(obj), config.outlineFeather())
+					.add(object);
 			}
+		}
 
+		// outlines are drawn together in one pass, beneath the hulls, clickboxes and tiles
+		outlineBatches.draw();
+
+		for (ColorTileObject obj : visibleObjects)
+		{
+			TileObject object = obj.getTileObject();
+			Color borderColor = borderColor(obj);
 			final var flags = obj.getHighlightFlags() != 0 ? obj.getHighlightFlags() : defaultFlags;
 			if ((flags & HF_HULL) != 0)
 			{
@@ -136,14 +150,9 @@ class ObjectIndicatorsOverlay extends Overlay
 				renderConvexHull(graphics, object, borderColor, fillColor, stroke);
 			}
 
-			if ((flags & HF_OUTLINE) != 0)
-			{
-				modelOutlineRenderer.drawOutline(object, (int)config.borderWidth(), borderColor, config.outlineFeather());
-			}
-
 			if ((flags & HF_CLICKBOX) != 0)
 			{
-				Shape clickbox = object.getClickbox();
+				Shape clickbox = convexHullCache.getClickbox(object);
 				if (clickbox != null)
 				{
 					Color fillColor = MoreObjects.firstNonNull(obj.getFillColor(), ColorUtil.colorWithAlpha(borderColor, borderColor.getAlpha() / 12));
@@ -161,37 +170,26 @@ class ObjectIndicatorsOverlay extends Overlay
 				}
 			}
 		}
+		visibleObjects.clear();
 
 		return null;
 	}
 
-	private void renderConvexHull(Graphics2D graphics, TileObject object, Color color, Color fillColor, Stroke stroke)
+	private Color borderColor(ColorTileObject obj)
 	{
-		final Shape polygon;
-		Shape polygon2 = null;
-
-		if (object instanceof GameObject)
+		Color borderColor = obj.getBorderColor();
+		if (borderColor == null)
 		{
-			polygon = ((GameObject) object).getConvexHull();
-		}
-		else if (object instanceof WallObject)
-		{
-			polygon = ((WallObject) object).getConvexHull();
-			polygon2 = ((WallObject) object).getConvexHull2();
-		}
-		else if (object instanceof DecorativeObject)
-		{
-			polygon = ((DecorativeObject) object).getConvexHull();
-			polygon2 = ((DecorativeObject) object).getConvexHull2();
-		}
-		else if (object instanceof GroundObject)
-		{
-			polygon = ((GroundObject) object).getConvexHull();
-		}
-		else
-		{
-			polygon = object.getCanvasTilePoly();
+			// Fallback to the current config if the object is marked before the addition of multiple colors
+			borderColor = config.markerColor();
 		}
+		return borderColor;
+	}
+
+	private void renderConvexHull(Graphics2D graphics, TileObject object, Color color, Color fillColor, Stroke stroke)
+	{
+		final Shape polygon = convexHullCache.getConvexHull(object);
+		final Shape polygon2 = convexHullCache.getConvexHull2(object);
 
 		if (polygon != null)
 		{
@@ -199,9 +199,9 @@ public class PartyPlugin extends Plugin
 		overlayManager.add(partyPingOverlay);
 		overlayManager.add(partyStatusOverlay);
 		keyManager.registerKeyListener(hotkeyListener);
-		wsClient.registerMessage(TilePing.class);
-		wsClient.registerMessage(LocationUpdate.class);
-		wsClient.registerMessage(StatusUpdate.class);
+		wsClient.registerMessage(TilePing.class, TilePing.CODEC);
+		wsClient.registerMessage(LocationUpdate.class, LocationUpdate.CODEC);
+		wsClient.registerMessage(StatusUpdate.class, StatusUpdate.CODEC);
 		// Delay sync so the eventbus can register prior to the sync response
 		SwingUtilities.invokeLater(this::requestSync);
 	}
@@ -26,11 +26,16 @@ package net.runelite.client.plugins.party.messages;
 
 import lombok.ToString;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.WebsocketMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @ToString(onlyExplicitlyIncluded = true)
 public class LocationUpdate extends PartyMemberMessage
 {
+	public static final WebsocketMessageCodec<LocationUpdate> CODEC = WebsocketMessageCodec.of(
+		(message, out) -> out.writeInt(message.c),
+		in -> new LocationUpdate(in.readInt()));
+
 	private final int c;
 
 	public LocationUpdate(WorldPoint worldPoint)
@@ -38,6 +43,11 @@ public class LocationUpdate extends PartyMemberMessage
 		c = (worldPoint.getPlane() << 28) | (worldPoint.getX() << 14) | (worldPoint.getY());
 	}
 
+	private LocationUpdate(int c)
+	{
+		this.c = c;
+	}
+
 	@ToString.Include
 	public WorldPoint getWorldPoint()
 	{
@@ -26,11 +26,14 @@ package net.runelite.client.plugins.party.messages;
 
 import com.google.gson.annotations.SerializedName;
 import java.awt.Color;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import net.runelite.client.party.WebsocketMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import okio.Buffer;
 
 @Data
 @NoArgsConstructor
@@ -38,6 +41,7 @@ import net.runelite.client.party.messages.PartyMemberMessage;
 @EqualsAndHashCode(callSuper = true)
 public class StatusUpdate extends PartyMemberMessage
 {
+	public static final WebsocketMessageCodec<StatusUpdate> CODEC = WebsocketMessageCodec.of(StatusUpdate::encode, StatusUpdate::decode);
 
 	// we use boxed fields to null out properties that haven't changed
 	@SerializedName("n")
@@ -67,4 +71,73 @@ public class StatusUpdate extends PartyMemberMessage
 	@SerializedName("c")
 	private Color memberColor = null;
 
+	// only the fields which are set are written, preceded by a bitmask of them
+	private static void encode(StatusUpdate message, Buffer out)
+	{
+		final Integer[] ints = message.ints();
+		int mask = 0;
+		mask |= message.characterName != null ? 1 : 0;
+		for (int i = 0; i < ints.length; ++i)
+		{
+			mask |= ints[i] != null ? 2 << i : 0;
+		}
+		mask |= message.vengeanceActive != null ? 1 << 7 : 0;
+		mask |= message.vengeanceActive == Boolean.TRUE ? 1 << 8 : 0;
+		mask |= message.memberColor != null ? 1 << 9 : 0;
+
+		WebsocketMessageCodec.writeVarInt(out, mask);
+		if (message.characterName != null)
+		{
+			WebsocketMessageCodec.writeString(out, message.characterName);
+		}
+		for (Integer value : ints)
+		{
+			if (value != null)
+			{
+				WebsocketMessageCodec.writeVarInt(out, value);
+			}
+		}
+		if (message.memberColor != null)
+		{
+			out.writeInt(message.memberColor.getRGB());
+		}
+	}
+
+	private static StatusUpdate decode(Buffer in) throws IOException
+	{
+		final int mask = WebsocketMessageCodec.readVarInt(in);
+		final StatusUpdate message = new StatusUpdate();
+		if ((mask & 1) != 0)
+		{
+			message.characterName = WebsocketMessageCodec.readString(in);
+		}
+		final Integer[] ints = new Integer[6];
+		for (int i = 0; i < ints.length; ++i)
+		{
+			if ((mask & 2 << i) != 0)
+			{
+				ints[i] = WebsocketMessageCodec.readVarInt(in);
+			}
+		}
+		message.healthCurrent = ints[0];
+		message.healthMax = ints[1];
+		message.prayerCurrent = ints[2];
+		message.prayerMax = ints[3];
+		message.runEnergy = ints[4];
+		message.specEnergy = ints[5];
+		if ((mask & 1 << 7) != 0)
+		{
+			message.vengeanceActive = (mask & 1 << 8) != 0;
+		}
+		if ((mask & 1 << 9) != 0)
+		{
+			message.memberColor = new Color(in.readInt(), true);
+		}
+		return message;
+	}
+
+	private Integer[] ints()
+	{
+		return new Integer[]{healthCurrent, healthMax, prayerCurrent, prayerMax, runEnergy, specEnergy};
+	}
 }
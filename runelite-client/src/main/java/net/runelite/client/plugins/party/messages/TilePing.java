@@ -27,11 +27,16 @@ package net.runelite.client.plugins.party.messages;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.WebsocketMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class TilePing extends PartyMemberMessage
 {
+	public static final WebsocketMessageCodec<TilePing> CODEC = WebsocketMessageCodec.of(
+		(message, out) -> out.writeInt(message.point.pack()),
+		in -> new TilePing(WorldPoint.unpack(in.readInt())));
+
 	private final WorldPoint point;
 }
@@ -29,6 +29,8 @@ import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Keybind;
+import net.runelite.client.config.Range;
+import net.runelite.client.config.Units;
 
 @ConfigGroup("screenshot")
 public interface ScreenshotConfig extends Config
@@ -40,6 +42,14 @@ public interface ScreenshotConfig extends Config
 	)
 	String whatSection = "what";
 
+	@ConfigSection(
+		name = "Recent frames",
+		description = "Keep the last few seconds of frames, and save them alongside screenshots.",
+		position = 100,
+		closedByDefault = true
+	)
+	String recordingSection = "recording";
+
 	@ConfigItem(
 		keyName = "includeFrame",
 		name = "Include client frame",
@@ -326,4 +336,67 @@ public interface ScreenshotConfig extends Config
 	{
 		return true;
 	}
+
+	@ConfigItem(
+		keyName = "recordFrames",
+		name = "Save recent frames",
+		description = "Keeps the last few seconds of frames in memory, and saves them as a png sequence<br>"
+			+ "alongside each screenshot, including those taken with the hotkey.",
+		position = 0,
+		section = recordingSection
+	)
+	default boolean recordFrames()
+	{
+		return false;
+	}
+
+	@ConfigItem(
+		keyName = "recordSeconds",
+		name = "Seconds",
+		description = "How many seconds of frames to keep.",
+		position = 1,
+		section = recordingSection
+	)
+	@Range(
+		min = 1,
+		max = 30
+	)
+	@Units(Units.SECONDS)
+	default int recordSeconds()
+	{
+		return 5;
+	}
+
+	@ConfigItem(
+		keyName = "recordFps",
+		name = "Frames per second",
+		description = "How many frames per second to keep.",
+		position = 2,
+		section = recordingSection
+	)
+	@Range(
+		min = 1,
+		max = 30
+	)
+	default int recordFps()
+	{
+		return 10;
+	}
+
+	@ConfigItem(
+		keyName = "recordWidth",
+		name = "Frame width",
+		description = "Frames are scaled down to this width.",
+		position = 3,
+		section = recordingSection
+	)
+	@Range(
+		min = 160,
+		max = 1920
+	)
+	@Units(Units.PIXELS)
+	default int recordWidth()
+	{
+		return 640;
+	}
 }
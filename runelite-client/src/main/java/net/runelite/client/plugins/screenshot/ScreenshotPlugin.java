@@ -69,12 +69,14 @@ import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.PlayerLootReceived;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.DrawManager;
+import net.runelite.client.ui.FrameRecorder;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.util.HotkeyListener;
 import net.runelite.client.util.ImageCapture;
@@ -189,6 +191,8 @@ public class ScreenshotPlugin extends Plugin
 	final Queue<Consumer<Image>> consumers = new ConcurrentLinkedQueue<>();
 	private String reportButtonText;
 
+	private FrameRecorder frameRecorder;
+
 	private final HotkeyListener hotkeyListener = new HotkeyListener(() -> config.hotkey())
 	{
 		@Override
@@ -226,6 +230,7 @@ public class ScreenshotPlugin extends Plugin
 			.build();
 
 		clientToolbar.addNavigation(titleBarButton);
+		startRecording();
 	}
 
 	@Override
@@ -235,6 +240,36 @@ public class ScreenshotPlugin extends Plugin
 		keyManager.unregisterKeyListener(hotkeyListener);
 		kickPlayerName = null;
 		notificationStarted = false;
+		stopRecording();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getGroup().equals("screenshot") && event.getKey().startsWith("record"))
+		{
+			stopRecording();
+			startRecording();
+		}
+	}
+
+	private void startRecording()
+	{
+		if (config.recordFrames())
+		{
+			frameRecorder = new FrameRecorder(config.recordSeconds(), config.recordFps(), config.recordWidth());
+			drawManager.setFrameRecorder(frameRecorder);
+		}
+	}
+
+	private void stopRecording()
+	{
+		if (frameRecorder != null)
+		{
+			drawManager.setFrameRecorder(null);
+			frameRecorder.close();
+			frameRecorder = null;
+		}
 	}
 
 	@Subscribe
@@ -946,6 +981,11 @@ public class ScreenshotPlugin extends Plugin
 			return;
 		}
 
+		if (frameRecorder != null)
+		{
+			imageCapture.saveRecording(frameRecorder, fileName, subDir);
+		}
+
 		Consumer<Image> imageCallback = (img) ->
 		{
 			// This callback is on the game thread, move to executor thread
@@ -26,12 +26,30 @@ package net.runelite.client.plugins.specialcounter;
 
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import net.runelite.client.party.WebsocketMessageCodec;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class SpecialCounterUpdate extends PartyMemberMessage
 {
+	public static final WebsocketMessageCodec<SpecialCounterUpdate> CODEC = WebsocketMessageCodec.of(
+		(message, out) ->
+		{
+			WebsocketMessageCodec.writeVarInt(out, message.npcIndex);
+			WebsocketMessageCodec.writeString(out, message.weapon == null ? null : message.weapon.name());
+			WebsocketMessageCodec.writeVarInt(out, message.hit);
+			WebsocketMessageCodec.writeVarInt(out, message.world);
+			WebsocketMessageCodec.writeVarInt(out, message.playerId);
+		},
+		in ->
+		{
+			final int npcIndex = WebsocketMessageCodec.readVarInt(in);
+			final String weapon = WebsocketMessageCodec.readString(in);
+			return new SpecialCounterUpdate(npcIndex, weapon == null ? null : SpecialWeapon.valueOf(weapon),
+				WebsocketMessageCodec.readVarInt(in), WebsocketMessageCodec.readVarInt(in), WebsocketMessageCodec.readVarInt(in));
+		});
+
 	private final int npcIndex;
 	private final SpecialWeapon weapon;
 	private final int hit;
@@ -31,7 +31,6 @@ import java.awt.Graphics2D;
 import java.awt.Polygon;
 import javax.inject.Inject;
 import net.runelite.api.Client;
-import net.runelite.api.Perspective;
 import net.runelite.api.Tile;
 import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
@@ -40,17 +39,20 @@ import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.SceneProjection;
 
 public class TileIndicatorsOverlay extends Overlay
 {
 	private final Client client;
 	private final TileIndicatorsConfig config;
+	private final SceneProjection sceneProjection;
 
 	@Inject
-	private TileIndicatorsOverlay(Client client, TileIndicatorsConfig config)
+	private TileIndicatorsOverlay(Client client, TileIndicatorsConfig config, SceneProjection sceneProjection)
 	{
 		this.client = client;
 		this.config = config;
+		this.sceneProjection = sceneProjection;
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		setPriority(PRIORITY_MED);
@@ -102,7 +104,7 @@ public class TileIndicatorsOverlay extends Overlay
 			return;
 		}
 
-		final Polygon poly = Perspective.getCanvasTilePoly(client, dest);
+		final Polygon poly = sceneProjection.getCanvasTilePoly(dest);
 
 		if (poly == null)
 		{
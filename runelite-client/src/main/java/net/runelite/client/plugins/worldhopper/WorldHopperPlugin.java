@@ -31,16 +31,21 @@ import com.google.common.collect.ImmutableList;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.FileDescriptor;
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.time.Instant;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
@@ -81,9 +86,12 @@ import net.runelite.client.game.WorldService;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.plugins.worldhopper.ping.AddressResolver;
 import net.runelite.client.plugins.worldhopper.ping.Ping;
+import net.runelite.client.plugins.worldhopper.ping.PingScheduler;
 import net.runelite.client.plugins.worldhopper.ping.RetransmitCalculator;
 import net.runelite.client.plugins.worldhopper.ping.TCP_INFO_v0;
+import net.runelite.client.plugins.worldhopper.ping.TcpPinger;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -109,6 +117,10 @@ public class WorldHopperPlugin extends Plugin
 
 	private static final int DISPLAY_SWITCHER_MAX_ATTEMPTS = 3;
 
+	private static final int PING_TIMEOUT = 2000; // ms
+	private static final int MAX_CONCURRENT_PINGS = 64;
+	private static final int MAX_PINGS_PER_SWEEP = 32;
+
 	private static final String HOP_TO = "Hop-to";
 	private static final String KICK_OPTION = "Kick";
 	private static final ImmutableList<String> BEFORE_OPTIONS = ImmutableList.of("Add friend", "Remove friend", KICK_OPTION);
@@ -158,7 +170,6 @@ public class WorldHopperPlugin extends Plugin
 	private int favoriteWorld1, favoriteWorld2;
 
 	private ScheduledFuture<?> pingFuture, currPingFuture;
-	private int currentWorld;
 	private Instant lastFetch;
 
 	@Getter(AccessLevel.PACKAGE)
@@ -166,6 +177,10 @@ public class WorldHopperPlugin extends Plugin
 
 	private final Map<Integer, Integer> storedPings = new HashMap<>();
 
+	private final TcpPinger tcpPinger = new TcpPinger(MAX_CONCURRENT_PINGS, PING_TIMEOUT);
+	private final PingScheduler pingScheduler = new PingScheduler();
+	private final AddressResolver addressResolver = new AddressResolver(Ping.PORT);
+
 	final RetransmitCalculator retransmitCalculator = new RetransmitCalculator();
 
 	private final HotkeyListener previousKeyListener = new HotkeyListener(() -> config.previousKey())
@@ -228,7 +243,7 @@ public class WorldHopperPlugin extends Plugin
 		hopperExecutorService.execute(this::pingInitialWorlds);
 
 		// Give some initial delay - this won't run until after pingInitialWorlds finishes anyway
-		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingNextWorld, 15, 3, TimeUnit.SECONDS);
+		pingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingDueWorlds, 15, 3, TimeUnit.SECONDS);
 		currPingFuture = hopperExecutorService.scheduleWithFixedDelay(this::pingCurrentWorld, 15, 1, TimeUnit.SECONDS);
 	}
 
@@ -250,6 +265,9 @@ public class WorldHopperPlugin extends Plugin
 
 		hopperExecutorService.shutdown();
 		hopperExecutorService = null;
+
+		pingScheduler.clear();
+		addressResolver.clear();
 	}
 
 	@Subscribe
@@ -822,7 +840,7 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
+	 * Ping all worlds. This is only run on first run.
 	 */
 	private void pingInitialWorlds()
 	{
@@ -834,11 +852,7 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
-		{
-			int ping = ping(world, false);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
+		pingWorlds(worldResult.getWorlds());
 
 		stopwatch.stop();
 
@@ -846,9 +860,9 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping the next world
+	 * Ping the worlds which are due to be pinged again
 	 */
-	private void pingNextWorld()
+	private void pingDueWorlds()
 	{
 		WorldResult worldResult = worldService.getWorlds();
 		if (worldResult == null || !config.showSidebar() || !config.ping())
@@ -856,33 +870,53 @@ public class WorldHopperPlugin extends Plugin
 			return;
 		}
 
-		List<World> worlds = worldResult.getWorlds();
-		if (worlds.isEmpty())
-		{
-			return;
-		}
+		// If we are displaying the ping overlay, there is a separate scheduled task for the current world
+		boolean displayPing = config.displayPing() && client.getGameState() == GameState.LOGGED_IN;
+		int currentWorldId = displayPing ? client.getWorld() : -1;
+
+		List<Integer> worldIds = worldResult.getWorlds().stream()
+			.map(World::getId)
+			.filter(id -> id != currentWorldId)
+			.collect(Collectors.toList());
+
+		List<World> due = pingScheduler.due(worldIds, System.currentTimeMillis(), MAX_PINGS_PER_SWEEP).stream()
+			.map(worldResult::findWorld)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
 
-		if (currentWorld >= worlds.size())
+		if (!due.isEmpty())
 		{
-			// Wrap back around
-			currentWorld = 0;
+			pingWorlds(due);
 		}
+	}
 
-		World world = worlds.get(currentWorld++);
-
-		// If we are displaying the ping overlay, there is a separate scheduled task for the current world
-		boolean displayPing = config.displayPing() && client.getGameState() == GameState.LOGGED_IN;
-		if (displayPing && client.getWorld() == world.getId())
+	/**
+	 * Ping worlds concurrently, storing their smoothed pings
+	 */
+	private void pingWorlds(List<World> worlds)
+	{
+		Map<World, String> hosts = new LinkedHashMap<>();
+		for (World world : worlds)
 		{
-			return;
+			hosts.put(world, world.getAddress());
 		}
+		Map<World, InetSocketAddress> targets = addressResolver.resolve(hosts, System.currentTimeMillis());
 
-		int ping = ping(world, false);
-		log.trace("Ping for world {} is: {}", world.getId(), ping);
+		try
+		{
+			tcpPinger.ping(targets, (world, ping) ->
+			{
+				pingScheduler.record(world.getId(), ping, System.currentTimeMillis());
+				int smoothedPing = pingScheduler.getPing(world.getId());
+				log.trace("Ping for world {} is: {} (smoothed {})", world.getId(), ping, smoothedPing);
 
-		if (panel.isActive())
+				storedPings.put(world.getId(), smoothedPing);
+				SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), smoothedPing));
+			});
+		}
+		catch (IOException ex)
 		{
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			log.warn("error pinging worlds", ex);
 		}
 	}
 
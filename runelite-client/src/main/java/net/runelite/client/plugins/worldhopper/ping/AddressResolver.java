@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves and caches the addresses of world hosts.
+ * <p>
+ * Hosts which have not been resolved yet are looked up concurrently, since each lookup
+ * blocks for a network round trip, or much longer when the name server does not answer.
+ * Resolved addresses are kept until {@link #clear()}. Hosts which could not be resolved
+ * are not looked up again until the retry interval has passed.
+ */
+@Slf4j
+public class AddressResolver
+{
+	static final long RETRY_INTERVAL = 300_000L;
+
+	private static final int THREADS = 8;
+	private static final long TIMEOUT = 5_000L;
+
+	private final int port;
+	private final Map<String, Entry> cache = new HashMap<>();
+	private final ThreadPoolExecutor executor;
+
+	private static class Entry
+	{
+		private InetSocketAddress address;
+		private long retryAt;
+	}
+
+	/**
+	 * @param port the port of the returned addresses
+	 */
+	public AddressResolver(int port)
+	{
+		this.port = port;
+		this.executor = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			new ThreadFactoryBuilder()
+				.setNameFormat("world-resolver-%d")
+				.setDaemon(true)
+				.build());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Resolves the address of each target, blocking until the uncached hosts have been looked up
+	 *
+	 * @param hosts the targets and their host names
+	 * @param now the current time in milliseconds
+	 * @return the targets in the same order, mapped to their address or to null if it could not be resolved
+	 */
+	public <T> Map<T, InetSocketAddress> resolve(Map<T, String> hosts, long now)
+	{
+		final List<String> lookups = new ArrayList<>();
+		for (String host : hosts.values())
+		{
+			final Entry entry = cache.get(host);
+			if ((entry == null || (entry.address == null && now >= entry.retryAt)) && !lookups.contains(host))
+			{
+				lookups.add(host);
+			}
+		}
+
+		if (!lookups.isEmpty())
+		{
+			lookup(lookups, now);
+		}
+
+		final Map<T, InetSocketAddress> addresses = new LinkedHashMap<>();
+		for (Map.Entry<T, String> target : hosts.entrySet())
+		{
+			final Entry entry = cache.get(target.getValue());
+			addresses.put(target.getKey(), entry != null ? entry.address : null);
+		}
+		return addresses;
+	}
+
+	/**
+	 * Forgets all resolved and failed hosts
+	 */
+	public void clear()
+	{
+		cache.clear();
+	}
+
+	private void lookup(List<String> hosts, long now)
+	{
+		final List<Callable<InetSocketAddress>> tasks = new ArrayList<>(hosts.size());
+		for (String host : hosts)
+		{
+			tasks.add(() -> lookup(host));
+		}
+
+		List<Future<InetSocketAddress>> futures;
+		try
+		{
+			futures = executor.invokeAll(tasks, TIMEOUT, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		for (int i = 0; i < hosts.size(); ++i)
+		{
+			final String host = hosts.get(i);
+			InetSocketAddress address = null;
+			try
+			{
+				address = futures.get(i).get();
+			}
+			catch (CancellationException | ExecutionException ex)
+			{
+				log.debug("error resolving {}", host, ex);
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			final Entry entry = cache.computeIfAbsent(host, k -> new Entry());
+			entry.address = address;
+			if (address == null)
+			{
+				log.debug("unable to resolve {}, retrying in {}s", host, RETRY_INTERVAL / 1000);
+				entry.retryAt = now + RETRY_INTERVAL;
+			}
+		}
+	}
+
+	/**
+	 * Looks up a host, blocking until it is resolved
+	 *
+	 * @return the address, or null if the host could not be resolved
+	 */
+	@Nullable
+	InetSocketAddress lookup(String host)
+	{
+		final InetSocketAddress address = new InetSocketAddress(host, port);
+		return address.isUnresolved() ? null : address;
+	}
+}
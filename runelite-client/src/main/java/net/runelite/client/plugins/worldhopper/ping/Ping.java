@@ -48,7 +48,7 @@ public class Ping
 {
 	private static final byte[] RUNELITE_PING = "RuneLitePing".getBytes(Charsets.UTF_8);
 	private static final int TIMEOUT = 2000; // ms
-	private static final int PORT = 43594;
+	public static final int PORT = 43594;
 	private static final int MAX_IPV4_HEADER_SIZE = 60;
 
 	private static short seq;
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smooths the pings of each world and decides when each should be pinged again.
+ * <p>
+ * Pings are smoothed with exponentially weighted moving averages of the ping and of its
+ * deviation (jitter), in the same way TCP estimates round trip times (RFC 6298). Worlds
+ * with a steady ping are pinged less often than worlds whose ping varies, and worlds
+ * which could not be reached are retried with a growing backoff.
+ */
+public class PingScheduler
+{
+	static final long MIN_INTERVAL = 60_000L;
+	static final long MAX_INTERVAL = 600_000L;
+	static final long FAILURE_INTERVAL = 30_000L;
+
+	private static final double ALPHA = 1 / 8d;
+	private static final double BETA = 1 / 4d;
+
+	private final Map<Integer, Stats> stats = new HashMap<>();
+
+	private static class Stats
+	{
+		private double smoothed = -1;
+		private double jitter;
+		private int failures;
+		private long nextPing;
+	}
+
+	/**
+	 * Records a ping to a world
+	 *
+	 * @param world the world id
+	 * @param ping the ping in milliseconds, or -1 if the world could not be reached
+	 * @param now the current time in milliseconds
+	 */
+	public void record(int world, int ping, long now)
+	{
+		final Stats s = stats.computeIfAbsent(world, k -> new Stats());
+		if (ping < 0)
+		{
+			// back off 30s, 60s, 120s... up to the maximum interval
+			s.nextPing = now + Math.min(MAX_INTERVAL, FAILURE_INTERVAL << Math.min(s.failures, 8));
+			++s.failures;
+			return;
+		}
+
+		s.failures = 0;
+		if (s.smoothed < 0)
+		{
+			s.smoothed = ping;
+			s.jitter = ping / 2d;
+		}
+		else
+		{
+			s.jitter = (1 - BETA) * s.jitter + BETA * Math.abs(s.smoothed - ping);
+			s.smoothed = (1 - ALPHA) * s.smoothed + ALPHA * ping;
+		}
+
+		// a world whose jitter is a quarter of its ping or more is pinged at the minimum interval
+		final double variation = Math.min(1, 4 * s.jitter / Math.max(1, s.smoothed));
+		s.nextPing = now + MIN_INTERVAL + (long) ((MAX_INTERVAL - MIN_INTERVAL) * (1 - variation));
+	}
+
+	/**
+	 * @return the smoothed ping of a world, or -1 if it is unknown or the last ping failed
+	 */
+	public int getPing(int world)
+	{
+		final Stats s = stats.get(world);
+		if (s == null || s.failures > 0 || s.smoothed < 0)
+		{
+			return -1;
+		}
+		return (int) Math.round(s.smoothed);
+	}
+
+	/**
+	 * @return the jitter of a world in milliseconds, or -1 if it is unknown
+	 */
+	public int getJitter(int world)
+	{
+		final Stats s = stats.get(world);
+		return s == null || s.smoothed < 0 ? -1 : (int) Math.round(s.jitter);
+	}
+
+	/**
+	 * Finds the worlds which are due to be pinged, most overdue first. Worlds which
+	 * have never been pinged are always due.
+	 *
+	 * @param worlds the world ids to consider
+	 * @param now the current time in milliseconds
+	 * @param limit the maximum number of worlds to return
+	 */
+	public List<Integer> due(Iterable<Integer> worlds, long now, int limit)
+	{
+		final List<Integer> due = new ArrayList<>();
+		for (int world : worlds)
+		{
+			final Stats s = stats.get(world);
+			if (s == null || s.nextPing <= now)
+			{
+				due.add(world);
+			}
+		}
+
+		due.sort(Comparator.comparingLong(world ->
+		{
+			final Stats s = stats.get(world);
+			return s == null ? Long.MIN_VALUE : s.nextPing;
+		}));
+		return due.size() > limit ? new ArrayList<>(due.subList(0, limit)) : due;
+	}
+
+	public void clear()
+	{
+		stats.clear();
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the time to open a TCP connection to many hosts at once, using non-blocking
+ * connects on a single {@link Selector} instead of a blocking connect per host.
+ * <p>
+ * At most {@code concurrency} connects are in flight at a time, the rest wait their turn,
+ * which keeps the measured times from being skewed by a burst of connects and avoids
+ * running out of sockets.
+ */
+@Slf4j
+public class TcpPinger
+{
+	private final int concurrency;
+	private final long timeoutNanos;
+
+	private static class Attempt<T>
+	{
+		private final T target;
+		private final long start;
+		private final long deadline;
+
+		private Attempt(T target, long start, long deadline)
+		{
+			this.target = target;
+			this.start = start;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * @param concurrency the maximum number of connects in flight
+	 * @param timeoutMillis how long to wait for a connect before giving up on it
+	 */
+	public TcpPinger(int concurrency, int timeoutMillis)
+	{
+		if (concurrency < 1)
+		{
+			throw new IllegalArgumentException("concurrency must be positive");
+		}
+
+		this.concurrency = concurrency;
+		this.timeoutNanos = timeoutMillis * 1_000_000L;
+	}
+
+	/**
+	 * Pings each target, blocking until all have completed or timed out
+	 *
+	 * @param targets the targets and the addresses to connect to
+	 * @param listener called on this thread with each target and its ping in milliseconds, or -1 if it could not be reached
+	 * @throws IOException if the selector fails, in which case the remaining targets are not reported
+	 */
+	public <T> void ping(Map<T, InetSocketAddress> targets, ObjIntConsumer<T> listener) throws IOException
+	{
+		final Iterator<Map.Entry<T, InetSocketAddress>> pending = targets.entrySet().iterator();
+
+		try (Selector selector = Selector.open())
+		{
+			int inFlight = 0;
+			while (true)
+			{
+				while (inFlight < concurrency && pending.hasNext())
+				{
+					final Map.Entry<T, InetSocketAddress> entry = pending.next();
+					if (connect(selector, entry.getKey(), entry.getValue(), listener))
+					{
+						++inFlight;
+					}
+				}
+
+				if (inFlight == 0)
+				{
+					break;
+				}
+
+				long deadline = Long.MAX_VALUE;
+				for (SelectionKey key : selector.keys())
+				{
+					// keys of closed channels stay in the set until the next select
+					if (key.isValid())
+					{
+						deadline = Math.min(deadline, ((Attempt<?>) key.attachment()).deadline);
+					}
+				}
+
+				final long wait = (deadline - System.nanoTime()) / 1_000_000L;
+				selector.select(Math.max(1L, wait));
+
+				// every connect completed in this select is timed alike
+				final long now = System.nanoTime();
+
+				for (SelectionKey key : selector.selectedKeys())
+				{
+					@SuppressWarnings("unchecked")
+					final Attempt<T> attempt = (Attempt<T>) key.attachment();
+					final SocketChannel channel = (SocketChannel) key.channel();
+
+					int ping;
+					try
+					{
+						if (!channel.finishConnect())
+						{
+							continue;
+						}
+						ping = (int) ((now - attempt.start) / 1_000_000L);
+					}
+					catch (IOException ex)
+					{
+						log.trace("error pinging {}", attempt.target, ex);
+						ping = -1;
+					}
+
+					close(channel);
+					--inFlight;
+					listener.accept(attempt.target, ping);
+				}
+				selector.selectedKeys().clear();
+
+				for (SelectionKey key : selector.keys())
+				{
+					@SuppressWarnings("unchecked")
+					final Attempt<T> attempt = (Attempt<T>) key.attachment();
+					if (key.isValid() && now - attempt.deadline >= 0)
+					{
+						log.trace("timeout pinging {}", attempt.target);
+						close(key.channel());
+						--inFlight;
+						listener.accept(attempt.target, -1);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Starts connecting to a target
+	 *
+	 * @return true if the connect is in flight, false if it completed or failed immediately
+	 */
+	private <T> boolean connect(Selector selector, T target, InetSocketAddress address, ObjIntConsumer<T> listener)
+	{
+		if (address == null || address.isUnresolved())
+		{
+			listener.accept(target, -1);
+			return false;
+		}
+
+		SocketChannel channel = null;
+		try
+		{
+			channel = SocketChannel.open();
+			channel.configureBlocking(false);
+
+			final long start = System.nanoTime();
+			if (channel.connect(address))
+			{
+				close(channel);
+				listener.accept(target, (int) ((System.nanoTime() - start) / 1_000_000L));
+				return false;
+			}
+
+			channel.register(selector, SelectionKey.OP_CONNECT, new Attempt<>(target, start, start + timeoutNanos));
+			return true;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.trace("error pinging {}", target, ex);
+			if (channel != null)
+			{
+				close(channel);
+			}
+			listener.accept(target, -1);
+			return false;
+		}
+	}
+
+	private static void close(Channel channel)
+	{
+		try
+		{
+			channel.close();
+		}
+		catch (IOException ex)
+		{
+			log.trace("error closing ping channel", ex);
+		}
+	}
+}
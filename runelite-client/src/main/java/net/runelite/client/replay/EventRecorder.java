@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.RuneLite;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Records game events and client snapshots to a {@link GameRecording}, so that a
+ * session can later be replayed against plugins with {@link EventReplayer}.
+ * Events are captured on the client thread, and serialized and compressed in
+ * order on a background thread so recording does not add to frame time.
+ */
+@Slf4j
+@Singleton
+public class EventRecorder
+{
+	public static final File RECORDINGS_DIR = new File(RuneLite.RUNELITE_DIR, "recordings");
+
+	private final Client client;
+	private final EventBus eventBus;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+		.setNameFormat("event-recorder")
+		.setDaemon(true)
+		.build());
+
+	private GameRecording.RecordingWriter writer;
+	private File file;
+	private boolean varpsCaptured;
+	// only accessed from the executor
+	private GameRecording.RecordingWriter failedWriter;
+
+	@Inject
+	private EventRecorder(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		this.eventBus = eventBus;
+	}
+
+	public synchronized boolean isRecording()
+	{
+		return writer != null;
+	}
+
+	/**
+	 * Starts recording to a new file in {@link #RECORDINGS_DIR}
+	 *
+	 * @return the file being recorded to
+	 */
+	public synchronized File start() throws IOException
+	{
+		if (writer != null)
+		{
+			return file;
+		}
+
+		RECORDINGS_DIR.mkdirs();
+		String name = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".jsonl.gz";
+		file = new File(RECORDINGS_DIR, name);
+		writer = GameRecording.writer(new GZIPOutputStream(new FileOutputStream(file)));
+		varpsCaptured = false;
+		eventBus.register(this);
+		log.info("Recording game events to {}", file);
+		return file;
+	}
+
+	public synchronized void stop()
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		eventBus.unregister(this);
+
+		// closed after the events already queued have been written
+		final GameRecording.RecordingWriter w = writer;
+		final File f = file;
+		executor.execute(() ->
+		{
+			try
+			{
+				w.close();
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to close recording {}", f, ex);
+			}
+			log.info("Stopped recording game events to {}", f);
+		});
+		writer = null;
+		file = null;
+	}
+
+	// the snapshot must be recorded before any plugin has reacted to the tick
+	@Subscribe(priority = 100)
+	public void onGameTick(GameTick gameTick)
+	{
+		write(snapshot());
+		write(new RecordedEvent.Tick());
+	}
+
+	@Subscribe(priority = 100)
+	public void onGameStateChanged(GameStateChanged gameStateChanged)
+	{
+		RecordedEvent.GameStateChange e = new RecordedEvent.GameStateChange();
+		e.setGameState(gameStateChanged.getGameState());
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onChatMessage(ChatMessage chatMessage)
+	{
+		RecordedEvent.Chat e = new RecordedEvent.Chat();
+		e.setType(chatMessage.getType());
+		e.setName(chatMessage.getName());
+		e.setMessage(chatMessage.getMessage());
+		e.setSender(chatMessage.getSender());
+		e.setTimestamp(chatMessage.getTimestamp());
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onVarbitChanged(VarbitChanged varbitChanged)
+	{
+		RecordedEvent.VarChange e = new RecordedEvent.VarChange();
+		e.setVarpId(varbitChanged.getVarpId());
+		e.setVarbitId(varbitChanged.getVarbitId());
+		e.setValue(varbitChanged.getValue());
+		e.setVarpValue(varbitChanged.getVarpId() != -1 ? client.getVarpValue(varbitChanged.getVarpId()) : 0);
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onStatChanged(StatChanged statChanged)
+	{
+		RecordedEvent.StatChange e = new RecordedEvent.StatChange();
+		e.setSkill(statChanged.getSkill());
+		e.setXp(statChanged.getXp());
+		e.setLevel(statChanged.getLevel());
+		e.setBoostedLevel(statChanged.getBoostedLevel());
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onNpcSpawned(NpcSpawned npcSpawned)
+	{
+		final NPC npc = npcSpawned.getNpc();
+		final WorldPoint location = npc.getWorldLocation();
+
+		RecordedEvent.NpcSpawn e = new RecordedEvent.NpcSpawn();
+		e.setIndex(npc.getIndex());
+		e.setId(npc.getId());
+		e.setName(npc.getName());
+		e.setCombatLevel(npc.getCombatLevel());
+		e.setX(location.getX());
+		e.setY(location.getY());
+		e.setPlane(location.getPlane());
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onNpcDespawned(NpcDespawned npcDespawned)
+	{
+		RecordedEvent.NpcDespawn e = new RecordedEvent.NpcDespawn();
+		e.setIndex(npcDespawned.getNpc().getIndex());
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onItemSpawned(ItemSpawned itemSpawned)
+	{
+		final WorldPoint location = itemSpawned.getTile().getWorldLocation();
+
+		RecordedEvent.ItemSpawn e = new RecordedEvent.ItemSpawn();
+		e.setId(itemSpawned.getItem().getId());
+		e.setQuantity(itemSpawned.getItem().getQuantity());
+		e.setX(location.getX());
+		e.setY(location.getY());
+		e.setPlane(location.getPlane());
+		write(e);
+	}
+
+	@Subscribe(priority = 100)
+	public void onItemDespawned(ItemDespawned itemDespawned)
+	{
+		final WorldPoint location = itemDespawned.getTile().getWorldLocation();
+
+		RecordedEvent.ItemDespawn e = new RecordedEvent.ItemDespawn();
+		e.setId(itemDespawned.getItem().getId());
+		e.setQuantity(itemDespawned.getItem().getQuantity());
+		e.setX(location.getX());
+		e.setY(location.getY());
+		e.setPlane(location.getPlane());
+		write(e);
+	}
+
+	private RecordedEvent.Snapshot snapshot()
+	{
+		final WorldView wv = client.getTopLevelWorldView();
+		final Player local = client.getLocalPlayer();
+
+		RecordedEvent.Snapshot s = new RecordedEvent.Snapshot();
+		s.setTickCount(client.getTickCount());
+		s.setGameState(client.getGameState());
+		s.setWorld(client.getWorld());
+		s.setPlane(wv.getPlane());
+		s.setBaseX(wv.getBaseX());
+		s.setBaseY(wv.getBaseY());
+		if (local != null)
+		{
+			final WorldPoint location = local.getWorldLocation();
+			s.setLocalName(local.getName());
+			s.setLocalX(location.getX());
+			s.setLocalY(location.getY());
+			s.setLocalCombatLevel(local.getCombatLevel());
+		}
+		s.setEnergy(client.getEnergy());
+		s.setWeight(client.getWeight());
+		s.setBoostedLevels(client.getBoostedSkillLevels().clone());
+		s.setRealLevels(client.getRealSkillLevels().clone());
+		s.setExperience(client.getSkillExperiences().clone());
+		if (!varpsCaptured)
+		{
+			s.setVarps(client.getVarps().clone());
+			varpsCaptured = true;
+		}
+		return s;
+	}
+
+	private synchronized void write(RecordedEvent event)
+	{
+		if (writer == null)
+		{
+			return;
+		}
+
+		final GameRecording.RecordingWriter w = writer;
+		executor.execute(() ->
+		{
+			if (w == failedWriter)
+			{
+				return;
+			}
+
+			try
+			{
+				w.write(event);
+			}
+			catch (IOException ex)
+			{
+				log.warn("error writing recording, stopping", ex);
+				failedWriter = w;
+				stopWriter(w);
+			}
+		});
+	}
+
+	private synchronized void stopWriter(GameRecording.RecordingWriter w)
+	{
+		if (writer == w)
+		{
+			stop();
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.client.eventbus.EventBus;
+
+/**
+ * Replays a {@link GameRecording} into a set of subscribers as fast as possible,
+ * measuring the time each spends handling the events and the memory it allocates.
+ * <p>
+ * Every subscriber is registered to its own {@link EventBus} so its cost can be told
+ * apart from the others. Subscribers which query the client should be constructed
+ * with {@link ReplayClient#getClient()}. Events are posted on the calling thread.
+ */
+public class EventReplayer
+{
+	private final ReplayClient replayClient;
+	private final List<Target> targets = new ArrayList<>();
+	private final com.sun.management.ThreadMXBean threadMXBean;
+
+	private static class Target
+	{
+		private final String name;
+		private final EventBus eventBus = new EventBus();
+		private final Map<Class<?>, ReplayReport.Stats> stats = new HashMap<>();
+
+		private Target(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	public EventReplayer(ReplayClient replayClient)
+	{
+		this.replayClient = replayClient;
+
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		threadMXBean = bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+			? (com.sun.management.ThreadMXBean) bean
+			: null;
+	}
+
+	/**
+	 * Adds a subscriber, such as a plugin, to measure
+	 *
+	 * @param name name to report the subscriber under
+	 * @param subscriber object with {@link net.runelite.client.eventbus.Subscribe} methods
+	 */
+	public void add(String name, Object subscriber)
+	{
+		Target target = new Target(name);
+		target.eventBus.register(subscriber);
+		targets.add(target);
+	}
+
+	/**
+	 * Replays a recording from the start. Measurements accumulate over every
+	 * call, so a recording can be replayed a few times to warm up first and
+	 * then {@link #reset()} before the measured run.
+	 */
+	public ReplayReport replay(GameRecording recording)
+	{
+		final long threadId = Thread.currentThread().getId();
+		replayClient.reset();
+
+		for (RecordedEvent recorded : recording.getEvents())
+		{
+			final Object event = recorded.replay(replayClient);
+			if (event == null)
+			{
+				continue;
+			}
+
+			for (Target target : targets)
+			{
+				final long allocStart = allocatedBytes(threadId);
+				final long start = System.nanoTime();
+				target.eventBus.post(event);
+				final long end = System.nanoTime();
+				final long allocEnd = allocatedBytes(threadId);
+
+				target.stats.computeIfAbsent(event.getClass(), k -> new ReplayReport.Stats())
+					.add(end - start, allocEnd - allocStart);
+			}
+		}
+
+		return report();
+	}
+
+	/**
+	 * Clears the accumulated measurements
+	 */
+	public void reset()
+	{
+		for (Target target : targets)
+		{
+			target.stats.clear();
+		}
+	}
+
+	private ReplayReport report()
+	{
+		final List<ReplayReport.Result> results = new ArrayList<>(targets.size());
+		for (Target target : targets)
+		{
+			final ReplayReport.Stats total = new ReplayReport.Stats();
+			final Map<String, ReplayReport.Stats> byEvent = new HashMap<>();
+			target.stats.forEach((type, stats) ->
+			{
+				total.add(stats);
+				byEvent.put(type.getSimpleName(), stats.copy());
+			});
+			results.add(new ReplayReport.Result(target.name, total, byEvent));
+		}
+		return new ReplayReport(results);
+	}
+
+	private long allocatedBytes(long threadId)
+	{
+		return threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(threadId) : 0L;
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import lombok.Getter;
+
+/**
+ * A recorded stream of game events and client snapshots. Recordings are stored as
+ * one json object per line, in the order the events were posted, so they can be
+ * streamed while recording and inspected with ordinary text tools.
+ */
+public class GameRecording
+{
+	static final Gson GSON = new GsonBuilder()
+		.registerTypeAdapterFactory(RecordedEvent.FACTORY)
+		.create();
+
+	@Getter
+	private final List<RecordedEvent> events;
+
+	public GameRecording(List<RecordedEvent> events)
+	{
+		this.events = Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Reads a recording written by {@link EventRecorder}, decompressing it if the file is gzipped
+	 */
+	public static GameRecording read(File file) throws IOException
+	{
+		try (InputStream in = new FileInputStream(file))
+		{
+			InputStream is = file.getName().endsWith(".gz") ? new GZIPInputStream(in) : in;
+			return read(new InputStreamReader(is, StandardCharsets.UTF_8));
+		}
+	}
+
+	public static GameRecording read(Reader reader) throws IOException
+	{
+		final BufferedReader in = new BufferedReader(reader);
+		final List<RecordedEvent> events = new ArrayList<>();
+		String line;
+		while ((line = in.readLine()) != null)
+		{
+			if (!line.isEmpty())
+			{
+				events.add(GSON.fromJson(line, RecordedEvent.class));
+			}
+		}
+		return new GameRecording(events);
+	}
+
+	public static RecordingWriter writer(OutputStream out)
+	{
+		return new RecordingWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+	}
+
+	public static class RecordingWriter implements Closeable
+	{
+		private final Writer out;
+
+		private RecordingWriter(Writer out)
+		{
+			this.out = out;
+		}
+
+		public void write(RecordedEvent event) throws IOException
+		{
+			GSON.toJson(event, RecordedEvent.class, out);
+			out.write('\n');
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Skill;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.util.RuntimeTypeAdapterFactory;
+
+/**
+ * A single entry of a {@link GameRecording}. Entries hold only plain data so they can be
+ * serialized, and are turned back into api events against a {@link ReplayClient}.
+ */
+public abstract class RecordedEvent
+{
+	static final RuntimeTypeAdapterFactory<RecordedEvent> FACTORY = RuntimeTypeAdapterFactory.of(RecordedEvent.class, "event")
+		.registerSubtype(Snapshot.class)
+		.registerSubtype(Tick.class)
+		.registerSubtype(GameStateChange.class)
+		.registerSubtype(Chat.class)
+		.registerSubtype(VarChange.class)
+		.registerSubtype(StatChange.class)
+		.registerSubtype(NpcSpawn.class)
+		.registerSubtype(NpcDespawn.class)
+		.registerSubtype(ItemSpawn.class)
+		.registerSubtype(ItemDespawn.class);
+
+	/**
+	 * Applies this entry to the client state and creates the event to post for it
+	 *
+	 * @return the event, or null if this entry only updates the client state
+	 */
+	abstract Object replay(ReplayClient client);
+
+	/**
+	 * The client state plugins commonly query, captured at the start of each game tick.
+	 * Varps are large and are only captured in the first snapshot, after which they are
+	 * kept up to date by {@link VarChange}.
+	 */
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class Snapshot extends RecordedEvent
+	{
+		private int tickCount;
+		private GameState gameState;
+		private int world;
+		private int plane;
+		private int baseX;
+		private int baseY;
+		private String localName;
+		private int localX;
+		private int localY;
+		private int localCombatLevel;
+		private int energy;
+		private int weight;
+		private int[] boostedLevels;
+		private int[] realLevels;
+		private int[] experience;
+		private int[] varps;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			client.apply(this);
+			return null;
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class Tick extends RecordedEvent
+	{
+		@Override
+		Object replay(ReplayClient client)
+		{
+			return new GameTick();
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class GameStateChange extends RecordedEvent
+	{
+		private GameState gameState;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			client.setGameState(gameState);
+
+			GameStateChanged event = new GameStateChanged();
+			event.setGameState(gameState);
+			return event;
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class Chat extends RecordedEvent
+	{
+		private ChatMessageType type;
+		private String name;
+		private String message;
+		private String sender;
+		private int timestamp;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			return new ChatMessage(client.messageNode(this), type, name, message, sender, timestamp);
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class VarChange extends RecordedEvent
+	{
+		private int varpId;
+		private int varbitId;
+		private int value;
+		/**
+		 * The value of the whole varp after the change
+		 */
+		private int varpValue;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			client.setVar(varpId, varpValue, varbitId, value);
+
+			VarbitChanged event = new VarbitChanged();
+			event.setVarpId(varpId);
+			event.setVarbitId(varbitId);
+			event.setValue(value);
+			return event;
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class StatChange extends RecordedEvent
+	{
+		private Skill skill;
+		private int xp;
+		private int level;
+		private int boostedLevel;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			client.setStat(skill, xp, level, boostedLevel);
+			return new StatChanged(skill, xp, level, boostedLevel);
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class NpcSpawn extends RecordedEvent
+	{
+		private int index;
+		private int id;
+		private String name;
+		private int combatLevel;
+		private int x;
+		private int y;
+		private int plane;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			return new NpcSpawned(client.spawnNpc(this));
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class NpcDespawn extends RecordedEvent
+	{
+		private int index;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			NPC npc = client.despawnNpc(index);
+			return npc != null ? new NpcDespawned(npc) : null;
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class ItemSpawn extends RecordedEvent
+	{
+		private int id;
+		private int quantity;
+		private int x;
+		private int y;
+		private int plane;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			Tile tile = client.tile(x, y, plane);
+			TileItem item = client.spawnItem(this);
+			return new ItemSpawned(tile, item);
+		}
+	}
+
+	@Data
+	@EqualsAndHashCode(callSuper = false)
+	public static class ItemDespawn extends RecordedEvent
+	{
+		private int id;
+		private int quantity;
+		private int x;
+		private int y;
+		private int plane;
+
+		@Override
+		Object replay(ReplayClient client)
+		{
+			Tile tile = client.tile(x, y, plane);
+			TileItem item = client.despawnItem(this);
+			return new ItemDespawned(tile, item);
+		}
+	}
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.MessageNode;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.Player;
+import net.runelite.api.Skill;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.coords.WorldPointMap;
+
+/**
+ * Game state reconstructed from a {@link GameRecording}, exposed through a {@link Client}
+ * stub answering the queries plugins commonly make: game state, tick count, world,
+ * local player, skills, vars and the npcs in the scene. Anything which was not
+ * recorded returns null, zero or false, and npcs stay where they spawned.
+ * <p>
+ * The stubs are plain {@link Proxy}s, so they cost little compared to the plugin
+ * code being measured.
+ */
+public class ReplayClient
+{
+	private static final int SCENE_SIZE = 104;
+
+	@Getter
+	private final Client client;
+	private final WorldView worldView;
+	private final Player localPlayer;
+
+	private final Map<Integer, NPC> npcs = new LinkedHashMap<>();
+	private final WorldPointMap<List<TileItem>> items = new WorldPointMap<>();
+	private final Map<Integer, Integer> varbits = new HashMap<>();
+
+	private int tickCount;
+	private GameState gameState = GameState.LOGGED_IN;
+	private int world;
+	private int plane;
+	private int baseX;
+	private int baseY;
+	private String localName;
+	private WorldPoint localLocation;
+	private int localCombatLevel;
+	private int energy;
+	private int weight;
+	private int[] boostedLevels = new int[Skill.values().length];
+	private int[] realLevels = new int[Skill.values().length];
+	private int[] experience = new int[Skill.values().length];
+	private int[] varps = new int[0];
+
+	public ReplayClient()
+	{
+		IndexedObjectSet<NPC> npcSet = new IndexedObjectSet<>()
+		{
+			@Override
+			public NPC byIndex(int index)
+			{
+				return npcs.get(index);
+			}
+
+			@Override
+			public Iterator<NPC> iterator()
+			{
+				return npcs.values().iterator();
+			}
+		};
+
+		IndexedObjectSet<Player> playerSet = new IndexedObjectSet<>()
+		{
+			@Override
+			public Player byIndex(int index)
+			{
+				return null;
+			}
+
+			@Override
+			public Iterator<Player> iterator()
+			{
+				return Collections.singletonList(localPlayer).iterator();
+			}
+		};
+
+		Map<String, Function<Object[], Object>> wv = new HashMap<>();
+		wv.put("getId", a -> WorldView.TOPLEVEL);
+		wv.put("isTopLevel", a -> true);
+		wv.put("getPlane", a -> plane);
+		wv.put("getBaseX", a -> baseX);
+		wv.put("getBaseY", a -> baseY);
+		wv.put("getSizeX", a -> SCENE_SIZE);
+		wv.put("getSizeY", a -> SCENE_SIZE);
+		wv.put("isInstance", a -> false);
+		wv.put("npcs", a -> npcSet);
+		wv.put("players", a -> playerSet);
+		worldView = stub(WorldView.class, wv);
+
+		Map<String, Function<Object[], Object>> player = new HashMap<>();
+		player.put("getName", a -> localName);
+		player.put("getCombatLevel", a -> localCombatLevel);
+		player.put("getWorldLocation", a -> localLocation);
+		player.put("getLocalLocation", a -> localLocation == null ? null : LocalPoint.fromWorld(worldView, localLocation));
+		player.put("getWorldView", a -> worldView);
+		localPlayer = stub(Player.class, player);
+
+		Map<String, Function<Object[], Object>> c = new HashMap<>();
+		c.put("getGameState", a -> gameState);
+		c.put("getTickCount", a -> tickCount);
+		c.put("getWorld", a -> world);
+		c.put("getLocalPlayer", a -> gameState == GameState.LOGGED_IN ? localPlayer : null);
+		c.put("getTopLevelWorldView", a -> worldView);
+		c.put("getWorldView", a -> worldView);
+		c.put("findWorldViewFromWorldPoint", a -> worldView);
+		c.put("getBoostedSkillLevel", a -> boostedLevels[((Skill) a[0]).ordinal()]);
+		c.put("getRealSkillLevel", a -> realLevels[((Skill) a[0]).ordinal()]);
+		c.put("getSkillExperience", a -> experience[((Skill) a[0]).ordinal()]);
+		c.put("getBoostedSkillLevels", a -> boostedLevels);
+		c.put("getRealSkillLevels", a -> realLevels);
+		c.put("getSkillExperiences", a -> experience);
+		c.put("getTotalLevel", a -> Arrays.stream(realLevels).sum());
+		c.put("getVarps", a -> varps);
+		c.put("getVarpValue", a -> getVarp((int) a[0]));
+		c.put("getServerVarpValue", a -> getVarp((int) a[0]));
+		c.put("getVarbitValue", a -> a.length == 1 ? varbits.getOrDefault((int) a[0], 0) : 0);
+		c.put("getServerVarbitValue", a -> varbits.getOrDefault((int) a[0], 0));
+		c.put("getEnergy", a -> energy);
+		c.put("getWeight", a -> weight);
+		client = stub(Client.class, c);
+	}
+
+	/**
+	 * Resets to the state before any recorded events, so a recording can be replayed again
+	 */
+	public void reset()
+	{
+		npcs.clear();
+		items.clear();
+		varbits.clear();
+		tickCount = 0;
+		gameState = GameState.LOGGED_IN;
+		localLocation = null;
+		varps = new int[0];
+	}
+
+	void apply(RecordedEvent.Snapshot snapshot)
+	{
+		tickCount = snapshot.getTickCount();
+		gameState = snapshot.getGameState();
+		world = snapshot.getWorld();
+		plane = snapshot.getPlane();
+		baseX = snapshot.getBaseX();
+		baseY = snapshot.getBaseY();
+		localName = snapshot.getLocalName();
+		localLocation = new WorldPoint(snapshot.getLocalX(), snapshot.getLocalY(), snapshot.getPlane());
+		localCombatLevel = snapshot.getLocalCombatLevel();
+		energy = snapshot.getEnergy();
+		weight = snapshot.getWeight();
+		if (snapshot.getBoostedLevels() != null)
+		{
+			boostedLevels = snapshot.getBoostedLevels().clone();
+			realLevels = snapshot.getRealLevels().clone();
+			experience = snapshot.getExperience().clone();
+		}
+		if (snapshot.getVarps() != null)
+		{
+			varps = snapshot.getVarps().clone();
+		}
+	}
+
+	void setGameState(GameState gameState)
+	{
+		this.gameState = gameState;
+		if (gameState != GameState.LOGGED_IN)
+		{
+			// scene is cleared on login screen, loading and hopping
+			npcs.clear();
+			items.clear();
+		}
+	}
+
+	void setVar(int varpId, int varpValue, int varbitId, int value)
+	{
+		if (varpId >= 0)
+		{
+			if (varpId >= varps.length)
+			{
+				varps = Arrays.copyOf(varps, varpId + 1);
+			}
+			varps[varpId] = varpValue;
+		}
+		if (varbitId != -1)
+		{
+			varbits.put(varbitId, value);
+		}
+	}
+
+	void setStat(Skill skill, int xp, int level, int boostedLevel)
+	{
+		int i = skill.ordinal();
+		if (i < experience.length)
+		{
+			experience[i] = xp;
+			realLevels[i] = level;
+			boostedLevels[i] = boostedLevel;
+		}
+	}
+
+	NPC spawnNpc(RecordedEvent.NpcSpawn spawn)
+	{
+		WorldPoint location = new WorldPoint(spawn.getX(), spawn.getY(), spawn.getPlane());
+
+		Map<String, Function<Object[], Object>> comp = new HashMap<>();
+		comp.put("getId", a -> spawn.getId());
+		comp.put("getName", a -> spawn.getName());
+		comp.put("getCombatLevel", a -> spawn.getCombatLevel());
+		comp.put("getActions", a -> new String[5]);
+		comp.put("isInteractible", a -> true);
+		NPCComposition composition = stub(NPCComposition.class, comp);
+
+		Map<String, Function<Object[], Object>> npc = new HashMap<>();
+		npc.put("getIndex", a -> spawn.getIndex());
+		npc.put("getId", a -> spawn.getId());
+		npc.put("getName", a -> spawn.getName());
+		npc.put("getCombatLevel", a -> spawn.getCombatLevel());
+		npc.put("getComposition", a -> composition);
+		npc.put("getTransformedComposition", a -> composition);
+		npc.put("getWorldLocation", a -> location);
+		npc.put("getLocalLocation", a -> LocalPoint.fromWorld(worldView, location));
+		npc.put("getWorldView", a -> worldView);
+		NPC n = stub(NPC.class, npc);
+		npcs.put(spawn.getIndex(), n);
+		return n;
+	}
+
+	NPC despawnNpc(int index)
+	{
+		return npcs.remove(index);
+	}
+
+	TileItem spawnItem(RecordedEvent.ItemSpawn spawn)
+	{
+		TileItem item = item(spawn.getId(), spawn.getQuantity());
+		items.computeIfAbsent(WorldPoint.pack(spawn.getX(), spawn.getY(), spawn.getPlane()), k -> new ArrayList<>()).add(item);
+		return item;
+	}
+
+	TileItem despawnItem(RecordedEvent.ItemDespawn despawn)
+	{
+		int coord = WorldPoint.pack(despawn.getX(), despawn.getY(), despawn.getPlane());
+		List<TileItem> tileItems = items.get(coord);
+		if (tileItems != null)
+		{
+			for (Iterator<TileItem> it = tileItems.iterator(); it.hasNext(); )
+			{
+				TileItem item = it.next();
+				if (item.getId() == despawn.getId() && item.getQuantity() == despawn.getQuantity())
+				{
+					it.remove();
+					if (tileItems.isEmpty())
+					{
+						items.remove(coord);
+					}
+					return item;
+				}
+			}
+		}
+		return item(despawn.getId(), despawn.getQuantity());
+	}
+
+	Tile tile(int x, int y, int plane)
+	{
+		WorldPoint location = new WorldPoint(x, y, plane);
+
+		Map<String, Function<Object[], Object>> tile = new HashMap<>();
+		tile.put("getWorldLocation", a -> location);
+		tile.put("getLocalLocation", a -> LocalPoint.fromWorld(worldView, location));
+		tile.put("getPlane", a -> plane);
+		tile.put("getRenderLevel", a -> plane);
+		return stub(Tile.class, tile);
+	}
+
+	MessageNode messageNode(RecordedEvent.Chat chat)
+	{
+		Map<String, Function<Object[], Object>> node = new HashMap<>();
+		node.put("getType", a -> chat.getType() != null ? chat.getType() : ChatMessageType.UNKNOWN);
+		node.put("getName", a -> chat.getName());
+		node.put("getSender", a -> chat.getSender());
+		node.put("getValue", a -> chat.getMessage());
+		node.put("getTimestamp", a -> chat.getTimestamp());
+		return stub(MessageNode.class, node);
+	}
+
+	private static TileItem item(int id, int quantity)
+	{
+		Map<String, Function<Object[], Object>> item = new HashMap<>();
+		item.put("getId", a -> id);
+		item.put("getQuantity", a -> quantity);
+		return stub(TileItem.class, item);
+	}
+
+	private int getVarp(int varpId)
+	{
+		return varpId >= 0 && varpId < varps.length ? varps[varpId] : 0;
+	}
+
+	/**
+	 * Creates a proxy of an interface answering from {@code answers}, falling back to the
+	 * interface's default methods and otherwise null or zero
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> clazz, Map<String, Function<Object[], Object>> answers)
+	{
+		return (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]{clazz}, (proxy, method, args) ->
+		{
+			Function<Object[], Object> answer = answers.get(method.getName());
+			if (answer != null)
+			{
+				return answer.apply(args);
+			}
+
+			switch (method.getName())
+			{
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return clazz.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+			}
+
+			if (method.isDefault())
+			{
+				return invokeDefault(proxy, method, args);
+			}
+
+			return defaultValue(method.getReturnType());
+		});
+	}
+
+	private static Object invokeDefault(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		Class<?> declaringClass = method.getDeclaringClass();
+		return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+			.unreflectSpecial(method, declaringClass)
+			.bindTo(proxy)
+			.invokeWithArguments(args == null ? new Object[0] : args);
+	}
+
+	private static Object defaultValue(Class<?> type)
+	{
+		if (!type.isPrimitive() || type == void.class)
+		{
+			return null;
+		}
+		else if (type == boolean.class)
+		{
+			return false;
+		}
+		else if (type == long.class)
+		{
+			return 0L;
+		}
+		else if (type == double.class)
+		{
+			return 0d;
+		}
+		else if (type == float.class)
+		{
+			return 0f;
+		}
+		else if (type == short.class)
+		{
+			return (short) 0;
+		}
+		else if (type == byte.class)
+		{
+			return (byte) 0;
+		}
+		else if (type == char.class)
+		{
+			return (char) 0;
+		}
+		return 0;
+	}
+}
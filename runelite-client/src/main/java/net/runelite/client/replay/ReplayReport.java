@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Time and allocation of each subscriber measured by {@link EventReplayer}
+ */
+public class ReplayReport
+{
+	@Getter
+	private final List<Result> results;
+
+	ReplayReport(List<Result> results)
+	{
+		this.results = Collections.unmodifiableList(results);
+	}
+
+	public Result getResult(String name)
+	{
+		for (Result result : results)
+		{
+			if (result.getName().equals(name))
+			{
+				return result;
+			}
+		}
+		return null;
+	}
+
+	@Value
+	public static class Result
+	{
+		String name;
+		Stats total;
+		/**
+		 * Stats for each event type, keyed by the event's simple class name
+		 */
+		Map<String, Stats> byEvent;
+	}
+
+	@Getter
+	public static class Stats
+	{
+		private int events;
+		private long nanos;
+		private long allocatedBytes;
+
+		void add(long nanos, long allocatedBytes)
+		{
+			++events;
+			this.nanos += nanos;
+			this.allocatedBytes += allocatedBytes;
+		}
+
+		void add(Stats other)
+		{
+			events += other.events;
+			nanos += other.nanos;
+			allocatedBytes += other.allocatedBytes;
+		}
+
+		Stats copy()
+		{
+			Stats stats = new Stats();
+			stats.add(this);
+			return stats;
+		}
+	}
+
+	/**
+	 * Formats the report as a table with the most expensive subscriber first
+	 */
+	@Override
+	public String toString()
+	{
+		final List<Result> sorted = new ArrayList<>(results);
+		sorted.sort(Comparator.comparingLong((Result r) -> r.getTotal().getNanos()).reversed());
+
+		final StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-32s %10s %12s %14s%n", "subscriber", "events", "time (us)", "allocated (kb)"));
+		for (Result result : sorted)
+		{
+			final Stats total = result.getTotal();
+			sb.append(String.format("%-32s %10d %12d %14d%n", result.getName(), total.getEvents(),
+				total.getNanos() / 1000, total.getAllocatedBytes() / 1024));
+
+			result.getByEvent().entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().getNanos()).reversed())
+				.forEach(e -> sb.append(String.format("  %-30s %10d %12d %14d%n", e.getKey(), e.getValue().getEvents(),
+					e.getValue().getNanos() / 1000, e.getValue().getAllocatedBytes() / 1024)));
+		}
+		return sb.toString();
+	}
+}
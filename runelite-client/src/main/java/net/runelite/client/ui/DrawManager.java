@@ -31,6 +31,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,6 +41,7 @@ public class DrawManager
 {
 	private final List<Runnable> everyFrame = new CopyOnWriteArrayList<>();
 	private final Queue<Consumer<Image>> nextFrame = new ConcurrentLinkedQueue<>();
+	private volatile FrameRecorder frameRecorder;
 
 	public void registerEveryFrameListener(Runnable everyFrameListener)
 	{
@@ -59,6 +61,16 @@ public class DrawManager
 		nextFrame.add(nextFrameListener);
 	}
 
+	/**
+	 * Set the recorder to pass frames to, replacing any current one
+	 *
+	 * @param frameRecorder the recorder, or null to stop recording
+	 */
+	public void setFrameRecorder(@Nullable FrameRecorder frameRecorder)
+	{
+		this.frameRecorder = frameRecorder;
+	}
+
 	public void processDrawComplete(Supplier<Image> imageSupplier)
 	{
 		for (Runnable everyFrameListener : everyFrame)
@@ -105,5 +117,26 @@ public class DrawManager
 			}
 			nextFrameListener = nextFrame.poll();
 		}
+
+		final FrameRecorder recorder = frameRecorder;
+		if (recorder != null && recorder.wantsFrame())
+		{
+			if (image == null)
+			{
+				try
+				{
+					image = imageSupplier.get();
+				}
+				catch (Exception ex)
+				{
+					log.warn("error getting frame", ex);
+				}
+			}
+
+			if (image != null)
+			{
+				recorder.offer(image);
+			}
+		}
 	}
 }
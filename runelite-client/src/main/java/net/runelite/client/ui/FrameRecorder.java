@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.PngEncoder;
+
+/**
+ * Keeps the last few seconds of frames in memory, so they can be saved after something happens.
+ * <p>
+ * Frames are sampled from {@link DrawManager} at a fixed rate, then downscaled and compressed to png
+ * on the recorder's own thread into a fixed size ring of bytes, evicting the oldest frames as it fills.
+ * The only work on the client thread is copying the frame, which is skipped while the previous
+ * frame is still being compressed.
+ */
+@Slf4j
+public class FrameRecorder
+{
+	/**
+	 * Memory budget per frame, used to size the ring. A 640 wide frame compresses to well under this.
+	 */
+	private static final int BYTES_PER_FRAME = 256 * 1024;
+	private static final int MAX_RING_BYTES = 64 * 1024 * 1024;
+
+	private final long intervalNanos;
+	private final long maxAgeNanos;
+	private final int maxWidth;
+	private final Executor executor;
+	private final ExecutorService ownedExecutor;
+	private final PngEncoder encoder = new PngEncoder(Runnable::run);
+	private final AtomicInteger pending = new AtomicInteger();
+
+	// only touched by the client thread
+	private long lastFrameNanos;
+
+	// only touched by the recorder thread
+	private final byte[] ring;
+	private final long[] frameNanos;
+	private final int[] frameOffset;
+	private final int[] frameLength;
+	// oldest frame, and number of frames stored
+	private int first;
+	private int count;
+	private int writePos;
+	private BufferedImage scaled;
+	private final Buffer scratch = new Buffer();
+
+	/**
+	 * @param seconds how many seconds of frames to keep
+	 * @param fps how many frames per second to keep
+	 * @param maxWidth frames wider than this are downscaled to it
+	 */
+	public FrameRecorder(int seconds, int fps, int maxWidth)
+	{
+		this(seconds, fps, maxWidth, (int) Math.min(MAX_RING_BYTES, (long) seconds * fps * BYTES_PER_FRAME), null);
+	}
+
+	FrameRecorder(int seconds, int fps, int maxWidth, int ringBytes, Executor executor)
+	{
+		if (seconds <= 0 || fps <= 0 || maxWidth <= 0)
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.intervalNanos = 1_000_000_000L / fps;
+		this.maxAgeNanos = seconds * 1_000_000_000L;
+		this.maxWidth = maxWidth;
+		if (executor == null)
+		{
+			ownedExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+				.setNameFormat("frame-recorder")
+				.setDaemon(true)
+				.setPriority(Thread.MIN_PRIORITY)
+				.build());
+			this.executor = ownedExecutor;
+		}
+		else
+		{
+			ownedExecutor = null;
+			this.executor = executor;
+		}
+
+		final int frames = seconds * fps;
+		ring = new byte[ringBytes];
+		frameNanos = new long[frames];
+		frameOffset = new int[frames];
+		frameLength = new int[frames];
+	}
+
+	/**
+	 * Called on the client thread each frame
+	 *
+	 * @return if the next frame should be passed to {@link #offer(Image)}
+	 */
+	boolean wantsFrame()
+	{
+		return System.nanoTime() - lastFrameNanos >= intervalNanos && pending.get() == 0;
+	}
+
+	/**
+	 * Queues a frame to be stored. The image must not be modified afterward.
+	 */
+	void offer(Image image)
+	{
+		final long now = System.nanoTime();
+		lastFrameNanos = now;
+		submit(() ->
+		{
+			try
+			{
+				store(image, now);
+			}
+			catch (Exception ex)
+			{
+				log.warn("error recording frame", ex);
+			}
+		});
+	}
+
+	/**
+	 * Writes the stored frames to a directory as a numbered png sequence.
+	 *
+	 * @param directory the directory, which is created if needed
+	 * @return a future of the number of frames written
+	 */
+	public CompletableFuture<Integer> save(File directory)
+	{
+		final CompletableFuture<Integer> future = new CompletableFuture<>();
+		submit(() ->
+		{
+			try
+			{
+				future.complete(write(directory));
+			}
+			catch (Exception ex)
+			{
+				future.completeExceptionally(ex);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Stops the recorder thread. Frames which are already queued are dropped.
+	 */
+	public void close()
+	{
+		if (ownedExecutor != null)
+		{
+			ownedExecutor.shutdownNow();
+		}
+	}
+
+	private void submit(Runnable r)
+	{
+		pending.incrementAndGet();
+		executor.execute(() ->
+		{
+			try
+			{
+				r.run();
+			}
+			finally
+			{
+				pending.decrementAndGet();
+			}
+		});
+	}
+
+	void store(Image image, long nanos) throws IOException
+	{
+		final int width = image.getWidth(null);
+		final int height = image.getHeight(null);
+		if (width <= 0 || height <= 0)
+		{
+			return;
+		}
+
+		final int scaledWidth = Math.min(width, maxWidth);
+		final int scaledHeight = Math.max(1, (int) ((long) height * scaledWidth / width));
+		if (scaled == null || scaled.getWidth() != scaledWidth || scaled.getHeight() != scaledHeight)
+		{
+			scaled = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_RGB);
+		}
+
+		final Graphics2D graphics = scaled.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.drawImage(image, 0, 0, scaledWidth, scaledHeight, null);
+		graphics.dispose();
+
+		scratch.reset();
+		encoder.encode(scaled, scratch, Deflater.BEST_SPEED);
+
+		final int length = scratch.size();
+		if (length > ring.length)
+		{
+			log.debug("frame of {} bytes is too large to record", length);
+			return;
+		}
+
+		int pos = writePos;
+		if (pos + length > ring.length)
+		{
+			// wrap around, dropping the frames at the end of the ring
+			while (count > 0 && frameOffset[first] >= pos)
+			{
+				evict();
+			}
+			pos = 0;
+		}
+
+		// drop the oldest frames the new frame overlaps, and the oldest frame if out of slots
+		while (count > 0 && frameOffset[first] >= pos && frameOffset[first] < pos + length)
+		{
+			evict();
+		}
+		if (count == frameNanos.length)
+		{
+			evict();
+		}
+
+		System.arraycopy(scratch.buf(), 0, ring, pos, length);
+		final int slot = (first + count) % frameNanos.length;
+		frameNanos[slot] = nanos;
+		frameOffset[slot] = pos;
+		frameLength[slot] = length;
+		++count;
+		writePos = pos + length;
+	}
+
+	private void evict()
+	{
+		first = (first + 1) % frameNanos.length;
+		--count;
+	}
+
+	int write(File directory) throws IOException
+	{
+		if (count == 0)
+		{
+			return 0;
+		}
+
+		if (!directory.mkdirs() && !directory.isDirectory())
+		{
+			throw new IOException("unable to create " + directory);
+		}
+
+		final long newest = frameNanos[(first + count - 1) % frameNanos.length];
+		int written = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final int slot = (first + i) % frameNanos.length;
+			if (newest - frameNanos[slot] > maxAgeNanos)
+			{
+				continue;
+			}
+
+			final File file = new File(directory, String.format("%04d.png", written));
+			try (OutputStream out = new FileOutputStream(file))
+			{
+				out.write(ring, frameOffset[slot], frameLength[slot]);
+			}
+			++written;
+		}
+		return written;
+	}
+
+	int getFrameCount()
+	{
+		return count;
+	}
+
+	private static class Buffer extends ByteArrayOutputStream
+	{
+		Buffer()
+		{
+			super(BYTES_PER_FRAME);
+		}
+
+		byte[] buf()
+		{
+			return buf;
+		}
+	}
+}
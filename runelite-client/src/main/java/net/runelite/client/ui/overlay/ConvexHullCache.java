@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Shape;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Model;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.api.Perspective;
+import net.runelite.api.ProjectionBuffer;
+import net.runelite.api.Renderable;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Caches convex hulls and clickboxes for the duration of a frame, so that multiple
+ * overlays highlighting the same entity only project it once.
+ * <p>
+ * Actor hulls and game object hulls and clickboxes are projected into pooled
+ * {@link ProjectionBuffer}s rather than through the entity's own allocating methods.
+ * Shapes are backed by their entry's buffer, so they must not be kept past the frame.
+ * <p>
+ * Entries are keyed on the entity, its orientation and position, and the camera state
+ * at the time it was projected. The cache is emptied before every frame, and whenever
+ * the camera is seen to have moved. This must only be used from the client thread.
+ */
+@Singleton
+public class ConvexHullCache
+{
+	private static final int HULL = 0;
+	private static final int HULL2 = 1;
+	private static final int CLICKBOX = 2;
+
+	private final Client client;
+	private final Map<Object, Entry> entries = new IdentityHashMap<>();
+	private final ArrayDeque<Entry> pool = new ArrayDeque<>();
+
+	private double cameraX, cameraY, cameraZ, cameraPitch, cameraYaw;
+	private int scale, viewportX, viewportY, viewportWidth, viewportHeight;
+
+	private static class Entry
+	{
+		Object key;
+		int type;
+		int orientation;
+		int x, y, z;
+		boolean computed;
+		Shape shape;
+		ProjectionBuffer buffer;
+		Entry next;
+
+		boolean matches(int type, int orientation, int x, int y, int z)
+		{
+			return this.type == type && this.orientation == orientation
+				&& this.x == x && this.y == y && this.z == z;
+		}
+	}
+
+	@Inject
+	private ConvexHullCache(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onBeforeRender(BeforeRender event)
+	{
+		clear();
+	}
+
+	/**
+	 * Get the convex hull of an actor, as per {@link Actor#getConvexHull()}
+	 */
+	@Nullable
+	public Shape getConvexHull(Actor actor)
+	{
+		final LocalPoint lp = actor.getLocalLocation();
+		if (lp == null)
+		{
+			return null;
+		}
+
+		final int orientation = actor.getCurrentOrientation();
+		Entry e = lookup(actor, HULL, orientation, lp.getX(), lp.getY(), lp.getWorldView());
+		if (!e.computed)
+		{
+			e.computed = true;
+			final Model model = actor.getModel();
+			final WorldView wv = actor.getWorldView();
+			if (model != null && wv != null)
+			{
+				// the hull is drawn at the height of the center of the actor's area
+				final NPCComposition composition = actor instanceof NPC ? ((NPC) actor).getComposition() : null;
+				final int size = composition == null ? 1 : composition.getSize();
+				final LocalPoint tileHeightPoint = new LocalPoint(
+					size * Perspective.LOCAL_HALF_TILE_SIZE - Perspective.LOCAL_HALF_TILE_SIZE + lp.getX(),
+					size * Perspective.LOCAL_HALF_TILE_SIZE - Perspective.LOCAL_HALF_TILE_SIZE + lp.getY(),
+					wv);
+				final int z = Perspective.getTileHeight(client, tileHeightPoint, wv.getPlane());
+				e.shape = Perspective.getConvexHull(client, wv, model, orientation, lp.getX(), lp.getY(), z, buffer(e));
+			}
+		}
+		return e.shape;
+	}
+
+	/**
+	 * Get the primary convex hull of a tile object. Objects without a model hull
+	 * fall back to their tile polygon.
+	 */
+	@Nullable
+	public Shape getConvexHull(TileObject object)
+	{
+		Entry e = lookup(object, HULL, 0, object.getX(), object.getY(), object.getPlane());
+		if (!e.computed)
+		{
+			e.computed = true;
+			if (object instanceof GameObject)
+			{
+				final GameObject gameObject = (GameObject) object;
+				e.shape = Perspective.getConvexHull(client, gameObject.getWorldView(), model(gameObject.getRenderable()),
+					gameObject.getModelOrientation(), gameObject.getX(), gameObject.getY(), gameObject.getZ(), buffer(e));
+			}
+			else if (object instanceof WallObject)
+			{
+				e.shape = ((WallObject) object).getConvexHull();
+			}
+			else if (object instanceof DecorativeObject)
+			{
+				e.shape = ((DecorativeObject) object).getConvexHull();
+			}
+			else if (object instanceof GroundObject)
+			{
+				e.shape = ((GroundObject) object).getConvexHull();
+			}
+			else
+			{
+				e.shape = object.getCanvasTilePoly();
+			}
+		}
+		return e.shape;
+	}
+
+	/**
+	 * Get the secondary convex hull of a wall or decorative object.
+	 *
+	 * @return the hull, or null if the object does not have a second model
+	 */
+	@Nullable
+	public Shape getConvexHull2(TileObject object)
+	{
+		if (!(object instanceof WallObject) && !(object instanceof DecorativeObject))
+		{
+			return null;
+		}
+
+		Entry e = lookup(object, HULL2, 0, object.getX(), object.getY(), object.getPlane());
+		if (!e.computed)
+		{
+			e.computed = true;
+			e.shape = object instanceof WallObject
+				? ((WallObject) object).getConvexHull2()
+				: ((DecorativeObject) object).getConvexHull2();
+		}
+		return e.shape;
+	}
+
+	/**
+	 * Get the clickbox of a tile object, as per {@link TileObject#getClickbox()}
+	 */
+	@Nullable
+	public Shape getClickbox(TileObject object)
+	{
+		Entry e = lookup(object, CLICKBOX, 0, object.getX(), object.getY(), object.getPlane());
+		if (!e.computed)
+		{
+			e.computed = true;
+			if (object instanceof GameObject)
+			{
+				final GameObject gameObject = (GameObject) object;
+				e.shape = Perspective.getClickbox(client, gameObject.getWorldView(), model(gameObject.getRenderable()),
+					gameObject.getModelOrientation(), gameObject.getX(), gameObject.getY(), gameObject.getZ(), buffer(e));
+			}
+			else
+			{
+				e.shape = object.getClickbox();
+			}
+		}
+		return e.shape;
+	}
+
+	/**
+	 * Empty the cache. Entries are kept pooled for reuse by the next frame.
+	 */
+	public void clear()
+	{
+		for (Entry e : entries.values())
+		{
+			while (e != null)
+			{
+				Entry next = e.next;
+				e.key = null;
+				e.computed = false;
+				e.shape = null;
+				e.next = null;
+				pool.push(e);
+				e = next;
+			}
+		}
+		entries.clear();
+	}
+
+	private Entry lookup(Object key, int type, int orientation, int x, int y, int z)
+	{
+		checkCamera();
+
+		Entry head = entries.get(key);
+		for (Entry e = head; e != null; e = e.next)
+		{
+			if (e.matches(type, orientation, x, y, z))
+			{
+				return e;
+			}
+		}
+
+		Entry e = pool.isEmpty() ? new Entry() : pool.pop();
+		e.key = key;
+		e.type = type;
+		e.orientation = orientation;
+		e.x = x;
+		e.y = y;
+		e.z = z;
+		e.next = head;
+		entries.put(key, e);
+		return e;
+	}
+
+	@Nullable
+	private static Model model(@Nullable Renderable renderable)
+	{
+		if (renderable instanceof Model)
+		{
+			return (Model) renderable;
+		}
+		return renderable == null ? null : renderable.getModel();
+	}
+
+	private static ProjectionBuffer buffer(Entry e)
+	{
+		if (e.buffer == null)
+		{
+			e.buffer = new ProjectionBuffer();
+		}
+		return e.buffer;
+	}
+
+	private void checkCamera()
+	{
+		final double cx = client.getCameraFpX();
+		final double cy = client.getCameraFpY();
+		final double cz = client.getCameraFpZ();
+		final double pitch = client.getCameraFpPitch();
+		final double yaw = client.getCameraFpYaw();
+		final int scale = client.getScale();
+		final int vpX = client.getViewportXOffset();
+		final int vpY = client.getViewportYOffset();
+		final int vpWidth = client.getViewportWidth();
+		final int vpHeight = client.getViewportHeight();
+
+		if (cx != cameraX || cy != cameraY || cz != cameraZ || pitch != cameraPitch || yaw != cameraYaw
+			|| scale != this.scale || vpX != viewportX || vpY != viewportY
+			|| vpWidth != viewportWidth || vpHeight != viewportHeight)
+		{
+			clear();
+
+			cameraX = cx;
+			cameraY = cy;
+			cameraZ = cz;
+			cameraPitch = pitch;
+			cameraYaw = yaw;
+			this.scale = scale;
+			viewportX = vpX;
+			viewportY = vpY;
+			viewportWidth = vpWidth;
+			viewportHeight = vpHeight;
+		}
+	}
+}
@@ -94,14 +94,7 @@ public class OverlayUtil
 			return;
 		}
 
-		int x = txtLoc.getX();
-		int y = txtLoc.getY();
-
-		graphics.setColor(Color.BLACK);
-		graphics.drawString(text, x + 1, y + 1);
-
-		graphics.setColor(ColorUtil.colorWithAlpha(color, 0xFF));
-		graphics.drawString(text, x, y);
+		TextImageCache.getInstance().drawString(graphics, text, txtLoc.getX(), txtLoc.getY(), ColorUtil.colorWithAlpha(color, 0xFF), false);
 	}
 
 	public static void renderImageLocation(Client client, Graphics2D graphics, LocalPoint localPoint, BufferedImage image, int zOffset)
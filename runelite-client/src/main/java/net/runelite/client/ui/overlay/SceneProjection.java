@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Polygon;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
+import net.runelite.api.Perspective;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import static net.runelite.api.Perspective.LOCAL_TILE_SIZE;
+import net.runelite.api.Point;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Projects points and tiles of the scene onto the canvas for overlays.
+ * <p>
+ * This produces the same results as the equivalent methods in {@link Perspective}, but reads
+ * the camera from the client once per frame instead of once per point, projects into arrays
+ * instead of allocating a {@link Point} per corner, and remembers tile polygons until the next
+ * frame so overlays marking the same tiles share the work. Tile polygons which lie entirely
+ * outside of the viewport are culled and returned as null.
+ * <p>
+ * Polygons returned are shared between callers for the remainder of the frame and must not be
+ * modified. This must only be used from the client thread.
+ */
+@Singleton
+public class SceneProjection
+{
+	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
+	private static final int MIN_LOCAL = -ESCENE_OFFSET << LOCAL_COORD_BITS;
+	private static final int MAX_LOCAL = (Constants.SCENE_SIZE + ESCENE_OFFSET) << LOCAL_COORD_BITS;
+	private static final int NEAR = 50;
+
+	// cached in place of null for tiles which are off screen
+	private static final Polygon CULLED = new Polygon();
+
+	private final Client client;
+	private final Map<TileKey, Polygon> tiles = new HashMap<>();
+	private final ArrayDeque<TileKey> pool = new ArrayDeque<>();
+	private final TileKey lookup = new TileKey();
+
+	private final int[] cornerX = new int[4];
+	private final int[] cornerY = new int[4];
+	private final int[] cornerZ = new int[4];
+	private final int[] corner2dX = new int[4];
+	private final int[] corner2dY = new int[4];
+
+	private boolean valid;
+	private boolean gpu;
+	private int cameraX, cameraY, cameraZ;
+	private int pitchSin, pitchCos, yawSin, yawCos;
+	private float fpCameraX, fpCameraY, fpCameraZ;
+	private float fpPitchSin, fpPitchCos, fpYawSin, fpYawCos;
+	private int scale, viewportX, viewportY, viewportWidth, viewportHeight;
+
+	private static final class TileKey
+	{
+		private int worldView;
+		private int x, y;
+		private int sizeX, sizeY;
+		private int level;
+		private int heightOffset;
+
+		private void set(int worldView, int x, int y, int sizeX, int sizeY, int level, int heightOffset)
+		{
+			this.worldView = worldView;
+			this.x = x;
+			this.y = y;
+			this.sizeX = sizeX;
+			this.sizeY = sizeY;
+			this.level = level;
+			this.heightOffset = heightOffset;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (!(o instanceof TileKey))
+			{
+				return false;
+			}
+
+			final TileKey other = (TileKey) o;
+			return x == other.x && y == other.y && worldView == other.worldView
+				&& sizeX == other.sizeX && sizeY == other.sizeY
+				&& level == other.level && heightOffset == other.heightOffset;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			int hash = worldView;
+			hash = 31 * hash + x;
+			hash = 31 * hash + y;
+			hash = 31 * hash + sizeX;
+			hash = 31 * hash + sizeY;
+			hash = 31 * hash + level;
+			hash = 31 * hash + heightOffset;
+			return hash;
+		}
+	}
+
+	@Inject
+	private SceneProjection(Client client, EventBus eventBus)
+	{
+		this.client = client;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onBeforeRender(BeforeRender event)
+	{
+		invalidate();
+	}
+
+	/**
+	 * Forget the camera and any projected tiles. This happens automatically before
+	 * every frame, and only needs to be called if the camera is moved mid frame.
+	 */
+	public void invalidate()
+	{
+		valid = false;
+		pool.addAll(tiles.keySet());
+		tiles.clear();
+	}
+
+	/**
+	 * Translates local coordinates of the top level scene to canvas coordinates.
+	 *
+	 * @see Perspective#localToCanvas(Client, int, int, int)
+	 */
+	@Nullable
+	public Point localToCanvas(int x, int y, int z)
+	{
+		snapshot();
+		if (!project(x, y, z, corner2dX, corner2dY, 0))
+		{
+			return null;
+		}
+		return new Point(corner2dX[0], corner2dY[0]);
+	}
+
+	/**
+	 * Translates a point on the ground to canvas coordinates.
+	 *
+	 * @see Perspective#localToCanvas(Client, LocalPoint, int, int)
+	 */
+	@Nullable
+	public Point localToCanvas(LocalPoint point, int plane, int heightOffset)
+	{
+		if (point.getWorldView() != WorldView.TOPLEVEL)
+		{
+			return Perspective.localToCanvas(client, point, plane, heightOffset);
+		}
+
+		final int height = Perspective.getTileHeight(client, point, plane);
+		return localToCanvas(point.getX(), point.getY(), height - heightOffset);
+	}
+
+	/**
+	 * Translates a batch of local coordinates of the top level scene to canvas coordinates.
+	 * Points which are outside of the scene or behind the camera are set to
+	 * {@link Integer#MIN_VALUE}.
+	 *
+	 * @param count the number of points to project
+	 * @return the number of points which land within the viewport
+	 */
+	public int localToCanvas(int count, int[] x, int[] y, int[] z, int[] x2d, int[] y2d)
+	{
+		snapshot();
+
+		final int minX = viewportX, maxX = viewportX + viewportWidth;
+		final int minY = viewportY, maxY = viewportY + viewportHeight;
+		int visible = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			if (!project(x[i], y[i], z[i], x2d, y2d, i))
+			{
+				x2d[i] = y2d[i] = Integer.MIN_VALUE;
+			}
+			else if (x2d[i] >= minX && x2d[i] < maxX && y2d[i] >= minY && y2d[i] < maxY)
+			{
+				++visible;
+			}
+		}
+		return visible;
+	}
+
+	/**
+	 * @see Perspective#getCanvasTilePoly(Client, LocalPoint)
+	 */
+	@Nullable
+	public Polygon getCanvasTilePoly(LocalPoint localLocation)
+	{
+		return getCanvasTileAreaPoly(localLocation, 1, 1, -1, 0);
+	}
+
+	/**
+	 * @see Perspective#getCanvasTilePoly(Client, LocalPoint, int)
+	 */
+	@Nullable
+	public Polygon getCanvasTilePoly(LocalPoint localLocation, int zOffset)
+	{
+		return getCanvasTileAreaPoly(localLocation, 1, 1, -1, zOffset);
+	}
+
+	/**
+	 * @see Perspective#getCanvasTileAreaPoly(Client, LocalPoint, int)
+	 */
+	@Nullable
+	public Polygon getCanvasTileAreaPoly(LocalPoint localLocation, int size)
+	{
+		return getCanvasTileAreaPoly(localLocation, size, size, -1, 0);
+	}
+
+	/**
+	 * Returns a polygon representing an area, or null if it is out of the scene, partly
+	 * behind the camera or entirely outside of the viewport.
+	 *
+	 * @see Perspective#getCanvasTileAreaPoly(Client, LocalPoint, int, int, int, int)
+	 */
+	@Nullable
+	public Polygon getCanvasTileAreaPoly(LocalPoint localLocation, int sizeX, int sizeY, int level, int heightOffset)
+	{
+		lookup.set(localLocation.getWorldView(), localLocation.getX(), localLocation.getY(), sizeX, sizeY, level, heightOffset);
+		Polygon poly = tiles.get(lookup);
+		if (poly == null)
+		{
+			poly = computeTileAreaPoly(localLocation, sizeX, sizeY, level, heightOffset);
+			if (poly == null)
+			{
+				poly = CULLED;
+			}
+
+			TileKey key = pool.isEmpty() ? new TileKey() : pool.pop();
+			key.set(localLocation.getWorldView(), localLocation.getX(), localLocation.getY(), sizeX, sizeY, level, heightOffset);
+			tiles.put(key, poly);
+		}
+		return poly == CULLED ? null : poly;
+	}
+
+	private Polygon computeTileAreaPoly(LocalPoint localLocation, int sizeX, int sizeY, int level, int heightOffset)
+	{
+		final WorldView wv = client.getWorldView(localLocation.getWorldView());
+		if (wv == null)
+		{
+			return null;
+		}
+
+		if (!wv.isTopLevel())
+		{
+			return Perspective.getCanvasTileAreaPoly(client, localLocation, sizeX, sizeY, level, heightOffset);
+		}
+
+		final int msx = localLocation.getSceneX() + ESCENE_OFFSET;
+		final int msy = localLocation.getSceneY() + ESCENE_OFFSET;
+		if (msx < 0 || msy < 0 || msx >= wv.getSizeX() + (ESCENE_OFFSET << 1) || msy >= wv.getSizeY() + (ESCENE_OFFSET << 1))
+		{
+			// out of scene
+			return null;
+		}
+
+		if (level == -1)
+		{
+			level = wv.getPlane();
+		}
+
+		final byte[][][] tileSettings = wv.getScene().getExtendedTileSettings();
+		int mapLevel = level;
+		if (level < Constants.MAX_Z - 1 && (tileSettings[1][msx][msy] & TILE_FLAG_BRIDGE) == TILE_FLAG_BRIDGE)
+		{
+			mapLevel = level + 1;
+		}
+
+		final int swX = localLocation.getX() - (sizeX * LOCAL_TILE_SIZE / 2);
+		final int swY = localLocation.getY() - (sizeY * LOCAL_TILE_SIZE / 2);
+		final int neX = localLocation.getX() + (sizeX * LOCAL_TILE_SIZE / 2);
+		final int neY = localLocation.getY() + (sizeY * LOCAL_TILE_SIZE / 2);
+
+		// sw, nw, ne, se in the same order as Perspective
+		cornerX[0] = swX;
+		cornerY[0] = swY;
+		cornerX[1] = neX;
+		cornerY[1] = swY;
+		cornerX[2] = neX;
+		cornerY[2] = neY;
+		cornerX[3] = swX;
+		cornerY[3] = neY;
+		for (int i = 0; i < 4; ++i)
+		{
+			cornerZ[i] = wv.getTileHeight(cornerX[i], cornerY[i], mapLevel) - heightOffset;
+		}
+
+		snapshot();
+		int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE;
+		int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+		for (int i = 0; i < 4; ++i)
+		{
+			if (!project(cornerX[i], cornerY[i], cornerZ[i], corner2dX, corner2dY, i))
+			{
+				return null;
+			}
+
+			minX = Math.min(minX, corner2dX[i]);
+			maxX = Math.max(maxX, corner2dX[i]);
+			minY = Math.min(minY, corner2dY[i]);
+			maxY = Math.max(maxY, corner2dY[i]);
+		}
+
+		if (maxX < viewportX || minX >= viewportX + viewportWidth
+			|| maxY < viewportY || minY >= viewportY + viewportHeight)
+		{
+			return null;
+		}
+
+		return new Polygon(corner2dX, corner2dY, 4);
+	}
+
+	private void snapshot()
+	{
+		if (valid)
+		{
+			return;
+		}
+
+		gpu = client.isGpu();
+		if (gpu)
+		{
+			final double pitch = client.getCameraFpPitch();
+			final double yaw = client.getCameraFpYaw();
+			fpCameraX = (float) client.getCameraFpX();
+			fpCameraY = (float) client.getCameraFpY();
+			fpCameraZ = (float) client.getCameraFpZ();
+			fpPitchSin = (float) Math.sin(pitch);
+			fpPitchCos = (float) Math.cos(pitch);
+			fpYawSin = (float) Math.sin(yaw);
+			fpYawCos = (float) Math.cos(yaw);
+		}
+		else
+		{
+			final int pitch = client.getCameraPitch();
+			final int yaw = client.getCameraYaw();
+			cameraX = client.getCameraX();
+			cameraY = client.getCameraY();
+			cameraZ = client.getCameraZ();
+			pitchSin = Perspective.SINE[pitch];
+			pitchCos = Perspective.COSINE[pitch];
+			yawSin = Perspective.SINE[yaw];
+			yawCos = Perspective.COSINE[yaw];
+		}
+
+		scale = client.getScale();
+		viewportX = client.getViewportXOffset();
+		viewportY = client.getViewportYOffset();
+		viewportWidth = client.getViewportWidth();
+		viewportHeight = client.getViewportHeight();
+		valid = true;
+	}
+
+	/*
+	 * Projects a point of the top level scene into x2d[i] and y2d[i]. This mirrors the math
+	 * in Perspective exactly, including the lower precision used when the gpu is not active.
+	 */
+	private boolean project(int x, int y, int z, int[] x2d, int[] y2d, int i)
+	{
+		if (x < MIN_LOCAL || y < MIN_LOCAL || x > MAX_LOCAL || y > MAX_LOCAL)
+		{
+			return false;
+		}
+
+		if (gpu)
+		{
+			final float
+				fx = x - fpCameraX,
+				fy = y - fpCameraY,
+				fz = z - fpCameraZ;
+
+			final float
+				x1 = fx * fpYawCos + fy * fpYawSin,
+				y1 = fy * fpYawCos - fx * fpYawSin,
+				y2 = fz * fpPitchCos - y1 * fpPitchSin,
+				z1 = y1 * fpPitchCos + fz * fpPitchSin;
+
+			if (z1 < NEAR)
+			{
+				return false;
+			}
+
+			x2d[i] = Math.round(viewportWidth / 2f + x1 * scale / z1) + viewportX;
+			y2d[i] = Math.round(viewportHeight / 2f + y2 * scale / z1) + viewportY;
+		}
+		else
+		{
+			x -= cameraX;
+			y -= cameraY;
+			z -= cameraZ;
+
+			final int
+				x1 = x * yawCos + y * yawSin >> 16,
+				y1 = y * yawCos - x * yawSin >> 16,
+				y2 = z * pitchCos - y1 * pitchSin >> 16,
+				z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+			if (z1 < NEAR)
+			{
+				return false;
+			}
+
+			x2d[i] = viewportWidth / 2 + x1 * scale / z1 + viewportX;
+			y2d[i] = viewportHeight / 2 + y2 * scale / z1 + viewportY;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * Caches shadowed and outlined text rasterized into images, so drawing a label is a single
+ * {@code drawImage} instead of two or five {@code drawString} calls.
+ * <p>
+ * Images are keyed on the text, font, color, style and the text antialiasing and fractional metrics
+ * of the graphics' font render context, and the least recently drawn images are evicted once the
+ * cached images exceed a budget of pixels.
+ * Text drawn with a transform other than a translation, a composite other than
+ * {@link AlphaComposite#SrcOver}, or lcd antialiasing is drawn directly, since the cached image
+ * would not match.
+ */
+public class TextImageCache
+{
+	private static final int DEFAULT_PIXEL_BUDGET = 1 << 20;
+
+	/**
+	 * The cache shared by {@link OverlayUtil} and the overlay components
+	 */
+	@Getter
+	private static final TextImageCache instance = new TextImageCache(DEFAULT_PIXEL_BUDGET);
+
+	private final int pixelBudget;
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Key lookup = new Key();
+	private int pixels;
+
+	private static final class Key
+	{
+		private String text;
+		private Font font;
+		private int rgb;
+		private boolean outline;
+		private Object antialiasing;
+		private Object fractionalMetrics;
+		private int hash;
+
+		private void set(String text, Font font, int rgb, boolean outline, Object antialiasing, Object fractionalMetrics)
+		{
+			this.text = text;
+			this.font = font;
+			this.rgb = rgb;
+			this.outline = outline;
+			this.antialiasing = antialiasing;
+			this.fractionalMetrics = fractionalMetrics;
+
+			int hash = text.hashCode();
+			hash = 31 * hash + font.hashCode();
+			hash = 31 * hash + rgb;
+			hash = 31 * hash + (outline ? 1 : 0);
+			hash = 31 * hash + Objects.hashCode(antialiasing);
+			hash = 31 * hash + Objects.hashCode(fractionalMetrics);
+			this.hash = hash;
+		}
+
+		private Key copy()
+		{
+			final Key key = new Key();
+			key.text = text;
+			key.font = font;
+			key.rgb = rgb;
+			key.outline = outline;
+			key.antialiasing = antialiasing;
+			key.fractionalMetrics = fractionalMetrics;
+			key.hash = hash;
+			return key;
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (!(o instanceof Key))
+			{
+				return false;
+			}
+
+			final Key other = (Key) o;
+			return hash == other.hash
+				&& rgb == other.rgb
+				&& outline == other.outline
+				&& antialiasing == other.antialiasing
+				&& fractionalMetrics == other.fractionalMetrics
+				&& text.equals(other.text)
+				&& font.equals(other.font);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+	}
+
+	private static final class Entry
+	{
+		private final BufferedImage image;
+		// offset of the image from the text's baseline origin
+		private final int x;
+		private final int y;
+
+		private Entry(BufferedImage image, int x, int y)
+		{
+			this.image = image;
+			this.x = x;
+			this.y = y;
+		}
+
+		private int getPixels()
+		{
+			return image.getWidth() * image.getHeight();
+		}
+	}
+
+	public TextImageCache(int pixelBudget)
+	{
+		this.pixelBudget = pixelBudget;
+	}
+
+	/**
+	 * Draws text with its baseline origin at x, y, as drawing it with a black shadow one pixel
+	 * down and right, or a black outline one pixel in each direction, and then the text itself would.
+	 *
+	 * @param outline draw an outline instead of a shadow
+	 */
+	public synchronized void drawString(Graphics2D graphics, String text, int x, int y, Color color, boolean outline)
+	{
+		if (text.isEmpty())
+		{
+			return;
+		}
+
+		// the font render context resolves the default text antialiasing to that of KEY_ANTIALIASING
+		final FontRenderContext frc = graphics.getFontRenderContext();
+		final Object antialiasing = frc.getAntiAliasingHint();
+		if (!isCacheable(graphics, frc, antialiasing))
+		{
+			drawDirect(graphics, text, x, y, color, outline);
+			return;
+		}
+
+		final Font font = graphics.getFont();
+		final Object fractionalMetrics = frc.getFractionalMetricsHint();
+		lookup.set(text, font, color.getRGB(), outline, antialiasing, fractionalMetrics);
+
+		Entry entry = entries.get(lookup);
+		if (entry == null)
+		{
+			entry = rasterize(font, frc, text, color, outline, antialiasing, fractionalMetrics);
+			if (entry.getPixels() > pixelBudget)
+			{
+				drawDirect(graphics, text, x, y, color, outline);
+				return;
+			}
+
+			entries.put(lookup.copy(), entry);
+			pixels += entry.getPixels();
+			evict();
+		}
+
+		graphics.drawImage(entry.image, x + entry.x, y + entry.y, null);
+		// leave the graphics as drawing the text directly would
+		graphics.setColor(color);
+	}
+
+	@VisibleForTesting
+	synchronized int size()
+	{
+		return entries.size();
+	}
+
+	@VisibleForTesting
+	synchronized int getPixels()
+	{
+		return pixels;
+	}
+
+	private static boolean isCacheable(Graphics2D graphics, FontRenderContext frc, Object antialiasing)
+	{
+		if (graphics.getComposite() != AlphaComposite.SrcOver)
+		{
+			return false;
+		}
+
+		if (antialiasing != RenderingHints.VALUE_TEXT_ANTIALIAS_OFF
+			&& antialiasing != RenderingHints.VALUE_TEXT_ANTIALIAS_ON
+			&& antialiasing != RenderingHints.VALUE_TEXT_ANTIALIAS_GASP
+			&& antialiasing != RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT)
+		{
+			// lcd antialiasing needs the destination, which a transparent image doesn't have
+			return false;
+		}
+
+		// the font render context's transform excludes the translation
+		return !frc.isTransformed();
+	}
+
+	private static Entry rasterize(Font font, FontRenderContext frc, String text, Color color, boolean outline,
+		Object antialiasing, Object fractionalMetrics)
+	{
+		final Rectangle bounds = font.createGlyphVector(frc, text).getPixelBounds(frc, 0, 0);
+		// room for the outline or shadow, plus a pixel for glyphs which draw outside of their bounds
+		bounds.grow(2, 2);
+
+		final BufferedImage image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+		final Graphics2D g = image.createGraphics();
+		g.setFont(font);
+		// the resolved hints, as the image's graphics would not antialias text by default
+		g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, antialiasing);
+		g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, fractionalMetrics);
+		drawDirect(g, text, -bounds.x, -bounds.y, color, outline);
+		g.dispose();
+
+		return new Entry(image, bounds.x, bounds.y);
+	}
+
+	private static void drawDirect(Graphics2D graphics, String text, int x, int y, Color color, boolean outline)
+	{
+		graphics.setColor(Color.BLACK);
+
+		if (outline)
+		{
+			graphics.drawString(text, x, y + 1);
+			graphics.drawString(text, x, y - 1);
+			graphics.drawString(text, x + 1, y);
+			graphics.drawString(text, x - 1, y);
+		}
+		else
+		{
+			graphics.drawString(text, x + 1, y + 1);
+		}
+
+		graphics.setColor(color);
+		graphics.drawString(text, x, y);
+	}
+
+	private void evict()
+	{
+		final Iterator<Entry> it = entries.values().iterator();
+		while (pixels > pixelBudget && it.hasNext())
+		{
+			pixels -= it.next().getPixels();
+			it.remove();
+		}
+	}
+}
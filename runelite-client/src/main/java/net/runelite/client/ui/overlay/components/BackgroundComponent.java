@@ -28,13 +28,12 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import net.runelite.client.ui.overlay.RenderableEntity;
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Setter
 public class BackgroundComponent implements RenderableEntity
 {
@@ -48,22 +47,45 @@ public class BackgroundComponent implements RenderableEntity
 	private Rectangle rectangle = new Rectangle();
 	private boolean fill = true;
 
+	// stroke colors for the last background color, which rarely changes between frames
+	@Setter(AccessLevel.NONE)
+	private Color strokeColor;
+	@Setter(AccessLevel.NONE)
+	private Color outsideStrokeColor;
+	@Setter(AccessLevel.NONE)
+	private Color insideStrokeColor;
+
+	private final Rectangle outsideStroke = new Rectangle();
+	private final Rectangle insideStroke = new Rectangle();
+
+	public BackgroundComponent(Color backgroundColor, Rectangle rectangle, boolean fill)
+	{
+		this.backgroundColor = backgroundColor;
+		this.rectangle = rectangle;
+		this.fill = fill;
+	}
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		Color outsideStrokeColor = new Color(
-			(int) (backgroundColor.getRed() * OUTER_COLOR_OFFSET),
-			(int) (backgroundColor.getGreen() * OUTER_COLOR_OFFSET),
-			(int) (backgroundColor.getBlue() * OUTER_COLOR_OFFSET),
-			Math.min(255, (int) (backgroundColor.getAlpha() * ALPHA_COLOR_OFFSET))
-		);
+		if (!backgroundColor.equals(strokeColor))
+		{
+			outsideStrokeColor = new Color(
+				(int) (backgroundColor.getRed() * OUTER_COLOR_OFFSET),
+				(int) (backgroundColor.getGreen() * OUTER_COLOR_OFFSET),
+				(int) (backgroundColor.getBlue() * OUTER_COLOR_OFFSET),
+				Math.min(255, (int) (backgroundColor.getAlpha() * ALPHA_COLOR_OFFSET))
+			);
 
-		Color insideStrokeColor = new Color(
-			Math.min(255, (int) (backgroundColor.getRed() * INNER_COLOR_OFFSET)),
-			Math.min(255, (int) (backgroundColor.getGreen() * INNER_COLOR_OFFSET)),
-			Math.min(255, (int) (backgroundColor.getBlue() * INNER_COLOR_OFFSET)),
-			Math.min(255, (int) (backgroundColor.getAlpha() * ALPHA_COLOR_OFFSET))
-		);
+			insideStrokeColor = new Color(
+				Math.min(255, (int) (backgroundColor.getRed() * INNER_COLOR_OFFSET)),
+				Math.min(255, (int) (backgroundColor.getGreen() * INNER_COLOR_OFFSET)),
+				Math.min(255, (int) (backgroundColor.getBlue() * INNER_COLOR_OFFSET)),
+				Math.min(255, (int) (backgroundColor.getAlpha() * ALPHA_COLOR_OFFSET))
+			);
+
+			strokeColor = backgroundColor;
+		}
 
 		// Render background
 		if (fill)
@@ -73,20 +95,18 @@ public class BackgroundComponent implements RenderableEntity
 		}
 
 		// Render outside stroke
-		final Rectangle outsideStroke = new Rectangle();
-		outsideStroke.setLocation(rectangle.x, rectangle.y);
-		outsideStroke.setSize(rectangle.width - BORDER_OFFSET / 2, rectangle.height - BORDER_OFFSET / 2);
+		outsideStroke.setBounds(rectangle.x, rectangle.y,
+			rectangle.width - BORDER_OFFSET / 2, rectangle.height - BORDER_OFFSET / 2);
 		graphics.setColor(outsideStrokeColor);
 		graphics.draw(outsideStroke);
 
 		// Render inside stroke
-		final Rectangle insideStroke = new Rectangle();
-		insideStroke.setLocation(rectangle.x + BORDER_OFFSET / 2, rectangle.y + BORDER_OFFSET / 2);
-		insideStroke.setSize(rectangle.width - BORDER_OFFSET - BORDER_OFFSET / 2,
-				rectangle.height - BORDER_OFFSET - BORDER_OFFSET / 2);
+		insideStroke.setBounds(rectangle.x + BORDER_OFFSET / 2, rectangle.y + BORDER_OFFSET / 2,
+			rectangle.width - BORDER_OFFSET - BORDER_OFFSET / 2,
+			rectangle.height - BORDER_OFFSET - BORDER_OFFSET / 2);
 		graphics.setColor(insideStrokeColor);
 		graphics.draw(insideStroke);
 
-		return new Dimension(rectangle.getSize());
+		return new Dimension(rectangle.width, rectangle.height);
 	}
 }
@@ -157,12 +157,12 @@ public class LineComponent implements LayoutableRenderableEntity
 		return dimension;
 	}
 
-	private static int getLineWidth(final String line, final FontMetrics metrics)
+	static int getLineWidth(final String line, final FontMetrics metrics)
 	{
 		return metrics.stringWidth(Text.removeTags(line));
 	}
 
-	private static String[] lineBreakText(String text, int maxWidth, FontMetrics metrics)
+	static String[] lineBreakText(String text, int maxWidth, FontMetrics metrics)
 	{
 		final String[] words = text.split(" ");
 
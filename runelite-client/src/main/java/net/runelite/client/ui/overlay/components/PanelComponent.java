@@ -71,6 +71,9 @@ public class PanelComponent implements LayoutableRenderableEntity
 
 	private final Dimension childDimensions = new Dimension();
 
+	private final BackgroundComponent backgroundComponent = new BackgroundComponent();
+	private final Rectangle backgroundBounds = new Rectangle();
+
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
@@ -87,8 +90,8 @@ public class PanelComponent implements LayoutableRenderableEntity
 		// Render background
 		if (backgroundColor != null)
 		{
-			final BackgroundComponent backgroundComponent = new BackgroundComponent();
-			backgroundComponent.setRectangle(new Rectangle(preferredLocation, dimension));
+			backgroundBounds.setBounds(preferredLocation.x, preferredLocation.y, dimension.width, dimension.height);
+			backgroundComponent.setRectangle(backgroundBounds);
 			backgroundComponent.setBackgroundColor(backgroundColor);
 			backgroundComponent.render(graphics);
 		}
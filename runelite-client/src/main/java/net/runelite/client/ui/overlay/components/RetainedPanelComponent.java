@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.components;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import net.runelite.client.ui.overlay.TextImageCache;
+
+/**
+ * A vertical panel of titles and lines which are kept between frames, unlike {@link PanelComponent}
+ * whose children are usually rebuilt every frame. Overlays add their lines once and then only
+ * update the text and colors which changed. The panel is laid out again only when text, font or
+ * size change, and rendering a panel which has not changed allocates nothing.
+ * <p>
+ * The layout matches a {@link PanelComponent} of {@link TitleComponent}s and {@link LineComponent}s,
+ * including line wrapping and {@code <col=>} tags.
+ */
+public class RetainedPanelComponent implements LayoutableRenderableEntity
+{
+	private static final Pattern COL_TAG_PATTERN = Pattern.compile("<col=([0-9a-fA-F]{2,6})>");
+
+	@Getter
+	private final Rectangle bounds = new Rectangle();
+
+	private final Point preferredLocation = new Point();
+
+	@Getter
+	private final Dimension preferredSize = new Dimension(ComponentConstants.STANDARD_WIDTH, 0);
+
+	@Setter
+	@Getter
+	private Color backgroundColor = ComponentConstants.STANDARD_BACKGROUND_COLOR;
+
+	private final List<Line> lines = new ArrayList<>();
+	private final List<Run> runs = new ArrayList<>();
+	private final Dimension dimension = new Dimension();
+	private final BackgroundComponent backgroundComponent = new BackgroundComponent();
+	private final Rectangle backgroundBounds = new Rectangle();
+
+	private Font layoutFont;
+	private boolean dirty = true;
+
+	/**
+	 * A title or line of the panel. Setting a value equal to the current one does nothing, and
+	 * changing only colors does not require the panel to be laid out again.
+	 */
+	public final class Line
+	{
+		private final boolean title;
+		@Getter
+		private String left;
+		@Getter
+		private String right;
+		@Getter
+		private Color leftColor = Color.WHITE;
+		@Getter
+		private Color rightColor = Color.WHITE;
+		@Getter
+		private boolean visible = true;
+
+		private Line(boolean title, String left, String right)
+		{
+			this.title = title;
+			this.left = left;
+			this.right = right;
+		}
+
+		public Line setLeft(String left)
+		{
+			if (!Objects.equals(this.left, left))
+			{
+				this.left = left;
+				dirty = true;
+			}
+			return this;
+		}
+
+		public Line setRight(String right)
+		{
+			if (!Objects.equals(this.right, right))
+			{
+				this.right = right;
+				dirty = true;
+			}
+			return this;
+		}
+
+		public Line setLeftColor(Color leftColor)
+		{
+			this.leftColor = leftColor;
+			return this;
+		}
+
+		public Line setRightColor(Color rightColor)
+		{
+			this.rightColor = rightColor;
+			return this;
+		}
+
+		public Line setVisible(boolean visible)
+		{
+			if (this.visible != visible)
+			{
+				this.visible = visible;
+				dirty = true;
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * A string drawn at a fixed offset from the panel's location.
+	 */
+	private static final class Run
+	{
+		private final Line line;
+		private final boolean right;
+		// color from a col tag, or null for the line's color
+		private final Color color;
+		private final String text;
+		private final int x;
+		private final int y;
+
+		private Run(Line line, boolean right, Color color, String text, int x, int y)
+		{
+			this.line = line;
+			this.right = right;
+			this.color = color;
+			this.text = text;
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	/**
+	 * Adds a title, which shows its left text centered.
+	 */
+	public Line addTitle(String text)
+	{
+		final Line line = new Line(true, text, null);
+		lines.add(line);
+		dirty = true;
+		return line;
+	}
+
+	public Line addLine(String left, String right)
+	{
+		final Line line = new Line(false, left, right);
+		lines.add(line);
+		dirty = true;
+		return line;
+	}
+
+	public void removeLine(Line line)
+	{
+		if (lines.remove(line))
+		{
+			dirty = true;
+		}
+	}
+
+	public void clear()
+	{
+		lines.clear();
+		dirty = true;
+	}
+
+	@Override
+	public void setPreferredLocation(Point position)
+	{
+		preferredLocation.setLocation(position);
+	}
+
+	@Override
+	public void setPreferredSize(Dimension dimension)
+	{
+		if (!preferredSize.equals(dimension))
+		{
+			preferredSize.setSize(dimension);
+			dirty = true;
+		}
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		final Font font = graphics.getFont();
+		if (dirty || font != layoutFont)
+		{
+			layout(graphics.getFontMetrics(font));
+			layoutFont = font;
+			dirty = false;
+		}
+
+		// no visible lines
+		if (dimension.height == 0)
+		{
+			return null;
+		}
+
+		final int x = preferredLocation.x;
+		final int y = preferredLocation.y;
+
+		if (backgroundColor != null)
+		{
+			backgroundBounds.setBounds(x, y, dimension.width, dimension.height);
+			backgroundComponent.setRectangle(backgroundBounds);
+			backgroundComponent.setBackgroundColor(backgroundColor);
+			backgroundComponent.render(graphics);
+		}
+
+		for (int i = 0; i < runs.size(); ++i)
+		{
+			final Run run = runs.get(i);
+			Color color = run.color;
+			if (color == null)
+			{
+				color = run.right ? run.line.rightColor : run.line.leftColor;
+			}
+
+			TextImageCache.getInstance().drawString(graphics, run.text, x + run.x, y + run.y, color, false);
+		}
+
+		bounds.setBounds(x, y, dimension.width, dimension.height);
+		return dimension;
+	}
+
+	private void layout(FontMetrics metrics)
+	{
+		runs.clear();
+
+		final int border = ComponentConstants.STANDARD_BORDER;
+		final int width = preferredSize.width - border - border;
+		final int fmHeight = metrics.getHeight();
+		int y = border;
+		boolean empty = true;
+
+		for (final Line line : lines)
+		{
+			if (!line.visible)
+			{
+				continue;
+			}
+
+			empty = false;
+
+			if (line.title)
+			{
+				final String text = line.left == null ? "" : line.left;
+				addRuns(metrics, line, false, text, border + (width - metrics.stringWidth(text)) / 2, y + fmHeight);
+				y += fmHeight;
+				continue;
+			}
+
+			final String left = line.left == null ? "" : line.left;
+			final String right = line.right == null ? "" : line.right;
+			final int leftFullWidth = LineComponent.getLineWidth(left, metrics);
+			final int rightFullWidth = LineComponent.getLineWidth(right, metrics);
+
+			if (width < leftFullWidth + rightFullWidth)
+			{
+				int leftSmallWidth = width;
+				int rightSmallWidth = 0;
+
+				if (!right.isEmpty())
+				{
+					rightSmallWidth = width / 3;
+					leftSmallWidth -= rightSmallWidth;
+				}
+
+				final String[] leftSplitLines = LineComponent.lineBreakText(left, leftSmallWidth, metrics);
+				final String[] rightSplitLines = LineComponent.lineBreakText(right, rightSmallWidth, metrics);
+				final int lineCount = Math.max(leftSplitLines.length, rightSplitLines.length);
+
+				for (int i = 0; i < lineCount; i++)
+				{
+					if (i < leftSplitLines.length)
+					{
+						addRuns(metrics, line, false, leftSplitLines[i], border, y + fmHeight);
+					}
+
+					if (i < rightSplitLines.length)
+					{
+						final String rightText = rightSplitLines[i];
+						addRuns(metrics, line, true, rightText,
+							border + width - LineComponent.getLineWidth(rightText, metrics), y + fmHeight);
+					}
+
+					y += fmHeight;
+				}
+				continue;
+			}
+
+			addRuns(metrics, line, false, left, border, y + fmHeight);
+			addRuns(metrics, line, true, right, border + width - rightFullWidth, y + fmHeight);
+			y += fmHeight;
+		}
+
+		if (empty)
+		{
+			dimension.setSize(0, 0);
+		}
+		else
+		{
+			dimension.setSize(preferredSize.width, y + border);
+		}
+	}
+
+	private void addRuns(FontMetrics metrics, Line line, boolean right, String text, int x, int y)
+	{
+		final Matcher matcher = COL_TAG_PATTERN.matcher(text);
+		Color color = null;
+		int idx = 0;
+		while (matcher.find())
+		{
+			final String s = text.substring(idx, matcher.start());
+			idx = matcher.end();
+
+			addRun(line, right, color, s, x, y);
+			x += metrics.stringWidth(s);
+
+			color = Color.decode("#" + matcher.group(1));
+		}
+
+		addRun(line, right, color, text.substring(idx), x, y);
+	}
+
+	private void addRun(Line line, boolean right, Color color, String text, int x, int y)
+	{
+		if (!text.isEmpty())
+		{
+			runs.add(new Run(line, right, color, text, x, y));
+		}
+	}
+}
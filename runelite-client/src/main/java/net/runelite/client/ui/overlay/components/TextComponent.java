@@ -35,6 +35,7 @@ import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import lombok.Setter;
 import net.runelite.client.ui.overlay.RenderableEntity;
+import net.runelite.client.ui.overlay.TextImageCache;
 
 public class TextComponent implements RenderableEntity
 {
@@ -112,28 +113,6 @@ public class TextComponent implements RenderableEntity
 
 	private void renderText(Graphics2D graphics, Color color, int x, int y, String text)
 	{
-		if (text.isEmpty())
-		{
-			return;
-		}
-
-		graphics.setColor(Color.BLACK);
-
-		if (outline)
-		{
-			graphics.drawString(text, x, y + 1);
-			graphics.drawString(text, x, y - 1);
-			graphics.drawString(text, x + 1, y);
-			graphics.drawString(text, x - 1, y);
-		}
-		else
-		{
-			// shadow
-			graphics.drawString(text, x + 1, y + 1);
-		}
-
-		// actual text
-		graphics.setColor(color);
-		graphics.drawString(text, x, y);
+		TextImageCache.getInstance().drawString(graphics, text, x, y, color, outline);
 	}
 }
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.ui.overlay.outline;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.awt.Color;
@@ -37,22 +38,14 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.runelite.api.Client;
-import net.runelite.api.DecorativeObject;
-import net.runelite.api.GameObject;
 import net.runelite.api.GraphicsObject;
-import net.runelite.api.GroundObject;
-import net.runelite.api.ItemLayer;
 import net.runelite.api.MainBufferProvider;
 import net.runelite.api.Model;
 import net.runelite.api.NPC;
 import net.runelite.api.Perspective;
 import net.runelite.api.Player;
-import net.runelite.api.Renderable;
 import net.runelite.api.RuneLiteObject;
 import net.runelite.api.TileObject;
-import net.runelite.api.WallObject;
-import net.runelite.api.WorldView;
-import net.runelite.api.coords.LocalPoint;
 
 @Singleton
 public class ModelOutlineRenderer
@@ -79,9 +72,24 @@ public class ModelOutlineRenderer
 
 	private final Client client;
 
-	// Vertex positions projected on the screen.
-	private final int[] projectedVerticesX = new int[6500];
-	private final int[] projectedVerticesY = new int[6500];
+	// Batch used for outlining single entities
+	private final OutlineBatch immediateBatch;
+
+	// Camera and viewport state the projected vertices of static models in batches are valid for
+	private double cameraX;
+	private double cameraY;
+	private double cameraZ;
+	private double cameraPitch;
+	private double cameraYaw;
+	private int cameraScale;
+	private int cameraClipX1;
+	private int cameraClipY1;
+	private int cameraClipX2;
+	private int cameraClipY2;
+	private int cameraVersion;
+
+	// Batch the pixels written by the current outline pass are recorded into, if any
+	private OutlineBatch recordTarget;
 
 	// Window boundaries for the ingame world
 	private int clipX1;
@@ -122,6 +130,31 @@ public class ModelOutlineRenderer
 	private ModelOutlineRenderer(Client client)
 	{
 		this.client = client;
+		this.immediateBatch = new OutlineBatch(this, client, false);
+	}
+
+	@VisibleForTesting
+	OutlineBatch immediateBatch()
+	{
+		return immediateBatch;
+	}
+
+	/**
+	 * Creates a batch for outlining several models with the same style in one pass.
+	 * The batch should be kept and reused between frames.
+	 */
+	public OutlineBatch createBatch()
+	{
+		return new OutlineBatch(this, client, true);
+	}
+
+	/**
+	 * Creates a set of batches which groups models by outline style.
+	 * It should be kept and reused between frames.
+	 */
+	public OutlineBatches createBatches()
+	{
+		return new OutlineBatches(this);
 	}
 
 	/**
@@ -514,25 +547,55 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Translates the vertices 3D points to the screen canvas 2D points.
+	 * Translates the vertices 3D points of a batch entry to the screen canvas 2D points,
+	 * and determines the screen bounds of the projected vertices.
 	 *
-	 * @param localX The local x position of the vertices.
-	 * @param localY The local y position of the vertices.
-	 * @param localZ The local z position of the vertices.
-	 * @param vertexOrientation The orientation of the vertices.
-	 * @return Returns true if any of them are inside the clip area, otherwise false.
+	 * @return Returns true if the projected vertices are the same as when the entry was last projected.
 	 */
-	private boolean projectVertices(WorldView wv, Model model, int localX, int localY, int localZ, final int vertexOrientation)
+	private boolean projectEntry(OutlineBatch.Entry e)
 	{
+		final Model model = e.model;
 		final int vertexCount = model.getVerticesCount();
-		Perspective.modelToCanvas(client, wv,
+		final int[] faces = model.getFaceIndices1();
+		final boolean sameModel = e.projected
+			&& e.lastModel == model && e.lastFaces == faces && e.lastVertexCount == vertexCount;
+
+		// Models in other world views can move with their world entity without their local position changing
+		if (sameModel && e.isStatic && e.lastCameraVersion == cameraVersion && e.lastWv == e.wv && e.wv.isTopLevel()
+			&& e.lastX == e.x && e.lastY == e.y && e.lastZ == e.z && e.lastOrientation == e.orientation)
+		{
+			// The model is static and hasn't moved, so the previous projection is still valid
+			return true;
+		}
+
+		// Keep the previous projection to compare against
+		int[] swap = e.prevProjectedX;
+		e.prevProjectedX = e.projectedX;
+		e.projectedX = swap;
+		swap = e.prevProjectedY;
+		e.prevProjectedY = e.projectedY;
+		e.projectedY = swap;
+
+		if (e.projectedX.length < vertexCount)
+		{
+			e.projectedX = new int[vertexCount];
+			e.projectedY = new int[vertexCount];
+		}
+
+		final int[] projectedVerticesX = e.projectedX;
+		final int[] projectedVerticesY = e.projectedY;
+		Perspective.modelToCanvas(client, e.wv,
 			vertexCount,
-			localX, localY, localZ,
-			vertexOrientation,
+			e.x, e.y, e.z,
+			e.orientation,
 			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
 			projectedVerticesX, projectedVerticesY);
 
 		boolean anyVisible = false;
+		int minX = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxY = Integer.MIN_VALUE;
 
 		for (int i = 0; i < vertexCount; i++)
 		{
@@ -545,10 +608,10 @@ public class ModelOutlineRenderer
 				boolean visibleY = y >= clipY1 && y < clipY2;
 				anyVisible |= visibleX && visibleY;
 
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
+				minX = Math.min(minX, x);
+				maxX = Math.max(maxX, x + 1);
+				minY = Math.min(minY, y);
+				maxY = Math.max(maxY, y + 1);
 			}
 			else
 			{
@@ -557,13 +620,33 @@ public class ModelOutlineRenderer
 			}
 		}
 
-		return anyVisible;
+		e.visible = anyVisible;
+		e.minX = minX;
+		e.maxX = maxX;
+		e.minY = minY;
+		e.maxY = maxY;
+
+		final boolean same = sameModel
+			&& Arrays.equals(projectedVerticesX, 0, vertexCount, e.prevProjectedX, 0, vertexCount)
+			&& Arrays.equals(projectedVerticesY, 0, vertexCount, e.prevProjectedY, 0, vertexCount);
+
+		e.projected = true;
+		e.lastWv = e.wv;
+		e.lastModel = model;
+		e.lastFaces = faces;
+		e.lastVertexCount = vertexCount;
+		e.lastX = e.x;
+		e.lastY = e.y;
+		e.lastZ = e.z;
+		e.lastOrientation = e.orientation;
+		e.lastCameraVersion = cameraVersion;
+		return same;
 	}
 
 	/**
 	 * Simulates rendering of the model and marks every pixel visited.
 	 */
-	private void simulateModelRasterizationForOutline(Model model)
+	private void simulateModelRasterizationForOutline(Model model, int[] projectedVerticesX, int[] projectedVerticesY)
 	{
 		final int triangleCount = model.getFaceCount();
 		final int[] indices1 = model.getFaceIndices1();
@@ -597,6 +680,18 @@ public class ModelOutlineRenderer
 		}
 	}
 
+	/**
+	 * Writes an opaque outline pixel to the image, recording it if a batch is being recorded.
+	 */
+	private void writePixel(int[] imageData, int pixelPos, int color)
+	{
+		imageData[pixelPos] = color;
+		if (recordTarget != null)
+		{
+			recordTarget.record(pixelPos, color);
+		}
+	}
+
 	/**
 	 * Draws the outline of a pixel according to the distance deltas of an outline.
 	 *
@@ -618,7 +713,7 @@ public class ModelOutlineRenderer
 			if (cx >= clipX1 && cx < clipX2 && cy >= clipY1 && cy < clipY2 &&
 				(visited[visitedPixelPos >> 5] & (1 << (visitedPixelPos & 31))) == 0)
 			{
-				imageData[cy * imageWidth + cx] = color;
+				writePixel(imageData, cy * imageWidth + cx, color);
 			}
 		}
 	}
@@ -660,7 +755,7 @@ public class ModelOutlineRenderer
 								int bv2 = (v2 >>> bit) & 1;
 								if (bv1 != bv2)
 								{
-									imageData[(croppedY1 + y - bv2) * imageWidth + (croppedX1 + x + bit)] = colorRGB;
+									writePixel(imageData, (croppedY1 + y - bv2) * imageWidth + (croppedX1 + x + bit), colorRGB);
 								}
 							}
 						}
@@ -728,7 +823,7 @@ public class ModelOutlineRenderer
 								int bv = (v >>> bit) & 1;
 								if (bv != lastBv)
 								{
-									imageData[(croppedY1 + y) * imageWidth + (croppedX1 + x + bit - bv)] = colorRGB;
+									writePixel(imageData, (croppedY1 + y) * imageWidth + (croppedX1 + x + bit - bv), colorRGB);
 								}
 								lastBv = bv;
 							}
@@ -775,7 +870,7 @@ public class ModelOutlineRenderer
 					{
 						if (outlineWidth == 1)
 						{
-							imageData[(croppedY1 + y) * imageWidth + (croppedX1 + x - (v & 1))] = colorRGB;
+							writePixel(imageData, (croppedY1 + y) * imageWidth + (croppedX1 + x - (v & 1)), colorRGB);
 						}
 						else
 						{
@@ -859,6 +954,10 @@ public class ModelOutlineRenderer
 					imageData[pixelPos]
 						= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
 						| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+					if (recordTarget != null)
+					{
+						recordTarget.record(pixelPos, colorARGB);
+					}
 
 					if (x - 1 >= clipX1)
 					{
@@ -886,20 +985,76 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Draws an outline around a model to an image
+	 * Bumps the camera version if the camera or viewport has changed since it was last checked.
+	 */
+	private void updateCameraVersion()
+	{
+		final double x = client.getCameraFpX();
+		final double y = client.getCameraFpY();
+		final double z = client.getCameraFpZ();
+		final double pitch = client.getCameraFpPitch();
+		final double yaw = client.getCameraFpYaw();
+		final int scale = client.getScale();
+
+		if (x != cameraX || y != cameraY || z != cameraZ || pitch != cameraPitch || yaw != cameraYaw || scale != cameraScale
+			|| clipX1 != cameraClipX1 || clipY1 != cameraClipY1 || clipX2 != cameraClipX2 || clipY2 != cameraClipY2)
+		{
+			cameraX = x;
+			cameraY = y;
+			cameraZ = z;
+			cameraPitch = pitch;
+			cameraYaw = yaw;
+			cameraScale = scale;
+			cameraClipX1 = clipX1;
+			cameraClipY1 = clipY1;
+			cameraClipX2 = clipX2;
+			cameraClipY2 = clipY2;
+			cameraVersion++;
+		}
+	}
+
+	/**
+	 * Redraws the pixels recorded by the last draw of a batch.
+	 */
+	private static void replay(OutlineBatch batch, int[] imageData)
+	{
+		final int[] positions = batch.recordedPositions;
+		final int[] colors = batch.recordedColors;
+		final int count = batch.recordedCount;
+
+		if (!batch.recordedBlend)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				imageData[positions[i]] = colors[i];
+			}
+			return;
+		}
+
+		for (int i = 0; i < count; i++)
+		{
+			final int pixelPos = positions[i];
+			final int colorARGB = colors[i];
+			final int inverseAlpha = 256 - (colorARGB >>> 24);
+			final int dst = imageData[pixelPos];
+			imageData[pixelPos]
+				= (colorARGB & 0xFF00FF00) + (((dst & 0xFF00FF00) * inverseAlpha) >>> 8) & 0xFF00FF00
+				| (colorARGB & 0x00FF00FF) + (((dst & 0x00FF00FF) * inverseAlpha) >>> 8) & 0x00FF00FF;
+		}
+	}
+
+	/**
+	 * Draws one outline around all of the models in a batch
 	 *
-	 * @param localX The local x position of the model
-	 * @param localY The local y position of the model
-	 * @param localZ The local z position of the model
-	 * @param orientation The orientation of the model
-	 * @param outlineWidth The width of the outline
-	 * @param color The color of the outline
+	 * @param batch The batch to draw
 	 */
-	private void drawModelOutline(WorldView wv, Model model,
-		int localX, int localY, int localZ, int orientation,
-		int outlineWidth, Color color, int feather)
+	void drawBatch(OutlineBatch batch)
 	{
-		if (outlineWidth <= 0 || color.getAlpha() == 0 || model == null)
+		int outlineWidth = batch.outlineWidth;
+		final Color color = batch.color;
+		int feather = batch.feather;
+
+		if (outlineWidth <= 0 || color == null || color.getAlpha() == 0 || batch.size == 0)
 		{
 			return;
 		}
@@ -918,23 +1073,83 @@ public class ModelOutlineRenderer
 			feather = MAX_FEATHER;
 		}
 
+		clipX1 = client.getViewportXOffset();
+		clipY1 = client.getViewportYOffset();
+		clipX2 = client.getViewportWidth() + clipX1;
+		clipY2 = client.getViewportHeight() + clipY1;
+
+		MainBufferProvider bufferProvider = (MainBufferProvider) client.getBufferProvider();
+		BufferedImage image = (BufferedImage) bufferProvider.getImage();
+		final int imageWidth = image.getWidth();
+
+		updateCameraVersion();
+
 		croppedX1 = Integer.MAX_VALUE;
 		croppedX2 = Integer.MIN_VALUE;
 		croppedY1 = Integer.MAX_VALUE;
 		croppedY2 = Integer.MIN_VALUE;
 
-		clipX1 = client.getViewportXOffset();
-		clipY1 = client.getViewportYOffset();
-		clipX2 = client.getViewportWidth() + clipX1;
-		clipY2 = client.getViewportHeight() + clipY1;
+		boolean unchanged = batch.reuseOutput && batch.recordedValid
+			&& batch.recordedSize == batch.size
+			&& batch.recordedOutlineWidth == outlineWidth
+			&& batch.recordedColor == color.getRGB()
+			&& batch.recordedFeather == feather
+			&& batch.recordedClipX1 == clipX1 && batch.recordedClipY1 == clipY1
+			&& batch.recordedClipX2 == clipX2 && batch.recordedClipY2 == clipY2
+			&& batch.recordedImageWidth == imageWidth;
+		boolean anyVisible = false;
 
-		if (!projectVertices(wv, model, localX, localY, localZ, orientation))
+		for (int i = 0; i < batch.size; i++)
 		{
-			// No vertex of the model is visible on the screen, so we can
-			// assume there are no parts of the model to outline.
+			OutlineBatch.Entry e = batch.entries.get(i);
+			unchanged &= projectEntry(e);
+
+			if (e.visible)
+			{
+				anyVisible = true;
+				croppedX1 = Math.min(croppedX1, e.minX);
+				croppedX2 = Math.max(croppedX2, e.maxX);
+				croppedY1 = Math.min(croppedY1, e.minY);
+				croppedY2 = Math.max(croppedY2, e.maxY);
+			}
+		}
+
+		if (unchanged)
+		{
+			replay(batch, ((DataBufferInt) image.getRaster().getDataBuffer()).getData());
 			return;
 		}
 
+		batch.recordedValid = false;
+		batch.recordedCount = 0;
+
+		if (anyVisible)
+		{
+			drawOutlinePass(batch, outlineWidth, color, feather);
+		}
+
+		if (batch.reuseOutput)
+		{
+			batch.recordedValid = true;
+			batch.recordedSize = batch.size;
+			batch.recordedOutlineWidth = outlineWidth;
+			batch.recordedColor = color.getRGB();
+			batch.recordedFeather = feather;
+			batch.recordedClipX1 = clipX1;
+			batch.recordedClipY1 = clipY1;
+			batch.recordedClipX2 = clipX2;
+			batch.recordedClipY2 = clipY2;
+			batch.recordedImageWidth = imageWidth;
+		}
+	}
+
+	/**
+	 * Rasterizes the visible models of a batch into the visited bitset and draws
+	 * the outline around them. The batch entries must already be projected, and the
+	 * cropped area set to the bounds of the visible models.
+	 */
+	private void drawOutlinePass(OutlineBatch batch, int outlineWidth, Color color, int feather)
+	{
 		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
 		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
 		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
@@ -945,7 +1160,14 @@ public class ModelOutlineRenderer
 
 		resetVisited(croppedWidth * croppedHeight);
 
-		simulateModelRasterizationForOutline(model);
+		for (int i = 0; i < batch.size; i++)
+		{
+			OutlineBatch.Entry e = batch.entries.get(i);
+			if (e.visible)
+			{
+				simulateModelRasterizationForOutline(e.model, e.projectedX, e.projectedY);
+			}
+		}
 
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
@@ -966,6 +1188,12 @@ public class ModelOutlineRenderer
 			initializeOutlineBuffers();
 		}
 
+		if (batch.reuseOutput)
+		{
+			recordTarget = batch;
+			batch.recordedBlend = !directWrite;
+		}
+
 		try
 		{
 			processInitialOutlinePixels(directWrite, color, outlineWidth);
@@ -978,208 +1206,46 @@ public class ModelOutlineRenderer
 		finally
 		{
 			freeAllBlockMemory();
+			recordTarget = null;
 		}
 	}
 
 	public void drawOutline(NPC npc, int outlineWidth, Color color, int feather)
 	{
-		LocalPoint lp = npc.getLocalLocation();
-		if (lp != null)
-		{
-			WorldView wv = npc.getWorldView();
-			drawModelOutline(wv, npc.getModel(), lp.getX(), lp.getY(),
-				Perspective.getFootprintTileHeight(client, lp, wv.getPlane(), npc.getComposition().getFootprintSize()) - npc.getAnimationHeightOffset(),
-				npc.getCurrentOrientation(), outlineWidth, color, feather);
-		}
+		immediateBatch.reset(outlineWidth, color, feather)
+			.add(npc)
+			.draw();
 	}
 
 	public void drawOutline(Player player, int outlineWidth, Color color, int feather)
 	{
-		LocalPoint lp = player.getLocalLocation();
-		if (lp != null)
-		{
-			WorldView wv = player.getWorldView();
-			drawModelOutline(wv, player.getModel(), lp.getX(), lp.getY(),
-				Perspective.getFootprintTileHeight(client, lp, wv.getPlane(), player.getFootprintSize()) - player.getAnimationHeightOffset(),
-				player.getCurrentOrientation(), outlineWidth, color, feather);
-		}
-	}
-
-	private void drawOutline(GameObject gameObject, int outlineWidth, Color color, int feather)
-	{
-		Renderable renderable = gameObject.getRenderable();
-		if (renderable != null)
-		{
-			Model model = renderable instanceof Model ? (Model) renderable : renderable.getModel();
-			if (model != null)
-			{
-				drawModelOutline(gameObject.getWorldView(), model, gameObject.getX(), gameObject.getY(), gameObject.getZ() - renderable.getAnimationHeightOffset(),
-					gameObject.getModelOrientation(), outlineWidth, color, feather);
-			}
-		}
-	}
-
-	private void drawOutline(GroundObject groundObject, int outlineWidth, Color color, int feather)
-	{
-		Renderable renderable = groundObject.getRenderable();
-		if (renderable != null)
-		{
-			Model model = renderable instanceof Model ? (Model) renderable : renderable.getModel();
-			if (model != null)
-			{
-				drawModelOutline(groundObject.getWorldView(), model, groundObject.getX(), groundObject.getY(), groundObject.getZ() - renderable.getAnimationHeightOffset(),
-					0, outlineWidth, color, feather);
-			}
-		}
-	}
-
-	private void drawOutline(ItemLayer itemLayer, int outlineWidth, Color color, int feather)
-	{
-		Renderable bottomRenderable = itemLayer.getBottom();
-		if (bottomRenderable != null)
-		{
-			Model model = bottomRenderable instanceof Model ? (Model) bottomRenderable : bottomRenderable.getModel();
-			if (model != null)
-			{
-				drawModelOutline(itemLayer.getWorldView(), model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
-					0, outlineWidth, color, feather);
-			}
-		}
-
-		Renderable middleRenderable = itemLayer.getMiddle();
-		if (middleRenderable != null)
-		{
-			Model model = middleRenderable instanceof Model ? (Model) middleRenderable : middleRenderable.getModel();
-			if (model != null)
-			{
-				drawModelOutline(itemLayer.getWorldView(), model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
-					0, outlineWidth, color, feather);
-			}
-		}
-
-		Renderable topRenderable = itemLayer.getTop();
-		if (topRenderable != null)
-		{
-			Model model = topRenderable instanceof Model ? (Model) topRenderable : topRenderable.getModel();
-			if (model != null)
-			{
-				drawModelOutline(itemLayer.getWorldView(), model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
-					0, outlineWidth, color, feather);
-			}
-		}
-	}
-
-	private void drawOutline(DecorativeObject decorativeObject, int outlineWidth, Color color, int feather)
-	{
-		Renderable renderable1 = decorativeObject.getRenderable();
-		if (renderable1 != null)
-		{
-			Model model = renderable1 instanceof Model ? (Model) renderable1 : renderable1.getModel();
-			if (model != null)
-			{
-				drawModelOutline(decorativeObject.getWorldView(), model,
-					decorativeObject.getX() + decorativeObject.getXOffset(),
-					decorativeObject.getY() + decorativeObject.getYOffset(),
-					decorativeObject.getZ() - renderable1.getAnimationHeightOffset(),
-					0, outlineWidth, color, feather);
-			}
-		}
-
-		Renderable renderable2 = decorativeObject.getRenderable2();
-		if (renderable2 != null)
-		{
-			Model model = renderable2 instanceof Model ? (Model) renderable2 : renderable2.getModel();
-			if (model != null)
-			{
-				// Offset is not used for the second model
-				drawModelOutline(decorativeObject.getWorldView(), model,
-					decorativeObject.getX() + decorativeObject.getXOffset2(),
-					decorativeObject.getY() + decorativeObject.getYOffset2(),
-					decorativeObject.getZ() - renderable2.getAnimationHeightOffset(),
-					0, outlineWidth, color, feather);
-			}
-		}
-	}
-
-	private void drawOutline(WallObject wallObject, int outlineWidth, Color color, int feather)
-	{
-		Renderable renderable1 = wallObject.getRenderable1();
-		if (renderable1 != null)
-		{
-			Model model = renderable1 instanceof Model ? (Model) renderable1 : renderable1.getModel();
-			if (model != null)
-			{
-				drawModelOutline(wallObject.getWorldView(), model, wallObject.getX(), wallObject.getY(), wallObject.getZ() - renderable1.getAnimationHeightOffset(),
-					0, outlineWidth, color, feather);
-			}
-		}
-
-		Renderable renderable2 = wallObject.getRenderable2();
-		if (renderable2 != null)
-		{
-			Model model = renderable2 instanceof Model ? (Model) renderable2 : renderable2.getModel();
-			if (model != null)
-			{
-				drawModelOutline(wallObject.getWorldView(), model, wallObject.getX(), wallObject.getY(), wallObject.getZ() - renderable2.getAnimationHeightOffset(),
-					0, outlineWidth, color, feather);
-			}
-		}
+		immediateBatch.reset(outlineWidth, color, feather)
+			.add(player)
+			.draw();
 	}
 
+	/**
+	 * Draws an outline around a tile object. Objects made of several models, such as
+	 * walls and item piles, get one outline around all of their models.
+	 */
 	public void drawOutline(TileObject tileObject, int outlineWidth, Color color, int feather)
 	{
-		if (tileObject instanceof GameObject)
-		{
-			drawOutline((GameObject) tileObject, outlineWidth, color, feather);
-		}
-		else if (tileObject instanceof GroundObject)
-		{
-			drawOutline((GroundObject) tileObject, outlineWidth, color, feather);
-		}
-		else if (tileObject instanceof ItemLayer)
-		{
-			drawOutline((ItemLayer) tileObject, outlineWidth, color, feather);
-		}
-		else if (tileObject instanceof DecorativeObject)
-		{
-			drawOutline((DecorativeObject) tileObject, outlineWidth, color, feather);
-		}
-		else if (tileObject instanceof WallObject)
-		{
-			drawOutline((WallObject) tileObject, outlineWidth, color, feather);
-		}
+		immediateBatch.reset(outlineWidth, color, feather)
+			.add(tileObject)
+			.draw();
 	}
 
 	public void drawOutline(GraphicsObject graphicsObject, int outlineWidth, Color color, int feather)
 	{
-		LocalPoint lp = graphicsObject.getLocation();
-		if (lp != null)
-		{
-			Model model = graphicsObject.getModel();
-			if (model != null)
-			{
-				drawModelOutline(graphicsObject.getWorldView(), model, lp.getX(), lp.getY(), graphicsObject.getZ() - graphicsObject.getAnimationHeightOffset(),
-					0, outlineWidth, color, feather);
-			}
-		}
+		immediateBatch.reset(outlineWidth, color, feather)
+			.add(graphicsObject)
+			.draw();
 	}
 
 	public void drawOutline(RuneLiteObject runeLiteObject, int outlineWidth, Color color, int feather)
 	{
-		LocalPoint lp = runeLiteObject.getLocation();
-		if (lp != null)
-		{
-			Model model = runeLiteObject.getModel();
-			if (model != null)
-			{
-				int worldView = runeLiteObject.getWorldView();
-				WorldView wv = client.getWorldView(worldView);
-				if (wv != null)
-				{
-					drawModelOutline(wv, model, lp.getX(), lp.getY(), runeLiteObject.getZ(),
-						runeLiteObject.getOrientation(), outlineWidth, color, feather);
-				}
-			}
-		}
+		immediateBatch.reset(outlineWidth, color, feather)
+			.add(runeLiteObject)
+			.draw();
 	}
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GraphicsObject;
+import net.runelite.api.GroundObject;
+import net.runelite.api.ItemLayer;
+import net.runelite.api.Model;
+import net.runelite.api.NPC;
+import net.runelite.api.Perspective;
+import net.runelite.api.Player;
+import net.runelite.api.Renderable;
+import net.runelite.api.RuneLiteObject;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+
+/**
+ * A set of models which are outlined together with the same width, color and feather.
+ * <p>
+ * All models in the batch are rasterized into one shared mask and outlined in a single
+ * pass, so overlapping models get one combined outline. Batches are meant to be kept
+ * between frames: models which are static and have not moved are not reprojected, and
+ * if no model's projected geometry has changed since the batch was last drawn, the
+ * previous outline is redrawn without being recomputed.
+ * <p>
+ * Create batches with {@link ModelOutlineRenderer#createBatch()}. A batch must only
+ * be used from the client thread.
+ */
+public class OutlineBatch
+{
+	static class Entry
+	{
+		WorldView wv;
+		Model model;
+		int x, y, z;
+		int orientation;
+		// the model is not animated, so its vertices are the same for as long as it is the same model
+		boolean isStatic;
+
+		// projected vertices from this and the previous draw
+		int[] projectedX = new int[0];
+		int[] projectedY = new int[0];
+		int[] prevProjectedX = new int[0];
+		int[] prevProjectedY = new int[0];
+		int minX, minY, maxX, maxY;
+		boolean visible;
+
+		// what the current projection was computed for
+		boolean projected;
+		WorldView lastWv;
+		Model lastModel;
+		int[] lastFaces;
+		int lastVertexCount;
+		int lastX, lastY, lastZ, lastOrientation;
+		int lastCameraVersion;
+	}
+
+	private final ModelOutlineRenderer renderer;
+	private final Client client;
+	final boolean reuseOutput;
+
+	int outlineWidth;
+	Color color;
+	int feather;
+
+	final List<Entry> entries = new ArrayList<>();
+	int size;
+
+	// The pixels written by the last draw, so they can be replayed if nothing has changed
+	int[] recordedPositions = new int[0];
+	int[] recordedColors = new int[0];
+	int recordedCount;
+	boolean recordedBlend;
+	boolean recordedValid;
+	int recordedSize;
+	int recordedOutlineWidth;
+	int recordedColor;
+	int recordedFeather;
+	int recordedClipX1, recordedClipY1, recordedClipX2, recordedClipY2;
+	int recordedImageWidth;
+
+	OutlineBatch(ModelOutlineRenderer renderer, Client client, boolean reuseOutput)
+	{
+		this.renderer = renderer;
+		this.client = client;
+		this.reuseOutput = reuseOutput;
+	}
+
+	/**
+	 * Empties the batch and sets the outline style for the models added next.
+	 *
+	 * @param outlineWidth The width of the outline
+	 * @param color The color of the outline
+	 * @param feather The feather of the outline, from 0 to 4
+	 * @return this batch
+	 */
+	public OutlineBatch reset(int outlineWidth, Color color, int feather)
+	{
+		this.outlineWidth = outlineWidth;
+		this.color = color;
+		this.feather = feather;
+		for (int i = 0; i < size; i++)
+		{
+			Entry e = entries.get(i);
+			e.wv = null;
+			e.model = null;
+		}
+		size = 0;
+		return this;
+	}
+
+	/**
+	 * Checks whether this batch was last reset with the given outline style.
+	 */
+	public boolean matches(int outlineWidth, Color color, int feather)
+	{
+		return this.outlineWidth == outlineWidth && this.feather == feather && color.equals(this.color);
+	}
+
+	/**
+	 * Returns whether no models have been added since the last reset.
+	 */
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Draws the outline of all models in the batch.
+	 */
+	public void draw()
+	{
+		renderer.drawBatch(this);
+	}
+
+	/**
+	 * Adds a model at a local position to the batch.
+	 *
+	 * @param wv The world view the model is in
+	 * @param model The model
+	 * @param localX The local x position of the model
+	 * @param localY The local y position of the model
+	 * @param localZ The local z position of the model
+	 * @param orientation The orientation of the model
+	 * @param isStatic true if the model is not animated, and so will have the same vertices whenever it is added
+	 * @return this batch
+	 */
+	public OutlineBatch add(WorldView wv, Model model, int localX, int localY, int localZ, int orientation, boolean isStatic)
+	{
+		if (model == null || wv == null)
+		{
+			return this;
+		}
+
+		Entry e;
+		if (size < entries.size())
+		{
+			e = entries.get(size);
+		}
+		else
+		{
+			e = new Entry();
+			entries.add(e);
+		}
+		size++;
+
+		e.wv = wv;
+		e.model = model;
+		e.x = localX;
+		e.y = localY;
+		e.z = localZ;
+		e.orientation = orientation;
+		e.isStatic = isStatic;
+		return this;
+	}
+
+	public OutlineBatch add(NPC npc)
+	{
+		LocalPoint lp = npc.getLocalLocation();
+		if (lp != null)
+		{
+			WorldView wv = npc.getWorldView();
+			add(wv, npc.getModel(), lp.getX(), lp.getY(),
+				Perspective.getFootprintTileHeight(client, lp, wv.getPlane(), npc.getComposition().getFootprintSize()) - npc.getAnimationHeightOffset(),
+				npc.getCurrentOrientation(), false);
+		}
+		return this;
+	}
+
+	public OutlineBatch add(Player player)
+	{
+		LocalPoint lp = player.getLocalLocation();
+		if (lp != null)
+		{
+			WorldView wv = player.getWorldView();
+			add(wv, player.getModel(), lp.getX(), lp.getY(),
+				Perspective.getFootprintTileHeight(client, lp, wv.getPlane(), player.getFootprintSize()) - player.getAnimationHeightOffset(),
+				player.getCurrentOrientation(), false);
+		}
+		return this;
+	}
+
+	public OutlineBatch add(TileObject tileObject)
+	{
+		if (tileObject instanceof GameObject)
+		{
+			GameObject gameObject = (GameObject) tileObject;
+			add(gameObject.getWorldView(), gameObject.getRenderable(), gameObject.getX(), gameObject.getY(), gameObject.getZ(),
+				gameObject.getModelOrientation());
+		}
+		else if (tileObject instanceof GroundObject)
+		{
+			GroundObject groundObject = (GroundObject) tileObject;
+			add(groundObject.getWorldView(), groundObject.getRenderable(), groundObject.getX(), groundObject.getY(), groundObject.getZ(), 0);
+		}
+		else if (tileObject instanceof ItemLayer)
+		{
+			ItemLayer itemLayer = (ItemLayer) tileObject;
+			int z = itemLayer.getZ() - itemLayer.getHeight();
+			addItemLayerPart(itemLayer.getWorldView(), itemLayer.getBottom(), itemLayer.getX(), itemLayer.getY(), z);
+			addItemLayerPart(itemLayer.getWorldView(), itemLayer.getMiddle(), itemLayer.getX(), itemLayer.getY(), z);
+			addItemLayerPart(itemLayer.getWorldView(), itemLayer.getTop(), itemLayer.getX(), itemLayer.getY(), z);
+		}
+		else if (tileObject instanceof DecorativeObject)
+		{
+			DecorativeObject decorativeObject = (DecorativeObject) tileObject;
+			add(decorativeObject.getWorldView(), decorativeObject.getRenderable(),
+				decorativeObject.getX() + decorativeObject.getXOffset(),
+				decorativeObject.getY() + decorativeObject.getYOffset(),
+				decorativeObject.getZ(), 0);
+			add(decorativeObject.getWorldView(), decorativeObject.getRenderable2(),
+				decorativeObject.getX() + decorativeObject.getXOffset2(),
+				decorativeObject.getY() + decorativeObject.getYOffset2(),
+				decorativeObject.getZ(), 0);
+		}
+		else if (tileObject instanceof WallObject)
+		{
+			WallObject wallObject = (WallObject) tileObject;
+			add(wallObject.getWorldView(), wallObject.getRenderable1(), wallObject.getX(), wallObject.getY(), wallObject.getZ(), 0);
+			add(wallObject.getWorldView(), wallObject.getRenderable2(), wallObject.getX(), wallObject.getY(), wallObject.getZ(), 0);
+		}
+		return this;
+	}
+
+	public OutlineBatch add(GraphicsObject graphicsObject)
+	{
+		LocalPoint lp = graphicsObject.getLocation();
+		if (lp != null)
+		{
+			add(graphicsObject.getWorldView(), graphicsObject.getModel(), lp.getX(), lp.getY(),
+				graphicsObject.getZ() - graphicsObject.getAnimationHeightOffset(), 0, false);
+		}
+		return this;
+	}
+
+	public OutlineBatch add(RuneLiteObject runeLiteObject)
+	{
+		LocalPoint lp = runeLiteObject.getLocation();
+		if (lp != null)
+		{
+			WorldView wv = client.getWorldView(runeLiteObject.getWorldView());
+			add(wv, runeLiteObject.getModel(), lp.getX(), lp.getY(), runeLiteObject.getZ(),
+				runeLiteObject.getOrientation(), false);
+		}
+		return this;
+	}
+
+	private void add(WorldView wv, Renderable renderable, int x, int y, int z, int orientation)
+	{
+		if (renderable != null)
+		{
+			// A renderable which is itself a model is not animated
+			boolean isStatic = renderable instanceof Model;
+			Model model = isStatic ? (Model) renderable : renderable.getModel();
+			add(wv, model, x, y, z - renderable.getAnimationHeightOffset(), orientation, isStatic);
+		}
+	}
+
+	private void addItemLayerPart(WorldView wv, Renderable renderable, int x, int y, int z)
+	{
+		if (renderable != null)
+		{
+			boolean isStatic = renderable instanceof Model;
+			Model model = isStatic ? (Model) renderable : renderable.getModel();
+			add(wv, model, x, y, z, 0, isStatic);
+		}
+	}
+
+	void record(int position, int color)
+	{
+		if (recordedCount == recordedPositions.length)
+		{
+			int newLength = Math.max(256, recordedCount * 2);
+			int[] positions = new int[newLength];
+			int[] colors = new int[newLength];
+			System.arraycopy(recordedPositions, 0, positions, 0, recordedCount);
+			System.arraycopy(recordedColors, 0, colors, 0, recordedCount);
+			recordedPositions = positions;
+			recordedColors = colors;
+		}
+		recordedPositions[recordedCount] = position;
+		recordedColors[recordedCount] = color;
+		recordedCount++;
+	}
+}
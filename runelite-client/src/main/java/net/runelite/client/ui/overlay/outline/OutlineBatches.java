@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Groups models to outline by outline style, so that each style is drawn as a single
+ * {@link OutlineBatch}. This is meant to be owned by an overlay and reused every frame,
+ * so that batches keep their cached state between frames.
+ */
+public class OutlineBatches
+{
+	private final ModelOutlineRenderer renderer;
+	private final List<OutlineBatch> batches = new ArrayList<>();
+	private int count;
+
+	OutlineBatches(ModelOutlineRenderer renderer)
+	{
+		this.renderer = renderer;
+	}
+
+	/**
+	 * Empties all batches. Call at the start of each frame.
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < count; i++)
+		{
+			OutlineBatch batch = batches.get(i);
+			batch.reset(batch.outlineWidth, batch.color, batch.feather);
+		}
+		count = 0;
+	}
+
+	/**
+	 * Gets the batch to add models with the given outline style to.
+	 */
+	public OutlineBatch get(int outlineWidth, Color color, int feather)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			OutlineBatch batch = batches.get(i);
+			if (batch.matches(outlineWidth, color, feather))
+			{
+				return batch;
+			}
+		}
+
+		OutlineBatch batch;
+		if (count < batches.size())
+		{
+			// styles are usually requested in the same order each frame, so this is
+			// normally the batch which had this style last frame
+			batch = batches.get(count);
+		}
+		else
+		{
+			batch = renderer.createBatch();
+			batches.add(batch);
+		}
+		count++;
+		return batch.reset(outlineWidth, color, feather);
+	}
+
+	/**
+	 * Draws all batches used since the last reset.
+	 */
+	public void draw()
+	{
+		for (int i = 0; i < count; i++)
+		{
+			batches.get(i).draw();
+		}
+	}
+}
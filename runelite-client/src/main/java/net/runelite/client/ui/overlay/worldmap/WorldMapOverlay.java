@@ -34,6 +34,7 @@ import java.awt.Rectangle;
 import java.awt.Shape;
 import java.awt.geom.Area;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -65,11 +66,19 @@ public class WorldMapOverlay extends Overlay
 
 	private static final Splitter TOOLTIP_SPLITTER = Splitter.on("<br>").trimResults().omitEmptyStrings();
 
+	/**
+	 * How far, in pixels, a point's image may reach from its world point. Points further than this
+	 * outside the visible map are not visited.
+	 */
+	private static final int MAX_IMAGE_EXTENT = 128;
+
 	private final WorldMapPointManager worldMapPointManager;
 	private final Client client;
 
 	private WorldMapPoint hoveredPoint;
 
+	private final List<WorldMapPoint> visiblePoints = new ArrayList<>();
+
 	@Inject
 	private WorldMapOverlay(
 		Client client,
@@ -86,9 +95,7 @@ public class WorldMapOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
-		final List<WorldMapPoint> points = worldMapPointManager.getWorldMapPoints();
-
-		if (points.isEmpty())
+		if (worldMapPointManager.getWorldMapPoints().isEmpty())
 		{
 			return null;
 		}
@@ -133,6 +140,7 @@ public class WorldMapOverlay extends Overlay
 
 		WorldMapPoint tooltipPoint = null;
 
+		final List<WorldMapPoint> points = getVisiblePoints(worldMapRectangle);
 		for (WorldMapPoint worldPoint : points)
 		{
 			BufferedImage image = worldPoint.getImage();
@@ -227,6 +235,8 @@ public class WorldMapOverlay extends Overlay
 			}
 		}
 
+		points.clear();
+
 		final Widget rsTooltip = client.getWidget(InterfaceID.Worldmap.TOOLTIP);
 		if (rsTooltip != null)
 		{
@@ -241,6 +251,30 @@ public class WorldMapOverlay extends Overlay
 		return null;
 	}
 
+	/**
+	 * Get the points which may be drawn on the visible part of the world map
+	 */
+	private List<WorldMapPoint> getVisiblePoints(Rectangle worldMapRectangle)
+	{
+		final WorldMap worldMap = client.getWorldMap();
+		final float pixelsPerTile = worldMap.getWorldMapZoom();
+		final Point worldMapPosition = worldMap.getWorldMapPosition();
+
+		// as in mapWorldPointToGraphicsPoint, with a margin for rounding and the extent of images
+		final int widthInTiles = (int) Math.ceil(worldMapRectangle.getWidth() / pixelsPerTile);
+		final int heightInTiles = (int) Math.ceil(worldMapRectangle.getHeight() / pixelsPerTile);
+		final int margin = (int) Math.ceil(MAX_IMAGE_EXTENT / pixelsPerTile) + 2;
+
+		final int minX = worldMapPosition.getX() - widthInTiles / 2 - margin;
+		final int maxX = worldMapPosition.getX() + widthInTiles / 2 + margin;
+		final int minY = worldMapPosition.getY() - heightInTiles / 2 - margin;
+		final int maxY = worldMapPosition.getY() + heightInTiles / 2 + margin;
+
+		visiblePoints.clear();
+		worldMapPointManager.getWorldMapPoints(minX, minY, maxX, maxY, visiblePoints);
+		return visiblePoints;
+	}
+
 	/**
 	 * Get the screen coordinates for a WorldPoint on the world map
 	 *
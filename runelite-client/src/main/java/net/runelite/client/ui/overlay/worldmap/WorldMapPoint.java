@@ -26,7 +26,11 @@ package net.runelite.client.ui.overlay.worldmap;
 
 import java.awt.image.BufferedImage;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import net.runelite.api.Point;
 import net.runelite.api.coords.WorldPoint;
@@ -67,12 +71,32 @@ public class WorldMapPoint
 
 	private String tooltip;
 
+	/**
+	 * Where this point is in the index of the {@link WorldMapPointManager} it was added to
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	final WorldMapPointManager.IndexEntry indexEntry = new WorldMapPointManager.IndexEntry();
+
 	public WorldMapPoint(WorldPoint worldPoint, BufferedImage image)
 	{
 		this.worldPoint = worldPoint;
 		this.image = image;
 	}
 
+	public void setWorldPoint(WorldPoint worldPoint)
+	{
+		this.worldPoint = worldPoint;
+		indexEntry.update(this);
+	}
+
+	public void setSnapToEdge(boolean snapToEdge)
+	{
+		this.snapToEdge = snapToEdge;
+		indexEntry.update(this);
+	}
+
 	public void onEdgeSnap()
 	{
 	}
@@ -24,31 +24,220 @@
  */
 package net.runelite.client.ui.overlay.worldmap;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import javax.inject.Singleton;
 import lombok.AccessLevel;
 import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
 
+/**
+ * Holds the points drawn on the world map. Points are indexed in a grid over their world
+ * coordinates, so the world map overlay only visits the points near the visible part of the map.
+ * Points which snap to the edge of the map are always visited.
+ */
 @Singleton
 public class WorldMapPointManager
 {
+	/**
+	 * The size of a cell of the index is 64x64 tiles
+	 */
+	private static final int CELL_SHIFT = 6;
+
+	private static final Comparator<WorldMapPoint> ORDER = Comparator.comparingInt(p -> p.indexEntry.order);
+
 	@Getter(AccessLevel.PACKAGE)
 	private final List<WorldMapPoint> worldMapPoints = new CopyOnWriteArrayList<>();
 
-	public void add(WorldMapPoint worldMapPoint)
+	private final Map<Integer, List<WorldMapPoint>> cells = new HashMap<>();
+	// points which snap to the edge of the map, or have no position
+	private final List<WorldMapPoint> unindexed = new ArrayList<>();
+	private int order;
+
+	/**
+	 * The position of a point in a manager's index
+	 */
+	static class IndexEntry
+	{
+		private volatile WorldMapPointManager manager;
+		// the number of times the point has been added
+		private int count;
+		private int order;
+		private boolean indexed;
+		private int cell;
+
+		void update(WorldMapPoint point)
+		{
+			final WorldMapPointManager manager = this.manager;
+			if (manager != null)
+			{
+				manager.reindex(point);
+			}
+		}
+	}
+
+	public synchronized void add(WorldMapPoint worldMapPoint)
 	{
 		worldMapPoints.add(worldMapPoint);
+
+		final IndexEntry entry = worldMapPoint.indexEntry;
+		if (entry.count++ == 0)
+		{
+			entry.manager = this;
+			entry.order = order++;
+			file(worldMapPoint);
+		}
+	}
+
+	public synchronized void remove(WorldMapPoint worldMapPoint)
+	{
+		final int idx = worldMapPoints.indexOf(worldMapPoint);
+		if (idx != -1)
+		{
+			unindex(worldMapPoints.remove(idx));
+		}
+	}
+
+	public synchronized void removeIf(Predicate<WorldMapPoint> filter)
+	{
+		worldMapPoints.removeIf(worldMapPoint ->
+		{
+			if (filter.test(worldMapPoint))
+			{
+				unindex(worldMapPoint);
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Adds the points within a rectangle of world coordinates, and the points which snap to the
+	 * edge of the map, to a list, in the order the points were added.
+	 */
+	synchronized void getWorldMapPoints(int minX, int minY, int maxX, int maxY, List<WorldMapPoint> points)
+	{
+		points.addAll(unindexed);
+
+		final int minCellX = minX >> CELL_SHIFT;
+		final int minCellY = minY >> CELL_SHIFT;
+		final int maxCellX = maxX >> CELL_SHIFT;
+		final int maxCellY = maxY >> CELL_SHIFT;
+
+		if ((long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > cells.size())
+		{
+			// fewer cells are occupied than are in the rectangle
+			for (List<WorldMapPoint> cell : cells.values())
+			{
+				addWithin(cell, minX, minY, maxX, maxY, points);
+			}
+		}
+		else
+		{
+			for (int cellX = minCellX; cellX <= maxCellX; ++cellX)
+			{
+				for (int cellY = minCellY; cellY <= maxCellY; ++cellY)
+				{
+					final List<WorldMapPoint> cell = cells.get(cellKey(cellX, cellY));
+					if (cell != null)
+					{
+						addWithin(cell, minX, minY, maxX, maxY, points);
+					}
+				}
+			}
+		}
+
+		points.sort(ORDER);
+	}
+
+	private static void addWithin(List<WorldMapPoint> cell, int minX, int minY, int maxX, int maxY, List<WorldMapPoint> points)
+	{
+		for (int i = 0; i < cell.size(); ++i)
+		{
+			final WorldMapPoint worldMapPoint = cell.get(i);
+			final WorldPoint worldPoint = worldMapPoint.getWorldPoint();
+			if (worldPoint.getX() >= minX && worldPoint.getX() <= maxX
+				&& worldPoint.getY() >= minY && worldPoint.getY() <= maxY)
+			{
+				points.add(worldMapPoint);
+			}
+		}
+	}
+
+	private synchronized void reindex(WorldMapPoint worldMapPoint)
+	{
+		if (worldMapPoint.indexEntry.count > 0)
+		{
+			unfile(worldMapPoint);
+			file(worldMapPoint);
+		}
+	}
+
+	private void unindex(WorldMapPoint worldMapPoint)
+	{
+		final IndexEntry entry = worldMapPoint.indexEntry;
+		if (--entry.count == 0)
+		{
+			unfile(worldMapPoint);
+			entry.manager = null;
+		}
+	}
+
+	private void file(WorldMapPoint worldMapPoint)
+	{
+		final IndexEntry entry = worldMapPoint.indexEntry;
+		final WorldPoint worldPoint = worldMapPoint.getWorldPoint();
+		if (worldMapPoint.isSnapToEdge() || worldPoint == null)
+		{
+			entry.indexed = false;
+			unindexed.add(worldMapPoint);
+		}
+		else
+		{
+			entry.indexed = true;
+			entry.cell = cellKey(worldPoint.getX() >> CELL_SHIFT, worldPoint.getY() >> CELL_SHIFT);
+			cells.computeIfAbsent(entry.cell, k -> new ArrayList<>()).add(worldMapPoint);
+		}
+	}
+
+	private void unfile(WorldMapPoint worldMapPoint)
+	{
+		final IndexEntry entry = worldMapPoint.indexEntry;
+		if (entry.indexed)
+		{
+			final List<WorldMapPoint> cell = cells.get(entry.cell);
+			removeInstance(cell, worldMapPoint);
+			if (cell.isEmpty())
+			{
+				cells.remove(entry.cell);
+			}
+		}
+		else
+		{
+			removeInstance(unindexed, worldMapPoint);
+		}
 	}
 
-	public void remove(WorldMapPoint worldMapPoint)
+	// points are compared by value, but the index holds each instance
+	private static void removeInstance(List<WorldMapPoint> points, WorldMapPoint worldMapPoint)
 	{
-		worldMapPoints.remove(worldMapPoint);
+		for (int i = 0; i < points.size(); ++i)
+		{
+			if (points.get(i) == worldMapPoint)
+			{
+				points.remove(i);
+				return;
+			}
+		}
 	}
 
-	public void removeIf(Predicate<WorldMapPoint> filter)
+	private static int cellKey(int cellX, int cellY)
 	{
-		worldMapPoints.removeIf(filter);
+		return cellX << 16 | (cellY & 0xffff);
 	}
 }
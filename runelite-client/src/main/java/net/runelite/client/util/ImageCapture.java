@@ -26,6 +26,7 @@
 package net.runelite.client.util;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Insets;
@@ -35,15 +36,21 @@ import java.awt.TrayIcon;
 import java.awt.datatransfer.Clipboard;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.zip.Deflater;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -58,6 +65,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.ScreenshotTaken;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
+import net.runelite.client.ui.FrameRecorder;
 
 @Slf4j
 @Singleton
@@ -65,6 +73,29 @@ import net.runelite.client.ui.DrawManager;
 public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+	/**
+	 * Screenshots waiting to be written beyond this are dropped, to bound the memory held by queued frames
+	 */
+	private static final int MAX_QUEUED_SCREENSHOTS = 8;
+	/**
+	 * Deflate level for screenshots, which is most of the size of level 6 for under half the time
+	 */
+	private static final int COMPRESSION_LEVEL = 4;
+
+	// screenshots are written in order on their own thread, so a burst of them doesn't hold up the shared executor,
+	// with the png stripes deflated on a pool of low priority threads
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+		.setNameFormat("screenshot-writer")
+		.setDaemon(true)
+		.build());
+	private final PngEncoder pngEncoder = new PngEncoder(Executors.newFixedThreadPool(
+		Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+		new ThreadFactoryBuilder()
+			.setNameFormat("screenshot-encoder-%d")
+			.setDaemon(true)
+			.setPriority(Thread.MIN_PRIORITY)
+			.build()));
+	private final Semaphore queued = new Semaphore(MAX_QUEUED_SCREENSHOTS);
 
 	private final Client client;
 	private final Notifier notifier;
@@ -163,6 +194,7 @@ public class ImageCapture
 
 	/**
 	 * Save a screenshot to disk. And optionally send a notification and copy it to clipboard.
+	 * The screenshot is written asynchronously, and the {@link ScreenshotTaken} event is posted once it has been.
 	 *
 	 * @param screenshot screenshot
 	 * @param fileName Filename to use, without file extension.
@@ -185,31 +217,85 @@ public class ImageCapture
 			return;
 		}
 
-		File playerFolder;
-		if (client.getLocalPlayer() != null && client.getLocalPlayer().getName() != null)
+		final File playerFolder = getPlayerFolder(subDir);
+		final String name = fileName + (fileName.isEmpty() ? "" : " ") + format(new Date());
+
+		if (!queued.tryAcquire())
 		{
-			String playerDir = client.getLocalPlayer().getName();
-			RuneScapeProfileType profileType = RuneScapeProfileType.getCurrent(client);
-			if (profileType != RuneScapeProfileType.STANDARD)
+			log.warn("Too many screenshots queued, dropping screenshot {}", name);
+			return;
+		}
+
+		writer.execute(() ->
+		{
+			try
 			{
-				playerDir += "-" + Text.titleCase(profileType);
+				writeScreenshot(screenshot, playerFolder, name, notify, saveToClipboard);
 			}
+			catch (Exception ex)
+			{
+				log.error("error writing screenshot", ex);
+			}
+			finally
+			{
+				queued.release();
+			}
+		});
+	}
 
-			if (!Strings.isNullOrEmpty(subDir))
+	/**
+	 * Save the frames held by a recorder to disk, as a png sequence in a folder named like a screenshot.
+	 *
+	 * @param recorder the recorder
+	 * @param fileName Folder name to use, without the date.
+	 * @param subDir Directory within the player screenshots dir to store the folder in.
+	 */
+	public void saveRecording(FrameRecorder recorder, String fileName, @Nullable String subDir)
+	{
+		if (client.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			return;
+		}
+
+		final File folder = new File(getPlayerFolder(subDir), fileName + (fileName.isEmpty() ? "" : " ") + format(new Date()));
+		recorder.save(folder).whenComplete((frames, ex) ->
+		{
+			if (ex != null)
 			{
-				playerDir += File.separator + subDir;
+				log.warn("error saving recording to {}", folder, ex);
 			}
+			else
+			{
+				log.debug("saved {} frames to {}", frames, folder);
+			}
+		});
+	}
+
+	private File getPlayerFolder(@Nullable String subDir)
+	{
+		if (client.getLocalPlayer() == null || client.getLocalPlayer().getName() == null)
+		{
+			return SCREENSHOT_DIR;
+		}
 
-			playerFolder = new File(SCREENSHOT_DIR, playerDir);
+		String playerDir = client.getLocalPlayer().getName();
+		RuneScapeProfileType profileType = RuneScapeProfileType.getCurrent(client);
+		if (profileType != RuneScapeProfileType.STANDARD)
+		{
+			playerDir += "-" + Text.titleCase(profileType);
 		}
-		else
+
+		if (!Strings.isNullOrEmpty(subDir))
 		{
-			playerFolder = SCREENSHOT_DIR;
+			playerDir += File.separator + subDir;
 		}
 
-		playerFolder.mkdirs();
+		return new File(SCREENSHOT_DIR, playerDir);
+	}
 
-		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
+	private void writeScreenshot(BufferedImage screenshot, File playerFolder, String fileName, boolean notify, boolean saveToClipboard)
+	{
+		playerFolder.mkdirs();
 
 		File screenshotFile = new File(playerFolder, fileName + ".png");
 		// To make sure that screenshots don't get overwritten, check if file exists,
@@ -220,13 +306,16 @@ public class ImageCapture
 			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
 		}
 
-		try
+		// trade compression for speed while more screenshots are waiting
+		final int level = queued.availablePermits() < MAX_QUEUED_SCREENSHOTS - 1 ? Deflater.BEST_SPEED : COMPRESSION_LEVEL;
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(screenshotFile)))
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			pngEncoder.encode(screenshot, out, level);
 		}
 		catch (IOException ex)
 		{
 			log.error("error writing screenshot", ex);
+			screenshotFile.delete();
 			return;
 		}
 
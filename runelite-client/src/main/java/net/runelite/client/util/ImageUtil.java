@@ -397,6 +397,20 @@ public class ImageUtil
 	 */
 	public static BufferedImage loadImageResource(final Class<?> c, final String path)
 	{
+		// core images are packed at build time, so they can be loaded without decoding a png under the ImageIO lock
+		final ResourcePack icons = c.getClassLoader() == ImageUtil.class.getClassLoader() ? ResourcePack.icons() : null;
+		if (icons != null)
+		{
+			final String name = path.startsWith("/")
+				? path.substring(1)
+				: c.getPackage().getName().replace('.', '/') + "/" + path;
+			final BufferedImage image = icons.getImage(name);
+			if (image != null)
+			{
+				return image;
+			}
+		}
+
 		try (InputStream in = c.getResourceAsStream(path))
 		{
 			synchronized (ImageIO.class)
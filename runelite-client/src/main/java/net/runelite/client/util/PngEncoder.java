@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A PNG encoder which filters and deflates horizontal stripes of the image in parallel.
+ * <p>
+ * Each stripe is compressed independently and flushed to a byte boundary, so the stripes
+ * concatenate into a single zlib stream, similar to pigz. This costs a little compression
+ * at the start of each stripe, since it can't reference the previous one.
+ */
+public class PngEncoder
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	// deflate, 32k window, no preset dictionary
+	private static final byte[] ZLIB_HEADER = {0x78, 0x01};
+	private static final int STRIPE_BYTES = 1 << 18;
+
+	private static final int FILTER_NONE = 0;
+	private static final int FILTER_SUB = 1;
+	private static final int FILTER_UP = 2;
+	private static final int FILTER_PAETH = 4;
+
+	/**
+	 * Per-thread scratch space, so encoding a burst of frames doesn't allocate a buffer per stripe
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+	private static class Scratch
+	{
+		// indexed by level, offset by one for DEFAULT_COMPRESSION
+		private final Deflater[] deflaters = new Deflater[Deflater.BEST_COMPRESSION + 2];
+		private final Adler32 adler = new Adler32();
+		private byte[] filtered = new byte[0];
+		private byte[] deflated = new byte[0];
+		private byte[] prev = new byte[0];
+		private byte[] cur = new byte[0];
+		private int[] argb = new int[0];
+
+		Deflater deflater(int level)
+		{
+			Deflater deflater = deflaters[level + 1];
+			if (deflater == null)
+			{
+				deflater = deflaters[level + 1] = new Deflater(level, true);
+			}
+			deflater.reset();
+			return deflater;
+		}
+	}
+
+	private static class Stripe
+	{
+		private byte[] data;
+		private long adler;
+		private int length;
+	}
+
+	private final Executor executor;
+
+	/**
+	 * @param executor the executor to deflate stripes on
+	 */
+	public PngEncoder(Executor executor)
+	{
+		this.executor = executor;
+	}
+
+	/**
+	 * Encodes an image as a PNG
+	 *
+	 * @param image the image
+	 * @param out the stream to write to, which is not closed
+	 * @param level the deflate level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION},
+	 *              or {@link Deflater#DEFAULT_COMPRESSION}
+	 */
+	public void encode(BufferedImage image, OutputStream out, int level) throws IOException
+	{
+		if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION)
+		{
+			throw new IllegalArgumentException("level " + level);
+		}
+
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final boolean alpha = image.getColorModel().hasAlpha();
+		final int bpp = alpha ? 4 : 3;
+		final int rowBytes = 1 + width * bpp;
+		final int stripeRows = Math.max(1, STRIPE_BYTES / rowBytes);
+
+		final List<FutureTask<Stripe>> stripes = new ArrayList<>();
+		for (int y = 0; y < height; y += stripeRows)
+		{
+			final int startY = y;
+			final int endY = Math.min(height, y + stripeRows);
+			final FutureTask<Stripe> task = new FutureTask<>(() -> encodeStripe(image, startY, endY, bpp, level, endY == height));
+			stripes.add(task);
+			executor.execute(task);
+		}
+
+		final DataOutputStream dos = new DataOutputStream(out);
+		dos.write(SIGNATURE);
+
+		final byte[] ihdr = new byte[13];
+		writeInt(ihdr, 0, width);
+		writeInt(ihdr, 4, height);
+		ihdr[8] = 8; // bit depth
+		ihdr[9] = (byte) (alpha ? 6 : 2); // truecolor, with or without alpha
+		writeChunk(dos, "IHDR", ihdr, ihdr.length);
+
+		// idat chunks may be split anywhere, so give the zlib header, each stripe, and the checksum their own
+		writeChunk(dos, "IDAT", ZLIB_HEADER, ZLIB_HEADER.length);
+		long adler = 1;
+		try
+		{
+			for (FutureTask<Stripe> task : stripes)
+			{
+				final Stripe stripe = task.get();
+				writeChunk(dos, "IDAT", stripe.data, stripe.data.length);
+				adler = adler32Combine(adler, stripe.adler, stripe.length);
+			}
+		}
+		catch (InterruptedException e)
+		{
+			stripes.forEach(t -> t.cancel(false));
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		catch (ExecutionException e)
+		{
+			stripes.forEach(t -> t.cancel(false));
+			throw new IOException("error encoding png", e.getCause());
+		}
+
+		final byte[] trailer = new byte[4];
+		writeInt(trailer, 0, (int) adler);
+		writeChunk(dos, "IDAT", trailer, trailer.length);
+		writeChunk(dos, "IEND", trailer, 0);
+		dos.flush();
+	}
+
+	private static Stripe encodeStripe(BufferedImage image, int startY, int endY, int bpp, int level, boolean last)
+	{
+		final Scratch scratch = SCRATCH.get();
+		final int width = image.getWidth();
+		final int rowBytes = width * bpp;
+		final int length = (endY - startY) * (rowBytes + 1);
+
+		if (scratch.filtered.length < length)
+		{
+			scratch.filtered = new byte[length];
+		}
+		if (scratch.cur.length < rowBytes)
+		{
+			scratch.prev = new byte[rowBytes];
+			scratch.cur = new byte[rowBytes];
+			scratch.argb = new int[width];
+		}
+
+		final byte[] filtered = scratch.filtered;
+		byte[] prev = scratch.prev;
+		byte[] cur = scratch.cur;
+		if (startY > 0)
+		{
+			readRow(image, startY - 1, bpp, prev, scratch.argb);
+		}
+		else
+		{
+			Arrays.fill(prev, 0, rowBytes, (byte) 0);
+		}
+
+		int pos = 0;
+		for (int y = startY; y < endY; ++y)
+		{
+			readRow(image, y, bpp, cur, scratch.argb);
+			pos = filterRow(cur, prev, rowBytes, bpp, filtered, pos);
+
+			final byte[] t = prev;
+			prev = cur;
+			cur = t;
+		}
+		scratch.prev = prev;
+		scratch.cur = cur;
+
+		final Adler32 adler = scratch.adler;
+		adler.reset();
+		adler.update(filtered, 0, length);
+
+		final Deflater deflater = scratch.deflater(level);
+		deflater.setInput(filtered, 0, length);
+		if (last)
+		{
+			deflater.finish();
+		}
+
+		// deflate to a byte boundary without ending the stream, unless this is the last stripe
+		final int flush = last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH;
+		byte[] deflated = scratch.deflated;
+		if (deflated.length < length / 2)
+		{
+			deflated = new byte[length / 2];
+		}
+		int size = 0;
+		while (true)
+		{
+			if (size == deflated.length)
+			{
+				deflated = Arrays.copyOf(deflated, deflated.length * 2);
+			}
+
+			size += deflater.deflate(deflated, size, deflated.length - size, flush);
+			if (last ? deflater.finished() : size < deflated.length)
+			{
+				break;
+			}
+		}
+		scratch.deflated = deflated;
+
+		final Stripe stripe = new Stripe();
+		stripe.data = Arrays.copyOf(deflated, size);
+		stripe.adler = adler.getValue();
+		stripe.length = length;
+		return stripe;
+	}
+
+	private static void readRow(BufferedImage image, int y, int bpp, byte[] row, int[] argb)
+	{
+		final int width = image.getWidth();
+		final int[] pixels;
+		final int offset;
+		if (isIntRgb(image))
+		{
+			// read straight from the raster rather than converting through getRGB
+			final SinglePixelPackedSampleModel sm = (SinglePixelPackedSampleModel) image.getSampleModel();
+			final DataBufferInt db = (DataBufferInt) image.getRaster().getDataBuffer();
+			pixels = db.getData();
+			offset = db.getOffset() + (y - image.getRaster().getSampleModelTranslateY()) * sm.getScanlineStride()
+				- image.getRaster().getSampleModelTranslateX();
+		}
+		else
+		{
+			image.getRGB(0, y, width, 1, argb, 0, width);
+			pixels = argb;
+			offset = 0;
+		}
+
+		int p = 0;
+		if (bpp == 4)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				final int c = pixels[offset + x];
+				row[p++] = (byte) (c >> 16);
+				row[p++] = (byte) (c >> 8);
+				row[p++] = (byte) c;
+				row[p++] = (byte) (c >>> 24);
+			}
+		}
+		else
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				final int c = pixels[offset + x];
+				row[p++] = (byte) (c >> 16);
+				row[p++] = (byte) (c >> 8);
+				row[p++] = (byte) c;
+			}
+		}
+	}
+
+	private static boolean isIntRgb(BufferedImage image)
+	{
+		// TYPE_INT_RGB and TYPE_INT_ARGB, where the pixels are already in argb order
+		final int type = image.getType();
+		return (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+			&& image.getColorModel() instanceof DirectColorModel
+			&& image.getSampleModel() instanceof SinglePixelPackedSampleModel;
+	}
+
+	/**
+	 * Filters a row with whichever of none, sub, up, and paeth gives the smallest sum of absolute differences,
+	 * which is cheap and a good predictor of which compresses best.
+	 *
+	 * @return the position after the row in the output
+	 */
+	private static int filterRow(byte[] cur, byte[] prev, int rowBytes, int bpp, byte[] out, int pos)
+	{
+		long noneSum = 0;
+		long subSum = 0;
+		long upSum = 0;
+		long paethSum = 0;
+		for (int i = 0; i < rowBytes; ++i)
+		{
+			final byte c = cur[i];
+			final int a = i >= bpp ? cur[i - bpp] & 0xff : 0;
+			final int b = prev[i] & 0xff;
+			final int ci = i >= bpp ? prev[i - bpp] & 0xff : 0;
+			noneSum += Math.abs((int) c);
+			subSum += Math.abs((int) (byte) (c - a));
+			upSum += Math.abs((int) (byte) (c - b));
+			paethSum += Math.abs((int) (byte) (c - paeth(a, b, ci)));
+		}
+
+		int filter = FILTER_NONE;
+		long best = noneSum;
+		if (subSum < best)
+		{
+			filter = FILTER_SUB;
+			best = subSum;
+		}
+		if (upSum < best)
+		{
+			filter = FILTER_UP;
+			best = upSum;
+		}
+		if (paethSum < best)
+		{
+			filter = FILTER_PAETH;
+		}
+
+		out[pos++] = (byte) filter;
+		switch (filter)
+		{
+			case FILTER_NONE:
+				System.arraycopy(cur, 0, out, pos, rowBytes);
+				break;
+			case FILTER_SUB:
+				System.arraycopy(cur, 0, out, pos, bpp);
+				for (int i = bpp; i < rowBytes; ++i)
+				{
+					out[pos + i] = (byte) (cur[i] - cur[i - bpp]);
+				}
+				break;
+			case FILTER_UP:
+				for (int i = 0; i < rowBytes; ++i)
+				{
+					out[pos + i] = (byte) (cur[i] - prev[i]);
+				}
+				break;
+			case FILTER_PAETH:
+				for (int i = 0; i < bpp; ++i)
+				{
+					out[pos + i] = (byte) (cur[i] - prev[i]);
+				}
+				for (int i = bpp; i < rowBytes; ++i)
+				{
+					out[pos + i] = (byte) (cur[i] - paeth(cur[i - bpp] & 0xff, prev[i] & 0xff, prev[i - bpp] & 0xff));
+				}
+				break;
+		}
+		return pos + rowBytes;
+	}
+
+	private static int paeth(int a, int b, int c)
+	{
+		final int p = a + b - c;
+		final int pa = Math.abs(p - a);
+		final int pb = Math.abs(p - b);
+		final int pc = Math.abs(p - c);
+		if (pa <= pb && pa <= pc)
+		{
+			return a;
+		}
+		return pb <= pc ? b : c;
+	}
+
+	private static void writeChunk(DataOutputStream out, String type, byte[] data, int length) throws IOException
+	{
+		final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+		final CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data, 0, length);
+
+		out.writeInt(length);
+		out.write(typeBytes);
+		out.write(data, 0, length);
+		out.writeInt((int) crc.getValue());
+	}
+
+	private static void writeInt(byte[] b, int off, int v)
+	{
+		b[off] = (byte) (v >>> 24);
+		b[off + 1] = (byte) (v >>> 16);
+		b[off + 2] = (byte) (v >>> 8);
+		b[off + 3] = (byte) v;
+	}
+
+	/**
+	 * Computes the adler-32 of two concatenated blocks of data from their individual checksums, as zlib's adler32_combine
+	 */
+	static long adler32Combine(long adler1, long adler2, long length2)
+	{
+		final int base = 65521;
+		final long rem = length2 % base;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = (rem * sum1) % base;
+		sum1 += (adler2 & 0xffff) + base - 1;
+		sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + base - rem;
+		if (sum1 >= base)
+		{
+			sum1 -= base;
+		}
+		if (sum1 >= base)
+		{
+			sum1 -= base;
+		}
+		if (sum2 >= base << 1)
+		{
+			sum2 -= base << 1;
+		}
+		if (sum2 >= base)
+		{
+			sum2 -= base;
+		}
+		return sum1 | (sum2 << 16);
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Images packed at build time by the pack task, as argb pixels ready to be copied into an image.
+ * The pack is memory mapped, after being extracted to a temporary file if it is in a jar,
+ * so the pixels are never copied onto the heap. Each image is only built when it is requested.
+ */
+@Slf4j
+public class ResourcePack
+{
+	private static final int MAGIC = 0x524c504b;
+	private static final int VERSION = 1;
+	private static final String ICONS = "/net/runelite/client/pack/icons.pack";
+	private static final String TEMP_PREFIX = "runelite-pack";
+	private static final String TEMP_SUFFIX = ".pack";
+
+	private static class Holder
+	{
+		private static final ResourcePack ICONS_PACK = loadIcons();
+	}
+
+	private static class Entry
+	{
+		private final int width;
+		private final int height;
+		// offset of the first pixel, in ints
+		private final int offset;
+
+		private Entry(int width, int height, int offset)
+		{
+			this.width = width;
+			this.height = height;
+			this.offset = offset;
+		}
+	}
+
+	private final Map<String, Entry> entries;
+	private final IntBuffer pixels;
+
+	private ResourcePack(Map<String, Entry> entries, IntBuffer pixels)
+	{
+		this.entries = entries;
+		this.pixels = pixels;
+	}
+
+	/**
+	 * Gets the client's icon pack
+	 *
+	 * @return the pack, or null if the client was built without one
+	 */
+	@Nullable
+	public static ResourcePack icons()
+	{
+		return Holder.ICONS_PACK;
+	}
+
+	@Nullable
+	private static ResourcePack loadIcons()
+	{
+		final URL url = ResourcePack.class.getResource(ICONS);
+		if (url == null)
+		{
+			log.debug("no icon pack");
+			return null;
+		}
+
+		try
+		{
+			return load(url);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.warn("unable to load icon pack", ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Loads a pack
+	 *
+	 * @param url the location of the pack, which is memory mapped if it is a file, or otherwise
+	 *            extracted to a temporary file first
+	 */
+	public static ResourcePack load(URL url) throws IOException
+	{
+		final ByteBuffer buffer;
+		if ("file".equals(url.getProtocol()))
+		{
+			try
+			{
+				buffer = map(Paths.get(url.toURI()));
+			}
+			catch (URISyntaxException ex)
+			{
+				throw new IOException(ex);
+			}
+		}
+		else
+		{
+			buffer = extract(url);
+		}
+
+		// ByteBuffers are big endian by default, which is what the pack is written in
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+		{
+			throw new IOException("unsupported pack " + url);
+		}
+
+		final int count = buffer.getInt();
+		final Map<String, Entry> entries = new HashMap<>(count * 2);
+		int offset = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final byte[] path = new byte[buffer.getShort() & 0xffff];
+			buffer.get(path);
+			final int width = buffer.getInt();
+			final int height = buffer.getInt();
+			entries.put(new String(path, StandardCharsets.UTF_8), new Entry(width, height, offset));
+			offset += width * height;
+		}
+
+		final IntBuffer pixels = buffer.slice().asIntBuffer();
+		if (pixels.remaining() < offset)
+		{
+			throw new IOException("truncated pack " + url);
+		}
+		return new ResourcePack(entries, pixels);
+	}
+
+	private static ByteBuffer map(Path path) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	private static ByteBuffer extract(URL url) throws IOException
+	{
+		deleteExtracted();
+
+		final Path file = Files.createTempFile(TEMP_PREFIX, TEMP_SUFFIX);
+		try
+		{
+			try (InputStream in = url.openStream())
+			{
+				Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return map(file);
+		}
+		finally
+		{
+			// the mapping outlives the file, except on Windows where it can't be deleted while mapped.
+			// Those are cleaned up by the next client to start.
+			try
+			{
+				Files.delete(file);
+			}
+			catch (IOException ex)
+			{
+				log.debug("unable to delete {}", file, ex);
+			}
+		}
+	}
+
+	private static void deleteExtracted()
+	{
+		final Path tmp = Paths.get(System.getProperty("java.io.tmpdir"));
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(tmp, TEMP_PREFIX + "*" + TEMP_SUFFIX))
+		{
+			for (Path file : files)
+			{
+				try
+				{
+					Files.delete(file);
+				}
+				catch (IOException ex)
+				{
+					// still mapped by another client
+					log.debug("unable to delete {}", file, ex);
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to list {}", tmp, ex);
+		}
+	}
+
+	/**
+	 * Builds an image from the pack
+	 *
+	 * @param path the resource path, relative to the classpath root without a leading slash
+	 * @return a new image, or null if the pack doesn't contain the path
+	 */
+	@Nullable
+	public BufferedImage getImage(String path)
+	{
+		final Entry entry = entries.get(path);
+		if (entry == null)
+		{
+			return null;
+		}
+
+		final BufferedImage image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB);
+		final int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		// absolute get isn't available until java 13, so read from a duplicate to be thread safe
+		pixels.duplicate().position(entry.offset).get(data, 0, entry.width * entry.height);
+		return image;
+	}
+
+	/**
+	 * @return the paths of the packed images
+	 */
+	public Set<String> getPaths()
+	{
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of wildcard patterns compiled for matching many strings against, with the same
+ * semantics as {@link WildcardMatcher}: matching is case insensitive, {@code *} matches
+ * any sequence of characters and the whole string must match.
+ * <p>
+ * Patterns are sorted by shape when the set is built. Literal and prefix patterns
+ * ({@code abc}, {@code abc*}) share a trie walked forward over the text, suffix patterns
+ * ({@code *abc}) share a trie walked backward over it, and only patterns with a
+ * wildcard in the middle are tested one by one. Matching does not allocate.
+ * <p>
+ * Sets are immutable and should be rebuilt when the patterns they came from change.
+ */
+public class WildcardMatcherSet
+{
+	public static final WildcardMatcherSet EMPTY = new WildcardMatcherSet(Collections.emptyList());
+
+	private static final int[] NONE = new int[0];
+
+	/**
+	 * Trie keyed by the lowercased pattern characters
+	 */
+	private static class Node
+	{
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		/**
+		 * Patterns which match if the text ends at this node
+		 */
+		private int[] exact = NONE;
+		/**
+		 * Patterns which match if the text continues past this node
+		 */
+		private int[] open = NONE;
+
+		private Node child(char c)
+		{
+			int i = Arrays.binarySearch(keys, c);
+			return i >= 0 ? children[i] : null;
+		}
+	}
+
+	/**
+	 * A pattern with a wildcard between two literal parts, such as {@code a*b} or {@code *a*b*}
+	 */
+	private static class Segmented
+	{
+		private final int index;
+		private final String head;
+		private final String[] middle;
+		private final String tail;
+
+		private Segmented(int index, String head, String[] middle, String tail)
+		{
+			this.index = index;
+			this.head = head;
+			this.middle = middle;
+			this.tail = tail;
+		}
+	}
+
+	private final int size;
+	private final Node prefixes;
+	private final Node suffixes;
+	/**
+	 * Patterns consisting only of wildcards
+	 */
+	private final int[] any;
+	private final Segmented[] segmented;
+
+	private WildcardMatcherSet(List<String> patterns)
+	{
+		final TreeNode prefixBuilder = new TreeNode();
+		final TreeNode suffixBuilder = new TreeNode();
+		final List<Integer> anyBuilder = new ArrayList<>();
+		final List<Segmented> segmentedBuilder = new ArrayList<>();
+
+		for (int i = 0; i < patterns.size(); ++i)
+		{
+			final String pattern = toLowerCase(patterns.get(i));
+			final int first = pattern.indexOf('*');
+			if (first == -1)
+			{
+				prefixBuilder.insert(pattern, false).exact.add(i);
+				continue;
+			}
+
+			final int last = pattern.lastIndexOf('*');
+			final String head = pattern.substring(0, first);
+			final String tail = pattern.substring(last + 1);
+			final String[] middle = Arrays.stream(pattern.substring(first, last + 1).split("\\*+"))
+				.filter(s -> !s.isEmpty())
+				.toArray(String[]::new);
+
+			if (middle.length > 0 || (!head.isEmpty() && !tail.isEmpty()))
+			{
+				segmentedBuilder.add(new Segmented(i, head, middle, tail));
+			}
+			else if (!head.isEmpty())
+			{
+				prefixBuilder.insert(head, false).open.add(i);
+			}
+			else if (!tail.isEmpty())
+			{
+				suffixBuilder.insert(tail, true).open.add(i);
+			}
+			else
+			{
+				anyBuilder.add(i);
+			}
+		}
+
+		size = patterns.size();
+		prefixes = prefixBuilder.freeze();
+		suffixes = suffixBuilder.freeze();
+		any = anyBuilder.stream().mapToInt(Integer::intValue).toArray();
+		segmented = segmentedBuilder.toArray(new Segmented[0]);
+	}
+
+	/**
+	 * Compiles a set of wildcard patterns
+	 *
+	 * @param patterns the patterns, each identified by its position in iteration order
+	 */
+	public static WildcardMatcherSet of(Collection<String> patterns)
+	{
+		if (patterns.isEmpty())
+		{
+			return EMPTY;
+		}
+		return new WildcardMatcherSet(new ArrayList<>(patterns));
+	}
+
+	/**
+	 * @return the number of patterns in the set
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Tests if any pattern matches the text
+	 */
+	public boolean matches(String text)
+	{
+		return matches(text, i -> true);
+	}
+
+	/**
+	 * Tests if any pattern which matches the text is accepted by a filter
+	 *
+	 * @param text the text to match
+	 * @param filter called with the index of each matching pattern until it returns true
+	 * @return true if the filter accepted a matching pattern
+	 */
+	public boolean matches(String text, IntPredicate filter)
+	{
+		if (size == 0 || text == null)
+		{
+			return false;
+		}
+
+		if (test(any, filter))
+		{
+			return true;
+		}
+
+		final int length = text.length();
+
+		Node node = prefixes;
+		for (int i = 0; node != null; ++i)
+		{
+			// a trailing wildcard also matches when the text ends here
+			if (test(node.open, filter))
+			{
+				return true;
+			}
+			if (i == length)
+			{
+				if (test(node.exact, filter))
+				{
+					return true;
+				}
+				break;
+			}
+			node = node.child(toLowerCase(text.charAt(i)));
+		}
+
+		node = suffixes;
+		for (int i = length - 1; node != null; --i)
+		{
+			if (test(node.open, filter))
+			{
+				return true;
+			}
+			if (i < 0)
+			{
+				break;
+			}
+			node = node.child(toLowerCase(text.charAt(i)));
+		}
+
+		for (Segmented s : segmented)
+		{
+			if (matches(s, text) && filter.test(s.index))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean test(int[] indices, IntPredicate filter)
+	{
+		for (int index : indices)
+		{
+			if (filter.test(index))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean matches(Segmented s, String text)
+	{
+		final int length = text.length();
+		if (length < s.head.length() + s.tail.length()
+			|| !regionMatches(text, 0, s.head)
+			|| !regionMatches(text, length - s.tail.length(), s.tail))
+		{
+			return false;
+		}
+
+		// the leftmost occurrence of each middle part leaves the most room for the rest
+		int from = s.head.length();
+		final int end = length - s.tail.length();
+		for (String part : s.middle)
+		{
+			final int idx = indexOf(text, part, from, end);
+			if (idx == -1)
+			{
+				return false;
+			}
+			from = idx + part.length();
+		}
+		return true;
+	}
+
+	private static int indexOf(String text, String lower, int from, int end)
+	{
+		for (int i = from, max = end - lower.length(); i <= max; ++i)
+		{
+			if (regionMatches(text, i, lower))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean regionMatches(String text, int offset, String lower)
+	{
+		for (int i = 0; i < lower.length(); ++i)
+		{
+			if (toLowerCase(text.charAt(offset + i)) != lower.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// (?i) in WildcardMatcher only folds US-ASCII
+	private static char toLowerCase(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static String toLowerCase(String s)
+	{
+		final char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; ++i)
+		{
+			chars[i] = toLowerCase(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	private static class TreeNode
+	{
+		private final TreeMap<Character, TreeNode> children = new TreeMap<>();
+		private final List<Integer> exact = new ArrayList<>();
+		private final List<Integer> open = new ArrayList<>();
+		private final Node node = new Node();
+
+		private TreeNode insert(String key, boolean reverse)
+		{
+			TreeNode node = this;
+			for (int i = 0; i < key.length(); ++i)
+			{
+				final char c = key.charAt(reverse ? key.length() - 1 - i : i);
+				node = node.children.computeIfAbsent(c, k -> new TreeNode());
+			}
+			return node;
+		}
+
+		private Node freeze()
+		{
+			// iterative, as the tries are as deep as the longest pattern
+			final Deque<TreeNode> stack = new ArrayDeque<>();
+			stack.push(this);
+			while (!stack.isEmpty())
+			{
+				final TreeNode tree = stack.pop();
+				final Node node = tree.node;
+				node.keys = new char[tree.children.size()];
+				node.children = new Node[tree.children.size()];
+				int i = 0;
+				for (var entry : tree.children.entrySet())
+				{
+					node.keys[i] = entry.getKey();
+					node.children[i] = entry.getValue().node;
+					stack.push(entry.getValue());
+					++i;
+				}
+				node.exact = tree.exact.stream().mapToInt(Integer::intValue).toArray();
+				node.open = tree.open.stream().mapToInt(Integer::intValue).toArray();
+			}
+			return node;
+		}
+	}
+}
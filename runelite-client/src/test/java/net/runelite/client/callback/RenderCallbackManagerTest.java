@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.Projectile;
+import net.runelite.api.Renderable;
+import net.runelite.api.TileObject;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RenderCallbackManagerTest
+{
+	private final RenderCallbackManager renderCallbackManager = new RenderCallbackManager();
+
+	@Test
+	public void testFilterTypes()
+	{
+		final Projectile projectile = mock(Projectile.class);
+		final Player player = mock(Player.class);
+
+		final RenderFilter filter = RenderFilter.builder()
+			.type(Projectile.class)
+			.ui(false)
+			.build();
+		renderCallbackManager.register(filter);
+
+		assertFalse(renderCallbackManager.addEntity(projectile, false));
+		assertTrue(renderCallbackManager.addEntity(projectile, true));
+		assertTrue(renderCallbackManager.addEntity(player, false));
+
+		renderCallbackManager.unregister(filter);
+		assertTrue(renderCallbackManager.addEntity(projectile, false));
+	}
+
+	@Test
+	public void testFilterIds()
+	{
+		final NPC hidden = mock(NPC.class);
+		when(hidden.getId()).thenReturn(1234);
+		final NPC shown = mock(NPC.class);
+		when(shown.getId()).thenReturn(1235);
+		final TileObject object = mock(TileObject.class);
+		when(object.getId()).thenReturn(1234);
+
+		renderCallbackManager.register(RenderFilter.builder()
+			.npcId(1234)
+			.build());
+
+		assertFalse(renderCallbackManager.addEntity(hidden, false));
+		assertFalse(renderCallbackManager.addEntity(hidden, true));
+		assertTrue(renderCallbackManager.addEntity(shown, false));
+		assertTrue(renderCallbackManager.drawObject(null, object));
+
+		renderCallbackManager.register(RenderFilter.builder()
+			.objectId(1234)
+			.build());
+
+		assertFalse(renderCallbackManager.drawObject(null, object));
+	}
+
+	@Test
+	public void testFilterAndCallback()
+	{
+		final Player player = mock(Player.class);
+		final Projectile projectile = mock(Projectile.class);
+
+		renderCallbackManager.register(RenderFilter.builder()
+			.type(Projectile.class)
+			.build());
+		renderCallbackManager.register(new RenderCallback()
+		{
+			@Override
+			public boolean addEntity(Renderable renderable, boolean ui)
+			{
+				return !(renderable instanceof Player);
+			}
+		});
+
+		assertFalse(renderCallbackManager.addEntity(projectile, false));
+		assertFalse(renderCallbackManager.addEntity(player, false));
+		assertTrue(renderCallbackManager.addEntity(mock(NPC.class), false));
+	}
+}
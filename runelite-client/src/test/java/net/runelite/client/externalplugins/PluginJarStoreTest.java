@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.externalplugins;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.runelite.client.util.VerificationException;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginJarStoreTest
+{
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final Map<String, byte[]> jars = new HashMap<>();
+	private final AtomicInteger requests = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private boolean honorRange = true;
+	private boolean disconnectFirst;
+
+	private File dir;
+	private PluginJarStore store;
+
+	@Before
+	public void before() throws IOException
+	{
+		dir = folder.newFolder();
+		store = new PluginJarStore(dir, new OkHttpClient(), jarData -> server.url("/" + jarData.getJarHash()));
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException
+			{
+				int n = inFlight.incrementAndGet();
+				maxInFlight.accumulateAndGet(n, Math::max);
+				try
+				{
+					// hold the request so concurrent downloads overlap
+					Thread.sleep(50);
+					return serve(request, requests.incrementAndGet());
+				}
+				finally
+				{
+					inFlight.decrementAndGet();
+				}
+			}
+		});
+	}
+
+	private MockResponse serve(RecordedRequest request, int count)
+	{
+		byte[] data = jars.get(request.getPath().substring(1));
+		if (data == null)
+		{
+			return new MockResponse().setResponseCode(404);
+		}
+
+		if (disconnectFirst && count == 1)
+		{
+			return new MockResponse().setBody(new Buffer().write(data))
+				.setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+		}
+
+		String range = request.getHeader("Range");
+		if (honorRange && range != null)
+		{
+			int offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+			if (offset >= data.length)
+			{
+				return new MockResponse().setResponseCode(416);
+			}
+			return new MockResponse().setResponseCode(206)
+				.setHeader("Content-Range", "bytes " + offset + "-" + (data.length - 1) + "/" + data.length)
+				.setBody(new Buffer().write(data, offset, data.length - offset));
+		}
+		return new MockResponse().setBody(new Buffer().write(data));
+	}
+
+	private PluginHubManifest.JarData jar(String name, int size)
+	{
+		byte[] data = new byte[size];
+		new Random(name.hashCode()).nextBytes(data);
+		return jar(name, data, data);
+	}
+
+	private PluginHubManifest.JarData jar(String name, byte[] served, byte[] expected)
+	{
+		PluginHubManifest.JarData jarData = new PluginHubManifest.JarData();
+		jarData.setInternalName(name);
+		jarData.setDisplayName(name);
+		jarData.setJarSize(expected.length);
+		jarData.setJarHash(PluginHubManifest.HASH_ENCODER.encodeToString(Hashing.sha256().hashBytes(expected).asBytes()));
+		jars.put(jarData.getJarHash(), served);
+		return jarData;
+	}
+
+	private void assertStored(PluginHubManifest.JarData jarData) throws IOException
+	{
+		assertArrayEquals(jars.get(jarData.getJarHash()), Files.readAllBytes(store.getFile(jarData).toPath()));
+		assertTrue(store.isValid(jarData));
+	}
+
+	@Test
+	public void testParallelDownload() throws IOException
+	{
+		List<PluginHubManifest.JarData> jarDatas = new ArrayList<>();
+		long total = 0;
+		for (int i = 0; i < 8; ++i)
+		{
+			PluginHubManifest.JarData jarData = jar("plugin-" + i, 10_000 + i * 1000);
+			jarDatas.add(jarData);
+			total += jarData.getJarSize();
+		}
+
+		assertEquals(jarDatas.size(), store.findInvalid(jarDatas).size());
+
+		AtomicLong progress = new AtomicLong();
+		Set<PluginHubManifest.JarData> failed = store.download(jarDatas, b -> progress.accumulateAndGet(b, Math::max));
+
+		assertTrue(failed.isEmpty());
+		assertTrue(maxInFlight.get() > 1);
+		assertEquals(total, progress.get());
+		for (PluginHubManifest.JarData jarData : jarDatas)
+		{
+			assertStored(jarData);
+		}
+		assertTrue(store.findInvalid(jarDatas).isEmpty());
+	}
+
+	@Test
+	public void testResume() throws Exception
+	{
+		PluginHubManifest.JarData jarData = jar("resume", 50_000);
+		byte[] data = jars.get(jarData.getJarHash());
+		Files.write(new File(dir, jarData.getJarHash() + ".jar.part").toPath(), Arrays.copyOf(data, 20_000));
+
+		store.download(jarData, b ->
+		{
+		});
+
+		assertEquals("bytes=20000-", server.takeRequest().getHeader("Range"));
+		assertStored(jarData);
+		assertFalse(new File(dir, jarData.getJarHash() + ".jar.part").exists());
+	}
+
+	@Test
+	public void testResumeComplete() throws Exception
+	{
+		PluginHubManifest.JarData jarData = jar("complete", 10_000);
+		Files.write(new File(dir, jarData.getJarHash() + ".jar.part").toPath(), jars.get(jarData.getJarHash()));
+
+		store.download(jarData, b ->
+		{
+		});
+
+		assertEquals(1, server.getRequestCount());
+		assertStored(jarData);
+	}
+
+	@Test
+	public void testRangeIgnored() throws Exception
+	{
+		honorRange = false;
+		PluginHubManifest.JarData jarData = jar("norange", 30_000);
+		// a partial file which doesn't match, which would break the hash if it was kept
+		byte[] junk = new byte[5_000];
+		Arrays.fill(junk, (byte) 0x55);
+		Files.write(new File(dir, jarData.getJarHash() + ".jar.part").toPath(), junk);
+
+		store.download(jarData, b ->
+		{
+		});
+
+		assertEquals("bytes=5000-", server.takeRequest().getHeader("Range"));
+		assertStored(jarData);
+	}
+
+	@Test
+	public void testHashMismatch() throws IOException
+	{
+		byte[] expected = new byte[10_000];
+		byte[] served = expected.clone();
+		served[5_000] = 1;
+		PluginHubManifest.JarData jarData = jar("mismatch", served, expected);
+
+		try
+		{
+			store.download(jarData, b ->
+			{
+			});
+			fail();
+		}
+		catch (VerificationException e)
+		{
+			// expected
+		}
+
+		assertFalse(store.getFile(jarData).exists());
+		assertFalse(store.isValid(jarData));
+		assertEquals(Collections.singleton(jarData), store.download(Collections.singletonList(jarData), b ->
+		{
+		}));
+	}
+
+	@Test
+	public void testRetryAfterDisconnect() throws Exception
+	{
+		disconnectFirst = true;
+		PluginHubManifest.JarData jarData = jar("disconnect", 200_000);
+
+		AtomicLong progress = new AtomicLong();
+		Set<PluginHubManifest.JarData> failed = store.download(Collections.singletonList(jarData), progress::set);
+
+		assertTrue(failed.isEmpty());
+		assertEquals(2, server.getRequestCount());
+		assertNull(server.takeRequest().getHeader("Range"));
+		assertTrue(server.takeRequest().getHeader("Range").startsWith("bytes="));
+		assertEquals(jarData.getJarSize(), progress.get());
+		assertStored(jarData);
+	}
+
+	@Test
+	public void testLegacyFile() throws IOException
+	{
+		PluginHubManifest.JarData jarData = jar("legacy", 1_000);
+		File legacy = new File(dir, "legacy_" + jarData.getJarHash() + ".jar");
+		Files.write(legacy.toPath(), jars.get(jarData.getJarHash()));
+
+		assertTrue(store.isValid(jarData));
+		assertFalse(legacy.exists());
+		assertStored(jarData);
+		assertEquals(0, server.getRequestCount());
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Named;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.messages.PartyChatMessage;
+import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import net.runelite.client.plugins.party.messages.TilePing;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import okio.ByteString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WSClientTest
+{
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Mock
+	@Bind
+	EventBus eventBus;
+
+	@Bind
+	OkHttpClient okHttpClient = new OkHttpClient();
+
+	@Bind
+	@Named("runelite.ws")
+	HttpUrl runeliteWs;
+
+	@Inject
+	WSClient wsClient;
+
+	private final BlockingQueue<ByteString> frames = new LinkedBlockingQueue<>();
+
+	@Before
+	public void before()
+	{
+		runeliteWs = server.url("/ws");
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		wsClient.registerMessage(StatusUpdate.class, StatusUpdate.CODEC);
+		wsClient.registerMessage(LocationUpdate.class, LocationUpdate.CODEC);
+		wsClient.registerMessage(TilePing.class, TilePing.CODEC);
+	}
+
+	@After
+	public void after()
+	{
+		wsClient.changeSession(null);
+	}
+
+	private void connect()
+	{
+		server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener()
+		{
+			@Override
+			public void onMessage(WebSocket webSocket, ByteString bytes)
+			{
+				frames.add(bytes);
+			}
+
+			@Override
+			public void onClosing(WebSocket webSocket, int code, String reason)
+			{
+				webSocket.close(code, null);
+			}
+		}));
+		wsClient.changeSession(UUID.randomUUID());
+	}
+
+	private Party.Data nextData() throws Exception
+	{
+		final ByteString frame = frames.poll(5, TimeUnit.SECONDS);
+		assertNotNull(frame);
+		final Party.C2S c2s = Party.C2S.parseFrom(frame.toByteArray());
+		assertEquals(Party.C2S.MsgCase.DATA, c2s.getMsgCase());
+		return c2s.getData();
+	}
+
+	private static List<WebsocketMessage> tick()
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setCharacterName("Zezima");
+		status.setHealthCurrent(85);
+		status.setHealthMax(99);
+		status.setRunEnergy(100);
+		status.setVengeanceActive(false);
+		status.setMemberColor(new Color(0x80ff8000, true));
+		return Arrays.asList(
+			status,
+			new LocationUpdate(new WorldPoint(3222, 3218, 0)),
+			new TilePing(new WorldPoint(3100, 3500, 2)),
+			new PartyChatMessage("hello é"),
+			new UserSync()
+		);
+	}
+
+	private void assertMessagesEqual(List<WebsocketMessage> expected, List<WebsocketMessage> actual)
+	{
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); ++i)
+		{
+			assertEquals(expected.get(i).getClass(), actual.get(i).getClass());
+			// not all messages implement equals, so compare them encoded instead
+			assertEquals(wsClient.encodeBatch(Collections.singletonList(expected.get(i))).readByteString(),
+				wsClient.encodeBatch(Collections.singletonList(actual.get(i))).readByteString());
+		}
+	}
+
+	@Test
+	public void testRoundTrip()
+	{
+		final List<WebsocketMessage> messages = tick();
+		assertMessagesEqual(messages, wsClient.decodeBatch(wsClient.encodeBatch(messages)));
+	}
+
+	@Test
+	public void testStatusUpdateNulls()
+	{
+		final List<WebsocketMessage> messages = Arrays.asList(new StatusUpdate(), tick().get(0));
+		final List<WebsocketMessage> decoded = wsClient.decodeBatch(wsClient.encodeBatch(messages));
+		assertMessagesEqual(messages, decoded);
+		assertNull(((StatusUpdate) decoded.get(0)).getVengeanceActive());
+		assertEquals(Boolean.FALSE, ((StatusUpdate) decoded.get(1)).getVengeanceActive());
+	}
+
+	@Test
+	public void testUnknownMessageSkipped()
+	{
+		final Buffer batch = wsClient.encodeBatch(tick());
+		wsClient.unregisterMessage(LocationUpdate.class);
+
+		final List<WebsocketMessage> decoded = wsClient.decodeBatch(batch);
+		final List<WebsocketMessage> expected = new ArrayList<>(tick());
+		expected.remove(1);
+		assertMessagesEqual(expected, decoded);
+	}
+
+	@Test
+	public void testJsonFrames() throws Exception
+	{
+		connect();
+
+		for (WebsocketMessage message : tick())
+		{
+			wsClient.queue(message);
+		}
+
+		// without batch frames the messages aren't held back
+		for (WebsocketMessage message : tick())
+		{
+			final Party.Data data = nextData();
+			assertEquals(message.getClass().getSimpleName(), data.getType());
+			assertTrue(data.getData().toStringUtf8().startsWith("{"));
+		}
+	}
+
+	@Test
+	public void testBatchFrames() throws Exception
+	{
+		connect();
+		wsClient.setBatchFrames(true);
+
+		final List<WebsocketMessage> messages = tick();
+		for (WebsocketMessage message : messages)
+		{
+			wsClient.queue(message);
+		}
+		wsClient.send(new UserSync());
+
+		// sent immediately, in a batch of its own
+		Party.Data data = nextData();
+		assertEquals(1, wsClient.decodeBatch(new Buffer().write(data.getData().toByteArray())).size());
+
+		wsClient.flush();
+		data = nextData();
+		assertMessagesEqual(messages, wsClient.decodeBatch(new Buffer().write(data.getData().toByteArray())));
+		assertNull(frames.poll(100, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testBatchFramesDisabled() throws Exception
+	{
+		connect();
+		wsClient.setBatchFrames(true);
+
+		final List<WebsocketMessage> messages = tick();
+		for (WebsocketMessage message : messages)
+		{
+			wsClient.queue(message);
+		}
+
+		// the queued messages are sent as json instead
+		wsClient.setBatchFrames(false);
+		for (WebsocketMessage message : messages)
+		{
+			assertEquals(message.getClass().getSimpleName(), nextData().getType());
+		}
+	}
+
+	@Test
+	public void testBatchSize() throws Exception
+	{
+		connect();
+
+		int json = 0;
+		for (WebsocketMessage message : tick())
+		{
+			wsClient.send(message);
+			json += frames.poll(5, TimeUnit.SECONDS).size();
+		}
+
+		wsClient.setBatchFrames(true);
+		tick().forEach(wsClient::queue);
+		wsClient.flush();
+		final int batch = frames.poll(5, TimeUnit.SECONDS).size();
+
+		assertTrue("batch " + batch + " json " + json, batch * 2 < json);
+	}
+
+	@Test
+	public void testReceive()
+	{
+		final List<WebsocketMessage> messages = tick();
+		final Party.S2C s2c = Party.S2C.newBuilder()
+			.setData(Party.PartyData.newBuilder()
+				.setMemberId(42)
+				.setType(WSClient.BATCH_TYPE)
+				.setData(com.google.protobuf.ByteString.copyFrom(wsClient.encodeBatch(messages).readByteArray())))
+			.build();
+
+		wsClient.onMessage(null, ByteString.of(s2c.toByteArray()));
+
+		final ArgumentCaptor<WebsocketMessage> captor = ArgumentCaptor.forClass(WebsocketMessage.class);
+		verify(eventBus, times(messages.size())).post(captor.capture());
+		assertMessagesEqual(messages, captor.getAllValues());
+		for (WebsocketMessage message : captor.getAllValues())
+		{
+			assertEquals(42, ((PartyMemberMessage) message).getMemberId());
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.cluescrolls.clues;
+
+import java.util.HashSet;
+import java.util.Set;
+import net.runelite.api.Client;
+import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.plugins.cluescrolls.ClueScrollPlugin;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClueIndexTest
+{
+	@Mock
+	private ClueScrollPlugin plugin;
+
+	@Mock
+	private Client client;
+
+	@Test
+	public void forTextMatchesScan()
+	{
+		when(plugin.getClient()).thenReturn(client);
+
+		for (String text : ClueIndex.getTexts())
+		{
+			final ClueScroll expected = scan(text, text);
+			assertNotNull(text, expected);
+			assertSame(text, expected, ClueIndex.forText(plugin, text, text));
+		}
+	}
+
+	@Test
+	public void forTextEmptyString()
+	{
+		when(plugin.getClient()).thenReturn(client);
+
+		assertNull(ClueIndex.forText(plugin, "", ""));
+	}
+
+	@Test
+	public void forTextDynamicAnagram()
+	{
+		when(plugin.getClient()).thenReturn(client);
+		when(client.getVarbitValue(VarbitID.MM2_SLAYER_MASTER)).thenReturn(1);
+
+		final String text = (AnagramClue.ANAGRAM_TEXT + "VESTE").toLowerCase();
+		final ClueScroll clue = ClueIndex.forText(plugin, text, text);
+		assertNotNull(clue);
+		assertSame(AnagramClue.forText(plugin, text), clue);
+	}
+
+	@Test
+	public void forTextSkillChallenge()
+	{
+		when(plugin.getClient()).thenReturn(client);
+
+		for (SkillChallengeClue clue : SkillChallengeClue.CLUES)
+		{
+			final String returnText = clue.getReturnText();
+			assertSame(clue, ClueIndex.forText(plugin, returnText.toLowerCase(), returnText));
+			assertTrue(clue.isChallengeCompleted());
+
+			final String rawChallenge = clue.getRawChallenge();
+			assertSame(SkillChallengeClue.forText(rawChallenge, rawChallenge), ClueIndex.forText(plugin, rawChallenge, rawChallenge));
+		}
+	}
+
+	@Test
+	public void forItemIdMatchesScan()
+	{
+		final Set<Integer> itemIds = new HashSet<>();
+		MapClue.CLUES.forEach(clue -> itemIds.add(clue.getItemId()));
+		MusicClue.CLUES.forEach(clue -> itemIds.add(clue.getItemId()));
+		CoordinateClue.CLUES.values().forEach(clue -> itemIds.add(clue.getItemId()));
+		AnagramClue.CLUES.forEach(clue -> itemIds.add(clue.getItemId()));
+		CipherClue.CLUES.forEach(clue -> itemIds.add(clue.getItemId()));
+		CrypticClue.CLUES.forEach(clue -> itemIds.addAll(clue.getItemIds()));
+		EmoteClue.CLUES.forEach(clue -> itemIds.add(clue.getItemId()));
+		FairyRingClue.CLUES.forEach(clue -> itemIds.add(clue.getItemId()));
+		itemIds.remove(-1);
+
+		assertFalse(itemIds.isEmpty());
+		for (int itemId : itemIds)
+		{
+			assertSame(String.valueOf(itemId), scan(itemId), ClueIndex.forItemId(itemId));
+		}
+		assertNull(ClueIndex.forItemId(-1));
+	}
+
+	@Test
+	public void forCrypticText()
+	{
+		for (CrypticClue clue : CrypticClue.CLUES)
+		{
+			assertEquals(CrypticClue.forText(clue.getText()), ClueIndex.forCrypticText(clue.getText().toUpperCase()));
+		}
+	}
+
+	private ClueScroll scan(String text, String rawText)
+	{
+		ClueScroll clue = AnagramClue.forText(plugin, text);
+		if (clue == null)
+		{
+			clue = CipherClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = CrypticClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = EmoteClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = FairyRingClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = FaloTheBardClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = HotColdClue.forText(text);
+		}
+		if (clue == null)
+		{
+			clue = SkillChallengeClue.forText(text, rawText);
+		}
+		return clue;
+	}
+
+	private static ClueScroll scan(int itemId)
+	{
+		ClueScroll clue = MapClue.forItemId(itemId);
+		if (clue == null)
+		{
+			clue = MusicClue.forItemId(itemId);
+		}
+		if (clue == null)
+		{
+			clue = CoordinateClue.forItemId(itemId);
+		}
+		if (clue == null)
+		{
+			clue = AnagramClue.forItemId(itemId);
+		}
+		if (clue == null)
+		{
+			clue = CipherClue.forItemId(itemId);
+		}
+		if (clue == null)
+		{
+			clue = CrypticClue.forItemId(itemId);
+		}
+		if (clue == null)
+		{
+			clue = EmoteClue.forItemId(itemId);
+		}
+		if (clue == null)
+		{
+			clue = FairyRingClue.forItemId(itemId);
+		}
+		return clue;
+	}
+}
@@ -34,6 +34,7 @@ import net.runelite.api.NPC;
 import net.runelite.api.NPCComposition;
 import net.runelite.api.NameableContainer;
 import net.runelite.api.Player;
+import net.runelite.api.events.GameTick;
 import net.runelite.client.callback.Hooks;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.party.PartyMember;
@@ -46,6 +47,8 @@ import org.junit.runner.RunWith;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Mock;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -285,4 +288,37 @@ public class EntityHiderPluginTest
 		assertTrue(plugin.shouldDraw(player, true));
 		assertTrue(plugin.shouldDraw(player, false));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testPlayerClassCached()
+	{
+		when(config.hideFriends()).thenReturn(true);
+
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup(EntityHiderConfig.GROUP);
+		plugin.onConfigChanged(configChanged);
+
+		Player player = mock(Player.class);
+		when(player.getId()).thenReturn(5);
+		when(player.getName()).thenReturn("Adam");
+
+		assertTrue(plugin.shouldDraw(player, false));
+		assertTrue(plugin.shouldDraw(player, true));
+		verify(player).isFriend();
+
+		// not seen until the next tick
+		when(player.isFriend()).thenReturn(true);
+		assertTrue(plugin.shouldDraw(player, false));
+
+		plugin.onGameTick(new GameTick());
+		assertFalse(plugin.shouldDraw(player, false));
+		assertFalse(plugin.shouldDraw(player, true));
+		verify(player, times(2)).isFriend();
+
+		// a different player at the same index
+		Player other = mock(Player.class);
+		when(other.getId()).thenReturn(5);
+		when(other.getName()).thenReturn("Adam");
+		assertTrue(plugin.shouldDraw(other, false));
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class AddressResolverTest
+{
+	private static class TestResolver extends AddressResolver
+	{
+		private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+		private CountDownLatch latch;
+
+		private TestResolver()
+		{
+			super(43594);
+		}
+
+		@Override
+		InetSocketAddress lookup(String host)
+		{
+			lookups.computeIfAbsent(host, k -> new AtomicInteger()).incrementAndGet();
+			if (latch != null)
+			{
+				// only completes if all of the hosts are being looked up at once
+				latch.countDown();
+				try
+				{
+					if (!latch.await(2, TimeUnit.SECONDS))
+					{
+						return null;
+					}
+				}
+				catch (InterruptedException ex)
+				{
+					return null;
+				}
+			}
+
+			if (host.startsWith("dead"))
+			{
+				return null;
+			}
+			return new InetSocketAddress(InetAddress.getLoopbackAddress(), 43594);
+		}
+
+		private int lookups(String host)
+		{
+			AtomicInteger count = lookups.get(host);
+			return count == null ? 0 : count.get();
+		}
+	}
+
+	@Test
+	public void testResolvesConcurrently()
+	{
+		TestResolver resolver = new TestResolver();
+		resolver.latch = new CountDownLatch(4);
+
+		Map<Integer, String> hosts = new LinkedHashMap<>();
+		hosts.put(304, "oldschool4.runescape.com");
+		hosts.put(301, "oldschool1.runescape.com");
+		hosts.put(303, "oldschool3.runescape.com");
+		hosts.put(302, "oldschool2.runescape.com");
+
+		Map<Integer, InetSocketAddress> addresses = resolver.resolve(hosts, 0);
+		assertArrayEquals(new Integer[]{304, 301, 303, 302}, addresses.keySet().toArray(new Integer[0]));
+		for (InetSocketAddress address : addresses.values())
+		{
+			assertNotNull(address);
+		}
+	}
+
+	@Test
+	public void testCache()
+	{
+		TestResolver resolver = new TestResolver();
+
+		Map<Integer, String> hosts = new LinkedHashMap<>();
+		hosts.put(301, "oldschool1.runescape.com");
+		hosts.put(302, "dead.runescape.com");
+
+		Map<Integer, InetSocketAddress> addresses = resolver.resolve(hosts, 0);
+		assertNotNull(addresses.get(301));
+		assertNull(addresses.get(302));
+
+		// neither the resolved nor the failed host is looked up again before the retry interval
+		addresses = resolver.resolve(hosts, AddressResolver.RETRY_INTERVAL - 1);
+		assertNotNull(addresses.get(301));
+		assertNull(addresses.get(302));
+		assertEquals(1, resolver.lookups("oldschool1.runescape.com"));
+		assertEquals(1, resolver.lookups("dead.runescape.com"));
+
+		resolver.resolve(hosts, AddressResolver.RETRY_INTERVAL);
+		assertEquals(1, resolver.lookups("oldschool1.runescape.com"));
+		assertEquals(2, resolver.lookups("dead.runescape.com"));
+
+		resolver.clear();
+		resolver.resolve(hosts, AddressResolver.RETRY_INTERVAL);
+		assertEquals(2, resolver.lookups("oldschool1.runescape.com"));
+	}
+}
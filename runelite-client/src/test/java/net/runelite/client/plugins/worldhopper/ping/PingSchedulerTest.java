@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PingSchedulerTest
+{
+	@Test
+	public void testSmoothing()
+	{
+		PingScheduler scheduler = new PingScheduler();
+		assertEquals(-1, scheduler.getPing(301));
+
+		scheduler.record(301, 40, 0);
+		assertEquals(40, scheduler.getPing(301));
+		assertEquals(20, scheduler.getJitter(301));
+
+		// a single spike only moves the average an eighth of the way
+		scheduler.record(301, 120, 0);
+		assertEquals(50, scheduler.getPing(301));
+
+		scheduler.record(301, -1, 0);
+		assertEquals(-1, scheduler.getPing(301));
+
+		scheduler.record(301, 50, 0);
+		assertEquals(50, scheduler.getPing(301));
+	}
+
+	@Test
+	public void testSchedule()
+	{
+		PingScheduler scheduler = new PingScheduler();
+
+		// steady world
+		for (int i = 0; i < 20; ++i)
+		{
+			scheduler.record(301, 40, 0);
+		}
+		// jittery world
+		for (int i = 0; i < 20; ++i)
+		{
+			scheduler.record(302, i % 2 == 0 ? 20 : 200, 0);
+		}
+		// unreachable world
+		scheduler.record(303, -1, 0);
+
+		assertEquals(Collections.singletonList(304), scheduler.due(Arrays.asList(301, 302, 303, 304), 0, 10));
+		assertEquals(Arrays.asList(304, 303), scheduler.due(Arrays.asList(301, 302, 303, 304), PingScheduler.FAILURE_INTERVAL, 10));
+		assertEquals(Arrays.asList(304, 303, 302), scheduler.due(Arrays.asList(301, 302, 303, 304), PingScheduler.MIN_INTERVAL, 10));
+		assertEquals(Arrays.asList(304, 303), scheduler.due(Arrays.asList(301, 302, 303, 304), PingScheduler.MIN_INTERVAL, 2));
+		assertTrue(scheduler.due(Collections.singletonList(301), PingScheduler.MAX_INTERVAL * 9 / 10, 10).isEmpty());
+		assertEquals(Collections.singletonList(301), scheduler.due(Collections.singletonList(301), PingScheduler.MAX_INTERVAL, 10));
+
+		// failures back off
+		scheduler.record(303, -1, PingScheduler.FAILURE_INTERVAL);
+		assertTrue(scheduler.due(Collections.singletonList(303), PingScheduler.FAILURE_INTERVAL * 2, 10).isEmpty());
+		assertEquals(Collections.singletonList(303), scheduler.due(Collections.singletonList(303), PingScheduler.FAILURE_INTERVAL * 3, 10));
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TcpPingerTest
+{
+	private static final int LISTENERS = 200;
+
+	private final List<ServerSocketChannel> listeners = new ArrayList<>();
+
+	@Before
+	public void before() throws IOException
+	{
+		for (int i = 0; i < LISTENERS; ++i)
+		{
+			// connects complete in the kernel without the listener accepting them
+			ServerSocketChannel listener = ServerSocketChannel.open();
+			listener.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 8);
+			listeners.add(listener);
+		}
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		for (ServerSocketChannel listener : listeners)
+		{
+			listener.close();
+		}
+	}
+
+	@Test
+	public void testPing() throws IOException
+	{
+		Map<Integer, InetSocketAddress> targets = new LinkedHashMap<>();
+		for (int i = 0; i < LISTENERS; ++i)
+		{
+			targets.put(i, (InetSocketAddress) listeners.get(i).getLocalAddress());
+		}
+
+		Map<Integer, Integer> pings = new HashMap<>();
+		new TcpPinger(16, 2000).ping(targets, pings::put);
+
+		assertEquals(LISTENERS, pings.size());
+		for (int ping : pings.values())
+		{
+			assertTrue(ping >= 0 && ping < 2000);
+		}
+	}
+
+	@Test
+	public void testUnreachable() throws IOException
+	{
+		ServerSocketChannel closed = listeners.remove(0);
+		InetSocketAddress closedAddress = (InetSocketAddress) closed.getLocalAddress();
+		closed.close();
+
+		Map<String, InetSocketAddress> targets = new LinkedHashMap<>();
+		targets.put("closed", closedAddress);
+		targets.put("unresolved", InetSocketAddress.createUnresolved("world.invalid", 43594));
+		targets.put("missing", null);
+		targets.put("open", (InetSocketAddress) listeners.get(0).getLocalAddress());
+
+		Map<String, Integer> pings = new HashMap<>();
+		new TcpPinger(1, 2000).ping(targets, pings::put);
+
+		assertEquals(-1, (int) pings.get("closed"));
+		assertEquals(-1, (int) pings.get("unresolved"));
+		assertEquals(-1, (int) pings.get("missing"));
+		assertTrue(pings.get("open") >= 0);
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.NPC;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.eventbus.Subscribe;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventReplayerTest
+{
+	private static final int TICKS = 100;
+
+	private static GameRecording recording()
+	{
+		List<RecordedEvent> events = new ArrayList<>();
+		for (int tick = 0; tick < TICKS; ++tick)
+		{
+			RecordedEvent.Snapshot snapshot = new RecordedEvent.Snapshot();
+			snapshot.setTickCount(tick);
+			snapshot.setGameState(GameState.LOGGED_IN);
+			snapshot.setWorld(301);
+			snapshot.setBaseX(3200);
+			snapshot.setBaseY(3200);
+			snapshot.setLocalName("Zezima");
+			snapshot.setLocalX(3250 + tick % 10);
+			snapshot.setLocalY(3250);
+			int[] levels = new int[Skill.values().length];
+			levels[Skill.ATTACK.ordinal()] = 99;
+			snapshot.setBoostedLevels(levels);
+			snapshot.setRealLevels(levels);
+			snapshot.setExperience(new int[levels.length]);
+			if (tick == 0)
+			{
+				snapshot.setVarps(new int[]{0, 0, 7});
+			}
+			events.add(snapshot);
+			events.add(new RecordedEvent.Tick());
+
+			RecordedEvent.NpcSpawn spawn = new RecordedEvent.NpcSpawn();
+			spawn.setIndex(tick);
+			spawn.setId(3029);
+			spawn.setName("Goblin");
+			spawn.setX(3260);
+			spawn.setY(3260);
+			events.add(spawn);
+
+			if (tick % 2 == 1)
+			{
+				RecordedEvent.NpcDespawn despawn = new RecordedEvent.NpcDespawn();
+				despawn.setIndex(tick - 1);
+				events.add(despawn);
+			}
+
+			RecordedEvent.ItemSpawn itemSpawn = new RecordedEvent.ItemSpawn();
+			itemSpawn.setId(526);
+			itemSpawn.setQuantity(1);
+			itemSpawn.setX(3260);
+			itemSpawn.setY(3260);
+			events.add(itemSpawn);
+
+			RecordedEvent.ItemDespawn itemDespawn = new RecordedEvent.ItemDespawn();
+			itemDespawn.setId(526);
+			itemDespawn.setQuantity(1);
+			itemDespawn.setX(3260);
+			itemDespawn.setY(3260);
+			events.add(itemDespawn);
+
+			RecordedEvent.Chat chat = new RecordedEvent.Chat();
+			chat.setType(ChatMessageType.GAMEMESSAGE);
+			chat.setName("");
+			chat.setMessage("You bury the bones.");
+			events.add(chat);
+
+			RecordedEvent.VarChange var = new RecordedEvent.VarChange();
+			var.setVarpId(1);
+			var.setVarbitId(-1);
+			var.setValue(tick);
+			var.setVarpValue(tick);
+			events.add(var);
+		}
+		return new GameRecording(events);
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		GameRecording recording = recording();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GameRecording.RecordingWriter writer = GameRecording.writer(out))
+		{
+			for (RecordedEvent event : recording.getEvents())
+			{
+				writer.write(event);
+			}
+		}
+
+		GameRecording read = GameRecording.read(new InputStreamReader(new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8));
+		assertEquals(recording.getEvents(), read.getEvents());
+	}
+
+	@Test
+	public void testReplay()
+	{
+		ReplayClient replayClient = new ReplayClient();
+		Client client = replayClient.getClient();
+
+		QuerySubscriber querying = new QuerySubscriber(client);
+		EventReplayer replayer = new EventReplayer(replayClient);
+		replayer.add("querying", querying);
+		replayer.add("idle", new Object());
+
+		ReplayReport report = replayer.replay(recording());
+
+		assertEquals(TICKS, querying.ticks);
+		assertEquals(TICKS, querying.spawned);
+		assertEquals(TICKS / 2, querying.despawned);
+		assertEquals(TICKS, querying.itemsDespawned);
+		assertEquals(TICKS, querying.messages);
+		assertEquals(0, querying.mismatches);
+		// one goblin left over per pair of ticks
+		assertEquals(TICKS / 2, client.getNpcs().size());
+		assertEquals(TICKS - 1, client.getVarpValue(1));
+		assertEquals(7, client.getVarpValue(2));
+		assertEquals(99, client.getRealSkillLevel(Skill.ATTACK));
+
+		ReplayReport.Result result = report.getResult("querying");
+		assertNotNull(result);
+		assertEquals(TICKS, result.getByEvent().get("GameTick").getEvents());
+		assertEquals(TICKS * 6 + TICKS / 2, result.getTotal().getEvents());
+		assertTrue(result.getTotal().getNanos() > 0);
+		assertEquals(result.getTotal().getEvents(), report.getResult("idle").getTotal().getEvents());
+
+		// replaying again starts over from an empty scene
+		replayer.reset();
+		querying.ticks = 0;
+		report = replayer.replay(recording());
+		assertEquals(TICKS / 2, client.getNpcs().size());
+		assertEquals(TICKS, report.getResult("querying").getByEvent().get("GameTick").getEvents());
+		assertEquals(0, querying.mismatches);
+	}
+
+	/**
+	 * Checks what it is handed against the client. The event bus swallows
+	 * exceptions thrown by subscribers, so mismatches are counted instead.
+	 */
+	private static class QuerySubscriber
+	{
+		private final Client client;
+		private int ticks;
+		private int spawned;
+		private int despawned;
+		private int itemsDespawned;
+		private int messages;
+		private int mismatches;
+
+		private QuerySubscriber(Client client)
+		{
+			this.client = client;
+		}
+
+		private void check(boolean condition)
+		{
+			if (!condition)
+			{
+				++mismatches;
+			}
+		}
+
+		@Subscribe
+		public void onGameTick(GameTick tick)
+		{
+			check(ticks++ == client.getTickCount());
+			WorldPoint location = client.getLocalPlayer().getWorldLocation();
+			check(location.getX() == 3250 + client.getTickCount() % 10);
+			check(client.getLocalPlayer().getLocalLocation() != null);
+			check("Zezima".equals(client.getLocalPlayer().getName()));
+		}
+
+		@Subscribe
+		public void onNpcSpawned(NpcSpawned npcSpawned)
+		{
+			++spawned;
+			NPC npc = npcSpawned.getNpc();
+			check("Goblin".equals(npc.getName()));
+			check(npc == client.getTopLevelWorldView().npcs().byIndex(npc.getIndex()));
+		}
+
+		@Subscribe
+		public void onNpcDespawned(NpcDespawned npcDespawned)
+		{
+			++despawned;
+			check(npcDespawned.getNpc().getId() == 3029);
+		}
+
+		@Subscribe
+		public void onItemSpawned(ItemSpawned itemSpawned)
+		{
+			check(new WorldPoint(3260, 3260, 0).equals(itemSpawned.getTile().getWorldLocation()));
+		}
+
+		@Subscribe
+		public void onItemDespawned(ItemDespawned itemDespawned)
+		{
+			++itemsDespawned;
+			check(itemDespawned.getItem().getId() == 526);
+		}
+
+		@Subscribe
+		public void onChatMessage(ChatMessage chatMessage)
+		{
+			++messages;
+			check(chatMessage.getMessageNode().getType() == ChatMessageType.GAMEMESSAGE);
+		}
+
+		@Subscribe
+		public void onVarbitChanged(VarbitChanged varbitChanged)
+		{
+			check(client.getVarpValue(varbitChanged.getVarpId()) == varbitChanged.getValue());
+		}
+	}
+}
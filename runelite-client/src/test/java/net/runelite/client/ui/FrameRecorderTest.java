@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FrameRecorderTest
+{
+	private static final long SECOND = 1_000_000_000L;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSlots() throws IOException
+	{
+		// 2 seconds at 2 fps
+		final FrameRecorder recorder = new FrameRecorder(2, 2, 100, 1 << 20, Runnable::run);
+		for (int i = 0; i < 10; ++i)
+		{
+			recorder.store(frame(200, 100, i), i * SECOND / 2);
+		}
+		assertEquals(4, recorder.getFrameCount());
+
+		final File dir = new File(folder.getRoot(), "out");
+		assertEquals(4, recorder.write(dir));
+
+		// oldest first, scaled down to the max width
+		for (int i = 0; i < 4; ++i)
+		{
+			final BufferedImage image = ImageIO.read(new File(dir, String.format("%04d.png", i)));
+			assertEquals(100, image.getWidth());
+			assertEquals(50, image.getHeight());
+			assertEquals(color(6 + i).getRGB(), image.getRGB(50, 25));
+		}
+		assertFalse(new File(dir, "0004.png").exists());
+	}
+
+	@Test
+	public void testRingWraps() throws IOException
+	{
+		// room for many frames, but only a few fit in the ring
+		final FrameRecorder recorder = new FrameRecorder(10, 10, 64, 4096, Runnable::run);
+		final Random random = new Random(1);
+		for (int i = 0; i < 50; ++i)
+		{
+			recorder.store(noise(64, 16, random), i * SECOND / 10);
+			assertTrue(recorder.getFrameCount() > 0);
+			assertTrue(recorder.getFrameCount() < 10);
+		}
+
+		final File dir = folder.newFolder();
+		final int frames = recorder.write(dir);
+		assertEquals(recorder.getFrameCount(), frames);
+		for (int i = 0; i < frames; ++i)
+		{
+			final BufferedImage image = ImageIO.read(new File(dir, String.format("%04d.png", i)));
+			assertEquals(64, image.getWidth());
+		}
+	}
+
+	@Test
+	public void testTooLarge() throws IOException
+	{
+		final FrameRecorder recorder = new FrameRecorder(1, 1, 256, 64, Runnable::run);
+		recorder.store(noise(256, 256, new Random(1)), 0);
+		assertEquals(0, recorder.getFrameCount());
+		assertEquals(0, recorder.write(folder.newFolder()));
+	}
+
+	@Test
+	public void testMaxAge() throws IOException
+	{
+		final FrameRecorder recorder = new FrameRecorder(1, 10, 32, 1 << 20, Runnable::run);
+		recorder.store(frame(32, 32, 0), 0);
+		recorder.store(frame(32, 32, 1), 5 * SECOND);
+		recorder.store(frame(32, 32, 2), 5 * SECOND + SECOND / 2);
+		assertEquals(3, recorder.getFrameCount());
+
+		// frames older than the window before the newest are not written
+		assertEquals(2, recorder.write(folder.newFolder()));
+	}
+
+	private static BufferedImage frame(int width, int height, int n)
+	{
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setColor(color(n));
+		graphics.fillRect(0, 0, width, height);
+		graphics.dispose();
+		return image;
+	}
+
+	private static Color color(int n)
+	{
+		return new Color(n * 20, 255 - n * 20, 128);
+	}
+
+	private static BufferedImage noise(int width, int height, Random random)
+	{
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				image.setRGB(x, y, random.nextInt());
+			}
+		}
+		return image;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Polygon;
+import java.awt.Shape;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConvexHullCacheTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Inject
+	private ConvexHullCache convexHullCache;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+	}
+
+	@Test
+	public void testActorHullCachedPerFrame()
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getLocalLocation()).thenReturn(new LocalPoint(6400, 6400, -1));
+
+		assertNull(convexHullCache.getConvexHull(npc));
+		assertNull(convexHullCache.getConvexHull(npc));
+		verify(npc, times(1)).getModel();
+
+		convexHullCache.onBeforeRender(new BeforeRender());
+		assertNull(convexHullCache.getConvexHull(npc));
+		verify(npc, times(2)).getModel();
+		verify(npc, never()).getConvexHull();
+	}
+
+	@Test
+	public void testActorMoved()
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getLocalLocation()).thenReturn(new LocalPoint(6400, 6400, -1));
+		convexHullCache.getConvexHull(npc);
+
+		when(npc.getLocalLocation()).thenReturn(new LocalPoint(6528, 6400, -1));
+		convexHullCache.getConvexHull(npc);
+		verify(npc, times(2)).getModel();
+	}
+
+	@Test
+	public void testCameraMoved()
+	{
+		GameObject object = mock(GameObject.class);
+		convexHullCache.getConvexHull(object);
+		convexHullCache.getConvexHull(object);
+		verify(object, times(1)).getRenderable();
+
+		when(client.getCameraFpYaw()).thenReturn(1.5);
+		convexHullCache.getConvexHull(object);
+		verify(object, times(2)).getRenderable();
+		verify(object, never()).getConvexHull();
+	}
+
+	@Test
+	public void testNullHullCached()
+	{
+		GameObject object = mock(GameObject.class);
+		assertNull(convexHullCache.getClickbox(object));
+		assertNull(convexHullCache.getClickbox(object));
+		verify(object, times(1)).getRenderable();
+		verify(object, never()).getClickbox();
+		assertNull(convexHullCache.getConvexHull2(object));
+	}
+
+	@Test
+	public void testWallObjectClickbox()
+	{
+		WallObject object = mock(WallObject.class);
+		Shape clickbox = new Polygon();
+		when(object.getClickbox()).thenReturn(clickbox);
+
+		assertSame(clickbox, convexHullCache.getClickbox(object));
+		assertSame(clickbox, convexHullCache.getClickbox(object));
+		verify(object, times(1)).getClickbox();
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Polygon;
+import java.util.Arrays;
+import java.util.Random;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SceneProjectionTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Mock
+	private WorldView worldView;
+
+	@Mock
+	private Scene scene;
+
+	@Inject
+	private SceneProjection sceneProjection;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		lenient().when(client.getWorldView(WorldView.TOPLEVEL)).thenReturn(worldView);
+		lenient().when(client.getCameraX()).thenReturn(6400);
+		lenient().when(client.getCameraY()).thenReturn(4900);
+		lenient().when(client.getCameraZ()).thenReturn(-1000);
+		lenient().when(client.getCameraPitch()).thenReturn(256);
+		lenient().when(client.getCameraYaw()).thenReturn(100);
+		lenient().when(client.getCameraFpX()).thenReturn(6400.5);
+		lenient().when(client.getCameraFpY()).thenReturn(4900.25);
+		lenient().when(client.getCameraFpZ()).thenReturn(-1000.0);
+		lenient().when(client.getCameraFpPitch()).thenReturn(256 * Perspective.UNIT);
+		lenient().when(client.getCameraFpYaw()).thenReturn(100 * Perspective.UNIT);
+		lenient().when(client.getScale()).thenReturn(512);
+		lenient().when(client.getViewportWidth()).thenReturn(765);
+		lenient().when(client.getViewportHeight()).thenReturn(503);
+		lenient().when(client.getViewportXOffset()).thenReturn(4);
+		lenient().when(client.getViewportYOffset()).thenReturn(4);
+
+		lenient().when(worldView.isTopLevel()).thenReturn(true);
+		lenient().when(worldView.getId()).thenReturn(WorldView.TOPLEVEL);
+		lenient().when(worldView.getSizeX()).thenReturn(104);
+		lenient().when(worldView.getSizeY()).thenReturn(104);
+		lenient().when(worldView.getScene()).thenReturn(scene);
+		lenient().when(worldView.getTileHeight(anyInt(), anyInt(), anyInt()))
+			.then(a -> -((int) a.getArgument(0) * 7 + (int) a.getArgument(1) * 3) % 500);
+		lenient().when(scene.getExtendedTileSettings()).thenReturn(new byte[4][184][184]);
+	}
+
+	@Test
+	public void testMatchesPerspective()
+	{
+		for (boolean gpu : new boolean[]{false, true})
+		{
+			when(client.isGpu()).thenReturn(gpu);
+			sceneProjection.onBeforeRender(new BeforeRender());
+
+			Random random = new Random(42);
+			for (int i = 0; i < 500; ++i)
+			{
+				int x = 6400 + random.nextInt(4096) - 2048;
+				int y = 4900 + random.nextInt(4096) - 1024;
+				LocalPoint lp = new LocalPoint(x, y, WorldView.TOPLEVEL);
+
+				Point expected = Perspective.localToCanvas(client, x, y, -200);
+				assertEquals(expected, sceneProjection.localToCanvas(x, y, -200));
+
+				Polygon expectedPoly = Perspective.getCanvasTilePoly(client, lp);
+				Polygon poly = sceneProjection.getCanvasTilePoly(lp);
+				if (poly == null)
+				{
+					// null either in both, or because it was culled for being outside the viewport
+					assertTrue(expectedPoly == null || !expectedPoly.intersects(4, 4, 765, 503));
+				}
+				else
+				{
+					assertNotNull(expectedPoly);
+					assertEquals(expectedPoly.npoints, poly.npoints);
+					assertArrayEquals(Arrays.copyOf(expectedPoly.xpoints, 4), Arrays.copyOf(poly.xpoints, 4));
+					assertArrayEquals(Arrays.copyOf(expectedPoly.ypoints, 4), Arrays.copyOf(poly.ypoints, 4));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testBatch()
+	{
+		int[] x = {6400, 6400, 6400, -10000};
+		int[] y = {6400, 2000, 20000, 6400};
+		int[] z = {0, 0, 0, 0};
+		int[] x2d = new int[4];
+		int[] y2d = new int[4];
+
+		assertEquals(1, sceneProjection.localToCanvas(4, x, y, z, x2d, y2d));
+
+		Point p = Perspective.localToCanvas(client, 6400, 6400, 0);
+		assertEquals(p.getX(), x2d[0]);
+		assertEquals(p.getY(), y2d[0]);
+		// behind the camera
+		assertEquals(Integer.MIN_VALUE, x2d[1]);
+		// out of the scene
+		assertEquals(Integer.MIN_VALUE, x2d[2]);
+		assertEquals(Integer.MIN_VALUE, x2d[3]);
+	}
+
+	@Test
+	public void testTilePolyCachedPerFrame()
+	{
+		LocalPoint lp = new LocalPoint(6400, 6400, WorldView.TOPLEVEL);
+		Polygon poly = sceneProjection.getCanvasTilePoly(lp);
+		assertNotNull(poly);
+		assertSame(poly, sceneProjection.getCanvasTilePoly(new LocalPoint(6400, 6400, WorldView.TOPLEVEL)));
+		assertNotSame(poly, sceneProjection.getCanvasTilePoly(lp, 100));
+		verify(client, times(1)).getScale();
+
+		sceneProjection.onBeforeRender(new BeforeRender());
+		assertNotSame(poly, sceneProjection.getCanvasTilePoly(lp));
+		verify(client, times(2)).getScale();
+	}
+
+	@Test
+	public void testOffscreenTileCulled()
+	{
+		// behind the camera
+		LocalPoint behind = new LocalPoint(6400, 3000, WorldView.TOPLEVEL);
+		assertNull(sceneProjection.getCanvasTilePoly(behind));
+		assertNull(sceneProjection.getCanvasTilePoly(behind));
+		verify(worldView, times(4)).getTileHeight(anyInt(), anyInt(), anyInt());
+
+		// far to the side of the viewport
+		assertNull(sceneProjection.getCanvasTilePoly(new LocalPoint(14000, 6400, WorldView.TOPLEVEL)));
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class TextImageCacheTest
+{
+	private static final int WIDTH = 120;
+	private static final int HEIGHT = 40;
+	private static final Font FONT = new Font(Font.DIALOG, Font.PLAIN, 16);
+	private static final RenderingHints NO_ANTIALIASING = new RenderingHints(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+
+	@Test
+	public void testMatchesDrawString()
+	{
+		final RenderingHints textAntialiasing = new RenderingHints(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		// as set by OverlayUtil.setGraphicProperties, where text follows the shape antialiasing
+		final RenderingHints antialiasing = new RenderingHints(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		antialiasing.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT);
+
+		for (RenderingHints hints : new RenderingHints[]{NO_ANTIALIASING, textAntialiasing, antialiasing})
+		{
+			for (boolean outline : new boolean[]{false, true})
+			{
+				final TextImageCache cache = new TextImageCache(1 << 16);
+
+				final BufferedImage expected = image();
+				Graphics2D graphics = graphics(expected, hints);
+				drawString(graphics, "Goblin (level-2)", 10, 20, Color.YELLOW, outline);
+				graphics.dispose();
+
+				final BufferedImage actual = image();
+				graphics = graphics(actual, hints);
+				// second draw is from the cache
+				cache.drawString(graphics, "Goblin (level-2)", 10, 20, Color.YELLOW, outline);
+				graphics.setColor(Color.DARK_GRAY);
+				graphics.fillRect(0, 0, WIDTH, HEIGHT);
+				cache.drawString(graphics, "Goblin (level-2)", 10, 20, Color.YELLOW, outline);
+				graphics.dispose();
+
+				assertEquals(1, cache.size());
+				if (hints == NO_ANTIALIASING)
+				{
+					assertArrayEquals(pixels(expected), pixels(actual));
+				}
+				else
+				{
+					// blending antialiased glyphs into the image first rounds differently
+					assertSimilar(pixels(expected), pixels(actual), 2);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testEviction()
+	{
+		final BufferedImage image = image();
+		final Graphics2D graphics = graphics(image, NO_ANTIALIASING);
+
+		final TextImageCache cache = new TextImageCache(5000);
+		for (int i = 0; i < 100; ++i)
+		{
+			cache.drawString(graphics, "Label " + i, 10, 20, Color.WHITE, false);
+			assertTrue(cache.getPixels() <= 5000);
+		}
+		assertTrue(cache.size() > 1);
+		assertTrue(cache.size() < 100);
+		graphics.dispose();
+	}
+
+	@Test
+	public void testScaledIsNotCached()
+	{
+		final BufferedImage image = image();
+		final Graphics2D graphics = graphics(image, NO_ANTIALIASING);
+		graphics.scale(2, 2);
+
+		final TextImageCache cache = new TextImageCache(1 << 16);
+		cache.drawString(graphics, "Scaled", 10, 10, Color.WHITE, true);
+		assertEquals(0, cache.size());
+
+		graphics.dispose();
+	}
+
+	private static BufferedImage image()
+	{
+		final BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.DARK_GRAY);
+		graphics.fillRect(0, 0, WIDTH, HEIGHT);
+		graphics.dispose();
+		return image;
+	}
+
+	private static Graphics2D graphics(BufferedImage image, RenderingHints hints)
+	{
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setFont(FONT);
+		graphics.addRenderingHints(hints);
+		// translated, as overlays are
+		graphics.translate(3, 4);
+		return graphics;
+	}
+
+	private static void drawString(Graphics2D graphics, String text, int x, int y, Color color, boolean outline)
+	{
+		graphics.setColor(Color.BLACK);
+		if (outline)
+		{
+			graphics.drawString(text, x, y + 1);
+			graphics.drawString(text, x, y - 1);
+			graphics.drawString(text, x + 1, y);
+			graphics.drawString(text, x - 1, y);
+		}
+		else
+		{
+			graphics.drawString(text, x + 1, y + 1);
+		}
+		graphics.setColor(color);
+		graphics.drawString(text, x, y);
+	}
+
+	private static void assertSimilar(int[] expected, int[] actual, int tolerance)
+	{
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; ++i)
+		{
+			for (int shift = 0; shift < 24; shift += 8)
+			{
+				final int difference = Math.abs((expected[i] >> shift & 0xff) - (actual[i] >> shift & 0xff));
+				assertTrue("pixel " + i + " differs by " + difference, difference <= tolerance);
+			}
+		}
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH);
+	}
+}
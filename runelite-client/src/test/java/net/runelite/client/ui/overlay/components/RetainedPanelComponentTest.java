@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.components;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RetainedPanelComponentTest
+{
+	@Test
+	public void testMatchesPanelComponent()
+	{
+		final String longText = "A line which is much too long to fit in a panel of the standard width";
+
+		final PanelComponent panelComponent = new PanelComponent();
+		final RetainedPanelComponent retainedPanelComponent = new RetainedPanelComponent();
+		retainedPanelComponent.addTitle("Title");
+		retainedPanelComponent.addLine("Left", "<col=ff0000>Right");
+		retainedPanelComponent.addLine(longText, "1,234");
+
+		BufferedImage expected = null;
+		final BufferedImage actual = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+
+		Dimension panelDimension = null;
+		// the panel component sizes its background from the previous frame's children
+		for (int i = 0; i < 2; ++i)
+		{
+			expected = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+			final Graphics2D graphics = expected.createGraphics();
+			panelComponent.getChildren().add(TitleComponent.builder().text("Title").build());
+			panelComponent.getChildren().add(LineComponent.builder().left("Left").right("<col=ff0000>Right").build());
+			panelComponent.getChildren().add(LineComponent.builder().left(longText).right("1,234").build());
+			panelDimension = panelComponent.render(graphics);
+			panelComponent.getChildren().clear();
+			graphics.dispose();
+		}
+
+		final Graphics2D graphics = actual.createGraphics();
+		final Dimension retainedDimension = retainedPanelComponent.render(graphics);
+		graphics.dispose();
+
+		assertEquals(panelDimension, retainedDimension);
+		assertArrayEquals(
+			expected.getRGB(0, 0, 200, 200, null, 0, 200),
+			actual.getRGB(0, 0, 200, 200, null, 0, 200));
+	}
+
+	@Test
+	public void testLayoutOnlyOnChange()
+	{
+		final Graphics2D graphics = mock(Graphics2D.class);
+		final FontMetrics fontMetrics = mock(FontMetrics.class);
+		when(graphics.getFont()).thenReturn(new Font(Font.DIALOG, Font.PLAIN, 12));
+		when(graphics.getFontMetrics(any(Font.class))).thenReturn(fontMetrics);
+
+		final RetainedPanelComponent panel = new RetainedPanelComponent();
+		final RetainedPanelComponent.Line line = panel.addLine("XP", "100");
+		panel.render(graphics);
+		panel.render(graphics);
+		verify(graphics, times(1)).getFontMetrics(any(Font.class));
+
+		// unchanged values and colors do not need layout
+		line.setRight("100");
+		line.setRightColor(Color.RED);
+		panel.render(graphics);
+		verify(graphics, times(1)).getFontMetrics(any(Font.class));
+		verify(graphics).setColor(Color.RED);
+
+		line.setRight("200");
+		panel.render(graphics);
+		verify(graphics, times(2)).getFontMetrics(any(Font.class));
+		verify(graphics, times(2)).drawString(eq("200"), anyInt(), anyInt());
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		final Graphics2D graphics = mock(Graphics2D.class);
+		when(graphics.getFontMetrics(any())).thenReturn(mock(FontMetrics.class));
+
+		final RetainedPanelComponent panel = new RetainedPanelComponent();
+		assertNull(panel.render(graphics));
+
+		panel.addLine("Left", null).setVisible(false);
+		assertNull(panel.render(graphics));
+	}
+}
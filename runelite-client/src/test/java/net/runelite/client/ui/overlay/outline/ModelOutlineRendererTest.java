@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.WorldView;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ModelOutlineRendererTest
+{
+	private static final int WIDTH = 765;
+	private static final int HEIGHT = 503;
+
+	@Bind
+	private Client client = mock(Client.class);
+
+	@Inject
+	private ModelOutlineRenderer modelOutlineRenderer;
+
+	private WorldView worldView;
+	private int[] pixels;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		MainBufferProvider bufferProvider = mock(MainBufferProvider.class);
+		when(bufferProvider.getImage()).thenReturn(image);
+		when(client.getBufferProvider()).thenReturn(bufferProvider);
+
+		when(client.getCameraX()).thenReturn(6400);
+		when(client.getCameraY()).thenReturn(6400 - 1500);
+		when(client.getCameraZ()).thenReturn(-1000);
+		when(client.getCameraPitch()).thenReturn(256);
+		when(client.getScale()).thenReturn(512);
+		when(client.getViewportWidth()).thenReturn(WIDTH);
+		when(client.getViewportHeight()).thenReturn(HEIGHT);
+
+		worldView = mock(WorldView.class);
+		when(worldView.isTopLevel()).thenReturn(true);
+	}
+
+	@Test
+	public void testBatchMatchesSingleOutlines()
+	{
+		Model[] models = {billboard(10), billboard(10), billboard(10)};
+		Color color = Color.RED;
+
+		for (int i = 0; i < models.length; i++)
+		{
+			modelOutlineRenderer.immediateBatch().reset(2, color, 0)
+				.add(worldView, models[i], x(i), 6400, 0, 0, true)
+				.draw();
+		}
+		int[] expected = pixels.clone();
+		assertNotEquals(0, Arrays.stream(expected).filter(p -> p != 0).count());
+
+		Arrays.fill(pixels, 0);
+		OutlineBatch batch = modelOutlineRenderer.createBatch().reset(2, color, 0);
+		for (int i = 0; i < models.length; i++)
+		{
+			batch.add(worldView, models[i], x(i), 6400, 0, 0, true);
+		}
+		batch.draw();
+
+		assertArrayEquals(expected, pixels);
+	}
+
+	@Test
+	public void testUnchangedBatchIsReplayed()
+	{
+		testReplay(Color.GREEN, 0);
+	}
+
+	@Test
+	public void testUnchangedTranslucentBatchIsReplayed()
+	{
+		testReplay(new Color(0, 0, 255, 128), 2);
+	}
+
+	private void testReplay(Color color, int feather)
+	{
+		Model model = billboard(10);
+		OutlineBatch batch = modelOutlineRenderer.createBatch();
+
+		batch.reset(4, color, feather).add(worldView, model, 6400, 6400, 0, 0, true).draw();
+		int[] expected = pixels.clone();
+
+		Arrays.fill(pixels, 0);
+		batch.reset(4, color, feather).add(worldView, model, 6400, 6400, 0, 0, true).draw();
+		assertArrayEquals(expected, pixels);
+
+		// the second draw neither reprojects nor rasterizes the model
+		verify(model, times(1)).getVerticesX();
+		verify(model, times(1)).getFaceIndices2();
+
+		// moving the camera invalidates it
+		when(client.getCameraYaw()).thenReturn(8);
+		when(client.getCameraFpYaw()).thenReturn(8 * Math.PI / 1024);
+		batch.reset(4, color, feather).add(worldView, model, 6400, 6400, 0, 0, true).draw();
+		verify(model, times(2)).getVerticesX();
+		verify(model, times(2)).getFaceIndices2();
+	}
+
+	private static int x(int i)
+	{
+		return 6400 + (i % 10 - 5) * 160;
+	}
+
+	/**
+	 * A vertical grid of n by n quads, 128 units wide and 200 tall, with faces in
+	 * both windings so that it is visible from either side.
+	 */
+	private static Model billboard(int n)
+	{
+		final int verticesCount = (n + 1) * (n + 1);
+		final float[] vx = new float[verticesCount];
+		final float[] vy = new float[verticesCount];
+		final float[] vz = new float[verticesCount];
+		for (int row = 0; row <= n; row++)
+		{
+			for (int col = 0; col <= n; col++)
+			{
+				int i = row * (n + 1) + col;
+				vx[i] = col * 128f / n - 64;
+				vy[i] = -row * 200f / n;
+			}
+		}
+
+		final int faceCount = n * n * 4;
+		final int[] f1 = new int[faceCount];
+		final int[] f2 = new int[faceCount];
+		final int[] f3 = new int[faceCount];
+		int f = 0;
+		for (int row = 0; row < n; row++)
+		{
+			for (int col = 0; col < n; col++)
+			{
+				int a = row * (n + 1) + col;
+				int b = a + 1;
+				int c = a + n + 1;
+				int d = c + 1;
+				int[][] tris = {{a, b, c}, {c, b, a}, {b, d, c}, {c, d, b}};
+				for (int[] tri : tris)
+				{
+					f1[f] = tri[0];
+					f2[f] = tri[1];
+					f3[f] = tri[2];
+					f++;
+				}
+			}
+		}
+
+		Model model = mock(Model.class);
+		when(model.getVerticesCount()).thenReturn(verticesCount);
+		when(model.getVerticesX()).thenReturn(vx);
+		when(model.getVerticesY()).thenReturn(vy);
+		when(model.getVerticesZ()).thenReturn(vz);
+		when(model.getFaceCount()).thenReturn(faceCount);
+		when(model.getFaceIndices1()).thenReturn(f1);
+		when(model.getFaceIndices2()).thenReturn(f2);
+		when(model.getFaceIndices3()).thenReturn(f3);
+		return model;
+	}
+}
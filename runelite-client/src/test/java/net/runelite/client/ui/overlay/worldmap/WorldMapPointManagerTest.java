@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.worldmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class WorldMapPointManagerTest
+{
+	private final WorldMapPointManager worldMapPointManager = new WorldMapPointManager();
+
+	@Test
+	public void testVisiblePoints()
+	{
+		WorldMapPoint lumbridge = new WorldMapPoint(new WorldPoint(3222, 3218, 0), null);
+		WorldMapPoint varrock = new WorldMapPoint(new WorldPoint(3213, 3424, 0), null);
+		WorldMapPoint draynor = new WorldMapPoint(new WorldPoint(3093, 3244, 0), null);
+		WorldMapPoint party = new WorldMapPoint(new WorldPoint(2440, 3090, 0), null);
+		party.setSnapToEdge(true);
+
+		worldMapPointManager.add(lumbridge);
+		worldMapPointManager.add(varrock);
+		worldMapPointManager.add(party);
+		worldMapPointManager.add(draynor);
+
+		// points which snap to the edge are always included, and the order is kept
+		assertEquals(Arrays.asList(lumbridge, party, draynor), getWorldMapPoints(3000, 3100, 3300, 3300));
+		assertEquals(Arrays.asList(varrock, party), getWorldMapPoints(3200, 3400, 3250, 3450));
+	}
+
+	@Test
+	public void testMovedPoint()
+	{
+		WorldMapPoint point = new WorldMapPoint(new WorldPoint(3222, 3218, 0), null);
+		worldMapPointManager.add(point);
+
+		point.setWorldPoint(new WorldPoint(3213, 3424, 0));
+		assertEquals(Collections.emptyList(), getWorldMapPoints(3200, 3200, 3250, 3250));
+		assertEquals(Collections.singletonList(point), getWorldMapPoints(3200, 3400, 3250, 3450));
+
+		point.setSnapToEdge(true);
+		assertEquals(Collections.singletonList(point), getWorldMapPoints(3200, 3200, 3250, 3250));
+	}
+
+	@Test
+	public void testRemove()
+	{
+		WorldMapPoint lumbridge = new WorldMapPoint(new WorldPoint(3222, 3218, 0), null);
+		WorldMapPoint varrock = new WorldMapPoint(new WorldPoint(3213, 3424, 0), null);
+		worldMapPointManager.add(lumbridge);
+		worldMapPointManager.add(varrock);
+
+		worldMapPointManager.remove(lumbridge);
+		assertEquals(Collections.singletonList(varrock), getWorldMapPoints(0, 0, 10000, 10000));
+
+		worldMapPointManager.removeIf(p -> p.getWorldPoint().getY() > 3400);
+		assertEquals(Collections.emptyList(), getWorldMapPoints(0, 0, 10000, 10000));
+		assertEquals(Collections.emptyList(), worldMapPointManager.getWorldMapPoints());
+
+		// removed points are no longer indexed when they move
+		varrock.setWorldPoint(new WorldPoint(3222, 3218, 0));
+		assertEquals(Collections.emptyList(), getWorldMapPoints(0, 0, 10000, 10000));
+	}
+
+	private List<WorldMapPoint> getWorldMapPoints(int minX, int minY, int maxX, int maxY)
+	{
+		List<WorldMapPoint> points = new ArrayList<>();
+		worldMapPointManager.getWorldMapPoints(minX, minY, maxX, maxY, points);
+		return points;
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import org.junit.After;
+import org.junit.Test;
+
+public class PngEncoderTest
+{
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+	private final PngEncoder encoder = new PngEncoder(executor);
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	private static BufferedImage image(int width, int height, int type)
+	{
+		final BufferedImage image = new BufferedImage(width, height, type);
+		final Random random = new Random(width * 31 + height);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				int argb;
+				if (y < height / 3)
+				{
+					// flat
+					argb = 0xff336699;
+				}
+				else if (y < height * 2 / 3)
+				{
+					// gradient
+					argb = 0xff000000 | (x & 0xff) << 16 | (y & 0xff) << 8 | (x + y) & 0xff;
+				}
+				else
+				{
+					argb = random.nextInt();
+				}
+				image.setRGB(x, y, argb);
+			}
+		}
+
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setColor(new Color(255, 0, 0, 128));
+		graphics.fillOval(0, 0, width / 2 + 1, height / 2 + 1);
+		graphics.dispose();
+		return image;
+	}
+
+	private void assertRoundTrip(BufferedImage image, int level) throws IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		encoder.encode(image, out, level);
+
+		final BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(image.getWidth(), decoded.getWidth());
+		assertEquals(image.getHeight(), decoded.getHeight());
+		assertEquals(image.getColorModel().hasAlpha(), decoded.getColorModel().hasAlpha());
+		for (int y = 0; y < image.getHeight(); ++y)
+		{
+			for (int x = 0; x < image.getWidth(); ++x)
+			{
+				assertEquals("pixel " + x + "," + y, image.getRGB(x, y), decoded.getRGB(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void testRgb() throws IOException
+	{
+		assertRoundTrip(image(765, 503, BufferedImage.TYPE_INT_RGB), Deflater.DEFAULT_COMPRESSION);
+	}
+
+	@Test
+	public void testArgb() throws IOException
+	{
+		assertRoundTrip(image(1024, 700, BufferedImage.TYPE_INT_ARGB), Deflater.BEST_SPEED);
+	}
+
+	@Test
+	public void testOtherTypes() throws IOException
+	{
+		assertRoundTrip(image(301, 211, BufferedImage.TYPE_3BYTE_BGR), Deflater.BEST_COMPRESSION);
+		assertRoundTrip(image(300, 200, BufferedImage.TYPE_4BYTE_ABGR), Deflater.BEST_SPEED);
+	}
+
+	@Test
+	public void testSubimage() throws IOException
+	{
+		assertRoundTrip(image(800, 600, BufferedImage.TYPE_INT_RGB).getSubimage(13, 17, 500, 400), Deflater.BEST_SPEED);
+	}
+
+	@Test
+	public void testSmall() throws IOException
+	{
+		assertRoundTrip(image(1, 1, BufferedImage.TYPE_INT_RGB), Deflater.BEST_SPEED);
+		assertRoundTrip(image(1, 4000, BufferedImage.TYPE_INT_ARGB), Deflater.BEST_SPEED);
+		assertRoundTrip(image(30000, 2, BufferedImage.TYPE_INT_RGB), Deflater.BEST_SPEED);
+	}
+
+	@Test
+	public void testAdler32Combine()
+	{
+		final byte[] data = new byte[100_000];
+		new Random(1).nextBytes(data);
+
+		final Adler32 whole = new Adler32();
+		whole.update(data);
+
+		final Adler32 a = new Adler32();
+		a.update(data, 0, 30_000);
+		final Adler32 b = new Adler32();
+		b.update(data, 30_000, 70_000);
+
+		assertEquals(whole.getValue(), PngEncoder.adler32Combine(a.getValue(), b.getValue(), 70_000));
+	}
+}
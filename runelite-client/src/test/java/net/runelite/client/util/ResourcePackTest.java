@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ResourcePackTest
+{
+	@Test
+	public void testMatchesResources() throws IOException
+	{
+		final ResourcePack pack = ResourcePack.icons();
+		assertNotNull("icon pack should be built with the resources", pack);
+		assertFalse(pack.getPaths().isEmpty());
+
+		for (String path : pack.getPaths())
+		{
+			final BufferedImage expected;
+			try (InputStream in = ResourcePackTest.class.getResourceAsStream("/" + path))
+			{
+				expected = ImageIO.read(in);
+			}
+
+			final BufferedImage image = pack.getImage(path);
+			assertNotNull(path, image);
+			assertEquals(path, expected.getWidth(), image.getWidth());
+			assertEquals(path, expected.getHeight(), image.getHeight());
+			assertArrayEquals(path,
+				expected.getRGB(0, 0, expected.getWidth(), expected.getHeight(), null, 0, expected.getWidth()),
+				image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth()));
+		}
+
+		assertNull(pack.getImage("net/runelite/client/missing.png"));
+	}
+
+	@Test
+	public void testLoadImageResource()
+	{
+		// images in the pack are always argb, unlike those decoded from png
+		final BufferedImage image = ImageUtil.loadImageResource(ImageUtil.class, "/util/arrow_right.png");
+		assertEquals(BufferedImage.TYPE_INT_ARGB, image.getType());
+	}
+}
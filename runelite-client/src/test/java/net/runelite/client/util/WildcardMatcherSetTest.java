@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatches()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.of(Arrays.asList(
+			"rune*", "Abyssal whip", "string $ with special character", "*scimitar", "*ore*", "dragon*bones", "a*b*c"));
+
+		assertTrue(set.matches("rune pouch"));
+		assertTrue(set.matches("Rune pouch"));
+		assertTrue(set.matches("rune"));
+		assertTrue(set.matches("ABYSSAL WHIP"));
+		assertFalse(set.matches("Abyssal whi"));
+		assertFalse(set.matches("Abyssal whip (or)"));
+		assertTrue(set.matches("string $ with special character"));
+		assertTrue(set.matches("Rune scimitar"));
+		assertTrue(set.matches("scimitar"));
+		assertTrue(set.matches("Iron ore"));
+		assertTrue(set.matches("Dragon bones"));
+		assertTrue(set.matches("Dragonbones"));
+		assertFalse(set.matches("Dragon bone"));
+		assertTrue(set.matches("abc"));
+		assertTrue(set.matches("a-b-c"));
+		assertFalse(set.matches("acb"));
+		assertFalse(set.matches("Adamant dagger"));
+		assertFalse(set.matches(""));
+		assertFalse(set.matches(null));
+
+		assertFalse(WildcardMatcherSet.EMPTY.matches("Goblin"));
+		assertTrue(WildcardMatcherSet.of(Collections.singletonList("*")).matches(""));
+		assertTrue(WildcardMatcherSet.of(Collections.singletonList("")).matches(""));
+	}
+
+	@Test
+	public void testFilter()
+	{
+		List<String> patterns = Arrays.asList("goblin", "gob*", "*lin", "g*n", "*");
+		WildcardMatcherSet set = WildcardMatcherSet.of(patterns);
+
+		List<Integer> matched = new ArrayList<>();
+		assertFalse(set.matches("Goblin", i ->
+		{
+			matched.add(i);
+			return false;
+		}));
+		Collections.sort(matched);
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4), matched);
+
+		assertTrue(set.matches("Goblin", i -> !patterns.get(i).equalsIgnoreCase("goblin")));
+	}
+
+	@Test
+	public void testSameAsWildcardMatcher()
+	{
+		final Random random = new Random(0);
+		final String alphabet = "abAB *";
+
+		List<String> patterns = new ArrayList<>();
+		for (int i = 0; i < 200; ++i)
+		{
+			patterns.add(randomString(random, alphabet, 5));
+		}
+
+		for (int i = 0; i < 2000; ++i)
+		{
+			final String text = randomString(random, "abAB ", 7);
+			final List<String> subset = patterns.subList(i % 190, i % 190 + 10);
+			boolean expected = subset.stream().anyMatch(p -> WildcardMatcher.matches(p, text));
+			assertEquals(subset + " " + text, expected, WildcardMatcherSet.of(subset).matches(text));
+
+			for (int j = 0; j < subset.size(); ++j)
+			{
+				final int index = j;
+				assertEquals(subset.get(j) + " " + text, WildcardMatcher.matches(subset.get(j), text),
+					WildcardMatcherSet.of(subset).matches(text, k -> k == index));
+			}
+		}
+	}
+
+	private static String randomString(Random random, String alphabet, int maxLength)
+	{
+		final int length = random.nextInt(maxLength + 1);
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+		{
+			sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return sb.toString();
+	}
+}
@@ -32,6 +32,7 @@ dependencies {
     implementation("net.runelite:cache:${project.version}")
 
     implementation(libs.guava)
+    implementation(libs.gson)
     implementation(libs.tomlj)
     implementation(libs.javapoet)
 }
@@ -54,6 +55,10 @@ gradlePlugin {
             id = "net.runelite.runelite-gradle-plugin.jarsign"
             implementationClass = "net.runelite.gradle.jarsign.JarsignPlugin"
         }
+        create("rl-pack") {
+            id = "net.runelite.runelite-gradle-plugin.pack"
+            implementationClass = "net.runelite.gradle.pack.PackPlugin"
+        }
     }
 }
 
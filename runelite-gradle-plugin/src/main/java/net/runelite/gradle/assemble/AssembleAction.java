@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.assemble;
+
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.script.RuneLiteInstructions;
+import net.runelite.cache.script.assembler.Assembler;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * Assembles a batch of scripts on a worker thread. The id of each script is
+ * recorded in the state directory, under the script's name, so later builds
+ * can find the outputs of scripts which are removed or change id.
+ */
+public abstract class AssembleAction implements WorkAction<AssembleAction.Parameters>
+{
+	public interface Parameters extends WorkParameters
+	{
+		ConfigurableFileCollection getScripts();
+
+		DirectoryProperty getScriptDirectory();
+
+		DirectoryProperty getOutputDirectory();
+
+		DirectoryProperty getStateDirectory();
+
+		MapProperty<String, Integer> getSymbols();
+	}
+
+	@Override
+	public void execute()
+	{
+		Parameters parameters = getParameters();
+		File scriptDirectory = parameters.getScriptDirectory().getAsFile().get();
+		File scriptOut = parameters.getOutputDirectory().getAsFile().get();
+		File stateDirectory = parameters.getStateDirectory().getAsFile().get();
+
+		RuneLiteInstructions instructions = new RuneLiteInstructions();
+		instructions.init();
+
+		Assembler assembler = new Assembler(instructions, Collections.unmodifiableMap(parameters.getSymbols().get()));
+		ScriptSaver saver = new ScriptSaver();
+
+		for (File scriptFile : parameters.getScripts())
+		{
+			try
+			{
+				assemble(assembler, saver, scriptFile, scriptDirectory, scriptOut, stateDirectory);
+			}
+			catch (IOException ex)
+			{
+				throw new RuntimeException("unable to assemble " + scriptFile.getName(), ex);
+			}
+		}
+	}
+
+	private static void assemble(Assembler assembler, ScriptSaver saver, File scriptFile,
+		File scriptDirectory, File scriptOut, File stateDirectory) throws IOException
+	{
+		ScriptDefinition script;
+		try (FileInputStream fin = new FileInputStream(scriptFile))
+		{
+			script = assembler.assemble(fin);
+		}
+
+		byte[] packedScript = saver.save(script);
+
+		File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+		Files.write(packedScript, targetFile);
+
+		// Copy hash file
+
+		String name = Files.getNameWithoutExtension(scriptFile.getName());
+		File hashFile = new File(scriptDirectory, name + ".hash");
+		if (hashFile.exists())
+		{
+			Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+		}
+		else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+		{
+			throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
+		}
+		else
+		{
+			new File(scriptOut, Integer.toString(script.getId()) + ".hash").delete();
+		}
+
+		Files.write(Integer.toString(script.getId()).getBytes(StandardCharsets.UTF_8), new File(stateDirectory, name));
+	}
+}
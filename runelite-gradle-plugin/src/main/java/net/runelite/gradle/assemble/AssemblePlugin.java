@@ -36,7 +36,11 @@ public abstract class AssemblePlugin implements Plugin<Project>
 	public void apply(Project project)
 	{
 		TaskProvider<AssembleTask> assembleRs2asm = project.getTasks()
-			.register("assembleRs2asm", AssembleTask.class, (task) -> task.setGroup("build"));
+			.register("assembleRs2asm", AssembleTask.class, (task) ->
+			{
+				task.setGroup("build");
+				task.getStateDirectory().convention(project.getLayout().getBuildDirectory().dir("rs2asm-state"));
+			});
 
 		project.getTasks()
 			.getByName("processResources")
@@ -27,19 +27,21 @@ package net.runelite.gradle.assemble;
 
 import com.google.common.io.Files;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.inject.Inject;
 import net.runelite.cache.IndexType;
-import net.runelite.cache.definitions.ScriptDefinition;
-import net.runelite.cache.definitions.savers.ScriptSaver;
-import net.runelite.cache.script.RuneLiteInstructions;
-import net.runelite.cache.script.assembler.Assembler;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileType;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.tasks.CacheableTask;
@@ -49,14 +51,26 @@ import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
 import org.tomlj.Toml;
 import org.tomlj.TomlParseError;
 import org.tomlj.TomlParseResult;
 import org.tomlj.TomlTable;
 
+/**
+ * Assembles the client's rs2asm scripts. Scripts are assembled in batches through the
+ * worker api, and when only scripts or their hashes change, only those scripts are
+ * assembled again. A change to the components file, which every script may refer to,
+ * assembles all of them.
+ */
 @CacheableTask
 public abstract class AssembleTask extends DefaultTask
 {
+	@Incremental
 	@InputDirectory
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract DirectoryProperty getScriptDirectory();
@@ -64,61 +78,150 @@ public abstract class AssembleTask extends DefaultTask
 	@OutputDirectory
 	public abstract DirectoryProperty getOutputDirectory();
 
+	/**
+	 * The id each script was assembled to, which is not known from the script name. This is
+	 * an output, so that it is restored from the build cache along with the scripts.
+	 */
+	@OutputDirectory
+	public abstract DirectoryProperty getStateDirectory();
+
 	@InputFile
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract RegularFileProperty getComponentsFile();
 
+	@Inject
+	protected abstract WorkerExecutor getWorkerExecutor();
+
 	private final Logger log = getLogger();
 
 	@TaskAction
-	public void assembleRs2Asm() throws IOException
+	public void assembleRs2Asm(InputChanges inputChanges) throws IOException
 	{
+		long start = System.nanoTime();
 		File scriptDirectory = getScriptDirectory().getAsFile().get();
 		File outputDirectory = getOutputDirectory().getAsFile().get();
 		File componentsFile = getComponentsFile().getAsFile().get();
+		File stateDirectory = getStateDirectory().getAsFile().get();
 
-		RuneLiteInstructions instructions = new RuneLiteInstructions();
-		instructions.init();
+		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 
-		Assembler assembler = new Assembler(instructions, buildComponentSymbols(componentsFile));
-		ScriptSaver saver = new ScriptSaver();
+		Set<String> names = new TreeSet<>();
+		Set<Integer> staleIds = new HashSet<>();
+		boolean incremental = inputChanges.isIncremental();
+		if (incremental)
+		{
+			for (FileChange change : inputChanges.getFileChanges(getScriptDirectory()))
+			{
+				if (change.getFileType() == FileType.DIRECTORY)
+				{
+					continue;
+				}
+
+				String name = Files.getNameWithoutExtension(change.getFile().getName());
+				Integer id = readId(stateDirectory, name);
+				if (new File(scriptDirectory, name + ".rs2asm").exists())
+				{
+					names.add(name);
+					if (id != null)
+					{
+						// in case it changed
+						staleIds.add(id);
+					}
+				}
+				else if (id != null)
+				{
+					staleIds.add(id);
+					new File(stateDirectory, name).delete();
+				}
+			}
+		}
+		else
+		{
+			deleteContents(scriptOut);
+			deleteContents(stateDirectory);
+			for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
+			{
+				names.add(Files.getNameWithoutExtension(scriptFile.getName()));
+			}
+		}
 
-		int count = 0;
-		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
 		scriptOut.mkdirs();
+		stateDirectory.mkdirs();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
+		if (!names.isEmpty())
 		{
-			log.debug("Assembling {}", scriptFile);
+			Map<String, Integer> symbols = buildComponentSymbols(componentsFile);
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+			int workers = Math.min(names.size(), Runtime.getRuntime().availableProcessors());
+			List<List<File>> batches = new ArrayList<>(workers);
+			for (int i = 0; i < workers; ++i)
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
-
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
+				batches.add(new ArrayList<>());
+			}
 
-				// Copy hash file
+			int i = 0;
+			for (String name : names)
+			{
+				batches.get(i++ % workers).add(new File(scriptDirectory, name + ".rs2asm"));
+			}
 
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
-				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
-				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+			WorkQueue queue = getWorkerExecutor().noIsolation();
+			for (List<File> batch : batches)
+			{
+				queue.submit(AssembleAction.class, parameters ->
 				{
-					throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
-				}
+					parameters.getScripts().from(batch);
+					parameters.getScriptDirectory().set(scriptDirectory);
+					parameters.getOutputDirectory().set(scriptOut);
+					parameters.getStateDirectory().set(stateDirectory);
+					parameters.getSymbols().set(symbols);
+				});
+			}
+			queue.await();
+		}
+
+		// remove the outputs of removed scripts, and of scripts whose id changed
+		if (!staleIds.isEmpty())
+		{
+			for (File state : stateDirectory.listFiles())
+			{
+				staleIds.remove(readId(stateDirectory, state.getName()));
+			}
 
-				++count;
+			for (int id : staleIds)
+			{
+				new File(scriptOut, Integer.toString(id)).delete();
+				new File(scriptOut, id + ".hash").delete();
 			}
 		}
 
-		log.lifecycle("Assembled {} scripts", count);
+		log.lifecycle("Assembled {} scripts in {} ms ({})", names.size(), (System.nanoTime() - start) / 1_000_000L,
+			incremental ? "incremental" : "full");
+	}
+
+	private static Integer readId(File stateDirectory, String name) throws IOException
+	{
+		File state = new File(stateDirectory, name);
+		if (!state.isFile())
+		{
+			return null;
+		}
+		return Integer.parseInt(Files.asCharSource(state, StandardCharsets.UTF_8).read().trim());
+	}
+
+	private static void deleteContents(File directory)
+	{
+		File[] files = directory.listFiles();
+		if (files != null)
+		{
+			for (File file : files)
+			{
+				file.delete();
+			}
+		}
 	}
 
-	private Map<String, Object> buildComponentSymbols(File file)
+	private Map<String, Integer> buildComponentSymbols(File file)
 	{
 		TomlParseResult result;
 		try
@@ -139,7 +242,7 @@ public abstract class AssembleTask extends DefaultTask
 			throw new RuntimeException("unable to parse component file " + file.getName());
 		}
 
-		Map<String, Object> symbols = new HashMap<>();
+		Map<String, Integer> symbols = new HashMap<>();
 		for (var entry : result.entrySet())
 		{
 			var interfaceName = entry.getKey();
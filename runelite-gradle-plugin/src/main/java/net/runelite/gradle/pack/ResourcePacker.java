@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, RuneLite
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.pack;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * Writes resources in the forms read by the client's ResourcePack and ItemVariationMapping.
+ * <p>
+ * The image pack is a header of each image's path and size, followed by the pixels of each
+ * image in order as argb ints, all big endian:
+ * <pre>
+ * int magic, int version, int count
+ * count * (short path length, utf-8 path, int width, int height)
+ * pixels
+ * </pre>
+ */
+public class ResourcePacker
+{
+	public static final int MAGIC = 0x524c504b; // RLPK
+	public static final int VERSION = 1;
+
+	/**
+	 * Packs every png under a directory
+	 *
+	 * @return the number of images packed
+	 */
+	public static int packImages(File directory, File out) throws IOException
+	{
+		final Path root = directory.toPath();
+		final List<Path> files;
+		try (Stream<Path> walk = Files.walk(root))
+		{
+			// sorted so the output only depends on the inputs
+			files = walk
+				.filter(p -> p.getFileName().toString().endsWith(".png"))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+
+		final List<String> paths = new ArrayList<>(files.size());
+		final List<BufferedImage> images = new ArrayList<>(files.size());
+		for (Path file : files)
+		{
+			final BufferedImage image = ImageIO.read(file.toFile());
+			if (image == null)
+			{
+				throw new IOException("unable to read image " + file);
+			}
+
+			paths.add(root.relativize(file).toString().replace(File.separatorChar, '/'));
+			images.add(image);
+		}
+
+		try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(out))))
+		{
+			dos.writeInt(MAGIC);
+			dos.writeInt(VERSION);
+			dos.writeInt(images.size());
+			for (int i = 0; i < images.size(); ++i)
+			{
+				final byte[] path = paths.get(i).getBytes(StandardCharsets.UTF_8);
+				dos.writeShort(path.length);
+				dos.write(path);
+				dos.writeInt(images.get(i).getWidth());
+				dos.writeInt(images.get(i).getHeight());
+			}
+
+			for (BufferedImage image : images)
+			{
+				final int width = image.getWidth();
+				final int height = image.getHeight();
+				final int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+				for (int pixel : argb)
+				{
+					dos.writeInt(pixel);
+				}
+			}
+		}
+		return images.size();
+	}
+
+	/**
+	 * Converts the item variations json, a map of names to item ids with the base item first,
+	 * to a count of variation groups, followed by each group's size and ids.
+	 */
+	public static void packItemVariations(File json, File out) throws IOException
+	{
+		// CHECKSTYLE:OFF
+		final Type type = new TypeToken<Map<String, List<Integer>>>(){}.getType();
+		// CHECKSTYLE:ON
+		final Map<String, List<Integer>> variations;
+		try (Reader reader = new InputStreamReader(Files.newInputStream(json.toPath()), StandardCharsets.UTF_8))
+		{
+			variations = new Gson().fromJson(reader, type);
+		}
+
+		try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(out))))
+		{
+			dos.writeInt(variations.size());
+			for (List<Integer> ids : variations.values())
+			{
+				dos.writeInt(ids.size());
+				for (int id : ids)
+				{
+					dos.writeInt(id);
+				}
+			}
+		}
+	}
+}
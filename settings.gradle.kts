@@ -33,6 +33,8 @@ include("client")
 project(":client").projectDir = file("./runelite-client")
 apply(from = "./common.settings.gradle.kts")
 
+include("benchmarks")
+
 includeBuild("cache")
 includeBuild("runelite-api")
 includeBuild("runelite-gradle-plugin")